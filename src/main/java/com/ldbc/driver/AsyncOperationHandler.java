@@ -0,0 +1,42 @@
+package com.ldbc.driver;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import static java.lang.String.format;
+
+/**
+ * Handler for database clients with a non-blocking API.
+ * Rather than blocking until the result is known, executeOperationAsync issues the request and returns a stage,
+ * which must complete after resultReporter.report(...) has been called, or complete exceptionally on failure.
+ * <p>
+ * The ASYNC executor does not block on the returned stage, completion time and metrics are submitted from its
+ * completion callback. All other executors call executeOperation, which waits for the stage to complete.
+ */
+public interface AsyncOperationHandler<OPERATION_TYPE extends Operation, DB_CONNECTION_STATE_TYPE extends
+        DbConnectionState> extends OperationHandler<OPERATION_TYPE,DB_CONNECTION_STATE_TYPE>
+{
+    CompletionStage<Void> executeOperationAsync( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException;
+
+    @Override
+    default void executeOperation( OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException
+    {
+        try
+        {
+            executeOperationAsync( operation, dbConnectionState, resultReporter ).toCompletableFuture().get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new DbException( format( "Interrupted while waiting for result\nOperation: %s", operation ), e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new DbException( format( "Error executing operation\nOperation: %s", operation ), e.getCause() );
+        }
+    }
+}
@@ -0,0 +1,864 @@
+package com.ldbc.driver;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.io.CountingOutputStream;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.util.ClassLoaderHelper;
+import com.ldbc.driver.util.ClassLoadingException;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple3;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.lang.String.format;
+
+/**
+ * Versioned binary file of the operation streams of a workload, written in mode COMPILE_WORKLOAD, so that later runs
+ * can stream operations from it rather than parse the workload files again.
+ * <p/>
+ * Layout: magic, version, workload class name, the parameters it was compiled with (see
+ * {@link #parametersOf(DriverConfiguration)}), one section per stream of operations, then the stream definitions,
+ * each with its operation types and the offset, operation count, operation classes and index of its sections, and
+ * finally the offset of the stream definitions.
+ * An operation is written as the index of its class, its times, and the length and values of its serialized form,
+ * which {@link Workload#marshalOperation(List)} turns back into the operation without parsing anything.
+ * <p/>
+ * The index of a section has the offset and time stamp of every {@link #CHECKPOINT_INTERVAL}th operation, so streams
+ * are opened at any position by seeking to the checkpoint before it and skipping the rest, and offsets and limits
+ * are calculated by binary search over time stamps (see {@link #fromAmongAllRetrieveTopCountFromOffset(long, long)}),
+ * rather than by streaming through all operations before them.
+ * <p/>
+ * Child operation generators can not be written, streams that had one get a new one from
+ * {@link Workload#compiledChildOperationGenerator(boolean)}.
+ * <p/>
+ * Which operations, and how many, were written depends on those parameters, so a compiled workload can only be
+ * opened by a workload that was configured with the same parameters.
+ */
+public class CompiledWorkload implements Closeable {
+    private static final long MAGIC = 0x4C444243574B4C44L; // "LDBCWKLD"
+    private static final int VERSION = 3;
+
+    private static final byte OPERATION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte STRING = 6;
+    private static final byte LIST = 7;
+    private static final byte MAP = 8;
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    static final int CHECKPOINT_INTERVAL = 1024;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference TYPE_REFERENCE = new TypeReference<List<Object>>() {
+    };
+
+    /**
+     * Writes all operations of the given streams, which must be finite, e.g., limited to an operation count
+     *
+     * @return number of operations written
+     */
+    public static long write(File file, Workload workload, WorkloadStreams workloadStreams) throws WorkloadException {
+        List<WorkloadStreamDefinition> definitions = new ArrayList<>();
+        definitions.add(workloadStreams.asynchronousStream());
+        definitions.addAll(workloadStreams.blockingStreamDefinitions());
+        long operationCount = 0;
+        try (CountingOutputStream countingOutputStream =
+                     new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            DataOutputStream out = new DataOutputStream(countingOutputStream);
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(workload.getClass().getName());
+            Map<String, String> parameters = workload.compiledWorkloadParameters();
+            out.writeInt(parameters.size());
+            for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+                out.writeUTF(parameter.getKey());
+                out.writeUTF(parameter.getValue());
+            }
+
+            // dependency and non dependency sections of each definition
+            List<Section> sections = new ArrayList<>();
+            for (WorkloadStreamDefinition definition : definitions) {
+                sections.add(writeSection(countingOutputStream, out, workload, definition.dependencyOperations()));
+                sections.add(writeSection(countingOutputStream, out, workload, definition.nonDependencyOperations()));
+            }
+
+            long definitionsOffset = countingOutputStream.getCount();
+            out.writeInt(definitions.size());
+            for (int i = 0; i < definitions.size(); i++) {
+                WorkloadStreamDefinition definition = definitions.get(i);
+                writeOperationTypes(out, definition.dependentOperationTypes());
+                writeOperationTypes(out, definition.dependencyOperationTypes());
+                out.writeBoolean(null != definition.childOperationGenerator());
+                for (Section section : sections.subList(i * 2, i * 2 + 2)) {
+                    section.writeTo(out);
+                    operationCount += section.count;
+                }
+            }
+            out.writeLong(definitionsOffset);
+            out.flush();
+        } catch (IOException e) {
+            throw new WorkloadException(format("Error writing compiled workload: %s", file.getAbsolutePath()), e);
+        }
+        return operationCount;
+    }
+
+    private static Section writeSection(CountingOutputStream countingOutputStream,
+                                        DataOutputStream out,
+                                        Workload workload,
+                                        Iterator<Operation> operations) throws IOException, WorkloadException {
+        Map<String, Integer> classIndexes = new LinkedHashMap<>();
+        long offset = countingOutputStream.getCount();
+        long[] checkpointOffsets = new long[16];
+        long[] checkpointTimeStamps = new long[16];
+        int checkpointCount = 0;
+        boolean sorted = true;
+        long lastTimeStamp = Long.MIN_VALUE;
+        // values are buffered, so that their length can be written ahead of them and skipped when seeking
+        ByteArrayOutputStream valueBytes = new ByteArrayOutputStream();
+        DataOutputStream values = new DataOutputStream(valueBytes);
+        long count = 0;
+        while (operations.hasNext()) {
+            Operation operation = operations.next();
+            List<Object> operationAsList;
+            try {
+                operationAsList = (List<Object>) OBJECT_MAPPER.readValue(
+                        workload.serializeOperation(operation), TYPE_REFERENCE);
+            } catch (SerializingMarshallingException | IOException e) {
+                throw new WorkloadException(format("Error serializing operation: %s", operation), e);
+            }
+            String operationClassName = (String) operationAsList.get(0);
+            Integer classIndex = classIndexes.get(operationClassName);
+            if (null == classIndex) {
+                classIndex = classIndexes.size();
+                classIndexes.put(operationClassName, classIndex);
+            }
+            if (0 == count % CHECKPOINT_INTERVAL) {
+                if (checkpointCount == checkpointOffsets.length) {
+                    checkpointOffsets = Arrays.copyOf(checkpointOffsets, checkpointCount * 2);
+                    checkpointTimeStamps = Arrays.copyOf(checkpointTimeStamps, checkpointCount * 2);
+                }
+                checkpointOffsets[checkpointCount] = countingOutputStream.getCount();
+                checkpointTimeStamps[checkpointCount] = operation.timeStamp();
+                checkpointCount++;
+            }
+            if (-1 == operation.timeStamp() || -1 == operation.dependencyTimeStamp() ||
+                operation.timeStamp() < lastTimeStamp) {
+                sorted = false;
+            }
+            lastTimeStamp = operation.timeStamp();
+
+            valueBytes.reset();
+            values.writeInt(operationAsList.size() - 1);
+            for (int i = 1; i < operationAsList.size(); i++) {
+                writeValue(values, operationAsList.get(i));
+            }
+            out.writeByte(OPERATION);
+            out.writeInt(classIndex);
+            out.writeLong(operation.scheduledStartTimeAsMilli());
+            out.writeLong(operation.timeStamp());
+            out.writeLong(operation.dependencyTimeStamp());
+            out.writeInt(valueBytes.size());
+            valueBytes.writeTo(out);
+            count++;
+        }
+        return new Section(
+                offset,
+                count,
+                new ArrayList<>(classIndexes.keySet()),
+                sorted,
+                lastTimeStamp,
+                Arrays.copyOf(checkpointOffsets, checkpointCount),
+                Arrays.copyOf(checkpointTimeStamps, checkpointCount)
+        );
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (null == value) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof String) {
+            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            out.writeByte(STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey().toString());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IOException(format("Unsupported value type: %s", value.getClass().getName()));
+        }
+    }
+
+    private static void writeOperationTypes(DataOutputStream out, Set<Class<? extends Operation>> operationTypes)
+            throws IOException {
+        out.writeInt(operationTypes.size());
+        for (Class<? extends Operation> operationType : operationTypes) {
+            out.writeUTF(operationType.getName());
+        }
+    }
+
+    /**
+     * Parameters that determine the operations of a compiled workload: operation, skip and warmup counts,
+     * time compression ratio, and all workload (and database, which can not be told apart) parameters
+     */
+    static Map<String, String> parametersOf(DriverConfiguration configuration) {
+        Map<String, String> parameters =
+                new TreeMap<>(ConsoleAndFileDriverConfiguration.additionalParameters(configuration.asMap()));
+        parameters.put(ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG,
+                Long.toString(configuration.getOperationCount()));
+        parameters.put(ConsoleAndFileDriverConfiguration.SKIP_COUNT_ARG, Long.toString(configuration.skipCount()));
+        parameters.put(ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG,
+                Long.toString(configuration.warmupCount()));
+        parameters.put(ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                Double.toString(configuration.timeCompressionRatio()));
+        return parameters;
+    }
+
+    /**
+     * Opens a compiled workload, to be streamed from by a workload of the class it was compiled from, configured
+     * with the same parameters
+     */
+    public static CompiledWorkload open(File file, Workload workload) throws WorkloadException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            if (randomAccessFile.length() < 8 + 4 || MAGIC != randomAccessFile.readLong()) {
+                throw new WorkloadException(format("Not a compiled workload: %s", file.getAbsolutePath()));
+            }
+            int version = randomAccessFile.readInt();
+            if (VERSION != version) {
+                throw new WorkloadException(format("Compiled workload version %s is not supported, expected %s: %s",
+                        version, VERSION, file.getAbsolutePath()));
+            }
+            String workloadClassName = randomAccessFile.readUTF();
+            if (!workloadClassName.equals(workload.getClass().getName())) {
+                throw new WorkloadException(format("Workload was compiled from %s, can not be streamed by %s: %s",
+                        workloadClassName, workload.getClass().getName(), file.getAbsolutePath()));
+            }
+            Map<String, String> compiledParameters = new TreeMap<>();
+            int parameterCount = randomAccessFile.readInt();
+            for (int i = 0; i < parameterCount; i++) {
+                compiledParameters.put(randomAccessFile.readUTF(), randomAccessFile.readUTF());
+            }
+            Map<String, String> parameters = workload.compiledWorkloadParameters();
+            if (!compiledParameters.equals(parameters)) {
+                throw new WorkloadException(format("Workload was compiled with different parameters, compile it " +
+                                                   "again: %s\n%s", file.getAbsolutePath(),
+                        parameterDifferences(compiledParameters, parameters)));
+            }
+            randomAccessFile.seek(randomAccessFile.length() - 8);
+            randomAccessFile.seek(randomAccessFile.readLong());
+            DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Channels.newInputStream(randomAccessFile.getChannel())));
+            int definitionCount = in.readInt();
+            List<CompiledStreamDefinition> definitions = new ArrayList<>();
+            for (int i = 0; i < definitionCount; i++) {
+                definitions.add(new CompiledStreamDefinition(
+                        readOperationTypes(in),
+                        readOperationTypes(in),
+                        in.readBoolean(),
+                        Section.readFrom(in),
+                        Section.readFrom(in)
+                ));
+            }
+            return new CompiledWorkload(file, workload, definitions);
+        } catch (IOException e) {
+            throw new WorkloadException(format("Error reading compiled workload: %s", file.getAbsolutePath()), e);
+        }
+    }
+
+    private static String parameterDifferences(Map<String, String> compiledParameters,
+                                               Map<String, String> parameters) {
+        Set<String> keys = new TreeSet<>(compiledParameters.keySet());
+        keys.addAll(parameters.keySet());
+        StringBuilder sb = new StringBuilder();
+        for (String key : keys) {
+            String compiledValue = compiledParameters.get(key);
+            String value = parameters.get(key);
+            if (null == compiledValue ? null != value : !compiledValue.equals(value)) {
+                sb.append(format("%s: compiled with %s, configured %s\n", key, compiledValue, value));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Set<Class<? extends Operation>> readOperationTypes(DataInputStream in)
+            throws IOException, WorkloadException {
+        Set<Class<? extends Operation>> operationTypes = new HashSet<>();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String operationClassName = in.readUTF();
+            try {
+                operationTypes.add(ClassLoaderHelper.loadClass(operationClassName, Operation.class));
+            } catch (ClassLoadingException e) {
+                throw new WorkloadException(format("Error loading operation type: %s", operationClassName), e);
+            }
+        }
+        return operationTypes;
+    }
+
+    private final File file;
+    private final Workload workload;
+    private final List<CompiledStreamDefinition> definitions;
+    private final List<SectionIterator> openSections = new ArrayList<>();
+
+    private CompiledWorkload(File file, Workload workload, List<CompiledStreamDefinition> definitions) {
+        this.file = file;
+        this.workload = workload;
+        this.definitions = definitions;
+    }
+
+    /**
+     * @return sections of all streams, in the order of
+     * {@link WorkloadStreams#fromAmongAllRetrieveTopCountFromOffset(List, long, long, List, LoggingServiceFactory)}
+     */
+    private List<Section> sections() {
+        List<Section> sections = new ArrayList<>();
+        for (CompiledStreamDefinition definition : definitions) {
+            sections.add(definition.dependencySection);
+            sections.add(definition.nonDependencySection);
+        }
+        return sections;
+    }
+
+    /**
+     * Offsets and limits can be calculated from the index when operations of every stream are ordered by time stamp
+     * and no stream has a child operation generator, whose operations are counted too but are not in the index
+     */
+    public boolean canCalculateLimitsFromIndex() {
+        for (CompiledStreamDefinition definition : definitions) {
+            if (definition.hasChildOperationGenerator ||
+                !definition.dependencySection.sorted || !definition.nonDependencySection.sorted) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same result as
+     * {@link WorkloadStreams#fromAmongAllRetrieveTopCountFromOffset(List, long, long, List, LoggingServiceFactory)},
+     * but only reads the time stamps of the few blocks of operations, between checkpoints of the index, that the
+     * offset and the end of the limit fall into
+     *
+     * @return (start_per_stream, limit_per_stream, minimum_timestamp)
+     */
+    public Tuple3<long[], long[], Long> fromAmongAllRetrieveTopCountFromOffset(long offset, long limit)
+            throws WorkloadException {
+        if (!canCalculateLimitsFromIndex()) {
+            throw new WorkloadException(format("Limits can not be calculated from index of compiled workload: %s",
+                    file.getAbsolutePath()));
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            List<SectionTimeStamps> sectionTimeStamps = new ArrayList<>();
+            for (Section section : sections()) {
+                sectionTimeStamps.add(new SectionTimeStamps(section, randomAccessFile.getChannel()));
+            }
+            long[] startForStream = positionsOf(offset, sectionTimeStamps);
+            long end = (limit > Long.MAX_VALUE - offset) ? Long.MAX_VALUE : offset + limit;
+            long[] limitForStream = positionsOf(end, sectionTimeStamps);
+            long minimumTimeStamp = Long.MAX_VALUE;
+            for (int i = 0; i < sectionTimeStamps.size(); i++) {
+                limitForStream[i] = limitForStream[i] - startForStream[i];
+                if (limit > 0 && startForStream[i] < sectionTimeStamps.get(i).count()) {
+                    minimumTimeStamp = Math.min(minimumTimeStamp,
+                            sectionTimeStamps.get(i).timeStampAt(startForStream[i]));
+                }
+            }
+            return Tuple.tuple3(startForStream, limitForStream, minimumTimeStamp);
+        } catch (IOException e) {
+            throw new WorkloadException(format("Error reading compiled workload: %s", file.getAbsolutePath()), e);
+        }
+    }
+
+    /**
+     * Time stamps of the operations of one stream, which are ordered by time stamp
+     */
+    interface TimeStamps {
+        long count();
+
+        /**
+         * @return number of operations with a time stamp lower than the given one
+         */
+        long countBefore(long timeStamp) throws IOException;
+
+        long timeStampAt(long position) throws IOException;
+    }
+
+    /**
+     * Operations of all streams are ordered by time stamp, then by the index of their stream, then by their position
+     * in their stream, which is the order the streams are merged in when offsets and limits are calculated.
+     *
+     * @return for each stream, how many of its operations are among the first operations up to the given position
+     */
+    static long[] positionsOf(long position, List<? extends TimeStamps> streams) throws IOException {
+        long[] positions = new long[streams.size()];
+        long count = 0;
+        long minTimeStamp = Long.MAX_VALUE;
+        long maxTimeStamp = Long.MIN_VALUE;
+        for (int i = 0; i < streams.size(); i++) {
+            TimeStamps stream = streams.get(i);
+            count += stream.count();
+            positions[i] = stream.count();
+            if (stream.count() > 0) {
+                minTimeStamp = Math.min(minTimeStamp, stream.timeStampAt(0));
+                maxTimeStamp = Math.max(maxTimeStamp, stream.timeStampAt(stream.count() - 1));
+            }
+        }
+        if (position >= count) {
+            return positions;
+        }
+
+        // time stamp of the operation at the position: the highest time stamp with at most position operations before
+        long low = minTimeStamp;
+        long high = maxTimeStamp;
+        while (low < high) {
+            long middle = low + (high - low + 1) / 2;
+            if (countBefore(middle, streams) <= position) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        // operations before that time stamp are all taken, of those at it, the ones of lower stream indexes come first
+        long remaining = position;
+        for (int i = 0; i < streams.size(); i++) {
+            positions[i] = streams.get(i).countBefore(low);
+            remaining -= positions[i];
+        }
+        for (int i = 0; i < streams.size() && remaining > 0; i++) {
+            long countAtTimeStamp = streams.get(i).countBefore(low + 1) - positions[i];
+            long taken = Math.min(remaining, countAtTimeStamp);
+            positions[i] += taken;
+            remaining -= taken;
+        }
+        return positions;
+    }
+
+    private static long countBefore(long timeStamp, List<? extends TimeStamps> streams) throws IOException {
+        long count = 0;
+        for (TimeStamps stream : streams) {
+            count += stream.countBefore(timeStamp);
+        }
+        return count;
+    }
+
+    /**
+     * @return new streams over all operations of the compiled workload, closed along with it
+     */
+    public WorkloadStreams streams(boolean hasDbConnected) throws WorkloadException {
+        List<Section> sections = sections();
+        long[] startForStream = new long[sections.size()];
+        long[] limitForStream = new long[sections.size()];
+        for (int i = 0; i < sections.size(); i++) {
+            limitForStream[i] = sections.get(i).count;
+        }
+        return streams(hasDbConnected, startForStream, limitForStream);
+    }
+
+    /**
+     * @param startForStream position of the first operation to stream, for each stream in the order of
+     *                       {@link #fromAmongAllRetrieveTopCountFromOffset(long, long)}, seeked to via the index
+     * @param limitForStream number of operations to stream, for each stream
+     * @return new streams over the given operations of the compiled workload, closed along with it
+     */
+    public WorkloadStreams streams(boolean hasDbConnected, long[] startForStream, long[] limitForStream)
+            throws WorkloadException {
+        WorkloadStreams workloadStreams = new WorkloadStreams();
+        for (int i = 0; i < definitions.size(); i++) {
+            CompiledStreamDefinition definition = definitions.get(i);
+            ChildOperationGenerator childOperationGenerator = null;
+            if (definition.hasChildOperationGenerator) {
+                childOperationGenerator = workload.compiledChildOperationGenerator(hasDbConnected);
+                if (null == childOperationGenerator) {
+                    throw new WorkloadException(format("%s provides no child operation generator for compiled " +
+                            "workload: %s", workload.getClass().getName(), file.getAbsolutePath()));
+                }
+            }
+            Iterator<Operation> dependencyOperations = openSection(
+                    definition.dependencySection, startForStream[i * 2], limitForStream[i * 2]);
+            Iterator<Operation> nonDependencyOperations = openSection(
+                    definition.nonDependencySection, startForStream[i * 2 + 1], limitForStream[i * 2 + 1]);
+            if (0 == i) {
+                workloadStreams.setAsynchronousStream(
+                        definition.dependentOperationTypes,
+                        definition.dependencyOperationTypes,
+                        dependencyOperations,
+                        nonDependencyOperations,
+                        childOperationGenerator
+                );
+            } else {
+                workloadStreams.addBlockingStream(
+                        definition.dependentOperationTypes,
+                        definition.dependencyOperationTypes,
+                        dependencyOperations,
+                        nonDependencyOperations,
+                        childOperationGenerator
+                );
+            }
+        }
+        return workloadStreams;
+    }
+
+    private Iterator<Operation> openSection(Section section, long start, long limit) throws WorkloadException {
+        if (start < 0 || limit < 0 || start + limit > section.count) {
+            throw new WorkloadException(format("Operations %s to %s are not among the %s of stream in compiled " +
+                    "workload: %s", start, start + limit, section.count, file.getAbsolutePath()));
+        }
+        if (0 == limit) {
+            return Collections.emptyIterator();
+        }
+        try {
+            SectionIterator sectionIterator = new SectionIterator(section, start, limit);
+            openSections.add(sectionIterator);
+            return sectionIterator;
+        } catch (IOException e) {
+            throw new WorkloadException(format("Error reading compiled workload: %s", file.getAbsolutePath()), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (SectionIterator section : openSections) {
+            section.close();
+        }
+        openSections.clear();
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        if (in.skipBytes(length) < length) {
+            throw new EOFException();
+        }
+    }
+
+    private static class CompiledStreamDefinition {
+        private final Set<Class<? extends Operation>> dependentOperationTypes;
+        private final Set<Class<? extends Operation>> dependencyOperationTypes;
+        private final boolean hasChildOperationGenerator;
+        private final Section dependencySection;
+        private final Section nonDependencySection;
+
+        private CompiledStreamDefinition(Set<Class<? extends Operation>> dependentOperationTypes,
+                                         Set<Class<? extends Operation>> dependencyOperationTypes,
+                                         boolean hasChildOperationGenerator,
+                                         Section dependencySection,
+                                         Section nonDependencySection) {
+            this.dependentOperationTypes = dependentOperationTypes;
+            this.dependencyOperationTypes = dependencyOperationTypes;
+            this.hasChildOperationGenerator = hasChildOperationGenerator;
+            this.dependencySection = dependencySection;
+            this.nonDependencySection = nonDependencySection;
+        }
+    }
+
+    /**
+     * Operations of one stream, their classes, and the index of the section: offset and time stamp of every
+     * {@link #CHECKPOINT_INTERVAL}th operation
+     */
+    private static class Section {
+        private final long offset;
+        private final long count;
+        private final List<String> operationClassNames;
+        // operations are ordered by time stamp, and all have time stamps and dependency time stamps
+        private final boolean sorted;
+        private final long lastTimeStamp;
+        private final long[] checkpointOffsets;
+        private final long[] checkpointTimeStamps;
+
+        private Section(long offset,
+                        long count,
+                        List<String> operationClassNames,
+                        boolean sorted,
+                        long lastTimeStamp,
+                        long[] checkpointOffsets,
+                        long[] checkpointTimeStamps) {
+            this.offset = offset;
+            this.count = count;
+            this.operationClassNames = operationClassNames;
+            this.sorted = sorted;
+            this.lastTimeStamp = lastTimeStamp;
+            this.checkpointOffsets = checkpointOffsets;
+            this.checkpointTimeStamps = checkpointTimeStamps;
+        }
+
+        private void writeTo(DataOutputStream out) throws IOException {
+            out.writeLong(offset);
+            out.writeLong(count);
+            out.writeInt(operationClassNames.size());
+            for (String operationClassName : operationClassNames) {
+                out.writeUTF(operationClassName);
+            }
+            out.writeBoolean(sorted);
+            out.writeLong(lastTimeStamp);
+            out.writeInt(checkpointOffsets.length);
+            for (int i = 0; i < checkpointOffsets.length; i++) {
+                out.writeLong(checkpointOffsets[i]);
+                out.writeLong(checkpointTimeStamps[i]);
+            }
+        }
+
+        private static Section readFrom(DataInputStream in) throws IOException {
+            long offset = in.readLong();
+            long count = in.readLong();
+            int operationClassCount = in.readInt();
+            List<String> operationClassNames = new ArrayList<>(operationClassCount);
+            for (int i = 0; i < operationClassCount; i++) {
+                operationClassNames.add(in.readUTF());
+            }
+            boolean sorted = in.readBoolean();
+            long lastTimeStamp = in.readLong();
+            int checkpointCount = in.readInt();
+            long[] checkpointOffsets = new long[checkpointCount];
+            long[] checkpointTimeStamps = new long[checkpointCount];
+            for (int i = 0; i < checkpointCount; i++) {
+                checkpointOffsets[i] = in.readLong();
+                checkpointTimeStamps[i] = in.readLong();
+            }
+            return new Section(offset, count, operationClassNames, sorted, lastTimeStamp, checkpointOffsets,
+                    checkpointTimeStamps);
+        }
+    }
+
+    /**
+     * Time stamps of an ordered section, searched through its checkpoints, time stamps of the operations between two
+     * checkpoints are read from the file only when needed
+     */
+    private static class SectionTimeStamps implements TimeStamps {
+        private final Section section;
+        private final FileChannel channel;
+        private final Map<Integer, long[]> blocks = new HashMap<>();
+
+        private SectionTimeStamps(Section section, FileChannel channel) {
+            this.section = section;
+            this.channel = channel;
+        }
+
+        @Override
+        public long count() {
+            return section.count;
+        }
+
+        @Override
+        public long countBefore(long timeStamp) throws IOException {
+            // last checkpoint with a lower time stamp, operations before it are all lower too
+            int low = -1;
+            int high = section.checkpointTimeStamps.length - 1;
+            while (low < high) {
+                int middle = low + (high - low + 1) / 2;
+                if (section.checkpointTimeStamps[middle] < timeStamp) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            if (-1 == low) {
+                return 0;
+            }
+            long[] blockTimeStamps = block(low);
+            int position = 0;
+            while (position < blockTimeStamps.length && blockTimeStamps[position] < timeStamp) {
+                position++;
+            }
+            return (long) low * CHECKPOINT_INTERVAL + position;
+        }
+
+        @Override
+        public long timeStampAt(long position) throws IOException {
+            if (position == section.count - 1) {
+                return section.lastTimeStamp;
+            }
+            return block((int) (position / CHECKPOINT_INTERVAL))[(int) (position % CHECKPOINT_INTERVAL)];
+        }
+
+        private long[] block(int checkpoint) throws IOException {
+            long[] blockTimeStamps = blocks.get(checkpoint);
+            if (null == blockTimeStamps) {
+                int blockCount = (int) Math.min(CHECKPOINT_INTERVAL,
+                        section.count - (long) checkpoint * CHECKPOINT_INTERVAL);
+                blockTimeStamps = new long[blockCount];
+                channel.position(section.checkpointOffsets[checkpoint]);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                for (int i = 0; i < blockCount; i++) {
+                    // entry, class index and scheduled start time
+                    skipFully(in, 1 + 4 + 8);
+                    blockTimeStamps[i] = in.readLong();
+                    // dependency time stamp
+                    skipFully(in, 8);
+                    skipFully(in, in.readInt());
+                }
+                blocks.put(checkpoint, blockTimeStamps);
+            }
+            return blockTimeStamps;
+        }
+    }
+
+    /**
+     * Reads the operations of one section, through its own file handle, so that sections can be read independently
+     */
+    private class SectionIterator extends AbstractIterator<Operation> implements Closeable {
+        private final FileInputStream fileInputStream;
+        private final DataInputStream in;
+        private final List<String> operationClassNames;
+        private long remaining;
+        private byte[] stringBytes = new byte[256];
+
+        private SectionIterator(Section section, long start, long limit) throws IOException {
+            this.operationClassNames = section.operationClassNames;
+            this.remaining = limit;
+            this.fileInputStream = new FileInputStream(file);
+            // seek to the last checkpoint before the start, then skip the operations in between
+            int checkpoint = (int) (start / CHECKPOINT_INTERVAL);
+            fileInputStream.getChannel().position(section.checkpointOffsets[checkpoint]);
+            this.in = new DataInputStream(new BufferedInputStream(fileInputStream, BUFFER_SIZE));
+            for (long i = (long) checkpoint * CHECKPOINT_INTERVAL; i < start; i++) {
+                skipFully(in, 1 + 4 + 8 + 8 + 8);
+                skipFully(in, in.readInt());
+            }
+        }
+
+        @Override
+        protected Operation computeNext() {
+            if (0 == remaining) {
+                try {
+                    close();
+                } catch (IOException e) {
+                    throw new GeneratorException(
+                            format("Error closing compiled workload: %s", file.getAbsolutePath()), e);
+                }
+                return endOfData();
+            }
+            try {
+                if (OPERATION != in.readByte()) {
+                    throw new GeneratorException(format("Corrupt compiled workload: %s", file.getAbsolutePath()));
+                }
+                String operationClassName = operationClassNames.get(in.readInt());
+                long scheduledStartTimeAsMilli = in.readLong();
+                long timeStamp = in.readLong();
+                long dependencyTimeStamp = in.readLong();
+                // length of values
+                in.readInt();
+                int valueCount = in.readInt();
+                List<Object> operationAsList = new ArrayList<>(valueCount + 1);
+                operationAsList.add(operationClassName);
+                for (int i = 0; i < valueCount; i++) {
+                    operationAsList.add(readValue());
+                }
+                Operation operation = workload.marshalOperation(operationAsList);
+                operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
+                operation.setTimeStamp(timeStamp);
+                operation.setDependencyTimeStamp(dependencyTimeStamp);
+                remaining--;
+                return operation;
+            } catch (IOException | SerializingMarshallingException e) {
+                throw new GeneratorException(format("Error reading compiled workload: %s", file.getAbsolutePath()), e);
+            }
+        }
+
+        private Object readValue() throws IOException {
+            byte tag = in.readByte();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case FALSE:
+                    return false;
+                case TRUE:
+                    return true;
+                case INT:
+                    return in.readInt();
+                case LONG:
+                    return in.readLong();
+                case DOUBLE:
+                    return in.readDouble();
+                case STRING: {
+                    int length = in.readInt();
+                    if (stringBytes.length < length) {
+                        stringBytes = new byte[length];
+                    }
+                    in.readFully(stringBytes, 0, length);
+                    return new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+                }
+                case LIST: {
+                    int size = in.readInt();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    return list;
+                }
+                case MAP: {
+                    int size = in.readInt();
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        map.put((String) readValue(), readValue());
+                    }
+                    return map;
+                }
+                default:
+                    throw new IOException(
+                            format("Unknown value tag %s in compiled workload: %s", tag, file.getAbsolutePath()));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
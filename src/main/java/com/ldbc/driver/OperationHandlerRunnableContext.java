@@ -1,8 +1,10 @@
 package com.ldbc.driver;
 
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
+import com.ldbc.driver.runtime.metrics.MetricsManager;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.runtime.scheduling.SpinnerCheck;
@@ -10,10 +12,15 @@ import com.ldbc.driver.temporal.TimeSource;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import static java.lang.String.format;
 
 public class OperationHandlerRunnableContext implements Runnable, Poolable
 {
+    private static final CompletionStage<Void> COMPLETED = CompletableFuture.completedFuture( null );
+
     // set by OperationHandlerRunnerFactory
     private Slot slot = null;
 
@@ -35,6 +42,8 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
     private boolean initialized = false;
 
     private ResultReporter.SimpleResultReporter resultReporter = null;
+    // time between scheduled and actual start, resolution of the actual start time (milliseconds) is too coarse
+    private long startDelayAsNano = 0;
 
     final void setSlot( Slot slot )
     {
@@ -139,35 +148,111 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
             }
             resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
             long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            startDelayAsNano = startOfLatencyMeasurementAsNano -
+                               timeSource.nanoSnapshotAt( operation.scheduledStartTimeAsMilli() );
             operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
             long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
+            submitResult();
+        }
+        catch ( Throwable e )
+        {
+            reportError( e );
+        }
+    }
+
+    /**
+     * Same as run(), but does not wait for the result of an AsyncOperationHandler.
+     * The calling thread still waits for the scheduled start time, and the completion time dependency check.
+     * Completion time and metrics are submitted from the completion callback of the handler, which may be invoked
+     * by a thread of the database client.
+     * <p>
+     * Errors are written to ConcurrentErrorReporter, the returned stage always completes normally.
+     * The context may only be cleaned up after the returned stage has completed.
+     *
+     * @return stage that completes once the result has been submitted
+     */
+    public CompletionStage<Void> runAsync()
+    {
+        if ( !initialized )
+        {
+            errorReporter.reportError( this, "Handler was executed before being initialized" );
+            return COMPLETED;
+        }
+        if ( !(operationHandler instanceof AsyncOperationHandler) )
+        {
+            run();
+            return COMPLETED;
+        }
+        try
+        {
+            if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
             {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+                // Spinner result indicates operation should not be processed
+                return COMPLETED;
             }
-            else
+            resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
+            final long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            startDelayAsNano = startOfLatencyMeasurementAsNano -
+                               timeSource.nanoSnapshotAt( operation.scheduledStartTimeAsMilli() );
+            CompletionStage<Void> handlerStage =
+                    ((AsyncOperationHandler<Operation,DbConnectionState>) operationHandler)
+                            .executeOperationAsync( operation, dbConnectionState, resultReporter );
+            return handlerStage.handle( ( ignore, throwable ) ->
             {
-                completionTimeWriter.submitCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode(),
-                        operation.timeStamp()
-                );
-            }
+                long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+                resultReporter.setRunDurationAsNano(
+                        endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
+                try
+                {
+                    if ( null != throwable )
+                    {
+                        throw throwable;
+                    }
+                    submitResult();
+                }
+                catch ( Throwable e )
+                {
+                    reportError( e );
+                }
+                return null;
+            } );
         }
         catch ( Throwable e )
         {
-            String errMsg = format( "Error encountered\n%s\n%s",
-                    operation,
-                    ConcurrentErrorReporter.stackTraceToString( e ) );
-            errorReporter.reportError( this, errMsg );
+            reportError( e );
+            return COMPLETED;
+        }
+    }
+
+    private void submitResult() throws CompletionTimeException, MetricsCollectionException
+    {
+        if ( null == resultReporter().result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+        }
+        else
+        {
+            completionTimeWriter.submitCompletedTime( operation.timeStamp() );
+            metricsServiceWriter.submitOperationResult(
+                    operation.type(),
+                    operation.scheduledStartTimeAsMilli(),
+                    resultReporter.actualStartTimeAsMilli(),
+                    resultReporter.runDurationAsNano(),
+                    MetricsManager.responseTimeAsNano( startDelayAsNano, resultReporter.runDurationAsNano() ),
+                    resultReporter.resultCode(),
+                    operation.timeStamp()
+            );
         }
     }
 
+    private void reportError( Throwable e )
+    {
+        String errMsg = format( "Error encountered\n%s\n%s",
+                operation,
+                ConcurrentErrorReporter.stackTraceToString( e ) );
+        errorReporter.reportError( this, errMsg );
+    }
 
     @Override
     public String toString()
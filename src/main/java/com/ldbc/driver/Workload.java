@@ -1,21 +1,30 @@
 package com.ldbc.driver;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldbc.driver.modes.DriverModeType;
 import com.ldbc.driver.validation.DbValidationParametersFilter;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 public abstract class Workload implements Closeable {
 
     public static final long DEFAULT_MAXIMUM_EXPECTED_INTERLEAVE_AS_MILLI = TimeUnit.HOURS.toMillis(1);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private boolean isInitialized = false;
     private boolean isClosed = false;
+    private File compiledWorkloadFile = null;
+    private Map<String, String> compiledWorkloadParameters = null;
+    private final List<CompiledWorkload> compiledWorkloads = new ArrayList<>();
 
 
     public abstract Map<Integer, Class<? extends Operation>> operationTypeToClassMapping();
@@ -52,7 +61,13 @@ public abstract class Workload implements Closeable {
             throw new WorkloadException("Workload may be initialized only once");
         }
         isInitialized = true;
+        // in mode COMPILE_WORKLOAD the compiled workload is being written, streams come from the workload files
+        if (null != params.compiledWorkloadFilePath() && DriverModeType.COMPILE_WORKLOAD != params.getDriverMode()) {
+            compiledWorkloadFile = new File(params.compiledWorkloadFilePath());
+        }
         onInit(params.asMap());
+        // after onInit(), which may add parameters derived from others, so they are always part of the comparison
+        compiledWorkloadParameters = CompiledWorkload.parametersOf(params);
     }
 
     public abstract void onInit(Map<String, String> params) throws WorkloadException;
@@ -66,13 +81,16 @@ public abstract class Workload implements Closeable {
             throw new IOException("Workload may be cleaned up only once");
         }
         isClosed = true;
+        for (CompiledWorkload compiledWorkload : compiledWorkloads) {
+            compiledWorkload.close();
+        }
         onClose();
     }
 
     protected abstract void onClose() throws IOException;
 
     /**
-     * Get workload streams
+     * Get workload streams, from the compiled workload if one was configured
      * @param gf random number generator factory
      * @param hasDbConnected if database has been connected to
      * @return workload streams
@@ -82,12 +100,52 @@ public abstract class Workload implements Closeable {
         if (!isInitialized) {
             throw new WorkloadException("Workload has not been initialized");
         }
+        CompiledWorkload compiledWorkload = compiledWorkload();
+        if (null != compiledWorkload) {
+            return compiledWorkload.streams(hasDbConnected);
+        }
         return getStreams(gf, hasDbConnected);
     }
 
+    /**
+     * @return newly opened compiled workload, closed along with the workload, or null if none was configured
+     */
+    CompiledWorkload compiledWorkload() throws WorkloadException {
+        if (!isInitialized) {
+            throw new WorkloadException("Workload has not been initialized");
+        }
+        if (null == compiledWorkloadFile) {
+            return null;
+        }
+        CompiledWorkload compiledWorkload = CompiledWorkload.open(compiledWorkloadFile, this);
+        compiledWorkloads.add(compiledWorkload);
+        return compiledWorkload;
+    }
+
     protected abstract WorkloadStreams getStreams(GeneratorFactory generators, boolean hasDbConnected)
             throws WorkloadException;
 
+    /**
+     * @return parameters a compiled workload is written with, and must have been written with to be opened
+     */
+    Map<String, String> compiledWorkloadParameters() throws WorkloadException {
+        if (!isInitialized) {
+            throw new WorkloadException("Workload has not been initialized");
+        }
+        return compiledWorkloadParameters;
+    }
+
+    /**
+     * Child operation generator for streams read from a compiled workload, which can not store generators
+     * @param hasDbConnected if database has been connected to
+     * @return new child operation generator, or null if the workload generates no child operations
+     * @throws WorkloadException workload exception
+     */
+    protected ChildOperationGenerator compiledChildOperationGenerator(boolean hasDbConnected)
+            throws WorkloadException {
+        return null;
+    }
+
     public abstract DbValidationParametersFilter getDbValidationParametersFilter(int requiredValidationParameterCount);
 
     public long maxExpectedInterleaveAsMilli() {
@@ -98,6 +156,21 @@ public abstract class Workload implements Closeable {
 
     public abstract Operation marshalOperation(String serializedOperation) throws SerializingMarshallingException;
 
+    /**
+     * Marshal operation from the list that its serialized form, a JSON array, is parsed into.
+     * Workloads should override this, the default serializes the list again to marshal it from its JSON form.
+     * @param operationAsList operation class name followed by operation parameters
+     * @return operation
+     * @throws SerializingMarshallingException serializing marshalling exception
+     */
+    public Operation marshalOperation(List<Object> operationAsList) throws SerializingMarshallingException {
+        try {
+            return marshalOperation(OBJECT_MAPPER.writeValueAsString(operationAsList));
+        } catch (IOException e) {
+            throw new SerializingMarshallingException("Error serializing operation " + operationAsList, e);
+        }
+    }
+
     public abstract boolean resultsEqual(Operation operation, Object result1, Object result2)
             throws WorkloadException;
 
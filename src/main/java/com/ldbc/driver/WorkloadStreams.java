@@ -1,5 +1,6 @@
 package com.ldbc.driver;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
 import com.ldbc.driver.control.DriverConfiguration;
@@ -7,6 +8,7 @@ import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple2;
 import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.workloads.ClassNameWorkloadFactory;
 import com.ldbc.driver.workloads.WorkloadFactory;
@@ -222,25 +224,26 @@ public class WorkloadStreams {
         // get workload
         Workload workload = workloadFactory.createWorkload();
         workload.init(configuration);
+        CompiledWorkload compiledWorkload = workload.compiledWorkload();
+        if (null != compiledWorkload && compiledWorkload.canCalculateLimitsFromIndex()) {
+            // calculate limits from the index of the compiled workload, then seek streams straight to their offsets
+            Tuple3<long[], long[], Long> limitsAndMinimumsForStream =
+                    compiledWorkload.fromAmongAllRetrieveTopCountFromOffset(offset, limit);
+            return Tuple.tuple3(
+                    compiledWorkload.streams(
+                            returnStreamsWithDbConnector,
+                            limitsAndMinimumsForStream.getElement1(),
+                            limitsAndMinimumsForStream.getElement2()
+                    ),
+                    workload,
+                    limitsAndMinimumsForStream.getElement3()
+            );
+        }
         // retrieve unbounded streams
         boolean hasDbConnected = false;
         WorkloadStreams unlimitedWorkloadStreams = workload.streams(gf, hasDbConnected);
-        List<Iterator<Operation>> streams = new ArrayList<>();
         List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
-
-        streams.add(unlimitedWorkloadStreams.asynchronousStream().dependencyOperations());
-        childOperationGenerators.add(unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator());
-
-        streams.add(unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations());
-        childOperationGenerators.add(unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator());
-
-        for (WorkloadStreamDefinition stream : unlimitedWorkloadStreams.blockingStreamDefinitions()) {
-            streams.add(stream.dependencyOperations());
-            childOperationGenerators.add(stream.childOperationGenerator());
-
-            streams.add(stream.nonDependencyOperations());
-            childOperationGenerators.add(stream.childOperationGenerator());
-        }
+        List<Iterator<Operation>> streams = allStreams(unlimitedWorkloadStreams, childOperationGenerators);
 
         // stream through streams once, to calculate how many operations are needed from each,
         // to get operation_count in total
@@ -268,6 +271,16 @@ public class WorkloadStreams {
         workload = workloadFactory.createWorkload();
         workload.init(configuration);
 
+        compiledWorkload = workload.compiledWorkload();
+        if (null != compiledWorkload) {
+            // streams of compiled workloads are seeked to their offsets, rather than streamed through up to them
+            return Tuple.tuple3(
+                    compiledWorkload.streams(returnStreamsWithDbConnector, startForStream, limitForStream),
+                    workload,
+                    minimumTimeStamp
+            );
+        }
+
         // retrieve unbounded streams
         unlimitedWorkloadStreams = workload.streams(gf, returnStreamsWithDbConnector);
         List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
@@ -305,6 +318,85 @@ public class WorkloadStreams {
         );
     }
 
+    // returns (workload_streams, workload), where each stream ends after the last operation that is retrieved from it
+    // by any of the (offset, limit) ranges, e.g., by warmup and by the measured run
+    public static Tuple2<WorkloadStreams, Workload> createNewWorkloadWithLimitedWorkloadStreams(
+            DriverConfiguration configuration,
+            GeneratorFactory gf,
+            List<Tuple2<Long, Long>> offsetsAndLimits,
+            LoggingServiceFactory loggingServiceFactory) throws WorkloadException, IOException {
+        ClassNameWorkloadFactory workloadFactory = new ClassNameWorkloadFactory(configuration.getWorkloadClassName());
+        boolean hasDbConnected = false;
+        long[] endForStream = null;
+        for (Tuple2<Long, Long> offsetAndLimit : offsetsAndLimits) {
+            Workload workload = workloadFactory.createWorkload();
+            workload.init(configuration);
+            List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+            List<Iterator<Operation>> streams =
+                    allStreams(workload.streams(gf, hasDbConnected), childOperationGenerators);
+            Tuple3<long[], long[], Long> limitsAndMinimumsForStream = fromAmongAllRetrieveTopCountFromOffset(
+                    streams,
+                    offsetAndLimit._1(),
+                    offsetAndLimit._2(),
+                    childOperationGenerators,
+                    loggingServiceFactory
+            );
+            workload.close();
+            if (null == endForStream) {
+                endForStream = new long[streams.size()];
+            }
+            for (int i = 0; i < streams.size(); i++) {
+                endForStream[i] = Math.max(endForStream[i],
+                        limitsAndMinimumsForStream.getElement1()[i] + limitsAndMinimumsForStream.getElement2()[i]);
+            }
+        }
+
+        Workload workload = workloadFactory.createWorkload();
+        workload.init(configuration);
+        WorkloadStreams unlimitedWorkloadStreams = workload.streams(gf, hasDbConnected);
+        List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
+        WorkloadStreams workloadStreams = new WorkloadStreams();
+        workloadStreams.setAsynchronousStream(
+                unlimitedWorkloadStreams.asynchronousStream().dependentOperationTypes(),
+                unlimitedWorkloadStreams.asynchronousStream().dependencyOperationTypes(),
+                gf.limit(unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), endForStream[0]),
+                gf.limit(unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), endForStream[1]),
+                unlimitedWorkloadStreams.asynchronousStream().childOperationGenerator()
+        );
+        for (int i = 0; i < unlimitedBlockingStreams.size(); i++) {
+            workloadStreams.addBlockingStream(
+                    unlimitedBlockingStreams.get(i).dependentOperationTypes(),
+                    unlimitedBlockingStreams.get(i).dependencyOperationTypes(),
+                    gf.limit(unlimitedBlockingStreams.get(i).dependencyOperations(), endForStream[i * 2 + 2]),
+                    gf.limit(unlimitedBlockingStreams.get(i).nonDependencyOperations(), endForStream[i * 2 + 3]),
+                    unlimitedBlockingStreams.get(i).childOperationGenerator()
+            );
+        }
+        return Tuple.tuple2(workloadStreams, workload);
+    }
+
+    // returns dependency and non dependency operations of each stream definition, in the order definitions are kept,
+    // and adds the child operation generator for each of them to the given list
+    private static List<Iterator<Operation>> allStreams(WorkloadStreams workloadStreams,
+                                                        List<ChildOperationGenerator> childOperationGenerators) {
+        List<Iterator<Operation>> streams = new ArrayList<>();
+
+        streams.add(workloadStreams.asynchronousStream().dependencyOperations());
+        childOperationGenerators.add(workloadStreams.asynchronousStream().childOperationGenerator());
+
+        streams.add(workloadStreams.asynchronousStream().nonDependencyOperations());
+        childOperationGenerators.add(workloadStreams.asynchronousStream().childOperationGenerator());
+
+        for (WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions()) {
+            streams.add(stream.dependencyOperations());
+            childOperationGenerators.add(stream.childOperationGenerator());
+
+            streams.add(stream.nonDependencyOperations());
+            childOperationGenerators.add(stream.childOperationGenerator());
+        }
+        return streams;
+    }
+
     // returns (start_per_stream, end_per_stream, minimum_timestamp)
     public static Tuple3<long[], long[], Long> fromAmongAllRetrieveTopCountFromOffset(
             List<Iterator<Operation>> streams,
@@ -537,6 +629,74 @@ public class WorkloadStreams {
         this.blockingStreams.add(blockingStream);
     }
 
+    /**
+     * Returns the partition of the workload streams that one of partitionCount driver processes executes.
+     * Operations of a blocking stream must execute in order, so blocking streams are assigned whole, round robin.
+     * Operations of the asynchronous stream are independent of each other, so they are assigned round robin.
+     * Partitioning should be done after time offsetting, so all partitions share the same time line.
+     *
+     * @param workloadStreams streams to partition, must not be used afterwards
+     * @param partitionIndex  partition to return, in range [0, partitionCount)
+     * @param partitionCount  number of partitions
+     * @return partition of the workload streams
+     */
+    public static WorkloadStreams partitionWorkloadStreams(
+            WorkloadStreams workloadStreams,
+            int partitionIndex,
+            int partitionCount) {
+        if (partitionIndex < 0 || partitionIndex >= partitionCount) {
+            throw new IllegalArgumentException(
+                    format("Partition index %s not in range [0, %s)", partitionIndex, partitionCount));
+        }
+        WorkloadStreams partitionedWorkloadStreams = new WorkloadStreams();
+        WorkloadStreamDefinition asynchronousStream = workloadStreams.asynchronousStream();
+        partitionedWorkloadStreams.setAsynchronousStream(
+                asynchronousStream.dependentOperationTypes(),
+                asynchronousStream.dependencyOperationTypes(),
+                new RoundRobinPartitionIterator(asynchronousStream.dependencyOperations(), partitionIndex,
+                        partitionCount),
+                new RoundRobinPartitionIterator(asynchronousStream.nonDependencyOperations(), partitionIndex,
+                        partitionCount),
+                asynchronousStream.childOperationGenerator()
+        );
+        List<WorkloadStreamDefinition> blockingStreams = workloadStreams.blockingStreamDefinitions();
+        for (int i = partitionIndex; i < blockingStreams.size(); i += partitionCount) {
+            WorkloadStreamDefinition blockingStream = blockingStreams.get(i);
+            partitionedWorkloadStreams.addBlockingStream(
+                    blockingStream.dependentOperationTypes(),
+                    blockingStream.dependencyOperationTypes(),
+                    blockingStream.dependencyOperations(),
+                    blockingStream.nonDependencyOperations(),
+                    blockingStream.childOperationGenerator()
+            );
+        }
+        return partitionedWorkloadStreams;
+    }
+
+    private static class RoundRobinPartitionIterator extends AbstractIterator<Operation> {
+        private final Iterator<Operation> operations;
+        private final int partitionCount;
+        private long position;
+
+        private RoundRobinPartitionIterator(Iterator<Operation> operations, int partitionIndex, int partitionCount) {
+            this.operations = operations;
+            this.partitionCount = partitionCount;
+            // operation at position 0 is the next one to belong to this partition
+            this.position = -partitionIndex;
+        }
+
+        @Override
+        protected Operation computeNext() {
+            while (operations.hasNext()) {
+                Operation operation = operations.next();
+                if (0 == position++ % partitionCount) {
+                    return operation;
+                }
+            }
+            return endOfData();
+        }
+    }
+
     public static Iterator<Operation> mergeSortedByStartTimeExcludingChildOperationGenerators(
             GeneratorFactory gf,
             WorkloadStreams workloadStreams) {
@@ -4,6 +4,13 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Client;
 import com.ldbc.driver.modes.DriverModeType;
+import com.ldbc.driver.runtime.executor.DispatcherType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.DisruptorWaitStrategyType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.ResultsLogCsvExporter;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.scheduling.SpinnerType;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
@@ -51,7 +58,8 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private static final String DRIVER_MODE_ARG_LONG = "driver_mode";
     private static final String DRIVER_MODE_DESCRIPTION =
             "driver execution mode. (default: MISSING, values: PRINT_HELP, CREATE_VALIDATION_PARAMS, VALIDATE_DATABASE, " +
-                    "CALCULATE_WORKLOAD_STATS, EXECUTE_WORKLOAD)";
+                    "CALCULATE_WORKLOAD_STATS, EXECUTE_WORKLOAD, COORDINATE_WORKLOAD, SUMMARIZE_INTERVAL_LOGS, " +
+                    "COMPILE_WORKLOAD)";
 
     public static final String OPERATION_COUNT_ARG = "oc";
     public static final long OPERATION_COUNT_DEFAULT = 0;
@@ -106,7 +114,158 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     public static final int THREADS_DEFAULT = 1;
     public static final String THREADS_DEFAULT_STRING = Integer.toString( THREADS_DEFAULT );
     private static final String THREADS_DESCRIPTION =
-            format( "number of worker threads to execute with (default: %s)", THREADS_DEFAULT_STRING );
+            format( "number of worker threads to execute with, for %s executor it is the maximum number of " +
+                    "concurrently executing operations (default: %s)",
+                    OperationExecutorType.VIRTUAL_THREAD.name(), THREADS_DEFAULT_STRING );
+
+    public static final String EXECUTOR_TYPE_ARG = "et";
+    private static final String EXECUTOR_TYPE_ARG_LONG = "executor_type";
+    public static final OperationExecutorType EXECUTOR_TYPE_DEFAULT = OperationExecutorType.THREAD_POOL;
+    public static final String EXECUTOR_TYPE_DEFAULT_STRING = EXECUTOR_TYPE_DEFAULT.name();
+    private static final String EXECUTOR_TYPE_DESCRIPTION =
+            format( "executor used for the asynchronous operation stream (default: %s, values: %s)",
+                    EXECUTOR_TYPE_DEFAULT_STRING, Arrays.toString( OperationExecutorType.values() ) );
+
+    public static final String DISPATCHER_TYPE_ARG = "dt";
+    private static final String DISPATCHER_TYPE_ARG_LONG = "dispatcher_type";
+    public static final DispatcherType DISPATCHER_TYPE_DEFAULT = DispatcherType.NONE;
+    public static final String DISPATCHER_TYPE_DEFAULT_STRING = DISPATCHER_TYPE_DEFAULT.name();
+    private static final String DISPATCHER_TYPE_DESCRIPTION =
+            format( "holds operations until they are due, then passes them to the executor (default: %s, values: %s)",
+                    DISPATCHER_TYPE_DEFAULT_STRING, Arrays.toString( DispatcherType.values() ) );
+
+    public static final String DISTRIBUTED_DRIVER_COUNT_ARG = "ddc";
+    private static final String DISTRIBUTED_DRIVER_COUNT_ARG_LONG = "distributed_driver_count";
+    public static final int DISTRIBUTED_DRIVER_COUNT_DEFAULT = 1;
+    public static final String DISTRIBUTED_DRIVER_COUNT_DEFAULT_STRING =
+            Integer.toString( DISTRIBUTED_DRIVER_COUNT_DEFAULT );
+    private static final String DISTRIBUTED_DRIVER_COUNT_DESCRIPTION =
+            format( "number of driver processes that execute the workload together, each executes a partition " +
+                    "of the workload streams and they share global completion time via the coordinator (default: %s)",
+                    DISTRIBUTED_DRIVER_COUNT_DEFAULT_STRING );
+
+    public static final String DISTRIBUTED_DRIVER_ID_ARG = "ddi";
+    private static final String DISTRIBUTED_DRIVER_ID_ARG_LONG = "distributed_driver_id";
+    public static final int DISTRIBUTED_DRIVER_ID_DEFAULT = 0;
+    public static final String DISTRIBUTED_DRIVER_ID_DEFAULT_STRING =
+            Integer.toString( DISTRIBUTED_DRIVER_ID_DEFAULT );
+    private static final String DISTRIBUTED_DRIVER_ID_DESCRIPTION =
+            format( "ID of this driver process, in range [0, %s) (default: %s)",
+                    DISTRIBUTED_DRIVER_COUNT_ARG_LONG, DISTRIBUTED_DRIVER_ID_DEFAULT_STRING );
+
+    public static final String DISTRIBUTED_COORDINATOR_ARG = "dca";
+    private static final String DISTRIBUTED_COORDINATOR_ARG_LONG = "distributed_coordinator";
+    public static final String DISTRIBUTED_COORDINATOR_DEFAULT = "localhost:7420";
+    public static final String DISTRIBUTED_COORDINATOR_DEFAULT_STRING = DISTRIBUTED_COORDINATOR_DEFAULT;
+    private static final String DISTRIBUTED_COORDINATOR_DESCRIPTION =
+            format( "host:port the coordinator of distributed drivers listens on (default: %s)",
+                    DISTRIBUTED_COORDINATOR_DEFAULT_STRING );
+
+    public static final String METRICS_SERVICE_TYPE_ARG = "mst";
+    private static final String METRICS_SERVICE_TYPE_ARG_LONG = "metrics_service_type";
+    public static final MetricsServiceType METRICS_SERVICE_TYPE_DEFAULT = MetricsServiceType.DISRUPTOR;
+    public static final String METRICS_SERVICE_TYPE_DEFAULT_STRING = METRICS_SERVICE_TYPE_DEFAULT.name();
+    private static final String METRICS_SERVICE_TYPE_DESCRIPTION =
+            format( "collects operation results, %s can not be used with executor %s (default: %s, values: %s)",
+                    MetricsServiceType.THREAD_LOCAL_HISTOGRAM.name(), OperationExecutorType.VIRTUAL_THREAD.name(),
+                    METRICS_SERVICE_TYPE_DEFAULT_STRING, Arrays.toString( MetricsServiceType.values() ) );
+
+    public static final String RESULTS_LOG_SAMPLING_INTERVAL_ARG = "rlsi";
+    private static final String RESULTS_LOG_SAMPLING_INTERVAL_ARG_LONG = "results_log_sampling_interval";
+    public static final int RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT = 1;
+    public static final String RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT_STRING =
+            Integer.toString( RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT );
+    private static final String RESULTS_LOG_SAMPLING_INTERVAL_DESCRIPTION =
+            format( "every Nth result of each thread is written to the results log, only used by metrics service " +
+                    "type THREAD_LOCAL_HISTOGRAM (default: %s)",
+                    RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT_STRING );
+
+    public static final String METRICS_RING_BUFFER_SIZE_ARG = "mrbs";
+    private static final String METRICS_RING_BUFFER_SIZE_ARG_LONG = "metrics_ring_buffer_size";
+    public static final int METRICS_RING_BUFFER_SIZE_DEFAULT = 1024;
+    public static final String METRICS_RING_BUFFER_SIZE_DEFAULT_STRING =
+            Integer.toString( METRICS_RING_BUFFER_SIZE_DEFAULT );
+    private static final String METRICS_RING_BUFFER_SIZE_DESCRIPTION =
+            format( "size of the ring buffer between workers and metrics consumers, must be a power of 2, only " +
+                    "used by metrics service type DISRUPTOR (default: %s)",
+                    METRICS_RING_BUFFER_SIZE_DEFAULT_STRING );
+
+    public static final String METRICS_WAIT_STRATEGY_ARG = "mws";
+    private static final String METRICS_WAIT_STRATEGY_ARG_LONG = "metrics_wait_strategy";
+    public static final DisruptorWaitStrategyType METRICS_WAIT_STRATEGY_DEFAULT = DisruptorWaitStrategyType.BLOCKING;
+    public static final String METRICS_WAIT_STRATEGY_DEFAULT_STRING = METRICS_WAIT_STRATEGY_DEFAULT.name();
+    private static final String METRICS_WAIT_STRATEGY_DESCRIPTION =
+            format( "how metrics consumers wait for results, only used by metrics service type DISRUPTOR " +
+                    "(default: %s, values: %s)",
+                    METRICS_WAIT_STRATEGY_DEFAULT_STRING, Arrays.toString( DisruptorWaitStrategyType.values() ) );
+
+    public static final String METRICS_CONSUMER_COUNT_ARG = "mcc";
+    private static final String METRICS_CONSUMER_COUNT_ARG_LONG = "metrics_consumer_count";
+    public static final int METRICS_CONSUMER_COUNT_DEFAULT = 1;
+    public static final String METRICS_CONSUMER_COUNT_DEFAULT_STRING =
+            Integer.toString( METRICS_CONSUMER_COUNT_DEFAULT );
+    private static final String METRICS_CONSUMER_COUNT_DESCRIPTION =
+            format( "number of threads recording results, partitioned by operation type, if more than one the " +
+                    "results log is written by an additional thread, only used by metrics service type DISRUPTOR " +
+                    "(default: %s)",
+                    METRICS_CONSUMER_COUNT_DEFAULT_STRING );
+
+    public static final String HISTOGRAM_LOG_INTERVAL_ARG = "hli";
+    private static final String HISTOGRAM_LOG_INTERVAL_ARG_LONG = "histogram_log_interval";
+    public static final long HISTOGRAM_LOG_INTERVAL_DEFAULT = 0;
+    public static final String HISTOGRAM_LOG_INTERVAL_DEFAULT_STRING = Long.toString( HISTOGRAM_LOG_INTERVAL_DEFAULT );
+    private static final String HISTOGRAM_LOG_INTERVAL_DESCRIPTION =
+            format( "duration (ms) of intervals of the response time histograms logged per operation type to the " +
+                    "results directory (.hlog), 0 disables them. In mode %s: duration of the windows logged " +
+                    "intervals are summarized into, 0 summarizes whole logs (default: %s)",
+                    DriverModeType.SUMMARIZE_INTERVAL_LOGS.name(), HISTOGRAM_LOG_INTERVAL_DEFAULT_STRING );
+
+    public static final String RESULTS_LOG_FORMAT_ARG = "rlf";
+    private static final String RESULTS_LOG_FORMAT_ARG_LONG = "results_log_format";
+    public static final ResultsLogFormat RESULTS_LOG_FORMAT_DEFAULT = ResultsLogFormat.CSV;
+    public static final String RESULTS_LOG_FORMAT_DEFAULT_STRING = RESULTS_LOG_FORMAT_DEFAULT.name();
+    private static final String RESULTS_LOG_FORMAT_DESCRIPTION =
+            format( "format of the results log, BINARY logs can be exported to CSV with %s " +
+                    "(default: %s, values: %s)",
+                    ResultsLogCsvExporter.class.getSimpleName(), RESULTS_LOG_FORMAT_DEFAULT_STRING,
+                    Arrays.toString( ResultsLogFormat.values() ) );
+
+    public static final String RESULTS_LOG_ROTATION_SIZE_ARG = "rlrs";
+    private static final String RESULTS_LOG_ROTATION_SIZE_ARG_LONG = "results_log_rotation_size";
+    public static final long RESULTS_LOG_ROTATION_SIZE_DEFAULT = 0;
+    public static final String RESULTS_LOG_ROTATION_SIZE_DEFAULT_STRING =
+            Long.toString( RESULTS_LOG_ROTATION_SIZE_DEFAULT );
+    private static final String RESULTS_LOG_ROTATION_SIZE_DESCRIPTION =
+            format( "size (bytes) at which CSV results logs are continued in another file, 0 never splits them " +
+                    "(default: %s)",
+                    RESULTS_LOG_ROTATION_SIZE_DEFAULT_STRING );
+
+    public static final String COMPILED_WORKLOAD_FILE_PATH_ARG = "cw";
+    private static final String COMPILED_WORKLOAD_FILE_PATH_ARG_LONG = "compiled_workload";
+    public static final String COMPILED_WORKLOAD_FILE_PATH_DEFAULT = null;
+    public static final String COMPILED_WORKLOAD_FILE_PATH_DEFAULT_STRING = COMPILED_WORKLOAD_FILE_PATH_DEFAULT;
+    private static final String COMPILED_WORKLOAD_FILE_PATH_DESCRIPTION =
+            format( "binary file of precompiled workload streams, written in mode %s, " +
+                    "streamed from instead of the workload files in all other modes",
+                    DriverModeType.COMPILE_WORKLOAD.name() );
+
+    public static final String PREFETCH_SIZE_ARG = "pfs";
+    private static final String PREFETCH_SIZE_ARG_LONG = "prefetch_size";
+    public static final int PREFETCH_SIZE_DEFAULT = 0;
+    public static final String PREFETCH_SIZE_DEFAULT_STRING = Integer.toString( PREFETCH_SIZE_DEFAULT );
+    private static final String PREFETCH_SIZE_DESCRIPTION =
+            format( "number of operations of each stream generated ahead by a thread of its own, rather than by the " +
+                    "thread that submits them to the executor, 0 disables prefetching (default: %s)",
+                    PREFETCH_SIZE_DEFAULT_STRING );
+
+    public static final String PREFETCH_LOOK_AHEAD_ARG = "pfla";
+    private static final String PREFETCH_LOOK_AHEAD_ARG_LONG = "prefetch_look_ahead";
+    public static final long PREFETCH_LOOK_AHEAD_DEFAULT = 0;
+    public static final String PREFETCH_LOOK_AHEAD_DEFAULT_STRING = Long.toString( PREFETCH_LOOK_AHEAD_DEFAULT );
+    private static final String PREFETCH_LOOK_AHEAD_DESCRIPTION =
+            format( "duration (ms) before their scheduled start time that operations are prefetched, 0 only limits " +
+                    "prefetching by %s (default: %s)",
+                    PREFETCH_SIZE_ARG_LONG, PREFETCH_LOOK_AHEAD_DEFAULT_STRING );
 
     public static final String SHOW_STATUS_ARG = "s";
     private static final String SHOW_STATUS_ARG_LONG = "status";
@@ -160,6 +319,14 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private static final String SPINNER_SLEEP_DURATION_DESCRIPTION =
             "sleep duration (ms) injected into busy wait loops (to reduce CPU consumption)";
 
+    public static final String SPINNER_TYPE_ARG = "st";
+    private static final String SPINNER_TYPE_ARG_LONG = "spinner_type";
+    public static final SpinnerType SPINNER_TYPE_DEFAULT = SpinnerType.SLEEP;
+    public static final String SPINNER_TYPE_DEFAULT_STRING = SPINNER_TYPE_DEFAULT.name();
+    private static final String SPINNER_TYPE_DESCRIPTION =
+            format( "strategy used to wait for scheduled start times (default: %s, values: %s)",
+                    SPINNER_TYPE_DEFAULT_STRING, Arrays.toString( SpinnerType.values() ) );
+
     public static final String SKIP_COUNT_ARG = "sk";
     private static final String SKIP_COUNT_ARG_LONG = "skip";
     public static final long SKIP_COUNT_DEFAULT = 0;
@@ -201,12 +368,31 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( DB_ARG, DB_DEFAULT_STRING );
         defaultParamsMap.put( RESULT_DIR_PATH_ARG, RESULT_DIR_PATH_DEFAULT_STRING );
         defaultParamsMap.put( THREADS_ARG, THREADS_DEFAULT_STRING );
+        defaultParamsMap.put( EXECUTOR_TYPE_ARG, EXECUTOR_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( DISPATCHER_TYPE_ARG, DISPATCHER_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( DISTRIBUTED_DRIVER_COUNT_ARG, DISTRIBUTED_DRIVER_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( DISTRIBUTED_DRIVER_ID_ARG, DISTRIBUTED_DRIVER_ID_DEFAULT_STRING );
+        defaultParamsMap.put( DISTRIBUTED_COORDINATOR_ARG, DISTRIBUTED_COORDINATOR_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_SERVICE_TYPE_ARG, METRICS_SERVICE_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_SAMPLING_INTERVAL_ARG, RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_RING_BUFFER_SIZE_ARG, METRICS_RING_BUFFER_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_WAIT_STRATEGY_ARG, METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_CONSUMER_COUNT_ARG, METRICS_CONSUMER_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( HISTOGRAM_LOG_INTERVAL_ARG, HISTOGRAM_LOG_INTERVAL_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_FORMAT_ARG, RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_ROTATION_SIZE_ARG, RESULTS_LOG_ROTATION_SIZE_DEFAULT_STRING );
         defaultParamsMap.put( SHOW_STATUS_ARG, SHOW_STATUS_DEFAULT_STRING );
         defaultParamsMap.put( DRIVER_MODE_ARG, DRIVER_MODE_DEFAULT_STRING);
         if ( null != DB_VALIDATION_FILE_PATH_DEFAULT_STRING )
         {
             defaultParamsMap.put( DB_VALIDATION_FILE_PATH_ARG, DB_VALIDATION_FILE_PATH_DEFAULT_STRING );
         }
+        if ( null != COMPILED_WORKLOAD_FILE_PATH_DEFAULT_STRING )
+        {
+            defaultParamsMap.put( COMPILED_WORKLOAD_FILE_PATH_ARG, COMPILED_WORKLOAD_FILE_PATH_DEFAULT_STRING );
+        }
+        defaultParamsMap.put( PREFETCH_SIZE_ARG, PREFETCH_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( PREFETCH_LOOK_AHEAD_ARG, PREFETCH_LOOK_AHEAD_DEFAULT_STRING );
         if ( null != CREATE_VALIDATION_PARAMS_DEFAULT )
         {
             defaultParamsMap
@@ -216,6 +402,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( TIME_UNIT_ARG, TIME_UNIT_DEFAULT_STRING );
         defaultParamsMap.put( TIME_COMPRESSION_RATIO_ARG, TIME_COMPRESSION_RATIO_DEFAULT_STRING );
         defaultParamsMap.put( SPINNER_SLEEP_DURATION_ARG, SPINNER_SLEEP_DURATION_DEFAULT_STRING );
+        defaultParamsMap.put( SPINNER_TYPE_ARG, SPINNER_TYPE_DEFAULT_STRING );
         defaultParamsMap.put( WARMUP_COUNT_ARG, WARMUP_COUNT_DEFAULT_STRING );
         defaultParamsMap.put( SKIP_COUNT_ARG, SKIP_COUNT_DEFAULT_STRING );
         return defaultParamsMap;
@@ -274,6 +461,25 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             String workloadClassName = paramsMap.get( WORKLOAD_ARG );
             long operationCount = Long.parseLong( paramsMap.get( OPERATION_COUNT_ARG ) );
             int threadCount = Integer.parseInt( paramsMap.get( THREADS_ARG ) );
+            OperationExecutorType executorType = OperationExecutorType.valueOf( paramsMap.get( EXECUTOR_TYPE_ARG ) );
+            DispatcherType dispatcherType = DispatcherType.valueOf( paramsMap.get( DISPATCHER_TYPE_ARG ) );
+            int distributedDriverCount = Integer.parseInt( paramsMap.get( DISTRIBUTED_DRIVER_COUNT_ARG ) );
+            int distributedDriverId = Integer.parseInt( paramsMap.get( DISTRIBUTED_DRIVER_ID_ARG ) );
+            String distributedCoordinatorAddress = paramsMap.get( DISTRIBUTED_COORDINATOR_ARG );
+            MetricsServiceType metricsServiceType =
+                    MetricsServiceType.valueOf( paramsMap.get( METRICS_SERVICE_TYPE_ARG ) );
+            int resultsLogSamplingInterval = Integer.parseInt( paramsMap.get( RESULTS_LOG_SAMPLING_INTERVAL_ARG ) );
+            int metricsRingBufferSize = Integer.parseInt( paramsMap.get( METRICS_RING_BUFFER_SIZE_ARG ) );
+            DisruptorWaitStrategyType metricsWaitStrategy =
+                    DisruptorWaitStrategyType.valueOf( paramsMap.get( METRICS_WAIT_STRATEGY_ARG ) );
+            int metricsConsumerCount = Integer.parseInt( paramsMap.get( METRICS_CONSUMER_COUNT_ARG ) );
+            long histogramLogInterval = Long.parseLong( paramsMap.get( HISTOGRAM_LOG_INTERVAL_ARG ) );
+            ResultsLogFormat resultsLogFormat =
+                    ResultsLogFormat.valueOf( paramsMap.get( RESULTS_LOG_FORMAT_ARG ) );
+            long resultsLogRotationSize = Long.parseLong( paramsMap.get( RESULTS_LOG_ROTATION_SIZE_ARG ) );
+            String compiledWorkloadFilePath = paramsMap.get( COMPILED_WORKLOAD_FILE_PATH_ARG );
+            int prefetchSize = Integer.parseInt( paramsMap.get( PREFETCH_SIZE_ARG ) );
+            long prefetchLookAheadAsMilli = Long.parseLong( paramsMap.get( PREFETCH_LOOK_AHEAD_ARG ) );
             int statusDisplayIntervalAsSeconds = Integer.parseInt( paramsMap.get( SHOW_STATUS_ARG ) );
             TimeUnit timeUnit = TimeUnit.valueOf( paramsMap.get( TIME_UNIT_ARG ) );
             String resultDirPath = paramsMap.get( RESULT_DIR_PATH_ARG );
@@ -287,11 +493,13 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean calculateWorkloadStatistics =
                     Boolean.parseBoolean( paramsMap.get( CALCULATE_WORKLOAD_STATISTICS_ARG ) );
             long spinnerSleepDurationAsMilli = Long.parseLong( paramsMap.get( SPINNER_SLEEP_DURATION_ARG ) );
+            SpinnerType spinnerType = SpinnerType.valueOf( paramsMap.get( SPINNER_TYPE_ARG ) );
             long skipCount = Long.parseLong( paramsMap.get( SKIP_COUNT_ARG ) );
             long warmupCount = Long.parseLong( paramsMap.get( WARMUP_COUNT_ARG ) );
             boolean printHelp = Boolean.parseBoolean( paramsMap.get( HELP_ARG ) );
             boolean ignoreScheduledStartTimes =
                     Boolean.parseBoolean( paramsMap.get( IGNORE_SCHEDULED_START_TIMES_ARG ) );
+            assertValidMetricsServiceForExecutor( metricsServiceType, executorType );
             return new ConsoleAndFileDriverConfiguration(
                     paramsMap,
                     driverMode,
@@ -311,7 +519,24 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    executorType,
+                    spinnerType,
+                    dispatcherType,
+                    distributedDriverCount,
+                    distributedDriverId,
+                    distributedCoordinatorAddress,
+                    metricsServiceType,
+                    resultsLogSamplingInterval,
+                    metricsRingBufferSize,
+                    metricsWaitStrategy,
+                    metricsConsumerCount,
+                    histogramLogInterval,
+                    resultsLogFormat,
+                    resultsLogRotationSize,
+                    compiledWorkloadFilePath,
+                    prefetchSize,
+                    prefetchLookAheadAsMilli
             );
         }
         catch ( DriverConfigurationException e )
@@ -321,6 +546,21 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
     }
 
+    /**
+     * Thread local histograms are kept per thread, and a virtual thread is started for every operation
+     */
+    private static void assertValidMetricsServiceForExecutor( MetricsServiceType metricsServiceType,
+            OperationExecutorType executorType ) throws DriverConfigurationException
+    {
+        if ( MetricsServiceType.THREAD_LOCAL_HISTOGRAM == metricsServiceType &&
+             OperationExecutorType.VIRTUAL_THREAD == executorType )
+        {
+            throw new DriverConfigurationException(
+                    format( "Metrics service type %s can not be used with executor type %s",
+                            metricsServiceType.name(), executorType.name() ) );
+        }
+    }
+
     private static void assertValidTimeUnit( String timeUnitString ) throws DriverConfigurationException
     {
         try
@@ -390,6 +630,87 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( THREADS_ARG, cmd.getOptionValue( THREADS_ARG ) );
         }
 
+        if ( cmd.hasOption( EXECUTOR_TYPE_ARG ) )
+        {
+            cmdParams.put( EXECUTOR_TYPE_ARG, cmd.getOptionValue( EXECUTOR_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( DISPATCHER_TYPE_ARG ) )
+        {
+            cmdParams.put( DISPATCHER_TYPE_ARG, cmd.getOptionValue( DISPATCHER_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( DISTRIBUTED_DRIVER_COUNT_ARG ) )
+        {
+            cmdParams.put( DISTRIBUTED_DRIVER_COUNT_ARG, cmd.getOptionValue( DISTRIBUTED_DRIVER_COUNT_ARG ) );
+        }
+
+        if ( cmd.hasOption( DISTRIBUTED_DRIVER_ID_ARG ) )
+        {
+            cmdParams.put( DISTRIBUTED_DRIVER_ID_ARG, cmd.getOptionValue( DISTRIBUTED_DRIVER_ID_ARG ) );
+        }
+
+        if ( cmd.hasOption( DISTRIBUTED_COORDINATOR_ARG ) )
+        {
+            cmdParams.put( DISTRIBUTED_COORDINATOR_ARG, cmd.getOptionValue( DISTRIBUTED_COORDINATOR_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_SERVICE_TYPE_ARG ) )
+        {
+            cmdParams.put( METRICS_SERVICE_TYPE_ARG, cmd.getOptionValue( METRICS_SERVICE_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_SAMPLING_INTERVAL_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_SAMPLING_INTERVAL_ARG,
+                    cmd.getOptionValue( RESULTS_LOG_SAMPLING_INTERVAL_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_RING_BUFFER_SIZE_ARG ) )
+        {
+            cmdParams.put( METRICS_RING_BUFFER_SIZE_ARG, cmd.getOptionValue( METRICS_RING_BUFFER_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( METRICS_WAIT_STRATEGY_ARG, cmd.getOptionValue( METRICS_WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_CONSUMER_COUNT_ARG ) )
+        {
+            cmdParams.put( METRICS_CONSUMER_COUNT_ARG, cmd.getOptionValue( METRICS_CONSUMER_COUNT_ARG ) );
+        }
+
+        if ( cmd.hasOption( HISTOGRAM_LOG_INTERVAL_ARG ) )
+        {
+            cmdParams.put( HISTOGRAM_LOG_INTERVAL_ARG, cmd.getOptionValue( HISTOGRAM_LOG_INTERVAL_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_FORMAT_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_FORMAT_ARG, cmd.getOptionValue( RESULTS_LOG_FORMAT_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_ROTATION_SIZE_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_ROTATION_SIZE_ARG, cmd.getOptionValue( RESULTS_LOG_ROTATION_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPILED_WORKLOAD_FILE_PATH_ARG ) )
+        {
+            cmdParams.put( COMPILED_WORKLOAD_FILE_PATH_ARG, cmd.getOptionValue( COMPILED_WORKLOAD_FILE_PATH_ARG ) );
+        }
+
+        if ( cmd.hasOption( PREFETCH_SIZE_ARG ) )
+        {
+            cmdParams.put( PREFETCH_SIZE_ARG, cmd.getOptionValue( PREFETCH_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( PREFETCH_LOOK_AHEAD_ARG ) )
+        {
+            cmdParams.put( PREFETCH_LOOK_AHEAD_ARG, cmd.getOptionValue( PREFETCH_LOOK_AHEAD_ARG ) );
+        }
+
         if ( cmd.hasOption( SHOW_STATUS_ARG ) )
         {
             cmdParams.put( SHOW_STATUS_ARG, cmd.getOptionValue( SHOW_STATUS_ARG ) );
@@ -425,6 +746,11 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( SPINNER_SLEEP_DURATION_ARG, cmd.getOptionValue( SPINNER_SLEEP_DURATION_ARG ) );
         }
 
+        if ( cmd.hasOption( SPINNER_TYPE_ARG ) )
+        {
+            cmdParams.put( SPINNER_TYPE_ARG, cmd.getOptionValue( SPINNER_TYPE_ARG ) );
+        }
+
         if ( cmd.hasOption( CREATE_VALIDATION_PARAMS_ARG ) )
         {
             cmdParams.put( CREATE_VALIDATION_PARAMS_ARG, cmd.getOptionValue( CREATE_VALIDATION_PARAMS_ARG ) );
@@ -506,6 +832,23 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, WORKLOAD_ARG_LONG, WORKLOAD_ARG );
         paramsMap = replaceKey( paramsMap, DB_ARG_LONG, DB_ARG );
         paramsMap = replaceKey( paramsMap, THREADS_ARG_LONG, THREADS_ARG );
+        paramsMap = replaceKey( paramsMap, EXECUTOR_TYPE_ARG_LONG, EXECUTOR_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, DISPATCHER_TYPE_ARG_LONG, DISPATCHER_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, DISTRIBUTED_DRIVER_COUNT_ARG_LONG, DISTRIBUTED_DRIVER_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, DISTRIBUTED_DRIVER_ID_ARG_LONG, DISTRIBUTED_DRIVER_ID_ARG );
+        paramsMap = replaceKey( paramsMap, DISTRIBUTED_COORDINATOR_ARG_LONG, DISTRIBUTED_COORDINATOR_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_SERVICE_TYPE_ARG_LONG, METRICS_SERVICE_TYPE_ARG );
+        paramsMap =
+                replaceKey( paramsMap, RESULTS_LOG_SAMPLING_INTERVAL_ARG_LONG, RESULTS_LOG_SAMPLING_INTERVAL_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_RING_BUFFER_SIZE_ARG_LONG, METRICS_RING_BUFFER_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_WAIT_STRATEGY_ARG_LONG, METRICS_WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_CONSUMER_COUNT_ARG_LONG, METRICS_CONSUMER_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, HISTOGRAM_LOG_INTERVAL_ARG_LONG, HISTOGRAM_LOG_INTERVAL_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_FORMAT_ARG_LONG, RESULTS_LOG_FORMAT_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_ROTATION_SIZE_ARG_LONG, RESULTS_LOG_ROTATION_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, COMPILED_WORKLOAD_FILE_PATH_ARG_LONG, COMPILED_WORKLOAD_FILE_PATH_ARG );
+        paramsMap = replaceKey( paramsMap, PREFETCH_SIZE_ARG_LONG, PREFETCH_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, PREFETCH_LOOK_AHEAD_ARG_LONG, PREFETCH_LOOK_AHEAD_ARG );
         paramsMap = replaceKey( paramsMap, SHOW_STATUS_ARG_LONG, SHOW_STATUS_ARG );
         paramsMap = replaceKey( paramsMap, TIME_UNIT_ARG_LONG, TIME_UNIT_ARG );
         paramsMap = replaceKey( paramsMap, RESULT_DIR_PATH_ARG_LONG, RESULT_DIR_PATH_ARG );
@@ -514,6 +857,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, DB_VALIDATION_FILE_PATH_ARG_LONG, DB_VALIDATION_FILE_PATH_ARG );
         paramsMap = replaceKey( paramsMap, CALCULATE_WORKLOAD_STATISTICS_ARG_LONG, CALCULATE_WORKLOAD_STATISTICS_ARG );
         paramsMap = replaceKey( paramsMap, SPINNER_SLEEP_DURATION_ARG_LONG, SPINNER_SLEEP_DURATION_ARG );
+        paramsMap = replaceKey( paramsMap, SPINNER_TYPE_ARG_LONG, SPINNER_TYPE_ARG );
         paramsMap = replaceKey( paramsMap, WARMUP_COUNT_ARG_LONG, WARMUP_COUNT_ARG );
         paramsMap = replaceKey( paramsMap, SKIP_COUNT_ARG_LONG, SKIP_COUNT_ARG );
         return paramsMap;
@@ -578,6 +922,86 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         THREADS_ARG_LONG ).create( THREADS_ARG );
         options.addOption( threadsOption );
 
+        Option executorTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" ).withDescription( EXECUTOR_TYPE_DESCRIPTION )
+                        .withLongOpt( EXECUTOR_TYPE_ARG_LONG ).create( EXECUTOR_TYPE_ARG );
+        options.addOption( executorTypeOption );
+
+        Option dispatcherTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                .withDescription( DISPATCHER_TYPE_DESCRIPTION )
+                .withLongOpt( DISPATCHER_TYPE_ARG_LONG ).create( DISPATCHER_TYPE_ARG );
+        options.addOption( dispatcherTypeOption );
+
+        Option distributedDriverCountOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( DISTRIBUTED_DRIVER_COUNT_DESCRIPTION )
+                .withLongOpt( DISTRIBUTED_DRIVER_COUNT_ARG_LONG ).create( DISTRIBUTED_DRIVER_COUNT_ARG );
+        options.addOption( distributedDriverCountOption );
+
+        Option distributedDriverIdOption = OptionBuilder.hasArgs( 1 ).withArgName( "id" )
+                .withDescription( DISTRIBUTED_DRIVER_ID_DESCRIPTION )
+                .withLongOpt( DISTRIBUTED_DRIVER_ID_ARG_LONG ).create( DISTRIBUTED_DRIVER_ID_ARG );
+        options.addOption( distributedDriverIdOption );
+
+        Option distributedCoordinatorAddressOption = OptionBuilder.hasArgs( 1 ).withArgName( "host:port" )
+                .withDescription( DISTRIBUTED_COORDINATOR_DESCRIPTION )
+                .withLongOpt( DISTRIBUTED_COORDINATOR_ARG_LONG ).create( DISTRIBUTED_COORDINATOR_ARG );
+        options.addOption( distributedCoordinatorAddressOption );
+
+        Option metricsServiceTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                .withDescription( METRICS_SERVICE_TYPE_DESCRIPTION )
+                .withLongOpt( METRICS_SERVICE_TYPE_ARG_LONG ).create( METRICS_SERVICE_TYPE_ARG );
+        options.addOption( metricsServiceTypeOption );
+
+        Option resultsLogSamplingIntervalOption = OptionBuilder.hasArgs( 1 ).withArgName( "interval" )
+                .withDescription( RESULTS_LOG_SAMPLING_INTERVAL_DESCRIPTION )
+                .withLongOpt( RESULTS_LOG_SAMPLING_INTERVAL_ARG_LONG ).create( RESULTS_LOG_SAMPLING_INTERVAL_ARG );
+        options.addOption( resultsLogSamplingIntervalOption );
+
+        Option metricsRingBufferSizeOption = OptionBuilder.hasArgs( 1 ).withArgName( "size" )
+                .withDescription( METRICS_RING_BUFFER_SIZE_DESCRIPTION )
+                .withLongOpt( METRICS_RING_BUFFER_SIZE_ARG_LONG ).create( METRICS_RING_BUFFER_SIZE_ARG );
+        options.addOption( metricsRingBufferSizeOption );
+
+        Option metricsWaitStrategyOption = OptionBuilder.hasArgs( 1 ).withArgName( "strategy" )
+                .withDescription( METRICS_WAIT_STRATEGY_DESCRIPTION )
+                .withLongOpt( METRICS_WAIT_STRATEGY_ARG_LONG ).create( METRICS_WAIT_STRATEGY_ARG );
+        options.addOption( metricsWaitStrategyOption );
+
+        Option metricsConsumerCountOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( METRICS_CONSUMER_COUNT_DESCRIPTION )
+                .withLongOpt( METRICS_CONSUMER_COUNT_ARG_LONG ).create( METRICS_CONSUMER_COUNT_ARG );
+        options.addOption( metricsConsumerCountOption );
+
+        Option histogramLogIntervalOption = OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                .withDescription( HISTOGRAM_LOG_INTERVAL_DESCRIPTION )
+                .withLongOpt( HISTOGRAM_LOG_INTERVAL_ARG_LONG ).create( HISTOGRAM_LOG_INTERVAL_ARG );
+        options.addOption( histogramLogIntervalOption );
+
+        Option resultsLogFormatOption = OptionBuilder.hasArgs( 1 ).withArgName( "format" )
+                .withDescription( RESULTS_LOG_FORMAT_DESCRIPTION )
+                .withLongOpt( RESULTS_LOG_FORMAT_ARG_LONG ).create( RESULTS_LOG_FORMAT_ARG );
+        options.addOption( resultsLogFormatOption );
+
+        Option resultsLogRotationSizeOption = OptionBuilder.hasArgs( 1 ).withArgName( "size" )
+                .withDescription( RESULTS_LOG_ROTATION_SIZE_DESCRIPTION )
+                .withLongOpt( RESULTS_LOG_ROTATION_SIZE_ARG_LONG ).create( RESULTS_LOG_ROTATION_SIZE_ARG );
+        options.addOption( resultsLogRotationSizeOption );
+
+        Option compiledWorkloadFilePathOption = OptionBuilder.hasArgs( 1 ).withArgName( "path" )
+                .withDescription( COMPILED_WORKLOAD_FILE_PATH_DESCRIPTION )
+                .withLongOpt( COMPILED_WORKLOAD_FILE_PATH_ARG_LONG ).create( COMPILED_WORKLOAD_FILE_PATH_ARG );
+        options.addOption( compiledWorkloadFilePathOption );
+
+        Option prefetchSizeOption = OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                .withDescription( PREFETCH_SIZE_DESCRIPTION )
+                .withLongOpt( PREFETCH_SIZE_ARG_LONG ).create( PREFETCH_SIZE_ARG );
+        options.addOption( prefetchSizeOption );
+
+        Option prefetchLookAheadOption = OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                .withDescription( PREFETCH_LOOK_AHEAD_DESCRIPTION )
+                .withLongOpt( PREFETCH_LOOK_AHEAD_ARG_LONG ).create( PREFETCH_LOOK_AHEAD_ARG );
+        options.addOption( prefetchLookAheadOption );
+
         Option statusOption =
                 OptionBuilder.hasArgs( 1 ).withArgName( "seconds" ).withDescription( SHOW_STATUS_DESCRIPTION )
                         .withLongOpt(
@@ -617,6 +1041,11 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         SPINNER_SLEEP_DURATION_ARG_LONG ).create( SPINNER_SLEEP_DURATION_ARG );
         options.addOption( spinnerSleepDurationOption );
 
+        Option spinnerTypeOption = OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                .withDescription( SPINNER_TYPE_DESCRIPTION )
+                .withLongOpt( SPINNER_TYPE_ARG_LONG ).create( SPINNER_TYPE_ARG );
+        options.addOption( spinnerTypeOption );
+
         Option warmupCountOption =
                 OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription( WARMUP_COUNT_DESCRIPTION )
                         .withLongOpt( WARMUP_COUNT_ARG_LONG ).create( WARMUP_COUNT_ARG );
@@ -648,6 +1077,15 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return options;
     }
 
+    /**
+     * @param paramsMap parameters, with short or long keys
+     * @return workload and database parameters, i.e., all parameters that are not driver parameters, by short key
+     */
+    public static Map<String,String> additionalParameters( Map<String,String> paramsMap )
+    {
+        return MapUtils.copyExcludingKeys( convertLongKeysToShortKeys( paramsMap ), coreConfigurationParameterKeys() );
+    }
+
     private static Set<String> coreConfigurationParameterKeys()
     {
         return Sets.newHashSet(
@@ -657,6 +1095,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 WORKLOAD_ARG,
                 OPERATION_COUNT_ARG,
                 THREADS_ARG,
+                EXECUTOR_TYPE_ARG,
+                DISPATCHER_TYPE_ARG,
+                DISTRIBUTED_DRIVER_COUNT_ARG,
+                DISTRIBUTED_DRIVER_ID_ARG,
+                DISTRIBUTED_COORDINATOR_ARG,
+                METRICS_SERVICE_TYPE_ARG,
+                RESULTS_LOG_SAMPLING_INTERVAL_ARG,
+                METRICS_RING_BUFFER_SIZE_ARG,
+                METRICS_WAIT_STRATEGY_ARG,
+                METRICS_CONSUMER_COUNT_ARG,
+                HISTOGRAM_LOG_INTERVAL_ARG,
+                RESULTS_LOG_FORMAT_ARG,
+                RESULTS_LOG_ROTATION_SIZE_ARG,
+                COMPILED_WORKLOAD_FILE_PATH_ARG,
+                PREFETCH_SIZE_ARG,
+                PREFETCH_LOOK_AHEAD_ARG,
                 SHOW_STATUS_ARG,
                 TIME_UNIT_ARG,
                 RESULT_DIR_PATH_ARG,
@@ -665,6 +1119,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 DB_VALIDATION_FILE_PATH_ARG,
                 CALCULATE_WORKLOAD_STATISTICS_ARG,
                 SPINNER_SLEEP_DURATION_ARG,
+                SPINNER_TYPE_ARG,
                 HELP_ARG,
                 IGNORE_SCHEDULED_START_TIMES_ARG,
                 WARMUP_COUNT_ARG,
@@ -711,6 +1166,23 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private final boolean ignoreScheduledStartTimes;
     private final long warmupCount;
     private final long skipCount;
+    private final OperationExecutorType executorType;
+    private final SpinnerType spinnerType;
+    private final DispatcherType dispatcherType;
+    private final int distributedDriverCount;
+    private final int distributedDriverId;
+    private final String distributedCoordinatorAddress;
+    private final MetricsServiceType metricsServiceType;
+    private final int resultsLogSamplingInterval;
+    private final int metricsRingBufferSize;
+    private final DisruptorWaitStrategyType metricsWaitStrategy;
+    private final int metricsConsumerCount;
+    private final long histogramLogInterval;
+    private final ResultsLogFormat resultsLogFormat;
+    private final long resultsLogRotationSize;
+    private final String compiledWorkloadFilePath;
+    private final int prefetchSize;
+    private final long prefetchLookAheadAsMilli;
 
     public ConsoleAndFileDriverConfiguration( Map<String,String> paramsMap,
             DriverModeType driverMode,
@@ -730,7 +1202,24 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp,
             boolean ignoreScheduledStartTimes,
             long warmupCount,
-            long skipCount )
+            long skipCount,
+            OperationExecutorType executorType,
+            SpinnerType spinnerType,
+            DispatcherType dispatcherType,
+            int distributedDriverCount,
+            int distributedDriverId,
+            String distributedCoordinatorAddress,
+            MetricsServiceType metricsServiceType,
+            int resultsLogSamplingInterval,
+            int metricsRingBufferSize,
+            DisruptorWaitStrategyType metricsWaitStrategy,
+            int metricsConsumerCount,
+            long histogramLogInterval,
+            ResultsLogFormat resultsLogFormat,
+            long resultsLogRotationSize,
+            String compiledWorkloadFilePath,
+            int prefetchSize,
+            long prefetchLookAheadAsMilli )
     {
         if ( null == paramsMap )
         {
@@ -755,6 +1244,23 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         this.ignoreScheduledStartTimes = ignoreScheduledStartTimes;
         this.warmupCount = warmupCount;
         this.skipCount = skipCount;
+        this.executorType = executorType;
+        this.spinnerType = spinnerType;
+        this.dispatcherType = dispatcherType;
+        this.distributedDriverCount = distributedDriverCount;
+        this.distributedDriverId = distributedDriverId;
+        this.distributedCoordinatorAddress = distributedCoordinatorAddress;
+        this.metricsServiceType = metricsServiceType;
+        this.resultsLogSamplingInterval = resultsLogSamplingInterval;
+        this.metricsRingBufferSize = metricsRingBufferSize;
+        this.metricsWaitStrategy = metricsWaitStrategy;
+        this.metricsConsumerCount = metricsConsumerCount;
+        this.histogramLogInterval = histogramLogInterval;
+        this.resultsLogFormat = resultsLogFormat;
+        this.resultsLogRotationSize = resultsLogRotationSize;
+        this.compiledWorkloadFilePath = compiledWorkloadFilePath;
+        this.prefetchSize = prefetchSize;
+        this.prefetchLookAheadAsMilli = prefetchLookAheadAsMilli;
 
         if ( null != name )
         {
@@ -787,10 +1293,30 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
         paramsMap.put( CALCULATE_WORKLOAD_STATISTICS_ARG, Boolean.toString( calculateWorkloadStatistics ) );
         paramsMap.put( SPINNER_SLEEP_DURATION_ARG, Long.toString( spinnerSleepDurationAsMilli ) );
+        paramsMap.put( SPINNER_TYPE_ARG, spinnerType.name() );
         paramsMap.put( HELP_ARG, Boolean.toString( printHelp ) );
         paramsMap.put( IGNORE_SCHEDULED_START_TIMES_ARG, Boolean.toString( ignoreScheduledStartTimes ) );
         paramsMap.put( WARMUP_COUNT_ARG, Long.toString( warmupCount ) );
         paramsMap.put( SKIP_COUNT_ARG, Long.toString( skipCount ) );
+        paramsMap.put( EXECUTOR_TYPE_ARG, executorType.name() );
+        paramsMap.put( DISPATCHER_TYPE_ARG, dispatcherType.name() );
+        paramsMap.put( DISTRIBUTED_DRIVER_COUNT_ARG, Integer.toString( distributedDriverCount ) );
+        paramsMap.put( DISTRIBUTED_DRIVER_ID_ARG, Integer.toString( distributedDriverId ) );
+        paramsMap.put( DISTRIBUTED_COORDINATOR_ARG, distributedCoordinatorAddress );
+        paramsMap.put( METRICS_SERVICE_TYPE_ARG, metricsServiceType.name() );
+        paramsMap.put( RESULTS_LOG_SAMPLING_INTERVAL_ARG, Integer.toString( resultsLogSamplingInterval ) );
+        paramsMap.put( METRICS_RING_BUFFER_SIZE_ARG, Integer.toString( metricsRingBufferSize ) );
+        paramsMap.put( METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name() );
+        paramsMap.put( METRICS_CONSUMER_COUNT_ARG, Integer.toString( metricsConsumerCount ) );
+        paramsMap.put( HISTOGRAM_LOG_INTERVAL_ARG, Long.toString( histogramLogInterval ) );
+        paramsMap.put( RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() );
+        paramsMap.put( RESULTS_LOG_ROTATION_SIZE_ARG, Long.toString( resultsLogRotationSize ) );
+        if ( null != compiledWorkloadFilePath )
+        {
+            paramsMap.put( COMPILED_WORKLOAD_FILE_PATH_ARG, compiledWorkloadFilePath );
+        }
+        paramsMap.put( PREFETCH_SIZE_ARG, Integer.toString( prefetchSize ) );
+        paramsMap.put( PREFETCH_LOOK_AHEAD_ARG, Long.toString( prefetchLookAheadAsMilli ) );
     }
 
     @Override
@@ -883,6 +1409,12 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return spinnerSleepDurationAsMilli;
     }
 
+    @Override
+    public SpinnerType spinnerType()
+    {
+        return spinnerType;
+    }
+
     @Override
     public boolean shouldPrintHelpString()
     {
@@ -913,6 +1445,102 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return skipCount;
     }
 
+    @Override
+    public OperationExecutorType executorType()
+    {
+        return executorType;
+    }
+
+    @Override
+    public DispatcherType dispatcherType()
+    {
+        return dispatcherType;
+    }
+
+    @Override
+    public int distributedDriverCount()
+    {
+        return distributedDriverCount;
+    }
+
+    @Override
+    public int distributedDriverId()
+    {
+        return distributedDriverId;
+    }
+
+    @Override
+    public String distributedCoordinatorAddress()
+    {
+        return distributedCoordinatorAddress;
+    }
+
+    @Override
+    public MetricsServiceType metricsServiceType()
+    {
+        return metricsServiceType;
+    }
+
+    @Override
+    public int resultsLogSamplingInterval()
+    {
+        return resultsLogSamplingInterval;
+    }
+
+    @Override
+    public int metricsRingBufferSize()
+    {
+        return metricsRingBufferSize;
+    }
+
+    @Override
+    public DisruptorWaitStrategyType metricsWaitStrategy()
+    {
+        return metricsWaitStrategy;
+    }
+
+    @Override
+    public int metricsConsumerCount()
+    {
+        return metricsConsumerCount;
+    }
+
+    @Override
+    public long histogramLogInterval()
+    {
+        return histogramLogInterval;
+    }
+
+    @Override
+    public ResultsLogFormat resultsLogFormat()
+    {
+        return resultsLogFormat;
+    }
+
+    @Override
+    public long resultsLogRotationSize()
+    {
+        return resultsLogRotationSize;
+    }
+
+    @Override
+    public String compiledWorkloadFilePath()
+    {
+        return compiledWorkloadFilePath;
+    }
+
+    @Override
+    public int prefetchSize()
+    {
+        return prefetchSize;
+    }
+
+    @Override
+    public long prefetchLookAheadAsMilli()
+    {
+        return prefetchLookAheadAsMilli;
+    }
+
     @Override
     public Map<String,String> asMap()
     {
@@ -1020,6 +1648,9 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                                               Long.parseLong(
                                                       (newParamsMapWithShortKeys.get( SPINNER_SLEEP_DURATION_ARG )) ) :
                                               spinnerSleepDurationAsMilli;
+        SpinnerType newSpinnerType = (newParamsMapWithShortKeys.containsKey( SPINNER_TYPE_ARG )) ?
+                SpinnerType.valueOf( newParamsMapWithShortKeys.get( SPINNER_TYPE_ARG ) ) :
+                spinnerType;
         boolean newPrintHelp = (newParamsMapWithShortKeys.containsKey( HELP_ARG )) ?
                                Boolean.parseBoolean( newParamsMapWithShortKeys.get( HELP_ARG ) ) :
                                printHelp;
@@ -1033,7 +1664,62 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         long newSkipCount = (newParamsMapWithShortKeys.containsKey( SKIP_COUNT_ARG )) ?
                             Long.parseLong( newParamsMapWithShortKeys.get( SKIP_COUNT_ARG ) ) :
                             skipCount;
-
+        OperationExecutorType newExecutorType = (newParamsMapWithShortKeys.containsKey( EXECUTOR_TYPE_ARG )) ?
+                                                OperationExecutorType.valueOf(
+                                                        newParamsMapWithShortKeys.get( EXECUTOR_TYPE_ARG ) ) :
+                                                executorType;
+        DispatcherType newDispatcherType = (newParamsMapWithShortKeys.containsKey( DISPATCHER_TYPE_ARG )) ?
+                DispatcherType.valueOf( newParamsMapWithShortKeys.get( DISPATCHER_TYPE_ARG ) ) :
+                dispatcherType;
+        int newDistributedDriverCount = (newParamsMapWithShortKeys.containsKey( DISTRIBUTED_DRIVER_COUNT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( DISTRIBUTED_DRIVER_COUNT_ARG ) ) :
+                distributedDriverCount;
+        int newDistributedDriverId = (newParamsMapWithShortKeys.containsKey( DISTRIBUTED_DRIVER_ID_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( DISTRIBUTED_DRIVER_ID_ARG ) ) :
+                distributedDriverId;
+        String newDistributedCoordinatorAddress =
+                (newParamsMapWithShortKeys.containsKey( DISTRIBUTED_COORDINATOR_ARG )) ?
+                newParamsMapWithShortKeys.get( DISTRIBUTED_COORDINATOR_ARG ) :
+                distributedCoordinatorAddress;
+        MetricsServiceType newMetricsServiceType =
+                (newParamsMapWithShortKeys.containsKey( METRICS_SERVICE_TYPE_ARG )) ?
+                MetricsServiceType.valueOf( newParamsMapWithShortKeys.get( METRICS_SERVICE_TYPE_ARG ) ) :
+                metricsServiceType;
+        int newResultsLogSamplingInterval =
+                (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_SAMPLING_INTERVAL_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( RESULTS_LOG_SAMPLING_INTERVAL_ARG ) ) :
+                resultsLogSamplingInterval;
+        int newMetricsRingBufferSize = (newParamsMapWithShortKeys.containsKey( METRICS_RING_BUFFER_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_RING_BUFFER_SIZE_ARG ) ) :
+                metricsRingBufferSize;
+        DisruptorWaitStrategyType newMetricsWaitStrategy =
+                (newParamsMapWithShortKeys.containsKey( METRICS_WAIT_STRATEGY_ARG )) ?
+                DisruptorWaitStrategyType.valueOf( newParamsMapWithShortKeys.get( METRICS_WAIT_STRATEGY_ARG ) ) :
+                metricsWaitStrategy;
+        int newMetricsConsumerCount = (newParamsMapWithShortKeys.containsKey( METRICS_CONSUMER_COUNT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_CONSUMER_COUNT_ARG ) ) :
+                metricsConsumerCount;
+        long newHistogramLogInterval = (newParamsMapWithShortKeys.containsKey( HISTOGRAM_LOG_INTERVAL_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( HISTOGRAM_LOG_INTERVAL_ARG ) ) :
+                histogramLogInterval;
+        ResultsLogFormat newResultsLogFormat = (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_FORMAT_ARG )) ?
+                ResultsLogFormat.valueOf( newParamsMapWithShortKeys.get( RESULTS_LOG_FORMAT_ARG ) ) :
+                resultsLogFormat;
+        long newResultsLogRotationSize = (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_ROTATION_SIZE_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( RESULTS_LOG_ROTATION_SIZE_ARG ) ) :
+                resultsLogRotationSize;
+        String newCompiledWorkloadFilePath =
+                (newParamsMapWithShortKeys.containsKey( COMPILED_WORKLOAD_FILE_PATH_ARG )) ?
+                newParamsMapWithShortKeys.get( COMPILED_WORKLOAD_FILE_PATH_ARG ) :
+                compiledWorkloadFilePath;
+        int newPrefetchSize = (newParamsMapWithShortKeys.containsKey( PREFETCH_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( PREFETCH_SIZE_ARG ) ) :
+                prefetchSize;
+        long newPrefetchLookAheadAsMilli = (newParamsMapWithShortKeys.containsKey( PREFETCH_LOOK_AHEAD_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( PREFETCH_LOOK_AHEAD_ARG ) ) :
+                prefetchLookAheadAsMilli;
+
+        assertValidMetricsServiceForExecutor( newMetricsServiceType, newExecutorType );
         return new ConsoleAndFileDriverConfiguration(
                 newOtherParams,
                 newDriverMode,
@@ -1053,7 +1739,24 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 newPrintHelp,
                 newIgnoreScheduledStartTimes,
                 newWarmupCount,
-                newSkipCount
+                newSkipCount,
+                newExecutorType,
+                newSpinnerType,
+                newDispatcherType,
+                newDistributedDriverCount,
+                newDistributedDriverId,
+                newDistributedCoordinatorAddress,
+                newMetricsServiceType,
+                newResultsLogSamplingInterval,
+                newMetricsRingBufferSize,
+                newMetricsWaitStrategy,
+                newMetricsConsumerCount,
+                newHistogramLogInterval,
+                newResultsLogFormat,
+                newResultsLogRotationSize,
+                newCompiledWorkloadFilePath,
+                newPrefetchSize,
+                newPrefetchLookAheadAsMilli
         );
     }
 
@@ -1073,6 +1776,33 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         // optional core parameters
         argsList.addAll( Lists.newArrayList( "-" + SHOW_STATUS_ARG, Long.toString( statusDisplayIntervalAsSeconds ) ) );
         argsList.addAll( Lists.newArrayList( "-" + THREADS_ARG, Integer.toString( threadCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + EXECUTOR_TYPE_ARG, executorType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + DISPATCHER_TYPE_ARG, dispatcherType.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + DISTRIBUTED_DRIVER_COUNT_ARG, Integer.toString( distributedDriverCount ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + DISTRIBUTED_DRIVER_ID_ARG, Integer.toString( distributedDriverId ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + DISTRIBUTED_COORDINATOR_ARG, distributedCoordinatorAddress ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_SERVICE_TYPE_ARG, metricsServiceType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + RESULTS_LOG_SAMPLING_INTERVAL_ARG,
+                Integer.toString( resultsLogSamplingInterval ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_RING_BUFFER_SIZE_ARG,
+                Integer.toString( metricsRingBufferSize ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_CONSUMER_COUNT_ARG,
+                Integer.toString( metricsConsumerCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + HISTOGRAM_LOG_INTERVAL_ARG,
+                Long.toString( histogramLogInterval ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + RESULTS_LOG_ROTATION_SIZE_ARG, Long.toString( resultsLogRotationSize ) ) );
+        if ( null != compiledWorkloadFilePath )
+        {
+            argsList.addAll( Lists.newArrayList( "-" + COMPILED_WORKLOAD_FILE_PATH_ARG, compiledWorkloadFilePath ) );
+        }
+        argsList.addAll( Lists.newArrayList( "-" + PREFETCH_SIZE_ARG, Integer.toString( prefetchSize ) ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + PREFETCH_LOOK_AHEAD_ARG, Long.toString( prefetchLookAheadAsMilli ) ) );
         argsList.addAll( Lists.newArrayList( "-" + WARMUP_COUNT_ARG, Long.toString( warmupCount ) ) );
         argsList.addAll( Lists.newArrayList( "-" + SKIP_COUNT_ARG, Long.toString( skipCount ) ) );
         if ( null != name )
@@ -1101,6 +1831,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
         argsList.addAll(
                 Lists.newArrayList( "-" + SPINNER_SLEEP_DURATION_ARG, Long.toString( spinnerSleepDurationAsMilli ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + SPINNER_TYPE_ARG, spinnerType.name() ) );
         if ( printHelp )
         {
             argsList.add( "-" + HELP_ARG );
@@ -1145,6 +1876,141 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( "\n" );
         sb.append( THREADS_ARG_LONG ).append( "=" ).append( threadCount ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# executor used for the asynchronous operation stream\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( OperationExecutorType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( EXECUTOR_TYPE_ARG ).append( "/--" )
+                .append( EXECUTOR_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( EXECUTOR_TYPE_ARG_LONG ).append( "=" ).append( executorType.name() ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# holds operations of the asynchronous stream until they are due & their dependencies are met,\n" );
+        sb.append( "# then passes them to the executor, so executor threads do not wait for scheduled start times\n" );
+        sb.append( "# NONE: no dispatcher\n" );
+        sb.append( "# TIMER_WHEEL: timing wheel dispatcher\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( DispatcherType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( DISPATCHER_TYPE_ARG ).append( "/--" )
+                .append( DISPATCHER_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( DISPATCHER_TYPE_ARG_LONG ).append( "=" ).append( dispatcherType.name() ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of driver processes that execute the workload together\n" );
+        sb.append( "# 1: not distributed\n" );
+        sb.append( "# otherwise a coordinator process must be started with mode COORDINATE_WORKLOAD\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( DISTRIBUTED_DRIVER_COUNT_ARG ).append( "/--" )
+                .append( DISTRIBUTED_DRIVER_COUNT_ARG_LONG ).append( "\n" );
+        sb.append( DISTRIBUTED_DRIVER_COUNT_ARG_LONG ).append( "=" ).append( distributedDriverCount ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# ID of this driver process, decides which partition of the workload streams it executes\n" );
+        sb.append( "# only used when distributed driver count is greater than 1\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( DISTRIBUTED_DRIVER_ID_ARG ).append( "/--" )
+                .append( DISTRIBUTED_DRIVER_ID_ARG_LONG ).append( "\n" );
+        sb.append( DISTRIBUTED_DRIVER_ID_ARG_LONG ).append( "=" ).append( distributedDriverId ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# host:port of the coordinator of distributed drivers\n" );
+        sb.append( "# the coordinator listens on the port, driver processes connect to host:port\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( DISTRIBUTED_COORDINATOR_ARG ).append( "/--" )
+                .append( DISTRIBUTED_COORDINATOR_ARG_LONG ).append( "\n" );
+        sb.append( DISTRIBUTED_COORDINATOR_ARG_LONG ).append( "=" ).append( distributedCoordinatorAddress )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# collects the results of executed operations\n" );
+        sb.append( "# DISRUPTOR: results are passed through a ring buffer to a single thread that records them\n" );
+        sb.append( "# THREAD_LOCAL_HISTOGRAM: each thread records results into histograms of its own,\n" );
+        sb.append( "# can not be used with executor type VIRTUAL_THREAD\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( MetricsServiceType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_SERVICE_TYPE_ARG ).append( "/--" )
+                .append( METRICS_SERVICE_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_SERVICE_TYPE_ARG_LONG ).append( "=" ).append( metricsServiceType.name() ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# every Nth result of each thread is written to the results log\n" );
+        sb.append( "# only used by metrics service type THREAD_LOCAL_HISTOGRAM\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_SAMPLING_INTERVAL_ARG ).append( "/--" )
+                .append( RESULTS_LOG_SAMPLING_INTERVAL_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_SAMPLING_INTERVAL_ARG_LONG ).append( "=" ).append( resultsLogSamplingInterval )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# size of the ring buffer between workers and metrics consumers, must be a power of 2\n" );
+        sb.append( "# only used by metrics service type DISRUPTOR\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_RING_BUFFER_SIZE_ARG ).append( "/--" )
+                .append( METRICS_RING_BUFFER_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_RING_BUFFER_SIZE_ARG_LONG ).append( "=" ).append( metricsRingBufferSize ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# how metrics consumers wait for results, non blocking strategies need a core per consumer\n" );
+        sb.append( "# only used by metrics service type DISRUPTOR\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( DisruptorWaitStrategyType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( metricsWaitStrategy.name() ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of threads recording results, partitioned by operation type\n" );
+        sb.append( "# if more than one the results log is written by an additional thread\n" );
+        sb.append( "# only used by metrics service type DISRUPTOR\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_CONSUMER_COUNT_ARG ).append( "/--" )
+                .append( METRICS_CONSUMER_COUNT_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_CONSUMER_COUNT_ARG_LONG ).append( "=" ).append( metricsConsumerCount ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# duration (ms) of intervals of the response time histograms logged per operation type to the\n" );
+        sb.append( "# results directory, in HdrHistogram interval log format (.hlog), 0 disables them\n" );
+        sb.append( "# in mode SUMMARIZE_INTERVAL_LOGS: duration of the windows logged intervals are summarized\n" );
+        sb.append( "# into, 0 summarizes whole logs\n" );
+        sb.append( "# INT-64\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( HISTOGRAM_LOG_INTERVAL_ARG ).append( "/--" )
+                .append( HISTOGRAM_LOG_INTERVAL_ARG_LONG ).append( "\n" );
+        sb.append( HISTOGRAM_LOG_INTERVAL_ARG_LONG ).append( "=" ).append( histogramLogInterval ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# format of the results log\n" );
+        sb.append( "# CSV: one row of text per operation result\n" );
+        sb.append( "# BINARY: fixed width binary record per operation result\n" );
+        sb.append( "# BINARY logs can be exported to CSV with ResultsLogCsvExporter\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( ResultsLogFormat.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_FORMAT_ARG ).append( "/--" )
+                .append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "=" ).append( resultsLogFormat.name() ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# size (bytes) at which CSV results logs are continued in another file, 0 never splits them\n" );
+        sb.append( "# file N of X-results_log.csv is X-results_log-N.csv\n" );
+        sb.append( "# INT-64\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_ROTATION_SIZE_ARG ).append( "/--" )
+                .append( RESULTS_LOG_ROTATION_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_ROTATION_SIZE_ARG_LONG ).append( "=" ).append( Long.toString( resultsLogRotationSize ) )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# binary file of precompiled workload streams, written in mode COMPILE_WORKLOAD\n" );
+        sb.append( "# when set in any other mode, workload streams are read from it rather than from the workload\n" );
+        sb.append( "# files\n" );
+        sb.append( "# STRING\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPILED_WORKLOAD_FILE_PATH_ARG ).append( "/--" )
+                .append( COMPILED_WORKLOAD_FILE_PATH_ARG_LONG ).append( "\n" );
+        if ( null == compiledWorkloadFilePath )
+        {
+            sb.append( "# " ).append( COMPILED_WORKLOAD_FILE_PATH_ARG_LONG ).append( "=" ).append( "\n" );
+        }
+        else
+        {
+            sb.append( COMPILED_WORKLOAD_FILE_PATH_ARG_LONG ).append( "=" ).append( compiledWorkloadFilePath )
+                    .append( "\n" );
+        }
+        sb.append( "\n" );
+        sb.append( "# number of operations of each stream generated ahead by a thread of its own, rather than by the\n" );
+        sb.append( "# thread that submits them to the executor, so parsing does not delay their submission\n" );
+        sb.append( "# 0 disables prefetching\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( PREFETCH_SIZE_ARG ).append( "/--" )
+                .append( PREFETCH_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( PREFETCH_SIZE_ARG_LONG ).append( "=" ).append( Integer.toString( prefetchSize ) ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# duration (ms) before their scheduled start time that operations are prefetched\n" );
+        sb.append( "# 0 only limits prefetching by prefetch_size\n" );
+        sb.append( "# INT-64\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( PREFETCH_LOOK_AHEAD_ARG ).append( "/--" )
+                .append( PREFETCH_LOOK_AHEAD_ARG_LONG ).append( "\n" );
+        sb.append( PREFETCH_LOOK_AHEAD_ARG_LONG ).append( "=" ).append( Long.toString( prefetchLookAheadAsMilli ) )
+                .append( "\n" );
+        sb.append( "\n" );
         sb.append( "# number of operations to execute during warmup phase of workload\n" );
         sb.append( "# INT-64\n" );
         sb.append( "# COMMAND: " ).append( "-" ).append( WARMUP_COUNT_ARG ).append( "/--" )
@@ -1245,6 +2111,14 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "\n" );
         sb.append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "=" ).append( spinnerSleepDurationAsMilli ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# strategy used to wait for scheduled start times of operations\n" );
+        sb.append( "# SLEEP: poll, sleeping spinner_wait_duration (ms) between polls\n" );
+        sb.append( "# HYBRID: park, then spin, as start time approaches. parks for at most spinner_wait_duration (ms)\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( SpinnerType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SPINNER_TYPE_ARG ).append( "/--" )
+                .append( SPINNER_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( SPINNER_TYPE_ARG_LONG ).append( "=" ).append( spinnerType.name() ).append( "\n" );
+        sb.append( "\n" );
         sb.append( "# print help string - usage instructions\n" );
         sb.append( "# BOOLEAN\n" );
         sb.append( "# COMMAND: " ).append( "-" ).append( HELP_ARG ).append( "\n" );
@@ -1340,6 +2214,38 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( INTEGRAL_FORMAT.format( skipCount ) ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Worker Threads:" ) )
                 .append( threadCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Executor Type:" ) )
+                .append( executorType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Dispatcher Type:" ) )
+                .append( dispatcherType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Distributed Driver Count:" ) )
+                .append( distributedDriverCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Distributed Driver ID:" ) )
+                .append( distributedDriverId ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Distributed Coordinator:" ) )
+                .append( distributedCoordinatorAddress ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Service Type:" ) )
+                .append( metricsServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Sampling Interval:" ) )
+                .append( resultsLogSamplingInterval ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Ring Buffer Size:" ) )
+                .append( metricsRingBufferSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Wait Strategy:" ) )
+                .append( metricsWaitStrategy ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Consumer Count:" ) )
+                .append( metricsConsumerCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Histogram Log Interval:" ) )
+                .append( histogramLogInterval ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Format:" ) )
+                .append( resultsLogFormat ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Rotation Size:" ) )
+                .append( resultsLogRotationSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Compiled Workload:" ) )
+                .append( compiledWorkloadFilePath ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Prefetch Size:" ) )
+                .append( prefetchSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Prefetch Look Ahead:" ) )
+                .append( TEMPORAL_UTIL.milliDurationToString( prefetchLookAheadAsMilli ) ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Status Display Interval:" ) ).append(
                 TEMPORAL_UTIL.milliDurationToString( TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ) ) )
                 .append( "\n" );
@@ -1363,6 +2269,8 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Spinner Sleep Duration:" ) )
                 .append( TEMPORAL_UTIL.milliDurationToString( spinnerSleepDurationAsMilli ) ).append( " / " )
                 .append( spinnerSleepDurationAsMilli ).append( " (ms)\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Spinner Type:" ) )
+                .append( spinnerType ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Print Help:" ) ).append( printHelp )
                 .append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Ignore Scheduled Start Times:" ) )
@@ -1423,6 +2331,71 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             return false;
         }
+        if ( executorType != that.executorType )
+        {
+            return false;
+        }
+        if ( dispatcherType != that.dispatcherType )
+        {
+            return false;
+        }
+        if ( distributedDriverCount != that.distributedDriverCount )
+        {
+            return false;
+        }
+        if ( distributedDriverId != that.distributedDriverId )
+        {
+            return false;
+        }
+        if ( !distributedCoordinatorAddress.equals( that.distributedCoordinatorAddress ) )
+        {
+            return false;
+        }
+        if ( metricsServiceType != that.metricsServiceType )
+        {
+            return false;
+        }
+        if ( resultsLogSamplingInterval != that.resultsLogSamplingInterval )
+        {
+            return false;
+        }
+        if ( metricsRingBufferSize != that.metricsRingBufferSize )
+        {
+            return false;
+        }
+        if ( metricsWaitStrategy != that.metricsWaitStrategy )
+        {
+            return false;
+        }
+        if ( metricsConsumerCount != that.metricsConsumerCount )
+        {
+            return false;
+        }
+        if ( histogramLogInterval != that.histogramLogInterval )
+        {
+            return false;
+        }
+        if ( resultsLogFormat != that.resultsLogFormat )
+        {
+            return false;
+        }
+        if ( resultsLogRotationSize != that.resultsLogRotationSize )
+        {
+            return false;
+        }
+        if ( compiledWorkloadFilePath != null ? !compiledWorkloadFilePath.equals( that.compiledWorkloadFilePath )
+                                              : that.compiledWorkloadFilePath != null )
+        {
+            return false;
+        }
+        if ( prefetchSize != that.prefetchSize )
+        {
+            return false;
+        }
+        if ( prefetchLookAheadAsMilli != that.prefetchLookAheadAsMilli )
+        {
+            return false;
+        }
         if ( Double.compare( that.timeCompressionRatio, timeCompressionRatio ) != 0 )
         {
             return false;
@@ -1448,6 +2421,10 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             return false;
         }
+        if ( spinnerType != that.spinnerType )
+        {
+            return false;
+        }
         if ( statusDisplayIntervalAsSeconds != that.statusDisplayIntervalAsSeconds )
         {
             return false;
@@ -1482,6 +2459,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (int) (warmupCount ^ (warmupCount >>> 32));
         result = 31 * result + (int) (skipCount ^ (skipCount >>> 32));
         result = 31 * result + threadCount;
+        result = 31 * result + (executorType != null ? executorType.hashCode() : 0);
+        result = 31 * result + (dispatcherType != null ? dispatcherType.hashCode() : 0);
+        result = 31 * result + distributedDriverCount;
+        result = 31 * result + distributedDriverId;
+        result = 31 * result + distributedCoordinatorAddress.hashCode();
+        result = 31 * result + (metricsServiceType != null ? metricsServiceType.hashCode() : 0);
+        result = 31 * result + resultsLogSamplingInterval;
+        result = 31 * result + metricsRingBufferSize;
+        result = 31 * result + (metricsWaitStrategy != null ? metricsWaitStrategy.hashCode() : 0);
+        result = 31 * result + metricsConsumerCount;
+        result = 31 * result + (int) (histogramLogInterval ^ (histogramLogInterval >>> 32));
+        result = 31 * result + (resultsLogFormat != null ? resultsLogFormat.hashCode() : 0);
+        result = 31 * result + (int) (resultsLogRotationSize ^ (resultsLogRotationSize >>> 32));
+        result = 31 * result + (compiledWorkloadFilePath != null ? compiledWorkloadFilePath.hashCode() : 0);
+        result = 31 * result + prefetchSize;
+        result = 31 * result + (int) (prefetchLookAheadAsMilli ^ (prefetchLookAheadAsMilli >>> 32));
         result = 31 * result + statusDisplayIntervalAsSeconds;
         result = 31 * result + (timeUnit != null ? timeUnit.hashCode() : 0);
         result = 31 * result + (resultDirPath != null ? resultDirPath.hashCode() : 0);
@@ -1491,6 +2484,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (databaseValidationFilePath != null ? databaseValidationFilePath.hashCode() : 0);
         result = 31 * result + (calculateWorkloadStatistics ? 1 : 0);
         result = 31 * result + (int) (spinnerSleepDurationAsMilli ^ (spinnerSleepDurationAsMilli >>> 32));
+        result = 31 * result + (spinnerType != null ? spinnerType.hashCode() : 0);
         result = 31 * result + (printHelp ? 1 : 0);
         result = 31 * result + (ignoreScheduledStartTimes ? 1 : 0);
         return result;
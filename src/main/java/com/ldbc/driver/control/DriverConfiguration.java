@@ -1,6 +1,12 @@
 package com.ldbc.driver.control;
 
 import com.ldbc.driver.modes.DriverModeType;
+import com.ldbc.driver.runtime.executor.DispatcherType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.DisruptorWaitStrategyType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.scheduling.SpinnerType;
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +42,8 @@ public interface DriverConfiguration
 
     long spinnerSleepDurationAsMilli();
 
+    SpinnerType spinnerType();
+
     boolean shouldPrintHelpString();
 
     String helpString();
@@ -46,6 +54,38 @@ public interface DriverConfiguration
 
     long skipCount();
 
+    OperationExecutorType executorType();
+
+    DispatcherType dispatcherType();
+
+    int distributedDriverCount();
+
+    int distributedDriverId();
+
+    String distributedCoordinatorAddress();
+
+    MetricsServiceType metricsServiceType();
+
+    int resultsLogSamplingInterval();
+
+    int metricsRingBufferSize();
+
+    DisruptorWaitStrategyType metricsWaitStrategy();
+
+    int metricsConsumerCount();
+
+    long histogramLogInterval();
+
+    ResultsLogFormat resultsLogFormat();
+
+    long resultsLogRotationSize();
+
+    String compiledWorkloadFilePath();
+
+    int prefetchSize();
+
+    long prefetchLookAheadAsMilli();
+
     String toPropertiesString() throws DriverConfigurationException;
 
     Map<String,String> asMap();
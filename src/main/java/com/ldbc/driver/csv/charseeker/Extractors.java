@@ -20,6 +20,7 @@
 package com.ldbc.driver.csv.charseeker;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -219,7 +220,7 @@ public class Extractors {
         }
     }
 
-    private static class StringExtractor extends AbstractExtractor<String> {
+    private static class StringExtractor extends AbstractExtractor<String> implements Utf8Extractor<String> {
         private String value;
 
         StringExtractor() {
@@ -231,13 +232,18 @@ public class Extractors {
             value = length > 0 ? new String(data, offset, length) : null;
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = length > 0 ? extractString(data, offset, length) : null;
+        }
+
         @Override
         public String value() {
             return value;
         }
     }
 
-    public static class LongExtractor extends AbstractExtractor<Long> {
+    public static class LongExtractor extends AbstractExtractor<Long> implements Utf8Extractor<Long> {
         private long value;
 
         LongExtractor() {
@@ -249,6 +255,11 @@ public class Extractors {
             value = extractLong(data, offset, length);
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = extractLong(data, offset, length);
+        }
+
         @Override
         public Long value() {
             return Long.valueOf(value);
@@ -264,7 +275,7 @@ public class Extractors {
         }
     }
 
-    public static class IntExtractor extends AbstractExtractor<Integer> {
+    public static class IntExtractor extends AbstractExtractor<Integer> implements Utf8Extractor<Integer> {
         private int value;
 
         IntExtractor() {
@@ -276,6 +287,11 @@ public class Extractors {
             value = safeCastLongToInt(extractLong(data, offset, length));
         }
 
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            value = safeCastLongToInt(extractLong(data, offset, length));
+        }
+
         @Override
         public Integer value() {
             return Integer.valueOf(value);
@@ -478,6 +494,25 @@ public class Extractors {
             return count;
         }
 
+        protected int bytesToNextDelimiter(byte[] data, int offset, int length) {
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == arrayDelimiter) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        protected int numberOfValues(byte[] data, int offset, int length) {
+            int count = length > 0 ? 1 : 0;
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == arrayDelimiter) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
         @Override
         public int hashCode() {
             return getClass().hashCode();
@@ -489,7 +524,8 @@ public class Extractors {
         }
     }
 
-    private static class StringArrayExtractor extends ArrayExtractor<String[]> {
+    private static class StringArrayExtractor extends ArrayExtractor<String[]>
+            implements Utf8Extractor<String[]> {
         private static final String[] EMPTY = new String[0];
 
         StringArrayExtractor(char arrayDelimiter) {
@@ -506,6 +542,17 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new String[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = extractString(data, offset + byteIndex, numberOfBytes);
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class ByteArrayExtractor extends ArrayExtractor<byte[]> {
@@ -546,7 +593,7 @@ public class Extractors {
         }
     }
 
-    private static class IntArrayExtractor extends ArrayExtractor<int[]> {
+    private static class IntArrayExtractor extends ArrayExtractor<int[]> implements Utf8Extractor<int[]> {
         private static final int[] EMPTY = new int[0];
 
         IntArrayExtractor(char arrayDelimiter) {
@@ -563,9 +610,20 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new int[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = safeCastLongToInt(extractLong(data, offset + byteIndex, numberOfBytes));
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
-    private static class LongArrayExtractor extends ArrayExtractor<long[]> {
+    private static class LongArrayExtractor extends ArrayExtractor<long[]> implements Utf8Extractor<long[]> {
         private static final long[] EMPTY = new long[0];
 
         LongArrayExtractor(char arrayDelimiter) {
@@ -582,9 +640,21 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new long[numberOfValues] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes = bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex);
+                value[arrayIndex] = extractLong(data, offset + byteIndex, numberOfBytes);
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
-    private static class IntTupleArrayExtractor extends AbstractExtractor<int[][]> {
+    private static class IntTupleArrayExtractor extends AbstractExtractor<int[][]>
+            implements Utf8Extractor<int[][]> {
         private static final int[][] EMPTY = new int[0][0];
 
         protected final char outerArrayDelimiter;
@@ -635,6 +705,25 @@ public class Extractors {
             return count;
         }
 
+        protected int bytesToNextDelimiter(byte[] data, int offset, int length, char delimiter) {
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == delimiter) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        protected int numberOfValues(byte[] data, int offset, int length) {
+            int count = length > 0 ? 1 : 0;
+            for (int i = 0; i < length; i++) {
+                if (data[offset + i] == outerArrayDelimiter) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
         @Override
         public int hashCode() {
             return getClass().hashCode();
@@ -664,6 +753,30 @@ public class Extractors {
                 charIndex += numberOfChars;
             }
         }
+
+        @Override
+        public void extract(byte[] data, int offset, int length) {
+            int numberOfValues = numberOfValues(data, offset, length);
+            value = numberOfValues > 0 ? new int[numberOfValues][innerTupleLength] : EMPTY;
+            for (int arrayIndex = 0, byteIndex = 0; arrayIndex < numberOfValues; arrayIndex++, byteIndex++) {
+                int numberOfBytes =
+                        bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex, outerArrayDelimiter);
+                extractInnerTuple(data, offset + byteIndex, numberOfBytes, arrayIndex);
+                byteIndex += numberOfBytes;
+            }
+        }
+
+        private void extractInnerTuple(byte[] data, int offset, int length, int outerArrayIndex) {
+            for (int innerTupleIndex = 0, byteIndex = 0;
+                 innerTupleIndex < innerTupleLength;
+                 innerTupleIndex++, byteIndex++) {
+                int numberOfBytes =
+                        bytesToNextDelimiter(data, offset + byteIndex, length - byteIndex, innerTupleDelimiter);
+                value[outerArrayIndex][innerTupleIndex] =
+                        safeCastLongToInt(extractLong(data, offset + byteIndex, numberOfBytes));
+                byteIndex += numberOfBytes;
+            }
+        }
     }
 
     private static class FloatArrayExtractor extends ArrayExtractor<float[]> {
@@ -743,6 +856,40 @@ public class Extractors {
         return negate ? -result : result;
     }
 
+    private static long extractLong(byte[] data, int offset, int length) {
+        if (length == 0) {
+            throw new NumberFormatException("For input string \"" + extractString(data, offset, length) + "\"");
+        }
+
+        long result = 0;
+        int i = 0;
+        boolean negate = false;
+        if (data[offset] == '-') {
+            negate = true;
+            i++;
+        }
+        for (; i < length; i++) {
+            result = result * 10 + digit(data[offset + i]);
+        }
+        return negate ? -result : result;
+    }
+
+    /**
+     * Decodes UTF-8 encoded bytes, only strings pay for decoding when extracting from bytes.
+     */
+    private static String extractString(byte[] data, int offset, int length) {
+        return new String(data, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private static int digit(byte b) {
+        int digit = b - '0';
+        if ((digit < 0) || (digit > 9)) {
+            throw new NumberFormatException("Invalid digit character " + digit + " '" + (char) digit +
+                    "' where the original byte was '" + (char) (b & 0xFF) + "'");
+        }
+        return digit;
+    }
+
     private static int digit(char ch) {
         int digit = ch - '0';
         if ((digit < 0) || (digit > 9)) {
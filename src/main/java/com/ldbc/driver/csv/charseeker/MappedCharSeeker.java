@@ -0,0 +1,306 @@
+package com.ldbc.driver.csv.charseeker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.Math.min;
+
+/**
+ * {@link CharSeeker} over a UTF-8 encoded file that is read through memory mapped regions, rather than decoded into
+ * a {@code char[]} through a {@link Reader} like {@link BufferedCharSeeker} does.
+ * <p/>
+ * Mapped regions are copied chunk by chunk into a {@code byte[]} buffer, which is scanned much faster than the mapped
+ * memory itself, but the bytes are never decoded. Seeking works on bytes, so delimiters, quotation character and
+ * newlines must be ASCII. No byte of a multi-byte UTF-8 character is in the ASCII range, so they can never be
+ * mistaken for one another.
+ * Values are extracted straight from the bytes by {@link Utf8Extractor}s, e.g., numbers are parsed from their digits
+ * and only strings are decoded. Other {@link Extractor}s are given the value decoded into characters.
+ * <p/>
+ * Like with {@link BufferedCharSeeker}, a single value can be at most buffer size long, and a value can only be
+ * extracted until the next seek.
+ */
+public class MappedCharSeeker implements CharSeeker {
+    private static final int KB = 1024, MB = KB * KB;
+    public static final int DEFAULT_BUFFER_SIZE = 2 * MB;
+    public static final int DEFAULT_REGION_SIZE = 64 * MB;
+
+    private static final int EOL_CHAR = '\n';
+    private static final int EOL_CHAR_2 = '\r';
+    private static final int EOF_CHAR = -1;
+    private static final int BACK_SLASH = '\\';
+
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final long fileLength;
+    private final int regionSize;
+    private final int quoteChar;
+
+    private MappedByteBuffer region;
+    // position of the mapped region in the file
+    private long regionPosition;
+
+    private final byte[] buffer;
+    // number of bytes in buffer that were copied from the file
+    private int bufferLength;
+    // position in the file of the first byte in buffer
+    private long bufferFilePosition;
+    private int bufferPos;
+    // start of the value being sought, within the buffer, updated when the buffer is filled
+    private int seekStartPos;
+    private long lineStartPos;
+    private int lineNumber = 1;
+    private boolean eof;
+
+    // quoted values that contain escaped quotes are copied here, without the escape characters
+    private byte[] unescapedValue = new byte[KB];
+    private int unescapedValueLength;
+    private long unescapedValueStartPos = -1;
+
+    // values for extractors that can not extract from bytes are decoded into here
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private CharBuffer decodedValue = CharBuffer.allocate(KB);
+
+    public MappedCharSeeker(File file) throws IOException {
+        this(file, DEFAULT_BUFFER_SIZE, DEFAULT_REGION_SIZE, BufferedCharSeeker.DEFAULT_QUOTE_CHAR);
+    }
+
+    public MappedCharSeeker(File file, int bufferSize, int regionSize, char quoteChar) throws IOException {
+        if (bufferSize <= 0 || regionSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Buffer size and region size must be positive: " + bufferSize + ", " + regionSize);
+        }
+        if (quoteChar > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Quotation character must be ASCII: " + quoteChar);
+        }
+        this.file = file;
+        this.regionSize = regionSize;
+        this.quoteChar = quoteChar;
+        this.buffer = new byte[bufferSize];
+        this.randomAccessFile = new RandomAccessFile(file, "r");
+        this.channel = randomAccessFile.getChannel();
+        this.fileLength = channel.size();
+        this.region = channel.map(FileChannel.MapMode.READ_ONLY, 0, min(regionSize, fileLength));
+    }
+
+    @Override
+    public boolean seek(Mark mark, int[] untilOneOfChars) throws IOException {
+        if (eof) {   // We're at the end
+            return eof(mark);
+        }
+
+        seekStartPos = bufferPos; // seekStartPos updated in fillBuffer, that's why it's a member
+        boolean quoted = false;
+        boolean escaped = false;
+        // end of a quoted value in the file, it is only known once the closing quote is found
+        long quotedValueEndPos = -1;
+        int ch;
+        while (EOF_CHAR != (ch = nextChar())) {
+            if (quoted) {   // In quoted mode, i.e. within quotes
+                if (ch == quoteChar) {
+                    if (peekChar() == quoteChar) {   // Found a double quote, i.e. quote-in-quote
+                        bufferPos++;
+                        escaped = true;
+                    } else {   // Found the ending quote, anything up to the delimiter is ignored
+                        quoted = false;
+                        quotedValueEndPos = bufferFilePosition + bufferPos - 1;
+                    }
+                } else if (ch == BACK_SLASH && peekChar() == quoteChar) {   // Legacy java style quote encoding
+                    bufferPos++;
+                    escaped = true;
+                }
+            } else if (ch == quoteChar && seekStartPos == bufferPos - 1) {   // Quote as first character of the value
+                quoted = true;
+            } else if (isNewLine(ch)) {   // Encountered newline, done for now
+                break;
+            } else {
+                for (int i = 0; i < untilOneOfChars.length; i++) {
+                    if (ch == untilOneOfChars[i]) {   // We found a delimiter, set marker and return true
+                        setMark(mark, bufferFilePosition + bufferPos - 1, quotedValueEndPos, escaped, ch);
+                        return true;
+                    }
+                }
+            }
+        }
+
+        if (EOF_CHAR == ch) {
+            eof = true;
+            if (bufferPos == seekStartPos && bufferFilePosition + seekStartPos == lineStartPos) {
+                // We didn't find any of the characters sought for
+                return eof(mark);
+            }
+            setMark(mark, bufferFilePosition + bufferPos, quotedValueEndPos, escaped, Mark.END_OF_LINE_CHARACTER);
+        } else {
+            // We found the last value of the line, the buffer might be filled while skipping newlines
+            long valueEndPos = bufferFilePosition + bufferPos - 1;
+            skipEolChars();
+            setMark(mark, valueEndPos, quotedValueEndPos, escaped, Mark.END_OF_LINE_CHARACTER);
+        }
+        lineNumber++;
+        lineStartPos = bufferFilePosition + bufferPos;
+        return true;
+    }
+
+    /**
+     * @param valueEndPos       position in the file of the delimiter or newline that ended the value
+     * @param quotedValueEndPos position in the file of the closing quote, -1 if none was found
+     */
+    private void setMark(Mark mark, long valueEndPos, long quotedValueEndPos, boolean escaped, int character) {
+        long from = bufferFilePosition + seekStartPos;
+        long to = valueEndPos;
+        if (bufferLength > seekStartPos && buffer[seekStartPos] == quoteChar) {   // Value was quoted
+            from++;
+            to = -1 == quotedValueEndPos ? valueEndPos : quotedValueEndPos;
+        }
+        if (escaped) {
+            unescape((int) (from - bufferFilePosition), (int) (to - bufferFilePosition));
+            unescapedValueStartPos = from;
+        }
+        mark.set(lineNumber, from, to, character);
+    }
+
+    private void unescape(int from, int to) {
+        if (unescapedValue.length < to - from) {
+            unescapedValue = new byte[to - from];
+        }
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            byte b = buffer[i];
+            if ((b == quoteChar || b == BACK_SLASH) && i + 1 < to && buffer[i + 1] == quoteChar) {
+                // keep only the quote of a double quote or slash encoded quote
+                b = buffer[++i];
+            }
+            unescapedValue[length++] = b;
+        }
+        unescapedValueLength = length;
+    }
+
+    private boolean isNewLine(int ch) {
+        return ch == EOL_CHAR || ch == EOL_CHAR_2;
+    }
+
+    private boolean eof(Mark mark) {
+        mark.set(lineNumber, -1, -1, Mark.END_OF_LINE_CHARACTER);
+        return false;
+    }
+
+    @Override
+    public <EXTRACTOR extends Extractor<?>> EXTRACTOR extract(Mark mark, EXTRACTOR extractor) {
+        long from = mark.startPosition();
+        long to = mark.position();
+        byte[] data;
+        int offset;
+        int length;
+        if (from == unescapedValueStartPos) {
+            data = unescapedValue;
+            offset = 0;
+            length = unescapedValueLength;
+        } else {
+            if (from < bufferFilePosition) {
+                throw new IllegalStateException("Value is no longer buffered " + mark);
+            }
+            data = buffer;
+            offset = (int) (from - bufferFilePosition);
+            length = (int) (to - from);
+        }
+
+        if (extractor instanceof Utf8Extractor) {
+            ((Utf8Extractor<?>) extractor).extract(data, offset, length);
+        } else {
+            int decodedLength = decode(data, offset, length);
+            extractor.extract(decodedValue.array(), 0, decodedLength);
+        }
+        return extractor;
+    }
+
+    private int decode(byte[] data, int offset, int length) {
+        // a UTF-8 encoded value never has more characters than bytes
+        if (decodedValue.capacity() < length) {
+            decodedValue = CharBuffer.allocate(length);
+        }
+        // through Buffer, CharBuffer only overrides clear from Java 9
+        ((Buffer) decodedValue).clear();
+        decoder.reset();
+        decoder.decode(ByteBuffer.wrap(data, offset, length), decodedValue, true);
+        decoder.flush(decodedValue);
+        return decodedValue.position();
+    }
+
+    private void skipEolChars() throws IOException {
+        while (isNewLine(peekChar())) {   // Just loop through, skipping them
+            bufferPos++;
+        }
+    }
+
+    private int peekChar() throws IOException {
+        if (bufferPos >= bufferLength && !fillBuffer()) {
+            return EOF_CHAR;
+        }
+        return buffer[bufferPos] & 0xFF;
+    }
+
+    private int nextChar() throws IOException {
+        if (bufferPos < bufferLength) {
+            return buffer[bufferPos++] & 0xFF;
+        }
+        int ch = peekChar();
+        if (EOF_CHAR != ch) {
+            bufferPos++;
+        }
+        return ch;
+    }
+
+    /**
+     * Keeps the value being sought and copies as much of the remainder of the file into the buffer as fits.
+     *
+     * @return false if the whole file has been read already
+     */
+    private boolean fillBuffer() throws IOException {
+        if (bufferFilePosition + bufferLength >= fileLength) {
+            return false;
+        }
+        if (seekStartPos == 0 && bufferLength == buffer.length) {
+            throw new IllegalStateException("Tried to read in a value larger than buffer size " + buffer.length);
+        }
+        System.arraycopy(buffer, seekStartPos, buffer, 0, bufferLength - seekStartPos);
+        bufferFilePosition += seekStartPos;
+        bufferLength -= seekStartPos;
+        bufferPos -= seekStartPos;
+        seekStartPos = 0;
+
+        while (bufferLength < buffer.length && bufferFilePosition + bufferLength < fileLength) {
+            if (!region.hasRemaining()) {
+                regionPosition += region.limit();
+                region = channel.map(
+                        FileChannel.MapMode.READ_ONLY, regionPosition, min(regionSize, fileLength - regionPosition));
+            }
+            int length = min(buffer.length - bufferLength, region.remaining());
+            region.get(buffer, bufferLength, length);
+            bufferLength += length;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        randomAccessFile.close();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[file:" + file.getAbsolutePath() + ", region:" + regionPosition +
+                ", seekPos:" + seekStartPos + ", line:" + lineNumber + "]";
+    }
+}
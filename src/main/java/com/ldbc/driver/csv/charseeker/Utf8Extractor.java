@@ -0,0 +1,12 @@
+package com.ldbc.driver.csv.charseeker;
+
+/**
+ * {@link Extractor} that can also extract its value straight from UTF-8 encoded bytes, as found by a
+ * {@link MappedCharSeeker}, so that numeric values are parsed without first decoding them into characters.
+ * <p/>
+ * Extractors that do not implement this interface still work with a {@link MappedCharSeeker}, it decodes the
+ * bytes of their values into characters first.
+ */
+public interface Utf8Extractor<T> extends Extractor<T> {
+    void extract(byte[] data, int offset, int length);
+}
@@ -0,0 +1,68 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.csv.charseeker.Readables;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Iterator;
+
+/**
+ * Events of a CSV file with a header row, read by {@link CsvEventStreamReaderBasicCharSeeker}, from the start of the
+ * file every time they are read.
+ * The file is rewound rather than opened again, so the caller remains responsible for closing it.
+ */
+public class CsvFileEventStreamSource<BASE_EVENT_TYPE> implements RereadingGenerator.Source<BASE_EVENT_TYPE>
+{
+    private final FileInputStream fileInputStream;
+    private final int bufferSize;
+    private final int headerColumnCount;
+    private final Extractors extractors;
+    private final CsvEventStreamReaderBasicCharSeeker.EventDecoder<BASE_EVENT_TYPE> decoder;
+    private final int columnDelimiter;
+
+    public CsvFileEventStreamSource(
+            FileInputStream fileInputStream,
+            int bufferSize,
+            int headerColumnCount,
+            Extractors extractors,
+            CsvEventStreamReaderBasicCharSeeker.EventDecoder<BASE_EVENT_TYPE> decoder,
+            int columnDelimiter )
+    {
+        this.fileInputStream = fileInputStream;
+        this.bufferSize = bufferSize;
+        this.headerColumnCount = headerColumnCount;
+        this.extractors = extractors;
+        this.decoder = decoder;
+        this.columnDelimiter = columnDelimiter;
+    }
+
+    @Override
+    public Iterator<BASE_EVENT_TYPE> read() throws IOException
+    {
+        fileInputStream.getChannel().position( 0 );
+        // not closed, that would close the file
+        CharSeeker charSeeker = new BufferedCharSeeker(
+                Readables.wrap( new InputStreamReader( fileInputStream, Charsets.UTF_8 ) ),
+                bufferSize
+        );
+        Mark mark = new Mark();
+        // skip headers
+        for ( int i = 0; i < headerColumnCount; i++ )
+        {
+            charSeeker.seek( mark, new int[]{columnDelimiter} );
+        }
+        return new CsvEventStreamReaderBasicCharSeeker<>(
+                charSeeker,
+                extractors,
+                mark,
+                decoder,
+                columnDelimiter
+        );
+    }
+}
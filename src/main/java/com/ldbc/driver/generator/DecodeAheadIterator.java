@@ -0,0 +1,224 @@
+package com.ldbc.driver.generator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Like {@link com.ldbc.driver.csv.charseeker.ThreadAheadReadable}, but ahead of a decoding iterator (e.g., an update
+ * stream parser) rather than of a character source, and without a thread of its own: decoding is done by tasks of a
+ * shared {@link ForkJoinPool}, into a bounded single-consumer ring, so many sources can be decoded ahead in parallel
+ * by a few threads.
+ * <p/>
+ * At most one decode task per iterator is scheduled at a time. It decodes until the ring is full, then returns its
+ * worker to the pool. Another one is scheduled once the consumer drained half of the ring, so tasks of different
+ * sources interleave in batches. Decode tasks never block.
+ * <p/>
+ * Errors of the source are thrown by hasNext()/next() of this iterator, once the elements decoded before the error
+ * were consumed. Closing this iterator waits for the running decode task, if any, then closes the source.
+ */
+public class DecodeAheadIterator<T> implements Iterator<T>, Closeable
+{
+    private static final long MAX_PARK_DURATION_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 100 );
+
+    private final Iterator<T> source;
+    private final Closeable sourceCloseable;
+    private final ForkJoinPool pool;
+    private final Object[] ring;
+    private final int mask;
+    private final int refillThreshold;
+    // index of the next element to consume, only written by consumer
+    private final AtomicLong head = new AtomicLong();
+    // index of the next element to decode, only written by the (one) scheduled decode task
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicBoolean decodeScheduled = new AtomicBoolean( false );
+    private final Runnable decodeTask = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            decode();
+        }
+    };
+    private volatile Thread waitingConsumer = null;
+    private volatile boolean sourceFinished = false;
+    private volatile boolean closed = false;
+    private volatile Throwable sourceError = null;
+
+    /**
+     * Starts decoding elements of source ahead, using tasks of the given pool
+     *
+     * @param source          iterator that decodes elements, only ever called by one thread at a time
+     * @param sourceCloseable resource of source, closed when this iterator is closed
+     * @param pool            pool that runs the decode tasks
+     * @param bufferSize      maximum number of decoded elements that have not been consumed yet
+     */
+    public static <T1> DecodeAheadIterator<T1> decodeAhead( Iterator<T1> source, Closeable sourceCloseable,
+            ForkJoinPool pool, int bufferSize )
+    {
+        DecodeAheadIterator<T1> decodeAheadIterator =
+                new DecodeAheadIterator<>( source, sourceCloseable, pool, bufferSize );
+        decodeAheadIterator.scheduleDecode();
+        return decodeAheadIterator;
+    }
+
+    private DecodeAheadIterator( Iterator<T> source, Closeable sourceCloseable, ForkJoinPool pool, int bufferSize )
+    {
+        if ( bufferSize < 1 )
+        {
+            throw new IllegalArgumentException( "Buffer size must be positive: " + bufferSize );
+        }
+        this.source = source;
+        this.sourceCloseable = sourceCloseable;
+        this.pool = pool;
+        int capacity = Integer.highestOneBit( bufferSize );
+        capacity = (capacity == bufferSize) ? capacity : capacity << 1;
+        this.ring = new Object[capacity];
+        this.mask = capacity - 1;
+        this.refillThreshold = capacity / 2;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        int attempt = 0;
+        while ( true )
+        {
+            if ( head.get() < tail.get() )
+            {
+                return true;
+            }
+            if ( sourceFinished )
+            {
+                // tail is published before source is marked finished, re-check to not miss the last elements
+                if ( head.get() < tail.get() )
+                {
+                    return true;
+                }
+                Throwable error = sourceError;
+                if ( null != error )
+                {
+                    throw new GeneratorException( "Error while decoding ahead", error );
+                }
+                return false;
+            }
+            if ( closed )
+            {
+                return false;
+            }
+            // ring is empty, make sure a decode task is on its way and wait for it
+            scheduleDecode();
+            if ( attempt++ < 100 )
+            {
+                Thread.yield();
+            }
+            else
+            {
+                waitingConsumer = Thread.currentThread();
+                if ( head.get() == tail.get() && !sourceFinished )
+                {
+                    LockSupport.parkNanos( MAX_PARK_DURATION_AS_NANO );
+                }
+                waitingConsumer = null;
+            }
+        }
+    }
+
+    @Override
+    public T next()
+    {
+        if ( !hasNext() )
+        {
+            throw new NoSuchElementException( "Iterator has nothing more to return" );
+        }
+        long index = head.get();
+        int slot = (int) index & mask;
+        T element = (T) ring[slot];
+        ring[slot] = null;
+        // ordered store, decode task reuses the slot only after it sees the new head
+        head.lazySet( index + 1 );
+        if ( tail.get() - (index + 1) <= refillThreshold && !sourceFinished )
+        {
+            scheduleDecode();
+        }
+        return element;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException( "Iterator does not support remove()" );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        closed = true;
+        // the source may not be closed while a decode task still uses it
+        while ( decodeScheduled.get() )
+        {
+            LockSupport.parkNanos( MAX_PARK_DURATION_AS_NANO );
+        }
+        sourceCloseable.close();
+    }
+
+    private void scheduleDecode()
+    {
+        if ( !closed && !sourceFinished && decodeScheduled.compareAndSet( false, true ) )
+        {
+            pool.execute( decodeTask );
+        }
+    }
+
+    private void decode()
+    {
+        try
+        {
+            long index = tail.get();
+            while ( !closed && index - head.get() < ring.length )
+            {
+                if ( !source.hasNext() )
+                {
+                    sourceFinished = true;
+                    break;
+                }
+                ring[(int) index & mask] = source.next();
+                // ordered store, consumer reads the slot only after it sees the new tail
+                tail.lazySet( ++index );
+                Thread consumer = waitingConsumer;
+                if ( null != consumer )
+                {
+                    LockSupport.unpark( consumer );
+                }
+            }
+        }
+        catch ( Throwable e )
+        {
+            sourceError = e;
+            sourceFinished = true;
+        }
+        finally
+        {
+            decodeScheduled.set( false );
+        }
+        if ( sourceFinished )
+        {
+            Thread consumer = waitingConsumer;
+            if ( null != consumer )
+            {
+                LockSupport.unpark( consumer );
+            }
+        }
+        // consumer may have drained the ring while this task was still scheduled, and so not have scheduled another
+        else if ( tail.get() - head.get() <= refillThreshold )
+        {
+            scheduleDecode();
+        }
+    }
+}
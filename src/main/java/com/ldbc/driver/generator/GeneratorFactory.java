@@ -496,6 +496,31 @@ public class GeneratorFactory
         return new MergingGenerator<>( dependencyTimesAsMilli, operations, dependencyTimeAssigningFun );
     }
 
+    /**
+     * Same as assignStartTimes(Iterator<Long>, Iterator<Operation>), without boxing start times
+     *
+     * @param startTimesAsMilli
+     * @param operations
+     * @return
+     */
+    public Iterator<Operation> assignStartTimes( LongIterator startTimesAsMilli, Iterator<Operation> operations )
+    {
+        return new TimeAssigningOperationGenerator( startTimesAsMilli, operations, true );
+    }
+
+    /**
+     * Same as assignDependencyTimes(Iterator<Long>, Iterator<Operation>), without boxing dependency times
+     *
+     * @param dependencyTimesAsMilli
+     * @param operations
+     * @return
+     */
+    public Iterator<Operation> assignDependencyTimes( LongIterator dependencyTimesAsMilli,
+            Iterator<Operation> operations )
+    {
+        return new TimeAssigningOperationGenerator( dependencyTimesAsMilli, operations, false );
+    }
+
     /**
      * Returns numbers, starting at specified number, and thereafter incrementing by a uniformly random amount
      * between the minimum and maximum amounts specified
@@ -520,22 +545,7 @@ public class GeneratorFactory
      */
     public Iterator<Operation> mergeSortOperationsByScheduledStartTime( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.scheduledStartTimeAsMilli() > o2.scheduledStartTimeAsMilli() )
-                        { return 1; }
-                        else if ( o1.scheduledStartTimeAsMilli() < o2.scheduledStartTimeAsMilli() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
-                generators
-        );
+        return new MergeSortOperationGenerator( false, generators );
     }
 
     /**
@@ -546,22 +556,7 @@ public class GeneratorFactory
      */
     public Iterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.timeStamp() > o2.timeStamp() )
-                        { return 1; }
-                        else if ( o1.timeStamp() < o2.timeStamp() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
-                generators
-        );
+        return new MergeSortOperationGenerator( true, generators );
     }
 
     /**
@@ -618,6 +613,17 @@ public class GeneratorFactory
         return new OrderedMultiGenerator<>( comparator, lookAheadDistance, generators );
     }
 
+    /**
+     * Returned generator will merge all ascending input generators into one ascending generator
+     *
+     * @param generators
+     * @return
+     */
+    public LongIterator mergeSortLong( LongIterator... generators )
+    {
+        return new MergeSortLongGenerator( generators );
+    }
+
     /**
      * Returned generator will loop over input iterator indefinitely.
      * <p/>
@@ -625,6 +631,8 @@ public class GeneratorFactory
      * As such, if elements of the original generator are not primitives the repeating generator will simply return
      * many references to the elements of the original generator, i.e., modifying any of them will modify the content
      * of all returned elements that are referenced by that element(/reference).
+     * <p/>
+     * All elements of the input iterator are kept in memory, for large inputs use rereading instead.
      *
      * @param generator
      * @param <T>
@@ -635,6 +643,34 @@ public class GeneratorFactory
         return new RepeatingGenerator<>( generator );
     }
 
+    /**
+     * Returned generator will loop over elements of the source indefinitely, reading them from the source again on
+     * every loop, e.g., from a file, so memory use does not depend on the number of elements.
+     * Sources of at most RereadingGenerator.DEFAULT_MAX_CACHED_ELEMENTS elements are read only once.
+     *
+     * @param source
+     * @param <T>
+     * @return
+     */
+    public <T> Iterator<T> rereading( RereadingGenerator.Source<T> source )
+    {
+        return rereading( source, RereadingGenerator.DEFAULT_MAX_CACHED_ELEMENTS );
+    }
+
+    /**
+     * Returned generator will loop over elements of the source indefinitely, sources of at most maxCachedElements
+     * elements are read once, larger ones are read again on every loop
+     *
+     * @param source
+     * @param maxCachedElements
+     * @param <T>
+     * @return
+     */
+    public <T> Iterator<T> rereading( RereadingGenerator.Source<T> source, int maxCachedElements )
+    {
+        return new RereadingGenerator<>( source, maxCachedElements );
+    }
+
     /**
      * Returned generator will iterate over all of the things, once
      *
@@ -718,6 +754,20 @@ public class GeneratorFactory
         return new TimeMappingOperationGenerator( generator, newStartTimeAsMilli, compressionRatio );
     }
 
+    /**
+     * Same as timeOffsetAndCompress, for times rather than for the start times of operations
+     *
+     * @param timesAsMilli
+     * @param newStartTimeAsMilli
+     * @param compressionRatio
+     * @return
+     */
+    public LongIterator timeOffsetAndCompressLong( LongIterator timesAsMilli, long newStartTimeAsMilli,
+            Double compressionRatio )
+    {
+        return new TimeMappingLongGenerator( timesAsMilli, newStartTimeAsMilli, compressionRatio );
+    }
+
     /**
      * Prefix every generated item with prefix string
      *
@@ -753,6 +803,18 @@ public class GeneratorFactory
         return new LimitGenerator<T>( generator, limit );
     }
 
+    /**
+     * Returned generator will generate at most limit longs
+     *
+     * @param generator
+     * @param limit
+     * @return
+     */
+    public LongIterator limitLong( LongIterator generator, long limit )
+    {
+        return new LimitLongGenerator( generator, limit );
+    }
+
     /**
      * next() returns single item from set of items. Each item has equal probability of being chosen.
      *
@@ -1029,6 +1091,17 @@ public class GeneratorFactory
         return new ConstantGenerator<T>( constant );
     }
 
+    /**
+     * Returned generator will generate the same long indefinitely
+     *
+     * @param constant
+     * @return
+     */
+    public LongIterator constantLong( long constant )
+    {
+        return new IncrementingLongGenerator( constant, 0 );
+    }
+
     /**
      * next() returns start the first time it is called.
      * Subsequent calls return the number value returned in previous call increment by incrementBy.
@@ -1043,6 +1116,18 @@ public class GeneratorFactory
         return boundedIncrementing( start, new ConstantGenerator<T>( incrementBy ), null );
     }
 
+    /**
+     * Same as incrementing(T, T), without boxing the generated longs
+     *
+     * @param start
+     * @param incrementBy
+     * @return
+     */
+    public LongIterator incrementingLong( long start, long incrementBy )
+    {
+        return new IncrementingLongGenerator( start, incrementBy );
+    }
+
     /**
      * next() returns start the first time it is called.
      * Subsequent calls return the number value returned in previous call increment by the result of calling next() on
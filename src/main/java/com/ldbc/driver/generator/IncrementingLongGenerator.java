@@ -0,0 +1,27 @@
+package com.ldbc.driver.generator;
+
+public class IncrementingLongGenerator implements LongIterator
+{
+    private final long incrementBy;
+    private long next;
+
+    IncrementingLongGenerator( long start, long incrementBy )
+    {
+        this.next = start;
+        this.incrementBy = incrementBy;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return true;
+    }
+
+    @Override
+    public long nextLong()
+    {
+        long result = next;
+        next += incrementBy;
+        return result;
+    }
+}
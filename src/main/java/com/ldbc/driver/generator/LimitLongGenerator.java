@@ -0,0 +1,31 @@
+package com.ldbc.driver.generator;
+
+import java.util.NoSuchElementException;
+
+public class LimitLongGenerator implements LongIterator
+{
+    private final LongIterator generator;
+    private final long limit;
+    private long count = 0;
+
+    LimitLongGenerator( LongIterator generator, long limit )
+    {
+        this.generator = generator;
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return count < limit && generator.hasNext();
+    }
+
+    @Override
+    public long nextLong()
+    {
+        if ( count == limit )
+        { throw new NoSuchElementException( "Generator has nothing more to generate" ); }
+        count++;
+        return generator.nextLong();
+    }
+}
@@ -0,0 +1,16 @@
+package com.ldbc.driver.generator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over primitive longs, e.g., times, that does not box every value like {@code Iterator<Long>} does
+ */
+public interface LongIterator
+{
+    boolean hasNext();
+
+    /**
+     * @throws NoSuchElementException if there is nothing more to generate
+     */
+    long nextLong();
+}
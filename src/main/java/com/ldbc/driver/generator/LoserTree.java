@@ -0,0 +1,119 @@
+package com.ldbc.driver.generator;
+
+/**
+ * Tournament tree over the current keys of k inputs, used for k-way merging.
+ * <p/>
+ * Every internal node stores the loser of the match played there, the overall winner is stored at the root (index 0),
+ * so after the key of the winning input changes only the matches on its path to the root are replayed: log2(k)
+ * comparisons per element. Inputs with smaller keys win, equal keys are won by the lowest input, exhausted inputs
+ * always lose.
+ */
+class LoserTree
+{
+    private final long[] keys;
+    private final boolean[] exhausted;
+    private final int[] tree;
+
+    LoserTree( int inputCount )
+    {
+        this.keys = new long[inputCount];
+        this.exhausted = new boolean[inputCount];
+        this.tree = new int[Math.max( 1, inputCount )];
+    }
+
+    long key( int input )
+    {
+        return keys[input];
+    }
+
+    void setKey( int input, long key )
+    {
+        keys[input] = key;
+        exhausted[input] = false;
+    }
+
+    void setExhausted( int input )
+    {
+        exhausted[input] = true;
+    }
+
+    /**
+     * Plays all matches, must be called once after the keys of all inputs were set, before winner() or replay()
+     */
+    void build()
+    {
+        int inputCount = keys.length;
+        if ( 0 == inputCount )
+        {
+            return;
+        }
+        // winners of the matches at each node, leaves are at [inputCount, 2 * inputCount)
+        int[] winners = new int[2 * inputCount];
+        for ( int input = 0; input < inputCount; input++ )
+        {
+            winners[inputCount + input] = input;
+        }
+        for ( int node = inputCount - 1; node >= 1; node-- )
+        {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if ( beats( left, right ) )
+            {
+                winners[node] = left;
+                tree[node] = right;
+            }
+            else
+            {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = (1 == inputCount) ? 0 : winners[1];
+    }
+
+    /**
+     * @return input with the smallest key, or -1 if all inputs are exhausted
+     */
+    int winner()
+    {
+        if ( 0 == keys.length || exhausted[tree[0]] )
+        {
+            return -1;
+        }
+        return tree[0];
+    }
+
+    /**
+     * Replays the matches of the current winner, after its key was changed (or it was exhausted)
+     */
+    void replay()
+    {
+        int candidate = tree[0];
+        for ( int node = (keys.length + candidate) / 2; node >= 1; node = node / 2 )
+        {
+            if ( beats( tree[node], candidate ) )
+            {
+                int winner = tree[node];
+                tree[node] = candidate;
+                candidate = winner;
+            }
+        }
+        tree[0] = candidate;
+    }
+
+    private boolean beats( int input, int otherInput )
+    {
+        if ( exhausted[input] )
+        {
+            return exhausted[otherInput] && input < otherInput;
+        }
+        else if ( exhausted[otherInput] )
+        {
+            return true;
+        }
+        else
+        {
+            return keys[input] < keys[otherInput] || (keys[input] == keys[otherInput] && input < otherInput);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ldbc.driver.generator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Merges ascending input generators into one ascending generator, on equal values the lowest input comes first.
+ * Uses a loser tree, see {@link LoserTree}.
+ */
+public class MergeSortLongGenerator implements LongIterator
+{
+    private final LongIterator[] generators;
+    private final LoserTree loserTree;
+    private boolean initialized = false;
+    private int previousWinner = -1;
+
+    MergeSortLongGenerator( LongIterator... generators )
+    {
+        this.generators = generators;
+        this.loserTree = new LoserTree( generators.length );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return -1 != winner();
+    }
+
+    @Override
+    public long nextLong()
+    {
+        int winner = winner();
+        if ( -1 == winner )
+        { throw new NoSuchElementException( "Generator has nothing more to generate" ); }
+        previousWinner = winner;
+        return loserTree.key( winner );
+    }
+
+    private int winner()
+    {
+        if ( !initialized )
+        {
+            for ( int i = 0; i < generators.length; i++ )
+            {
+                advance( i );
+            }
+            loserTree.build();
+            initialized = true;
+        }
+        else if ( -1 != previousWinner )
+        {
+            advance( previousWinner );
+            loserTree.replay();
+            previousWinner = -1;
+        }
+        return loserTree.winner();
+    }
+
+    private void advance( int input )
+    {
+        if ( generators[input].hasNext() )
+        {
+            loserTree.setKey( input, generators[input].nextLong() );
+        }
+        else
+        {
+            loserTree.setExhausted( input );
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges input generators that are ascending by scheduled start time or by time stamp into one ascending generator,
+ * on equal times the lowest input comes first.
+ * <p/>
+ * Uses a loser tree (see {@link LoserTree}) over primitive times, so merging takes log2(k) comparisons per operation
+ * and allocates nothing per operation.
+ * The next operation of an input is only retrieved once the previous operation of that input has been returned.
+ */
+public class MergeSortOperationGenerator implements Iterator<Operation>
+{
+    private final Iterator<Operation>[] generators;
+    private final boolean sortByTimeStamp;
+    private final Operation[] heads;
+    private final LoserTree loserTree;
+    private boolean initialized = false;
+    private int previousWinner = -1;
+
+    /**
+     * @param sortByTimeStamp sort by time stamp if true, otherwise sort by scheduled start time
+     * @param generators ascending input generators
+     */
+    MergeSortOperationGenerator( boolean sortByTimeStamp, Iterator<Operation>... generators )
+    {
+        this.generators = generators;
+        this.sortByTimeStamp = sortByTimeStamp;
+        this.heads = new Operation[generators.length];
+        this.loserTree = new LoserTree( generators.length );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return -1 != winner();
+    }
+
+    @Override
+    public Operation next()
+    {
+        int winner = winner();
+        if ( -1 == winner )
+        { throw new NoSuchElementException( "Generator has nothing more to generate" ); }
+        Operation operation = heads[winner];
+        heads[winner] = null;
+        previousWinner = winner;
+        return operation;
+    }
+
+    private int winner()
+    {
+        if ( !initialized )
+        {
+            for ( int i = 0; i < generators.length; i++ )
+            {
+                advance( i );
+            }
+            loserTree.build();
+            initialized = true;
+        }
+        else if ( -1 != previousWinner )
+        {
+            advance( previousWinner );
+            loserTree.replay();
+            previousWinner = -1;
+        }
+        return loserTree.winner();
+    }
+
+    private void advance( int input )
+    {
+        if ( generators[input].hasNext() )
+        {
+            Operation operation = generators[input].next();
+            heads[input] = operation;
+            loserTree.setKey( input,
+                    (sortByTimeStamp) ? operation.timeStamp() : operation.scheduledStartTimeAsMilli() );
+        }
+        else
+        {
+            loserTree.setExhausted( input );
+        }
+    }
+}
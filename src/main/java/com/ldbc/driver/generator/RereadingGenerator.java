@@ -0,0 +1,84 @@
+package com.ldbc.driver.generator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Repeats the elements of a source indefinitely, like {@link RepeatingGenerator}, but when the source has more than
+ * a maximum number of elements they are read from the source again every time they have all been returned, rather
+ * than kept in memory. Sources with fewer elements are read once, as reading them again costs more than keeping them.
+ */
+public class RereadingGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE>
+{
+    public static final int DEFAULT_MAX_CACHED_ELEMENTS = 10000;
+
+    private final Source<GENERATE_TYPE> source;
+    private final int maxCachedElements;
+    private Iterator<GENERATE_TYPE> generator = null;
+    // elements of the first read, null once the source turned out to have more than the maximum
+    private List<GENERATE_TYPE> cachedElements = new ArrayList<>();
+    private boolean allElementsCached = false;
+
+    RereadingGenerator( Source<GENERATE_TYPE> source, int maxCachedElements )
+    {
+        this.source = source;
+        this.maxCachedElements = maxCachedElements;
+    }
+
+    @Override
+    protected GENERATE_TYPE doNext() throws GeneratorException
+    {
+        if ( null == generator )
+        {
+            generator = read();
+        }
+        if ( generator.hasNext() )
+        {
+            GENERATE_TYPE next = generator.next();
+            if ( null != cachedElements && !allElementsCached )
+            {
+                if ( cachedElements.size() < maxCachedElements )
+                {
+                    cachedElements.add( next );
+                }
+                else
+                {
+                    cachedElements = null;
+                }
+            }
+            return next;
+        }
+        if ( null != cachedElements )
+        {
+            allElementsCached = true;
+            generator = cachedElements.iterator();
+        }
+        else
+        {
+            generator = read();
+        }
+        return (generator.hasNext()) ? generator.next() : null;
+    }
+
+    private Iterator<GENERATE_TYPE> read() throws GeneratorException
+    {
+        try
+        {
+            return source.read();
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException( "Error while reading source of repeated elements", e );
+        }
+    }
+
+    public interface Source<GENERATE_TYPE>
+    {
+        /**
+         * @return new iterator over all elements of the source, from the first, the previous one is no longer used
+         */
+        Iterator<GENERATE_TYPE> read() throws IOException;
+    }
+}
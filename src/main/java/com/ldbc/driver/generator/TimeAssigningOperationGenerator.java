@@ -0,0 +1,45 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+
+import java.util.Iterator;
+
+/**
+ * Assigns times, without boxing them, to operations. Generator stops as soon as either times or operations stop.
+ */
+public class TimeAssigningOperationGenerator extends Generator<Operation>
+{
+    private final LongIterator timesAsMilli;
+    private final Iterator<Operation> operations;
+    private final boolean assignStartTimes;
+
+    /**
+     * @param assignStartTimes assign scheduled start times and time stamps if true, otherwise dependency time stamps
+     */
+    TimeAssigningOperationGenerator( LongIterator timesAsMilli, Iterator<Operation> operations,
+            boolean assignStartTimes )
+    {
+        this.timesAsMilli = timesAsMilli;
+        this.operations = operations;
+        this.assignStartTimes = assignStartTimes;
+    }
+
+    @Override
+    protected Operation doNext() throws GeneratorException
+    {
+        if ( !timesAsMilli.hasNext() || !operations.hasNext() )
+        { return null; }
+        long timeAsMilli = timesAsMilli.nextLong();
+        Operation operation = operations.next();
+        if ( assignStartTimes )
+        {
+            operation.setScheduledStartTimeAsMilli( timeAsMilli );
+            operation.setTimeStamp( timeAsMilli );
+        }
+        else
+        {
+            operation.setDependencyTimeStamp( timeAsMilli );
+        }
+        return operation;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ldbc.driver.generator;
+
+/**
+ * Offsets times such that the first time mapped becomes the new start time, then compresses/expands the duration from
+ * the new start time by a fixed ratio, e.g. 2.0 = 2x slower, 0.5 = 2x faster
+ */
+class TimeMapping
+{
+    private final long newStartTimeAsMilli;
+    private final boolean compress;
+    private final double timeCompressionRatio;
+    private boolean firstTimeMapped = false;
+    private long offsetAsMilli;
+
+    TimeMapping( long newStartTimeAsMilli, Double timeCompressionRatio )
+    {
+        this.newStartTimeAsMilli = newStartTimeAsMilli;
+        this.compress = null != timeCompressionRatio;
+        this.timeCompressionRatio = (compress) ? timeCompressionRatio : 1.0;
+    }
+
+    long map( long timeAsMilli )
+    {
+        if ( !firstTimeMapped )
+        {
+            offsetAsMilli = newStartTimeAsMilli - timeAsMilli;
+            firstTimeMapped = true;
+        }
+        long offsetTimeAsMilli = timeAsMilli + offsetAsMilli;
+        if ( !compress )
+        {
+            return offsetTimeAsMilli;
+        }
+        long durationFromNewStartTimeAsMilli = offsetTimeAsMilli - newStartTimeAsMilli;
+        return newStartTimeAsMilli + Math.round( durationFromNewStartTimeAsMilli * timeCompressionRatio );
+    }
+}
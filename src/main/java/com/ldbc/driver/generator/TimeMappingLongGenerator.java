@@ -0,0 +1,25 @@
+package com.ldbc.driver.generator;
+
+public class TimeMappingLongGenerator implements LongIterator
+{
+    private final LongIterator timesAsMilli;
+    private final TimeMapping timeMapping;
+
+    TimeMappingLongGenerator( LongIterator timesAsMilli, long newStartTimeAsMilli, Double timeCompressionRatio )
+    {
+        this.timesAsMilli = timesAsMilli;
+        this.timeMapping = new TimeMapping( newStartTimeAsMilli, timeCompressionRatio );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return timesAsMilli.hasNext();
+    }
+
+    @Override
+    public long nextLong()
+    {
+        return timeMapping.map( timesAsMilli.nextLong() );
+    }
+}
@@ -0,0 +1,105 @@
+package com.ldbc.driver.modes;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.CompiledWorkload;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple2;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the operation streams of the workload to a compiled workload (see {@link CompiledWorkload}), which other
+ * modes stream from when it is configured, rather than parse the workload files on every run.
+ * <p/>
+ * Streams are compiled for the current configuration, up to the last operation that EXECUTE_WORKLOAD takes from them
+ * during warmup or during the measured run. The workload configuration, skip count, warmup count, operation count and
+ * time compression ratio are written along with the operations, streaming from the compiled workload fails if they
+ * changed since compiling.
+ */
+public class CompileWorkloadMode extends DriverMode {
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+
+    private Workload workload = null;
+    private WorkloadStreams workloadStreams = null;
+
+    public CompileWorkloadMode( ControlService controlService, long randomSeed )
+    {
+        super(DriverModeType.COMPILE_WORKLOAD);
+        this.controlService = controlService;
+        this.loggingService = controlService.getLoggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.getConfiguration();
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
+        try
+        {
+            // in this mode the workload streams from its files, not from the compiled workload that is written
+            configuration = configuration.applyArg(
+                    ConsoleAndFileDriverConfiguration.DRIVER_MODE_ARG, DriverModeType.COMPILE_WORKLOAD.name() );
+            List<Tuple2<Long,Long>> offsetsAndLimits = new ArrayList<>();
+            if ( configuration.warmupCount() > 0 )
+            {
+                offsetsAndLimits.add( Tuple.tuple2( configuration.skipCount(), configuration.warmupCount() ) );
+            }
+            offsetsAndLimits.add( Tuple.tuple2( configuration.skipCount() + configuration.warmupCount(),
+                    configuration.getOperationCount() ) );
+            Tuple2<WorkloadStreams,Workload> workloadStreamsAndWorkload =
+                    WorkloadStreams.createNewWorkloadWithLimitedWorkloadStreams(
+                            configuration,
+                            gf,
+                            offsetsAndLimits,
+                            controlService.getLoggingServiceFactory()
+                    );
+            workloadStreams = workloadStreamsAndWorkload._1();
+            workload = workloadStreamsAndWorkload._2();
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error loading Workload class: %s",
+                    configuration.getWorkloadClassName() ), e );
+        }
+        loggingService.info( format( "Loaded Workload: %s", workload.getClass().getName() ) );
+
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        File compiledWorkloadFile = new File( controlService.getConfiguration().compiledWorkloadFilePath() );
+        loggingService.info( format( "Compiling workload %s to: %s",
+                workload.getClass().getSimpleName(), compiledWorkloadFile.getAbsolutePath() ) );
+        try ( Workload w = workload )
+        {
+            long operationCount = CompiledWorkload.write( compiledWorkloadFile, workload, workloadStreams );
+            loggingService.info( format( "Compiled %s operations, %s bytes",
+                    operationCount, compiledWorkloadFile.length() ) );
+        }
+        catch ( WorkloadException | IOException e )
+        {
+            throw new ClientException( "Error while compiling workload", e );
+        }
+        return null;
+    }
+}
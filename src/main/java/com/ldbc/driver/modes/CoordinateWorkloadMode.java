@@ -0,0 +1,122 @@
+package com.ldbc.driver.modes;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.DistributedDriverCoordinator;
+import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
+import com.ldbc.driver.runtime.metrics.MetricsManager;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Coordinator of a distributed workload, executed by distributed_driver_count driver processes in EXECUTE_WORKLOAD
+ * mode that connect to it. Relays global completion time between the drivers, and exports their merged results.
+ */
+public class CoordinateWorkloadMode extends DriverMode
+{
+    private static final long WORKLOAD_START_DELAY_AS_MILLI = TimeUnit.SECONDS.toMillis( 5 );
+
+    private final ControlService controlService;
+    private final TimeSource timeSource;
+    private final LoggingService loggingService;
+    private final ResultsDirectory resultsDirectory;
+
+    public CoordinateWorkloadMode( ControlService controlService, TimeSource timeSource ) throws ClientException
+    {
+        super( DriverModeType.COORDINATE_WORKLOAD );
+        this.controlService = controlService;
+        this.timeSource = timeSource;
+        this.loggingService = controlService.getLoggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.resultsDirectory = new ResultsDirectory( controlService.getConfiguration() );
+    }
+
+    @Override
+    public void init()
+    {
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.getConfiguration();
+        try ( DistributedDriverCoordinator coordinator = new DistributedDriverCoordinator(
+                DistributedDriverCoordinator.portOf( configuration.distributedCoordinatorAddress() ),
+                configuration.distributedDriverCount(),
+                timeSource,
+                loggingService ) )
+        {
+            if ( configuration.warmupCount() > 0 )
+            {
+                coordinateWorkload( coordinator, true );
+            }
+            coordinateWorkload( coordinator, false );
+        }
+        catch ( CompletionTimeException e )
+        {
+            throw new ClientException( "Error coordinating distributed drivers", e );
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Error shutting down coordinator", e );
+        }
+        loggingService.info( "Workload completed successfully" );
+        return null;
+    }
+
+    private void coordinateWorkload( DistributedDriverCoordinator coordinator, boolean warmup )
+            throws CompletionTimeException, ClientException
+    {
+        loggingService.info( format( "Waiting for %s drivers (%s) to connect on port %s...",
+                controlService.getConfiguration().distributedDriverCount(),
+                (warmup) ? "warmup" : "run",
+                coordinator.port() ) );
+        WorkloadResultsSnapshot workloadResults = coordinator.coordinateWorkload( WORKLOAD_START_DELAY_AS_MILLI );
+        if ( warmup )
+        {
+            loggingService.summaryResult( workloadResults );
+        }
+        else
+        {
+            loggingService.detailedResult( workloadResults );
+        }
+        if ( resultsDirectory.exists() )
+        {
+            try
+            {
+                File resultsSummaryFile = resultsDirectory.getOrCreateResultsSummaryFile( warmup );
+                loggingService.info(
+                        format( "Exporting merged workload metrics to %s...", resultsSummaryFile.getAbsolutePath() )
+                );
+                MetricsManager.export( workloadResults,
+                        new JsonWorkloadMetricsFormatter(),
+                        new FileOutputStream( resultsSummaryFile ),
+                        Charsets.UTF_8
+                );
+                File configurationFile = resultsDirectory.getOrCreateConfigurationFile( warmup );
+                Files.write(
+                        configurationFile.toPath(),
+                        controlService.getConfiguration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
+                );
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException( "Could not export merged workload metrics", e );
+            }
+        }
+    }
+}
@@ -30,6 +30,15 @@ public class DriverModeFactory {
                 TimeSource systemTimeSource = new SystemTimeSource();
                 driverMode = new ExecuteWorkloadMode(controlService, systemTimeSource, RANDOM_SEED);
                 break;
+            case COORDINATE_WORKLOAD:
+                driverMode = new CoordinateWorkloadMode(controlService, new SystemTimeSource());
+                break;
+            case SUMMARIZE_INTERVAL_LOGS:
+                driverMode = new SummarizeIntervalLogsMode(controlService);
+                break;
+            case COMPILE_WORKLOAD:
+                driverMode = new CompileWorkloadMode(controlService, RANDOM_SEED);
+                break;
             case PRINT_HELP:
                 driverMode = new PrintHelpMode(controlService);
                 break;
@@ -7,4 +7,7 @@ public enum DriverModeType {
     VALIDATE_DATABASE,
     CALCULATE_WORKLOAD_STATS,
     EXECUTE_WORKLOAD,
+    COORDINATE_WORKLOAD,
+    SUMMARIZE_INTERVAL_LOGS,
+    COMPILE_WORKLOAD,
 }
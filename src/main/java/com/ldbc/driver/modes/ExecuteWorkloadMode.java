@@ -19,15 +19,19 @@ import com.ldbc.driver.runtime.WorkloadRunner;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
-import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DistributedCompletionTimeService;
+import com.ldbc.driver.runtime.coordination.DistributedDriverConnection;
+import com.ldbc.driver.runtime.metrics.AsyncResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.IntervalHistogramLog;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
-import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.ThreadLocalHistogramMetricsService;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -64,6 +68,7 @@ public class ExecuteWorkloadMode extends DriverMode {
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    private DistributedDriverConnection distributedDriverConnection = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -153,15 +158,18 @@ public class ExecuteWorkloadMode extends DriverMode {
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
+        //  ============================
+        //  ===  Results Log Writer  ===
+        //  ============================
         File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
         try
         {
             resultsLogWriter = (null == resultsLog)
                                ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter( resultsLog, controlService.getConfiguration().timeUnit() );
+                               : controlService.getConfiguration().resultsLogFormat().newWriter(
+                                       resultsLog,
+                                       controlService.getConfiguration().timeUnit(),
+                                       controlService.getConfiguration().resultsLogRotationSize() );
         }
         catch ( IOException e )
         {
@@ -207,7 +215,30 @@ public class ExecuteWorkloadMode extends DriverMode {
         loggingService.info( format( "Loaded workload: %s", workload.getClass().getName() ) );
 
         loggingService.info( format( "Retrieving workload stream: %s", workload.getClass().getSimpleName() ) );
-        controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
+        int distributedDriverCount = controlService.getConfiguration().distributedDriverCount();
+        int distributedDriverId = controlService.getConfiguration().distributedDriverId();
+        if ( distributedDriverCount > 1 )
+        {
+            // every driver process must use the same start time, it is chosen by the coordinator
+            String coordinatorAddress = controlService.getConfiguration().distributedCoordinatorAddress();
+            loggingService.info( format( "Driver %s of %s, waiting for coordinator at %s...",
+                    distributedDriverId, distributedDriverCount, coordinatorAddress ) );
+            try
+            {
+                distributedDriverConnection =
+                        DistributedDriverConnection.connect( coordinatorAddress, distributedDriverId );
+                controlService.setWorkloadStartTimeAsMilli(
+                        distributedDriverConnection.awaitWorkloadStartTimeAsMilli() );
+            }
+            catch ( CompletionTimeException e )
+            {
+                throw new ClientException( format( "Error connecting to coordinator at %s", coordinatorAddress ), e );
+            }
+        }
+        else
+        {
+            controlService.setWorkloadStartTimeAsMilli( System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 5 ) );
+        }
         WorkloadStreams timeMappedWorkloadStreams;
         timeMappedWorkloadStreams = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
                 workloadStreams,
@@ -215,6 +246,14 @@ public class ExecuteWorkloadMode extends DriverMode {
                 controlService.getConfiguration().timeCompressionRatio(),
                 gf
         );
+        if ( distributedDriverCount > 1 )
+        {
+            timeMappedWorkloadStreams = WorkloadStreams.partitionWorkloadStreams(
+                    timeMappedWorkloadStreams,
+                    distributedDriverId,
+                    distributedDriverCount
+            );
+        }
 
         //  ================
         //  =====  DB  =====
@@ -241,18 +280,44 @@ public class ExecuteWorkloadMode extends DriverMode {
         //  ========================
         //  ===  Metrics Service  ==
         //  ========================
+        long histogramLogIntervalAsMilli = controlService.getConfiguration().histogramLogInterval();
+        IntervalHistogramLog intervalHistogramLog = (resultsDirectory.exists() && histogramLogIntervalAsMilli > 0)
+                                                    ? resultsDirectory.intervalHistogramLog( warmup,
+                                                            histogramLogIntervalAsMilli )
+                                                    : null;
         try
         {
-            // TODO create metrics service factory so different ones can be easily created
-            metricsService = new DisruptorSbeMetricsService(
-                    timeSource,
-                    errorReporter,
-                    controlService.getConfiguration().timeUnit(),
-                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
-                    resultsLogWriter,
-                    workload.operationTypeToClassMapping(),
-                    controlService.getLoggingServiceFactory()
-            );
+            switch ( controlService.getConfiguration().metricsServiceType() )
+            {
+            case THREAD_LOCAL_HISTOGRAM:
+                metricsService = new ThreadLocalHistogramMetricsService(
+                        timeSource,
+                        errorReporter,
+                        controlService.getConfiguration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        controlService.getConfiguration().resultsLogSamplingInterval(),
+                        workload.operationTypeToClassMapping(),
+                        controlService.getLoggingServiceFactory(),
+                        intervalHistogramLog
+                );
+                break;
+            default:
+                metricsService = new DisruptorSbeMetricsService(
+                        timeSource,
+                        errorReporter,
+                        controlService.getConfiguration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        workload.operationTypeToClassMapping(),
+                        controlService.getLoggingServiceFactory(),
+                        controlService.getConfiguration().metricsRingBufferSize(),
+                        controlService.getConfiguration().metricsWaitStrategy(),
+                        controlService.getConfiguration().metricsConsumerCount(),
+                        intervalHistogramLog
+                );
+                break;
+            }
         }
         catch ( MetricsCollectionException e )
         {
@@ -265,11 +330,23 @@ public class ExecuteWorkloadMode extends DriverMode {
         CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
         try
         {
-            completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
-                            timeSource,
-                            errorReporter
-                    );
+            if ( null == distributedDriverConnection )
+            {
+                completionTimeService =
+                        completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
+                                timeSource,
+                                errorReporter
+                        );
+            }
+            else
+            {
+                // local completion time is tracked locally, completion time read is global completion time
+                completionTimeService = new DistributedCompletionTimeService(
+                        completionTimeServiceAssistant.newSynchronizedCompletionTimeService(),
+                        distributedDriverConnection,
+                        errorReporter
+                );
+            }
         }
         catch ( CompletionTimeException e )
         {
@@ -291,11 +368,16 @@ public class ExecuteWorkloadMode extends DriverMode {
                     errorReporter,
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
+                    controlService.getConfiguration().executorType(),
+                    controlService.getConfiguration().dispatcherType(),
                     controlService.getConfiguration().getThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().spinnerType(),
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
-                    operationHandlerExecutorsBoundedQueueSize );
+                    operationHandlerExecutorsBoundedQueueSize,
+                    controlService.getConfiguration().prefetchSize(),
+                    controlService.getConfiguration().prefetchLookAheadAsMilli() );
         }
         catch ( Exception e )
         {
@@ -313,14 +395,8 @@ public class ExecuteWorkloadMode extends DriverMode {
             {
                 // There are no completion time writers, CT would never advance or be non-null,
                 // set to max so nothing ever waits on it
-                long nearlyMaxPossibleTimeAsMilli = Long.MAX_VALUE - 1;
-                long maxPossibleTimeAsMilli = Long.MAX_VALUE;
-                // Create a writer to use for advancing CT
-                CompletionTimeWriter completionTimeWriter = completionTimeService.newCompletionTimeWriter();
-                completionTimeWriter.submitInitiatedTime( nearlyMaxPossibleTimeAsMilli );
-                completionTimeWriter.submitCompletedTime( nearlyMaxPossibleTimeAsMilli );
-                completionTimeWriter.submitInitiatedTime( maxPossibleTimeAsMilli );
-                completionTimeWriter.submitCompletedTime( maxPossibleTimeAsMilli );
+                // In distributed mode this also publishes max initiated time, so GCT is defined for other drivers
+                completionTimeServiceAssistant.writeMaxTimesToNewWriter( completionTimeService );
             }
             else
             {
@@ -400,6 +476,24 @@ public class ExecuteWorkloadMode extends DriverMode {
             throw new ClientException( "Error during shutdown of metrics collection service", e );
         }
 
+        if ( null != distributedDriverConnection )
+        {
+            loggingService.info( "Sending results to coordinator..." );
+            try
+            {
+                distributedDriverConnection.sendResults( workloadResults );
+                distributedDriverConnection.close();
+            }
+            catch ( CompletionTimeException | IOException e )
+            {
+                throw new ClientException( "Error sending results to coordinator", e );
+            }
+            finally
+            {
+                distributedDriverConnection = null;
+            }
+        }
+
         try
         {
             if ( warmup )
@@ -427,6 +521,7 @@ public class ExecuteWorkloadMode extends DriverMode {
                         controlService.getConfiguration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
                 );
                 resultsLogWriter.close();
+                logResultsLogStalls();
                 if ( !controlService.getConfiguration().ignoreScheduledStartTimes() )
                 {
                     loggingService.info( "Validating workload results..." );
@@ -465,4 +560,25 @@ public class ExecuteWorkloadMode extends DriverMode {
             throw new ClientException( "Could not export workload metrics", e );
         }
     }
+
+    private void logResultsLogStalls()
+    {
+        if ( resultsLogWriter instanceof AsyncResultsLogWriter )
+        {
+            // time the metrics pipeline waited for the results log to be written, i.e., for the disk
+            ContinuousMetricSnapshot stalls = ((AsyncResultsLogWriter) resultsLogWriter).stallsSnapshot();
+            if ( 0 == stalls.count() )
+            {
+                loggingService.info( "Results log stalls: none" );
+                return;
+            }
+            loggingService.info( format(
+                    "Results log stalls (us): count=%s, mean=%.1f, 50th=%s, 99th=%s, max=%s",
+                    stalls.count(),
+                    stalls.mean() / 1000,
+                    TimeUnit.NANOSECONDS.toMicros( stalls.percentile50() ),
+                    TimeUnit.NANOSECONDS.toMicros( stalls.percentile99() ),
+                    TimeUnit.NANOSECONDS.toMicros( stalls.max() ) ) );
+        }
+    }
 }
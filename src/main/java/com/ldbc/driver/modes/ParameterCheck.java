@@ -39,6 +39,18 @@ public class ParameterCheck {
             }
         }
 
+        if (driverModeType == SUMMARIZE_INTERVAL_LOGS) {
+            if (null == configuration.resultDirPath()) {
+                missingParams.add(ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG);
+            }
+        }
+
+        if (driverModeType == COMPILE_WORKLOAD) {
+            if (null == configuration.compiledWorkloadFilePath()) {
+                missingParams.add(ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_ARG);
+            }
+        }
+
         if (!missingParams.isEmpty()) {
             throw new ClientException(format("Missing required parameters: %s", missingParams.toString()));
         }
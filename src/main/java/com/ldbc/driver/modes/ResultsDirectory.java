@@ -1,18 +1,19 @@
 package com.ldbc.driver.modes;
 
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.metrics.AsyncResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.IntervalHistogramLog;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
 import com.ldbc.driver.util.FileUtils;
 import com.ldbc.driver.util.MapUtils;
 
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,9 +43,9 @@ public class ResultsDirectory
 
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
-    private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
+    private static final String INTERVAL_LOG_SUMMARY_FILENAME_SUFFIX = "-intervals_summary.csv";
 
     private static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
 
@@ -118,19 +119,26 @@ public class ResultsDirectory
         return getResultsLogFile( resultsDir, configuration, warmup );
     }
 
+    /**
+     * @return number of rows (including headers) of a CSV results log, across all of its segments,
+     * number of results of a BINARY results log
+     */
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
-        try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
-                getResultsLogFile( resultsDir, configuration, warmup ),
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        long length = (ResultsLogFormat.BINARY == configuration.resultsLogFormat()) ? 0 : 1;
+        try ( ResultsLogReader resultsLogReader = ResultsLogFormat.newReader( getResultsLogFile( warmup ) ) )
         {
-            return Iterators.size( csvResultsLogReader );
+            while ( resultsLogReader.next() )
+            {
+                length++;
+            }
         }
-        catch ( FileNotFoundException e )
+        catch ( Exception e )
         {
             throw new ClientException(
                     "Error calculating length of " + getResultsLogFile( warmup ).getAbsolutePath(), e );
         }
+        return length;
     }
 
     public File getOrCreateResultsSummaryFile( boolean warmup ) throws ClientException
@@ -202,6 +210,34 @@ public class ResultsDirectory
         return new File( resultsDir, resultsValidationFilename( configuration, warmup ) );
     }
 
+    /**
+     * @return interval histogram logs of this run, one per operation type
+     */
+    public IntervalHistogramLog intervalHistogramLog( boolean warmup, long intervalAsMilli )
+    {
+        String fileNamePrefix = (warmup) ? configuration.getName() + WARMUP_IDENTIFIER : configuration.getName();
+        return new IntervalHistogramLog( resultsDir, fileNamePrefix, intervalAsMilli );
+    }
+
+    public File getOrCreateIntervalLogSummaryFile() throws ClientException
+    {
+        File intervalLogSummaryFile =
+                new File( resultsDir, configuration.getName() + INTERVAL_LOG_SUMMARY_FILENAME_SUFFIX );
+        if ( !intervalLogSummaryFile.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( intervalLogSummaryFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating interval log summary file: " + intervalLogSummaryFile.getAbsolutePath(), e );
+            }
+        }
+        return intervalLogSummaryFile;
+    }
+
     public Set<File> files() throws ClientException
     {
         return Sets.newHashSet( resultsDir.listFiles() );
@@ -222,6 +258,7 @@ public class ResultsDirectory
                 {
                     expectedFiles.add( getResultsValidationFile( true ) );
                 }
+                expectedFiles.addAll( AsyncResultsLogWriter.segments( getResultsLogFile( true ) ) );
                 expectedFiles.add( getResultsLogFile( true ) );
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
@@ -230,6 +267,7 @@ public class ResultsDirectory
             {
                 expectedFiles.add( getResultsValidationFile( false ) );
             }
+            expectedFiles.addAll( AsyncResultsLogWriter.segments( getResultsLogFile( false ) ) );
             expectedFiles.add( getResultsLogFile( false ) );
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
@@ -324,7 +362,8 @@ public class ResultsDirectory
     {
         FileFilter resultsLogFileFilter = file ->
                 file.getName().contains( WARMUP_IDENTIFIER ) == warmup &&
-                file.getName().endsWith( RESULTS_LOG_FILENAME_SUFFIX );
+                Arrays.stream( ResultsLogFormat.values() ).anyMatch(
+                        resultsLogFormat -> file.getName().endsWith( resultsLogFormat.fileNameSuffix() ) );
         File[] resultFiles = resultsDir.listFiles( resultsLogFileFilter );
         if ( null == resultFiles || resultFiles.length == 0 )
         {
@@ -362,8 +401,9 @@ public class ResultsDirectory
 
     private static String resultsLogFilename( DriverConfiguration configuration, boolean warmup )
     {
-        return (warmup) ? configuration.getName() + WARMUP_IDENTIFIER + RESULTS_LOG_FILENAME_SUFFIX
-                        : configuration.getName() + RESULTS_LOG_FILENAME_SUFFIX;
+        String suffix = configuration.resultsLogFormat().fileNameSuffix();
+        return (warmup) ? configuration.getName() + WARMUP_IDENTIFIER + suffix
+                        : configuration.getName() + suffix;
     }
 
     private static String resultsSummaryFilename( DriverConfiguration configuration, boolean warmup )
@@ -0,0 +1,103 @@
+package com.ldbc.driver.modes;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.metrics.IntervalHistogramLog;
+import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Summarizes the interval histogram logs that EXECUTE_WORKLOAD wrote to the results directory, per operation type
+ * and per window of histogram_log_interval (ms), so latency can be compared across time windows of a run without
+ * processing the results log. Writes the summary to the results directory.
+ */
+public class SummarizeIntervalLogsMode extends DriverMode
+{
+    private static final String[] HEADER = new String[]{
+            "operation", "window_start_ms", "window_end_ms", "count", "mean", "50th_percentile", "90th_percentile",
+            "95th_percentile", "99th_percentile", "max"};
+
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+    private final ResultsDirectory resultsDirectory;
+
+    public SummarizeIntervalLogsMode( ControlService controlService ) throws ClientException
+    {
+        super( DriverModeType.SUMMARIZE_INTERVAL_LOGS );
+        this.controlService = controlService;
+        this.loggingService = controlService.getLoggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.resultsDirectory = new ResultsDirectory( controlService.getConfiguration() );
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        long windowAsMilli = controlService.getConfiguration().histogramLogInterval();
+        TimeUnit unit = controlService.getConfiguration().timeUnit();
+        Map<String,File> logs = resultsDirectory.intervalHistogramLog( false, windowAsMilli ).existingFiles();
+        if ( logs.isEmpty() )
+        {
+            throw new ClientException(
+                    format( "No interval logs found in %s", controlService.getConfiguration().resultDirPath() ) );
+        }
+        File summaryFile = resultsDirectory.getOrCreateIntervalLogSummaryFile();
+        try ( SimpleCsvFileWriter writer =
+                      new SimpleCsvFileWriter( summaryFile, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR ) )
+        {
+            writer.writeRow( HEADER );
+            for ( Map.Entry<String,File> log : logs.entrySet() )
+            {
+                List<Histogram> intervals = IntervalHistogramLog.read( log.getValue() );
+                if ( intervals.isEmpty() )
+                {
+                    continue;
+                }
+                for ( Histogram window : IntervalHistogramLog.windows( intervals, windowAsMilli ) )
+                {
+                    writer.writeRow( toRow( log.getKey(), window ) );
+                }
+                Histogram total = IntervalHistogramLog.windows( intervals, 0 ).get( 0 );
+                loggingService.info( format( "%s: count %s, mean %.2f, 50th %s, 99th %s, max %s (%s)",
+                        log.getKey(),
+                        total.getTotalCount(),
+                        total.getMean(),
+                        total.getValueAtPercentile( 50 ),
+                        total.getValueAtPercentile( 99 ),
+                        total.getMaxValue(),
+                        unit.name() ) );
+            }
+        }
+        catch ( MetricsCollectionException | IOException e )
+        {
+            throw new ClientException( "Error summarizing interval logs", e );
+        }
+        loggingService.info( format( "Interval log summary written to %s", summaryFile.getAbsolutePath() ) );
+        return null;
+    }
+
+    private static String[] toRow( String operationName, Histogram window )
+    {
+        return new String[]{
+                operationName,
+                Long.toString( window.getStartTimeStamp() ),
+                Long.toString( window.getEndTimeStamp() ),
+                Long.toString( window.getTotalCount() ),
+                format( "%.2f", window.getMean() ),
+                Long.toString( window.getValueAtPercentile( 50 ) ),
+                Long.toString( window.getValueAtPercentile( 90 ) ),
+                Long.toString( window.getValueAtPercentile( 95 ) ),
+                Long.toString( window.getValueAtPercentile( 99 ) ),
+                Long.toString( window.getMaxValue() )
+        };
+    }
+}
@@ -3,7 +3,6 @@ package com.ldbc.driver.runtime;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.LinkedTransferQueue;
 
 public class DefaultQueues
@@ -20,22 +19,29 @@ public class DefaultQueues
 
     public static final int DEFAULT_BOUND_1000 = 1000;
 
+    /**
+     * Lock-free, array-backed, capacity is rounded up to the next power of two
+     */
     public static <T> BlockingQueue<T> newBlockingBounded( int capacity )
     {
-        return new LinkedBlockingQueue<>( capacity );
+        return new MpmcArrayBlockingQueue<>( capacity );
     }
 
+    /**
+     * Same as newBlockingBounded, but offer() and add() block while the queue is full.
+     * E.g., for ThreadPoolExecutor, which offers tasks to its work queue.
+     */
     public static <T> BlockingQueue<T> newAlwaysBlockingBounded( int capacity )
     {
-        return new AlwaysBlockingLinkedBlockingQueue<>( capacity );
+        return new AlwaysBlockingMpmcArrayBlockingQueue<>( capacity );
     }
 
     /*
     turn offer() & add() into blocking calls (unless interrupted)
     */
-    private static class AlwaysBlockingLinkedBlockingQueue<E> extends LinkedBlockingQueue<E>
+    private static class AlwaysBlockingMpmcArrayBlockingQueue<E> extends MpmcArrayBlockingQueue<E>
     {
-        public AlwaysBlockingLinkedBlockingQueue( int maxSize )
+        public AlwaysBlockingMpmcArrayBlockingQueue( int maxSize )
         {
             super( maxSize );
         }
@@ -0,0 +1,423 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.runtime.scheduling.Spinner;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded, array-backed, lock-free multi-producer multi-consumer queue (D. Vyukov's bounded MPMC algorithm).
+ * Every slot has a sequence number that tells producers and consumers whose turn it is, so offer() and poll() are
+ * a single CAS on the producer or consumer index, and no nodes are allocated per element.
+ * <p>
+ * Blocking methods (put, take, timed offer/poll) do not use locks or conditions: they retry with back off for a few
+ * attempts, then register as waiter and park until a consumer or producer unparks them, or for at most
+ * MAX_WAITER_PARK_DURATION_AS_NANO, after which they check the queue again. Offers and polls only unpark a waiter
+ * when there is one, so idle consumers (e.g., idle ThreadPoolExecutor workers in take()) use almost no CPU.
+ * <p>
+ * Capacity is rounded up to the next power of two, and is at least two: with a single slot the sequence number
+ * written by a producer would be indistinguishable from the one that frees the slot for the next lap.
+ * The bound of the queue is therefore capacity(), which may be greater than the requested capacity.
+ * <p>
+ * remove(Object) marks the element as removed, consumers skip removed elements. Until then they still count towards
+ * size(), which is approximate anyway while the queue is being modified.
+ */
+public class MpmcArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E>
+{
+    static final long MAX_PARK_DURATION_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 100 );
+    // back off attempts before registering as waiter, covers short gaps between consecutive elements
+    private static final int BACK_OFF_ATTEMPTS = 128;
+    // longest a registered waiter parks before it checks the queue again, even without being signalled
+    static final long MAX_WAITER_PARK_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 10 );
+    private static final Object REMOVED = new Object();
+
+    private final int capacity;
+    private final int mask;
+    // holds elements of type E, or REMOVED
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    // padded, so producer and consumer indexes never share a cache line
+    private final PaddedAtomicLong producerIndex = new PaddedAtomicLong();
+    private final PaddedAtomicLong consumerIndex = new PaddedAtomicLong();
+    private final Queue<Thread> notEmptyWaiters = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> notFullWaiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param requestedCapacity rounded up to the next power of two (and at least two), see capacity()
+     */
+    public MpmcArrayBlockingQueue( int requestedCapacity )
+    {
+        if ( requestedCapacity < 1 )
+        {
+            throw new IllegalArgumentException( "Capacity must be positive: " + requestedCapacity );
+        }
+        this.capacity = nextPowerOfTwo( Math.max( 2, requestedCapacity ) );
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>( capacity );
+        this.sequences = new AtomicLongArray( capacity );
+        for ( int i = 0; i < capacity; i++ )
+        {
+            sequences.set( i, i );
+        }
+    }
+
+    private static int nextPowerOfTwo( int value )
+    {
+        int highestOneBit = Integer.highestOneBit( value );
+        return (highestOneBit == value) ? value : highestOneBit << 1;
+    }
+
+    /**
+     * @return maximum number of elements in the queue, the requested capacity rounded up to a power of two
+     */
+    public int capacity()
+    {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer( E e )
+    {
+        if ( tryOffer( e ) )
+        {
+            signal( notEmptyWaiters );
+            return true;
+        }
+        return false;
+    }
+
+    // not overridable, blocking methods are built on it
+    private boolean tryOffer( E e )
+    {
+        if ( null == e )
+        {
+            throw new NullPointerException();
+        }
+        long position = producerIndex.get();
+        while ( true )
+        {
+            int index = (int) position & mask;
+            long difference = sequences.get( index ) - position;
+            if ( 0 == difference )
+            {
+                if ( producerIndex.compareAndSet( position, position + 1 ) )
+                {
+                    buffer.lazySet( index, e );
+                    // publishes the element to consumers
+                    sequences.lazySet( index, position + 1 );
+                    return true;
+                }
+                position = producerIndex.get();
+            }
+            else if ( difference < 0 )
+            {
+                // slot still holds the element from one lap earlier, queue is full
+                return false;
+            }
+            else
+            {
+                position = producerIndex.get();
+            }
+        }
+    }
+
+    @Override
+    public E poll()
+    {
+        E e = tryPoll();
+        if ( null != e )
+        {
+            signal( notFullWaiters );
+        }
+        return e;
+    }
+
+    // not overridable, blocking methods are built on it
+    @SuppressWarnings( "unchecked" )
+    private E tryPoll()
+    {
+        long position = consumerIndex.get();
+        while ( true )
+        {
+            int index = (int) position & mask;
+            long difference = sequences.get( index ) - (position + 1);
+            if ( 0 == difference )
+            {
+                if ( consumerIndex.compareAndSet( position, position + 1 ) )
+                {
+                    // atomic, so a concurrent remove(Object) either removed the element, or did not remove it
+                    Object e = buffer.getAndSet( index, null );
+                    // hands the slot to the producer of the next lap
+                    sequences.lazySet( index, position + capacity );
+                    if ( REMOVED != e )
+                    {
+                        return (E) e;
+                    }
+                }
+                position = consumerIndex.get();
+            }
+            else if ( difference < 0 )
+            {
+                // slot has not been written in this lap yet, queue is empty
+                return null;
+            }
+            else
+            {
+                position = consumerIndex.get();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public E peek()
+    {
+        long producer = producerIndex.get();
+        for ( long position = consumerIndex.get(); position < producer; position++ )
+        {
+            int index = (int) position & mask;
+            Object e = buffer.get( index );
+            if ( sequences.get( index ) != position + 1 )
+            {
+                return null;
+            }
+            if ( null != e && REMOVED != e )
+            {
+                return (E) e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put( E e ) throws InterruptedException
+    {
+        offer( e, Long.MAX_VALUE, TimeUnit.NANOSECONDS );
+    }
+
+    @Override
+    public boolean offer( E e, long timeout, TimeUnit unit ) throws InterruptedException
+    {
+        long deadlineAsNano = deadlineAsNano( timeout, unit );
+        int attempt = 0;
+        while ( !tryOffer( e ) )
+        {
+            if ( !awaitChange( notFullWaiters, attempt++, deadlineAsNano ) )
+            {
+                return false;
+            }
+        }
+        signal( notEmptyWaiters );
+        if ( !isFull() )
+        {
+            // this producer may have been signalled and then found a slot without the signal, pass it on
+            signal( notFullWaiters );
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException
+    {
+        return poll( Long.MAX_VALUE, TimeUnit.NANOSECONDS );
+    }
+
+    @Override
+    public E poll( long timeout, TimeUnit unit ) throws InterruptedException
+    {
+        long deadlineAsNano = deadlineAsNano( timeout, unit );
+        int attempt = 0;
+        E e;
+        while ( null == (e = tryPoll()) )
+        {
+            if ( !awaitChange( notEmptyWaiters, attempt++, deadlineAsNano ) )
+            {
+                return null;
+            }
+        }
+        signal( notFullWaiters );
+        if ( !isEmpty() )
+        {
+            // this consumer may have been signalled and then found an element without the signal, pass it on
+            signal( notEmptyWaiters );
+        }
+        return e;
+    }
+
+    /**
+     * @return Long.MAX_VALUE if the wait is unbounded
+     */
+    private static long deadlineAsNano( long timeout, TimeUnit unit )
+    {
+        long timeoutAsNano = unit.toNanos( timeout );
+        return (Long.MAX_VALUE == timeoutAsNano) ? Long.MAX_VALUE : System.nanoTime() + timeoutAsNano;
+    }
+
+    /**
+     * Backs off for the first attempts, then parks until signalled by a producer or consumer
+     *
+     * @return false if the deadline has passed
+     */
+    private boolean awaitChange( Queue<Thread> waiters, int attempt, long deadlineAsNano )
+            throws InterruptedException
+    {
+        if ( Thread.interrupted() )
+        {
+            throw new InterruptedException();
+        }
+        long remainingAsNano = (Long.MAX_VALUE == deadlineAsNano) ? Long.MAX_VALUE
+                                                                   : deadlineAsNano - System.nanoTime();
+        if ( remainingAsNano <= 0 )
+        {
+            return false;
+        }
+        if ( attempt < BACK_OFF_ATTEMPTS )
+        {
+            Spinner.backOff( attempt, Math.min( remainingAsNano, MAX_PARK_DURATION_AS_NANO ) );
+            return true;
+        }
+        Thread currentThread = Thread.currentThread();
+        waiters.add( currentThread );
+        try
+        {
+            // re-check after registering: index CASes and waiter registration are both sequentially consistent,
+            // so either this thread sees the change or the producer/consumer that made it sees this waiter
+            boolean mustWait = (waiters == notEmptyWaiters) ? isEmpty() : isFull();
+            if ( mustWait )
+            {
+                // never park indefinitely, a lost signal then only delays this thread by one park duration
+                LockSupport.parkNanos( this, Math.min( remainingAsNano, MAX_WAITER_PARK_DURATION_AS_NANO ) );
+            }
+        }
+        finally
+        {
+            waiters.remove( currentThread );
+        }
+        return true;
+    }
+
+    private static void signal( Queue<Thread> waiters )
+    {
+        if ( !waiters.isEmpty() )
+        {
+            Thread waiter = waiters.poll();
+            if ( null != waiter )
+            {
+                LockSupport.unpark( waiter );
+            }
+        }
+    }
+
+    private boolean isFull()
+    {
+        // producer index first, so the difference can not be too large due to concurrent offers
+        long producer = producerIndex.get();
+        long consumer = consumerIndex.get();
+        return producer - consumer >= capacity;
+    }
+
+    @Override
+    public int size()
+    {
+        // consumer index first, so the difference can not be negative due to concurrent polls
+        long consumer = consumerIndex.get();
+        long producer = producerIndex.get();
+        return (int) Math.max( 0, Math.min( capacity, producer - consumer ) );
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return consumerIndex.get() >= producerIndex.get();
+    }
+
+    @Override
+    public int remainingCapacity()
+    {
+        return capacity - size();
+    }
+
+    /**
+     * Marks the first element equal to o as removed, consumers skip it. Linear in the size of the queue.
+     */
+    @Override
+    public boolean remove( Object o )
+    {
+        if ( null == o )
+        {
+            return false;
+        }
+        long producer = producerIndex.get();
+        for ( long position = consumerIndex.get(); position < producer; position++ )
+        {
+            int index = (int) position & mask;
+            Object e = buffer.get( index );
+            // only published elements of this lap, and only if no consumer took the element in the meantime
+            if ( null != e && REMOVED != e && o.equals( e ) && sequences.get( index ) == position + 1 &&
+                 buffer.compareAndSet( index, e, REMOVED ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int drainTo( Collection<? super E> c )
+    {
+        return drainTo( c, Integer.MAX_VALUE );
+    }
+
+    @Override
+    public int drainTo( Collection<? super E> c, int maxElements )
+    {
+        if ( this == c )
+        {
+            throw new IllegalArgumentException();
+        }
+        int drained = 0;
+        E e;
+        while ( drained < maxElements && null != (e = tryPoll()) )
+        {
+            c.add( e );
+            drained++;
+        }
+        for ( int i = 0; i < drained; i++ )
+        {
+            signal( notFullWaiters );
+        }
+        return drained;
+    }
+
+    /**
+     * @return weakly consistent snapshot of the elements in the queue, iterator does not support remove
+     */
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public Iterator<E> iterator()
+    {
+        List<E> snapshot = new ArrayList<>();
+        long producer = producerIndex.get();
+        for ( long position = consumerIndex.get(); position < producer; position++ )
+        {
+            int index = (int) position & mask;
+            Object e = buffer.get( index );
+            if ( null != e && REMOVED != e && sequences.get( index ) == position + 1 )
+            {
+                snapshot.add( (E) e );
+            }
+        }
+        return Collections.unmodifiableList( snapshot ).iterator();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ldbc.driver.runtime;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Atomic long that occupies a cache line of its own, so threads that write to it do not invalidate
+ * neighbouring fields (e.g., other padded counters) that are read or written by other threads.
+ */
+public class PaddedAtomicLong extends PaddedAtomicLongValue
+{
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    public PaddedAtomicLong()
+    {
+        this( 0 );
+    }
+
+    public PaddedAtomicLong( long initialValue )
+    {
+        VALUE_UPDATER.set( this, initialValue );
+    }
+
+    public long get()
+    {
+        return value;
+    }
+
+    public void set( long newValue )
+    {
+        value = newValue;
+    }
+
+    public void lazySet( long newValue )
+    {
+        VALUE_UPDATER.lazySet( this, newValue );
+    }
+
+    public boolean compareAndSet( long expect, long update )
+    {
+        return VALUE_UPDATER.compareAndSet( this, expect, update );
+    }
+
+    /**
+     * Sets the value to newValue, unless the current value is already greater or equal
+     *
+     * @param newValue
+     * @return value after the update
+     */
+    public long setIfGreater( long newValue )
+    {
+        long currentValue;
+        do
+        {
+            currentValue = value;
+            if ( newValue <= currentValue )
+            {
+                return currentValue;
+            }
+        }
+        while ( !VALUE_UPDATER.compareAndSet( this, currentValue, newValue ) );
+        return newValue;
+    }
+
+    @Override
+    public String toString()
+    {
+        return Long.toString( value );
+    }
+}
+
+// padding on both sides of value, field order within a class is up to the JVM but superclass fields come first
+class PaddedAtomicLongLeftPadding
+{
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+class PaddedAtomicLongValue extends PaddedAtomicLongLeftPadding
+{
+    static final AtomicLongFieldUpdater<PaddedAtomicLongValue> VALUE_UPDATER =
+            AtomicLongFieldUpdater.newUpdater( PaddedAtomicLongValue.class, "value" );
+    volatile long value;
+}
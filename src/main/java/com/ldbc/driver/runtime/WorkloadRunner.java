@@ -3,19 +3,27 @@ package com.ldbc.driver.runtime;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.executor.AsyncOperationExecutor;
+import com.ldbc.driver.runtime.executor.DispatcherType;
 import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutorException;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
 import com.ldbc.driver.runtime.executor.SameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.ThreadPoolOperationExecutor;
+import com.ldbc.driver.runtime.executor.TimerWheelDispatchingOperationExecutor;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.SpinnerType;
 import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.ArrayList;
@@ -45,11 +53,16 @@ public class WorkloadRunner
             ConcurrentErrorReporter errorReporter,
             CompletionTimeService completionTimeService,
             LoggingServiceFactory loggingServiceFactory,
+            OperationExecutorType executorType,
+            DispatcherType dispatcherType,
             int threadCount,
             long statusDisplayIntervalAsSeconds,
+            SpinnerType spinnerType,
             long spinnerSleepDurationAsMilli,
             boolean ignoreScheduleStartTimes,
-            int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+            int operationHandlerExecutorsBoundedQueueSize,
+            int prefetchSize,
+            long prefetchLookAheadAsMilli ) throws WorkloadException, MetricsCollectionException
     {
         this.workloadRunnerFuture = new WorkloadRunnerFuture(
                 timeSource,
@@ -59,11 +72,16 @@ public class WorkloadRunner
                 errorReporter,
                 completionTimeService,
                 loggingServiceFactory,
+                executorType,
+                dispatcherType,
                 threadCount,
                 statusDisplayIntervalAsSeconds,
+                spinnerType,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduleStartTimes,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                prefetchSize,
+                prefetchLookAheadAsMilli
         );
     }
 
@@ -89,11 +107,16 @@ public class WorkloadRunner
                 ConcurrentErrorReporter errorReporter,
                 CompletionTimeService completionTimeService,
                 LoggingServiceFactory loggingServiceFactory,
+                OperationExecutorType executorType,
+                DispatcherType dispatcherType,
                 int threadCount,
                 long statusDisplayIntervalAsSeconds,
+                SpinnerType spinnerType,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
+                int operationHandlerExecutorsBoundedQueueSize,
+                int prefetchSize,
+                long prefetchLookAheadAsMilli ) throws MetricsCollectionException, WorkloadException
         {
             this.workloadRunnerThread = new WorkloadRunnerThread(
                     timeSource,
@@ -103,11 +126,16 @@ public class WorkloadRunner
                     errorReporter,
                     completionTimeService,
                     loggingServiceFactory,
+                    executorType,
+                    dispatcherType,
                     threadCount,
                     statusDisplayIntervalAsSeconds,
+                    spinnerType,
                     spinnerSleepDurationAsMilli,
                     ignoreScheduleStartTimes,
-                    operationHandlerExecutorsBoundedQueueSize
+                    operationHandlerExecutorsBoundedQueueSize,
+                    prefetchSize,
+                    prefetchLookAheadAsMilli
             );
             this.timeSource = timeSource;
             this.errorReporter = errorReporter;
@@ -270,6 +298,7 @@ public class WorkloadRunner
     private static class WorkloadRunnerThread extends Thread
     {
         private final Spinner spinner;
+        private final LoggingService loggingService;
         private WorkloadStatusThread workloadStatusThread;
         private final ConcurrentErrorReporter errorReporter;
         private final OperationExecutor executorForAsynchronous;
@@ -292,16 +321,22 @@ public class WorkloadRunner
                 ConcurrentErrorReporter errorReporter,
                 CompletionTimeService completionTimeService,
                 LoggingServiceFactory loggingServiceFactory,
+                OperationExecutorType executorType,
+                DispatcherType dispatcherType,
                 int threadCount,
                 long statusDisplayIntervalAsSeconds,
+                SpinnerType spinnerType,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
-                int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
+                int operationHandlerExecutorsBoundedQueueSize,
+                int prefetchSize,
+                long prefetchLookAheadAsMilli ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
+            this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
 
-            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
+            this.spinner = new Spinner( timeSource, spinnerType, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
 
             if ( statusDisplayIntervalAsSeconds > 0 )
             {
@@ -327,24 +362,98 @@ public class WorkloadRunner
             {
                 throw new WorkloadException( "Error while attempting to create completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                    threadCount,
-                    operationHandlerExecutorsBoundedQueueSize,
-                    db,
-                    asynchronousStream,
-                    completionTimeWriterForAsynchronous,
-                    completionTimeService,
-                    spinner,
-                    timeSource,
-                    errorReporter,
-                    metricsService,
-                    asynchronousStream.childOperationGenerator()
-            );
+            OperationExecutor executor;
+            switch ( executorType )
+            {
+            case THREAD_POOL:
+                executor = new ThreadPoolOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+                break;
+            case VIRTUAL_THREAD:
+                if ( !VirtualThreadOperationExecutor.isVirtualThreadSupported() )
+                {
+                    loggingService.info( format(
+                            "Virtual threads are not supported by this JVM (%s), %s will use platform threads",
+                            System.getProperty( "java.version" ),
+                            VirtualThreadOperationExecutor.class.getSimpleName() ) );
+                }
+                // thread count is the maximum number of handlers that may be executing concurrently
+                executor = new VirtualThreadOperationExecutor(
+                        threadCount,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+                break;
+            case ASYNC:
+                // thread count is the number of threads issuing requests, not the number of requests in flight
+                executor = new AsyncOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+                break;
+            default:
+                throw new WorkloadException( format( "Unsupported %s: %s",
+                        OperationExecutorType.class.getSimpleName(),
+                        executorType ) );
+            }
+            switch ( dispatcherType )
+            {
+            case NONE:
+                break;
+            case TIMER_WHEEL:
+                executor = new TimerWheelDispatchingOperationExecutor(
+                        executor,
+                        asynchronousStream,
+                        completionTimeService,
+                        timeSource,
+                        errorReporter,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        TimerWheelDispatchingOperationExecutor.DEFAULT_WHEEL_SIZE
+                );
+                break;
+            default:
+                throw new WorkloadException( format( "Unsupported %s: %s",
+                        DispatcherType.class.getSimpleName(),
+                        dispatcherType ) );
+            }
+            this.executorForAsynchronous = executor;
+            // when ignoring scheduled start times operations are due as soon as they are generated
+            long prefetchLookAheadAsMilliForStartTimes = (ignoreScheduleStartTimes) ? 0 : prefetchLookAheadAsMilli;
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
                     asynchronousStream,
                     executorForAsynchronous,
-                    completionTimeWriterForAsynchronous
+                    completionTimeWriterForAsynchronous,
+                    timeSource,
+                    prefetchSize,
+                    prefetchLookAheadAsMilliForStartTimes
             );
 
             for ( WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
@@ -379,7 +488,10 @@ public class WorkloadRunner
                                 errorReporter,
                                 blockingStream,
                                 executorForBlocking,
-                                completionTimeWriterForBlocking
+                                completionTimeWriterForBlocking,
+                                timeSource,
+                                prefetchSize,
+                                prefetchLookAheadAsMilliForStartTimes
                         )
                 );
             }
@@ -452,11 +564,29 @@ public class WorkloadRunner
                 }
                 else
                 {
+                    logScheduleLag();
                     stateRef.set( WorkloadRunnerThreadState.COMPLETED_SUCCEEDED );
                 }
             }
         }
 
+        private void logScheduleLag()
+        {
+            ContinuousMetricSnapshot scheduleLag = spinner.scheduleLagSnapshot();
+            if ( scheduleLag.count() > 0 )
+            {
+                loggingService.info( format(
+                        "Schedule lag (us): count=%s, mean=%.1f, 50th=%s, 90th=%s, 99th=%s, 99.9th=%s, max=%s",
+                        scheduleLag.count(),
+                        scheduleLag.mean() / 1000,
+                        TimeUnit.NANOSECONDS.toMicros( scheduleLag.percentile50() ),
+                        TimeUnit.NANOSECONDS.toMicros( scheduleLag.percentile90() ),
+                        TimeUnit.NANOSECONDS.toMicros( scheduleLag.percentile99() ),
+                        TimeUnit.NANOSECONDS.toMicros( scheduleLag.percentile99_9() ),
+                        TimeUnit.NANOSECONDS.toMicros( scheduleLag.max() ) ) );
+            }
+        }
+
         private void shutdownEverything( ShutdownType shutdownType, ConcurrentErrorReporter errorReporter )
         {
             // if forced shutdown (error) some handlers likely still running,
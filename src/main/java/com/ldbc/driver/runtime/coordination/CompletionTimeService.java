@@ -3,7 +3,7 @@ package com.ldbc.driver.runtime.coordination;
 import java.util.List;
 import java.util.concurrent.Future;
 
-public interface CompletionTimeService extends CompletionTimeReader
+public interface CompletionTimeService extends NotifyingCompletionTimeReader
 {
     CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException;
 
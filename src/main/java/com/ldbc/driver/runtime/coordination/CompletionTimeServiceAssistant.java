@@ -20,6 +20,23 @@ public class CompletionTimeServiceAssistant
         }
     }
 
+    /**
+     * For a completion time service without writers, whose completion time would otherwise never advance.
+     * Creates a writer and advances its initiated time to Long.MAX_VALUE, so nothing ever waits on completion time.
+     * In distributed mode this is what a driver without dependency operations publishes as its local initiated time,
+     * without which global completion time would never be defined.
+     */
+    public void writeMaxTimesToNewWriter( CompletionTimeService completionTimeService ) throws CompletionTimeException
+    {
+        long nearlyMaxPossibleTimeAsMilli = Long.MAX_VALUE - 1;
+        long maxPossibleTimeAsMilli = Long.MAX_VALUE;
+        CompletionTimeWriter completionTimeWriter = completionTimeService.newCompletionTimeWriter();
+        completionTimeWriter.submitInitiatedTime( nearlyMaxPossibleTimeAsMilli );
+        completionTimeWriter.submitCompletedTime( nearlyMaxPossibleTimeAsMilli );
+        completionTimeWriter.submitInitiatedTime( maxPossibleTimeAsMilli );
+        completionTimeWriter.submitCompletedTime( maxPossibleTimeAsMilli );
+    }
+
     public boolean waitForCompletionTime(
             TimeSource timeSource,
             long completionTimeToWaitForAsMilli,
@@ -26,8 +26,8 @@ import static java.lang.String.format;
 public class CompletionTimeStateManager implements CompletionTimeReaderWriter
 {
     private long completionTimeAsMilli = -1;
-    private final InitiatedTimeTracker initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
-    private final CompletedTimeTracker completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+    private final InitiatedTimeTracker initiatedTimeTracker = RingBufferInitiatedTimeTracker.create();
+    private final CompletedTimeTracker completedTimeTracker = RingBufferCompletedTimeTracker.create();
     private long lastKnownLowestInitiatedTimeAsMilli = -1;
 
     CompletionTimeStateManager()
@@ -83,6 +83,20 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter
         { completionTimeAsMilli = highestSafeCompletedTimeAsMilli; }
     }
 
+    private static CompletionTimeException initiatedTimeOutOfOrder( TemporalUtil temporalUtil,
+            long initiatedTimeAsMilli,
+            long highestInitiatedTimeAsMilli )
+    {
+        String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                + "  Submitted: %s (%s ms)\n"
+                                + "  Previous: %s (%s ms)",
+                temporalUtil.milliTimeToDateTimeString( initiatedTimeAsMilli ), initiatedTimeAsMilli,
+                temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                highestInitiatedTimeAsMilli
+        );
+        return new CompletionTimeException( errMsg );
+    }
+
     interface CompletedTimeTracker
     {
         void addCompletedTimeAsMilli( long completedTimeAsMilli );
@@ -255,14 +269,7 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter
         {
             if ( -1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli )
             {
-                String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
-                                        + "  Submitted: %s (%s ms)\n"
-                                        + "  Previous: %s (%s ms)",
-                        temporalUtil.milliTimeToDateTimeString( initiatedTimeAsMilli ), initiatedTimeAsMilli,
-                        temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
-                        highestInitiatedTimeAsMilli
-                );
-                throw new CompletionTimeException( errMsg );
+                throw initiatedTimeOutOfOrder( temporalUtil, initiatedTimeAsMilli, highestInitiatedTimeAsMilli );
             }
             highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
 
@@ -323,4 +330,233 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter
                    '}';
         }
     }
+
+    /**
+     * Completed times are kept sorted in a ring of primitive longs.
+     * Operations complete in approximately the order they were initiated, so a new time is inserted by shifting the
+     * (usually zero or few) higher times at the tail of the ring, and removal only ever pops from the head.
+     * Does not allocate, except when the ring has to grow.
+     */
+    static class RingBufferCompletedTimeTracker implements CompletedTimeTracker
+    {
+        private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+        private long[] completedTimesAsMilli;
+        private int mask;
+        // ring positions, only masked when indexing into the array
+        private long head = 0;
+        private long tail = 0;
+
+        static RingBufferCompletedTimeTracker create()
+        {
+            return new RingBufferCompletedTimeTracker( DEFAULT_INITIAL_CAPACITY );
+        }
+
+        RingBufferCompletedTimeTracker( int initialCapacity )
+        {
+            int capacity = Integer.highestOneBit( Math.max( 2, initialCapacity ) - 1 ) << 1;
+            this.completedTimesAsMilli = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        @Override
+        public void addCompletedTimeAsMilli( long completedTimeAsMilli )
+        {
+            if ( tail - head == completedTimesAsMilli.length )
+            {
+                grow();
+            }
+            long position = tail;
+            while ( position > head && completedTimesAsMilli[(int) (position - 1) & mask] > completedTimeAsMilli )
+            {
+                completedTimesAsMilli[(int) position & mask] = completedTimesAsMilli[(int) (position - 1) & mask];
+                position--;
+            }
+            completedTimesAsMilli[(int) position & mask] = completedTimeAsMilli;
+            tail++;
+        }
+
+        @Override
+        public long removeTimesLowerThanAndReturnHighestRemoved( long timeAsMilli )
+        {
+            long highestRemovedAsMilli = -1;
+            while ( head < tail && completedTimesAsMilli[(int) head & mask] < timeAsMilli )
+            {
+                highestRemovedAsMilli = completedTimesAsMilli[(int) head & mask];
+                head++;
+            }
+            return highestRemovedAsMilli;
+        }
+
+        private void grow()
+        {
+            long[] grownCompletedTimesAsMilli = new long[completedTimesAsMilli.length * 2];
+            int grownMask = grownCompletedTimesAsMilli.length - 1;
+            for ( long position = head; position < tail; position++ )
+            {
+                grownCompletedTimesAsMilli[(int) position & grownMask] = completedTimesAsMilli[(int) position & mask];
+            }
+            completedTimesAsMilli = grownCompletedTimesAsMilli;
+            mask = grownMask;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "RingBufferCompletedTimeTracker{" +
+                   "size=" + (tail - head) +
+                   ", capacity=" + completedTimesAsMilli.length +
+                   '}';
+        }
+    }
+
+    /**
+     * Initiated times are submitted in ascending order, so they are appended to a ring of distinct times, each with
+     * the number of its operations that are still uncompleted.
+     * A completed time is found by binary search, and the head of the ring advances past times with no uncompleted
+     * operations left, so the lowest uncompleted initiated time is always at the head.
+     * Does not allocate, except when the ring has to grow.
+     */
+    static class RingBufferInitiatedTimeTracker implements InitiatedTimeTracker
+    {
+        private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+        private final TemporalUtil temporalUtil = new TemporalUtil();
+        private long[] initiatedTimesAsMilli;
+        private int[] uncompletedCounts;
+        private int mask;
+        // ring positions, only masked when indexing into the arrays
+        private long head = 0;
+        private long tail = 0;
+        private long lastKnownLowestInitiatedTimeAsMilli = -1;
+        private long highestInitiatedTimeAsMilli = -1;
+        private int uncompletedInitiatedTimes = 0;
+
+        static RingBufferInitiatedTimeTracker create()
+        {
+            return new RingBufferInitiatedTimeTracker( DEFAULT_INITIAL_CAPACITY );
+        }
+
+        RingBufferInitiatedTimeTracker( int initialCapacity )
+        {
+            int capacity = Integer.highestOneBit( Math.max( 2, initialCapacity ) - 1 ) << 1;
+            this.initiatedTimesAsMilli = new long[capacity];
+            this.uncompletedCounts = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        @Override
+        public long addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( long initiatedTimeAsMilli )
+                throws CompletionTimeException
+        {
+            if ( -1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli )
+            {
+                throw initiatedTimeOutOfOrder( temporalUtil, initiatedTimeAsMilli, highestInitiatedTimeAsMilli );
+            }
+            highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+
+            if ( 0 == uncompletedInitiatedTimes )
+            { lastKnownLowestInitiatedTimeAsMilli = initiatedTimeAsMilli; }
+            if ( tail > head && initiatedTimesAsMilli[(int) (tail - 1) & mask] == initiatedTimeAsMilli )
+            {
+                uncompletedCounts[(int) (tail - 1) & mask]++;
+            }
+            else
+            {
+                if ( tail - head == initiatedTimesAsMilli.length )
+                {
+                    grow();
+                }
+                initiatedTimesAsMilli[(int) tail & mask] = initiatedTimeAsMilli;
+                uncompletedCounts[(int) tail & mask] = 1;
+                tail++;
+            }
+            uncompletedInitiatedTimes++;
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimeAndReturnLastKnownLowestTimeAsMilli( long timeAsMilli ) throws CompletionTimeException
+        {
+            long position = positionOf( timeAsMilli );
+            if ( -1 == position || 0 == uncompletedCounts[(int) position & mask] )
+            {
+                throw new CompletionTimeException( format(
+                        "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                        timeAsMilli ) );
+            }
+            uncompletedCounts[(int) position & mask]--;
+            uncompletedInitiatedTimes--;
+            while ( head < tail && 0 == uncompletedCounts[(int) head & mask] )
+            {
+                head++;
+            }
+            if ( 0 == uncompletedInitiatedTimes )
+            { lastKnownLowestInitiatedTimeAsMilli = highestInitiatedTimeAsMilli; }
+            else
+            { lastKnownLowestInitiatedTimeAsMilli = initiatedTimesAsMilli[(int) head & mask]; }
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        private long positionOf( long timeAsMilli )
+        {
+            long low = head;
+            long high = tail - 1;
+            while ( low <= high )
+            {
+                long middle = (low + high) >>> 1;
+                long middleTimeAsMilli = initiatedTimesAsMilli[(int) middle & mask];
+                if ( middleTimeAsMilli < timeAsMilli )
+                { low = middle + 1; }
+                else if ( middleTimeAsMilli > timeAsMilli )
+                { high = middle - 1; }
+                else
+                { return middle; }
+            }
+            return -1;
+        }
+
+        private void grow()
+        {
+            long[] grownInitiatedTimesAsMilli = new long[initiatedTimesAsMilli.length * 2];
+            int[] grownUncompletedCounts = new int[uncompletedCounts.length * 2];
+            int grownMask = grownInitiatedTimesAsMilli.length - 1;
+            for ( long position = head; position < tail; position++ )
+            {
+                grownInitiatedTimesAsMilli[(int) position & grownMask] = initiatedTimesAsMilli[(int) position & mask];
+                grownUncompletedCounts[(int) position & grownMask] = uncompletedCounts[(int) position & mask];
+            }
+            initiatedTimesAsMilli = grownInitiatedTimesAsMilli;
+            uncompletedCounts = grownUncompletedCounts;
+            mask = grownMask;
+        }
+
+        @Override
+        public long highestInitiatedTimeAsMilli()
+        {
+            return highestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public int uncompletedInitiatedTimes()
+        {
+            return uncompletedInitiatedTimes;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "RingBufferInitiatedTimeTracker{" +
+                   "distinctInitiatedTimes=" + (tail - head) +
+                   ", capacity=" + initiatedTimesAsMilli.length +
+                   ", lastKnownLowestInitiatedTimeAsMilli=" + lastKnownLowestInitiatedTimeAsMilli +
+                   ", lastKnownLowestInitiatedTimeAsMilli=" +
+                   temporalUtil.milliTimeToDateTimeString( lastKnownLowestInitiatedTimeAsMilli ) +
+                   ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli +
+                   ", highestInitiatedTimeAsMilli=" +
+                   temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ) +
+                   ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes +
+                   '}';
+        }
+    }
 }
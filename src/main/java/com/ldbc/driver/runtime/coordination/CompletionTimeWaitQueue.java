@@ -0,0 +1,124 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Threads waiting for completion time to reach some time, ordered by that time.
+ * Whoever advances completion time calls completionTimeAdvanced(), which wakes exactly those threads whose time has
+ * been reached, the lowest waiting time is cached so the call is a single volatile read while no thread could wake.
+ * <p/>
+ * A waiting thread registers itself before it re-reads completion time, and completion time is published before
+ * waiting threads are looked up, so either the waiting thread sees the new completion time or it is woken.
+ */
+public class CompletionTimeWaitQueue
+{
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private volatile long lowestWaitingTimeAsMilli = Long.MAX_VALUE;
+
+    /**
+     * @return true if some thread is waiting for completion time to advance
+     */
+    public boolean hasWaiters()
+    {
+        return Long.MAX_VALUE != lowestWaitingTimeAsMilli;
+    }
+
+    /**
+     * Wakes all threads waiting for a completion time at or below completionTimeAsMilli.
+     * Must be called after the new completion time is visible to readers.
+     */
+    public void completionTimeAdvanced( long completionTimeAsMilli )
+    {
+        if ( completionTimeAsMilli < lowestWaitingTimeAsMilli )
+        {
+            return;
+        }
+        synchronized ( this )
+        {
+            while ( !waiters.isEmpty() && waiters.peek().timeAsMilli <= completionTimeAsMilli )
+            {
+                Waiter waiter = waiters.poll();
+                waiter.released = true;
+                LockSupport.unpark( waiter.thread );
+            }
+            updateLowestWaitingTime();
+        }
+    }
+
+    /**
+     * Blocks until completion time, as read from completionTimeReader, is at or above timeAsMilli, until maxWaitAsNano
+     * has passed, or until the calling thread is interrupted
+     *
+     * @return true if completion time is at or above timeAsMilli
+     */
+    public boolean await( long timeAsMilli, long maxWaitAsNano, CompletionTimeReader completionTimeReader )
+            throws CompletionTimeException
+    {
+        if ( completionTimeReader.completionTimeAsMilli() >= timeAsMilli )
+        {
+            return true;
+        }
+        long deadlineAsNano = System.nanoTime() + maxWaitAsNano;
+        Waiter waiter = new Waiter( timeAsMilli, Thread.currentThread() );
+        synchronized ( this )
+        {
+            waiters.add( waiter );
+            updateLowestWaitingTime();
+        }
+        try
+        {
+            // completion time may have advanced before the waiter was registered
+            while ( !waiter.released && completionTimeReader.completionTimeAsMilli() < timeAsMilli )
+            {
+                long remainingAsNano = deadlineAsNano - System.nanoTime();
+                if ( remainingAsNano <= 0 || Thread.currentThread().isInterrupted() )
+                {
+                    break;
+                }
+                LockSupport.parkNanos( this, remainingAsNano );
+            }
+        }
+        finally
+        {
+            if ( !waiter.released )
+            {
+                synchronized ( this )
+                {
+                    waiters.remove( waiter );
+                    updateLowestWaitingTime();
+                }
+            }
+        }
+        return completionTimeReader.completionTimeAsMilli() >= timeAsMilli;
+    }
+
+    synchronized int waitingCount()
+    {
+        return waiters.size();
+    }
+
+    private void updateLowestWaitingTime()
+    {
+        lowestWaitingTimeAsMilli = (waiters.isEmpty()) ? Long.MAX_VALUE : waiters.peek().timeAsMilli;
+    }
+
+    private static class Waiter implements Comparable<Waiter>
+    {
+        private final long timeAsMilli;
+        private final Thread thread;
+        private volatile boolean released = false;
+
+        private Waiter( long timeAsMilli, Thread thread )
+        {
+            this.timeAsMilli = timeAsMilli;
+            this.thread = thread;
+        }
+
+        @Override
+        public int compareTo( Waiter other )
+        {
+            return Long.compare( timeAsMilli, other.timeAsMilli );
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.google.common.util.concurrent.Futures;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.PaddedAtomicLong;
+
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * Completion time service of one driver process of a distributed workload.
+ * <p/>
+ * Writers are those of the local completion time service, which tracks local completion time (LCT) of the operations
+ * executed by this process. Whenever local completion time or local initiated time change they are sent to the
+ * coordinator, which computes global completion time (GCT) over all driver processes and sends it back.
+ * Completion time read from this service is GCT, so dependent operations wait for dependencies executed by any
+ * driver process.
+ * <p/>
+ * The local completion time service must support lastKnownLowestInitiatedTimeAsMilli(), e.g.,
+ * SynchronizedCompletionTimeService.
+ */
+public class DistributedCompletionTimeService implements CompletionTimeService,
+        DistributedDriverConnection.GlobalCompletionTimeListener
+{
+    // longest time local initiated time can change without being sent, local completion time changes are sent at once
+    private static final long PUBLISH_INTERVAL_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+    private static final long SHUTDOWN_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+
+    private final CompletionTimeService localCompletionTimeService;
+    private final DistributedDriverConnection connection;
+    private final PaddedAtomicLong globalCompletionTimeAsMilli = new PaddedAtomicLong( -1 );
+    private final PaddedAtomicLong globalInitiatedTimeAsMilli = new PaddedAtomicLong( -1 );
+    private final CompletionTimeWaitQueue completionTimeWaitQueue = new CompletionTimeWaitQueue();
+    private final AtomicBoolean shuttingDown = new AtomicBoolean( false );
+    private final LocalCompletionTimePublisherThread publisherThread;
+
+    public DistributedCompletionTimeService( CompletionTimeService localCompletionTimeService,
+            DistributedDriverConnection connection,
+            ConcurrentErrorReporter errorReporter )
+    {
+        this.localCompletionTimeService = localCompletionTimeService;
+        this.connection = connection;
+        connection.startReceivingGlobalCompletionTime( this, errorReporter );
+        this.publisherThread = new LocalCompletionTimePublisherThread( errorReporter );
+        publisherThread.setDaemon( true );
+        publisherThread.start();
+    }
+
+    @Override
+    public void globalCompletionTimeAdvanced( long lastKnownLowestInitiatedTimeAsMilli, long completionTimeAsMilli )
+    {
+        globalInitiatedTimeAsMilli.setIfGreater( lastKnownLowestInitiatedTimeAsMilli );
+        globalCompletionTimeAsMilli.setIfGreater( completionTimeAsMilli );
+        completionTimeWaitQueue.completionTimeAdvanced( globalCompletionTimeAsMilli.get() );
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        return globalInitiatedTimeAsMilli.get();
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException
+    {
+        return globalCompletionTimeAsMilli.get();
+    }
+
+    @Override
+    public boolean awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsNano ) throws CompletionTimeException
+    {
+        return completionTimeWaitQueue.await( timeAsMilli, maxWaitAsNano, this );
+    }
+
+    @Override
+    public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        return localCompletionTimeService.newCompletionTimeWriter();
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        return Futures.immediateFuture( completionTimeAsMilli() );
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return localCompletionTimeService.getAllWriters();
+    }
+
+    /**
+     * Sends local times one last time and stops sending them. Does not close the connection, the driver still has
+     * to send its results.
+     */
+    @Override
+    public void shutdown() throws CompletionTimeException
+    {
+        if ( !shuttingDown.compareAndSet( false, true ) )
+        {
+            return;
+        }
+        try
+        {
+            publisherThread.join( SHUTDOWN_TIMEOUT_AS_MILLI );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new CompletionTimeException( "Interrupted while waiting for local completion time publisher" );
+        }
+        if ( publisherThread.isAlive() )
+        {
+            throw new CompletionTimeException( "Local completion time publisher took too long to shutdown" );
+        }
+        localCompletionTimeService.shutdown();
+    }
+
+    private class LocalCompletionTimePublisherThread extends Thread
+    {
+        private final ConcurrentErrorReporter errorReporter;
+        private long publishedInitiatedTimeAsMilli = -1;
+        private long publishedCompletionTimeAsMilli = -1;
+
+        private LocalCompletionTimePublisherThread( ConcurrentErrorReporter errorReporter )
+        {
+            super( LocalCompletionTimePublisherThread.class.getSimpleName() + "-" + connection.driverId() + "-" +
+                   System.currentTimeMillis() );
+            this.errorReporter = errorReporter;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( !shuttingDown.get() )
+                {
+                    publishIfChanged();
+                    // wakes as soon as local completion time advances past what was published
+                    localCompletionTimeService.awaitCompletionTimeAsMilli(
+                            publishedCompletionTimeAsMilli + 1,
+                            PUBLISH_INTERVAL_AS_NANO );
+                }
+                // times submitted right before shutdown, e.g., the initiated times that mark streams as finished
+                publishIfChanged();
+            }
+            catch ( CompletionTimeException e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error publishing local completion time of driver %s\n%s",
+                                connection.driverId(),
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+        }
+
+        private void publishIfChanged() throws CompletionTimeException
+        {
+            // initiated time first: if completion time advances in between, the pair is merely conservative
+            long initiatedTimeAsMilli = localCompletionTimeService.lastKnownLowestInitiatedTimeAsMilli();
+            long completionTimeAsMilli = localCompletionTimeService.completionTimeAsMilli();
+            if ( initiatedTimeAsMilli != publishedInitiatedTimeAsMilli ||
+                 completionTimeAsMilli != publishedCompletionTimeAsMilli )
+            {
+                connection.sendLocalCompletionTime( initiatedTimeAsMilli, completionTimeAsMilli );
+                publishedInitiatedTimeAsMilli = initiatedTimeAsMilli;
+                publishedCompletionTimeAsMilli = completionTimeAsMilli;
+            }
+        }
+    }
+}
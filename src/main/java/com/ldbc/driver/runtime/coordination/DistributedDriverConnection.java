@@ -0,0 +1,271 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Connection of one driver process of a distributed workload to the coordinator, see DistributedDriverCoordinator.
+ * <p/>
+ * Used in this order: connect(), awaitWorkloadStartTimeAsMilli(), startReceivingGlobalCompletionTime(),
+ * sendLocalCompletionTime() for as long as the workload executes, sendResults(), close().
+ */
+public class DistributedDriverConnection implements Closeable
+{
+    private static final long CONNECT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 60 );
+    private static final long CONNECT_RETRY_INTERVAL_AS_MILLI = 100;
+    private static final long CLOSE_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+
+    public interface GlobalCompletionTimeListener
+    {
+        void globalCompletionTimeAdvanced( long lastKnownLowestInitiatedTimeAsMilli, long completionTimeAsMilli );
+    }
+
+    private final int driverId;
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private Thread receiverThread = null;
+    private volatile boolean resultsSent = false;
+    private volatile boolean closing = false;
+
+    /**
+     * Connects to the coordinator, retrying for a while as the coordinator may not have been started yet
+     *
+     * @param coordinatorAddress host:port of the coordinator
+     * @param driverId ID of this driver, in range [0, driver count)
+     * @return connection to the coordinator
+     * @throws CompletionTimeException if no connection could be made
+     */
+    public static DistributedDriverConnection connect( String coordinatorAddress, int driverId )
+            throws CompletionTimeException
+    {
+        String[] hostAndPort = DistributedDriverProtocol.hostAndPort( coordinatorAddress );
+        int port = DistributedDriverProtocol.portOf( coordinatorAddress );
+        long connectTimeoutTimeAsMilli = System.currentTimeMillis() + CONNECT_TIMEOUT_AS_MILLI;
+        while ( true )
+        {
+            Socket socket = new Socket();
+            try
+            {
+                socket.setTcpNoDelay( true );
+                socket.connect( new InetSocketAddress( hostAndPort[0], port ) );
+                return new DistributedDriverConnection( driverId, socket );
+            }
+            catch ( IOException e )
+            {
+                closeQuietly( socket );
+                if ( System.currentTimeMillis() >= connectTimeoutTimeAsMilli )
+                {
+                    throw new CompletionTimeException(
+                            format( "Driver %s could not connect to coordinator at %s", driverId, coordinatorAddress ),
+                            e );
+                }
+                Spinner.powerNap( CONNECT_RETRY_INTERVAL_AS_MILLI );
+            }
+        }
+    }
+
+    private DistributedDriverConnection( int driverId, Socket socket ) throws IOException
+    {
+        this.driverId = driverId;
+        this.socket = socket;
+        this.in = new DataInputStream( new BufferedInputStream( socket.getInputStream() ) );
+        this.out = new DataOutputStream( new BufferedOutputStream( socket.getOutputStream() ) );
+    }
+
+    public int driverId()
+    {
+        return driverId;
+    }
+
+    /**
+     * Tells the coordinator this driver is ready to execute its workload, then blocks until every driver is
+     *
+     * @return workload start time, the same for every driver
+     * @throws CompletionTimeException
+     */
+    public long awaitWorkloadStartTimeAsMilli() throws CompletionTimeException
+    {
+        try
+        {
+            synchronized ( out )
+            {
+                out.writeByte( DistributedDriverProtocol.DRIVER_READY );
+                out.writeInt( driverId );
+                out.flush();
+            }
+            DistributedDriverProtocol.expectMessageType( DistributedDriverProtocol.WORKLOAD_START_TIME, in.readByte() );
+            return in.readLong();
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException(
+                    format( "Driver %s failed to retrieve workload start time from coordinator", driverId ), e );
+        }
+    }
+
+    /**
+     * Starts a thread that passes global completion times received from the coordinator to the listener, until the
+     * coordinator closes the connection
+     */
+    public synchronized void startReceivingGlobalCompletionTime( GlobalCompletionTimeListener listener,
+            ConcurrentErrorReporter errorReporter )
+    {
+        if ( null != receiverThread )
+        {
+            throw new IllegalStateException( "Already receiving global completion time" );
+        }
+        receiverThread = new ReceiverThread( listener, errorReporter );
+        receiverThread.setDaemon( true );
+        receiverThread.start();
+    }
+
+    public void sendLocalCompletionTime( long lastKnownLowestInitiatedTimeAsMilli, long completionTimeAsMilli )
+            throws CompletionTimeException
+    {
+        try
+        {
+            synchronized ( out )
+            {
+                out.writeByte( DistributedDriverProtocol.LOCAL_COMPLETION_TIME );
+                out.writeLong( lastKnownLowestInitiatedTimeAsMilli );
+                out.writeLong( completionTimeAsMilli );
+                out.flush();
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException(
+                    format( "Driver %s failed to send local completion time to coordinator", driverId ), e );
+        }
+    }
+
+    /**
+     * Sends the results of this driver, after which the coordinator closes the connection.
+     * Local completion time must not be sent afterwards.
+     */
+    public void sendResults( WorkloadResultsSnapshot results ) throws CompletionTimeException
+    {
+        try
+        {
+            synchronized ( out )
+            {
+                // set before writing, coordinator may close the connection as soon as it has read the results
+                resultsSent = true;
+                DistributedDriverProtocol.writeResults( out, results );
+                out.flush();
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException( format( "Driver %s failed to send results to coordinator", driverId ),
+                    e );
+        }
+    }
+
+    /**
+     * After results were sent, waits (for a bounded time) for the coordinator to close the connection first, so the
+     * coordinator never writes to a connection that is already closed. Otherwise closes immediately.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        Thread currentReceiverThread;
+        synchronized ( this )
+        {
+            currentReceiverThread = receiverThread;
+        }
+        try
+        {
+            if ( resultsSent && null != currentReceiverThread )
+            {
+                currentReceiverThread.join( CLOSE_TIMEOUT_AS_MILLI );
+            }
+            closing = true;
+            socket.close();
+            if ( null != currentReceiverThread )
+            {
+                currentReceiverThread.join( CLOSE_TIMEOUT_AS_MILLI );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            socket.close();
+        }
+    }
+
+    private static void closeQuietly( Socket socket )
+    {
+        try
+        {
+            socket.close();
+        }
+        catch ( IOException e )
+        {
+            // nothing to do, connection failed anyway
+        }
+    }
+
+    private class ReceiverThread extends Thread
+    {
+        private final GlobalCompletionTimeListener listener;
+        private final ConcurrentErrorReporter errorReporter;
+
+        private ReceiverThread( GlobalCompletionTimeListener listener, ConcurrentErrorReporter errorReporter )
+        {
+            super( DistributedDriverConnection.class.getSimpleName() + "-" + driverId + "-" +
+                   System.currentTimeMillis() );
+            this.listener = listener;
+            this.errorReporter = errorReporter;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( true )
+                {
+                    DistributedDriverProtocol
+                            .expectMessageType( DistributedDriverProtocol.GLOBAL_COMPLETION_TIME, in.readByte() );
+                    long lastKnownLowestInitiatedTimeAsMilli = in.readLong();
+                    long completionTimeAsMilli = in.readLong();
+                    listener.globalCompletionTimeAdvanced( lastKnownLowestInitiatedTimeAsMilli, completionTimeAsMilli );
+                }
+            }
+            catch ( EOFException e )
+            {
+                if ( !resultsSent && !closing )
+                {
+                    errorReporter.reportError( this,
+                            format( "Coordinator closed connection of driver %s before it sent its results",
+                                    driverId ) );
+                }
+            }
+            catch ( IOException e )
+            {
+                if ( !closing )
+                {
+                    errorReporter.reportError( this,
+                            format( "Error receiving global completion time from coordinator\n%s",
+                                    ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                }
+            }
+        }
+    }
+}
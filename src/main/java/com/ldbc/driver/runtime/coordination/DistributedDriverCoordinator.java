@@ -0,0 +1,416 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Coordinates the driver processes of a distributed workload, each of which executes a partition of the workload
+ * streams and connects via DistributedDriverConnection.
+ * <p/>
+ * Every driver sends its local completion time (LCT) and local last known lowest initiated time (LIT).
+ * Global completion time (GCT) is computed from those exactly as MultiWriterCompletionTimeStateManager computes
+ * completion time from its writers (see docs/gct_pseudo.txt): GCT is the highest LCT that is lower than the lowest
+ * LIT of all drivers. Whenever GCT advances it is sent to every driver, by one sender thread per driver, so a driver
+ * that is slow to read never delays the others.
+ * <p/>
+ * A driver that executes no dependency operations still sends local times, see
+ * CompletionTimeServiceAssistant.writeMaxTimesToNewWriter(), as GCT is undefined until every driver sent its LIT.
+ * <p/>
+ * Each call to coordinateWorkload() coordinates one execution of the workload (e.g., warmup, then measurement):
+ * it waits until every driver has connected, sends them all the same workload start time, relays GCT until every
+ * driver sent its results, and returns the merged results.
+ */
+public class DistributedDriverCoordinator implements Closeable
+{
+    private final ServerSocket serverSocket;
+    private final int driverCount;
+    private final TimeSource timeSource;
+    private final LoggingService loggingService;
+
+    public DistributedDriverCoordinator( int port,
+            int driverCount,
+            TimeSource timeSource,
+            LoggingService loggingService ) throws CompletionTimeException
+    {
+        if ( driverCount < 1 )
+        {
+            throw new CompletionTimeException( format( "Driver count must be positive, found: %s", driverCount ) );
+        }
+        this.driverCount = driverCount;
+        this.timeSource = timeSource;
+        this.loggingService = loggingService;
+        try
+        {
+            this.serverSocket = new ServerSocket();
+            serverSocket.setReuseAddress( true );
+            serverSocket.bind( new InetSocketAddress( port ), driverCount );
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException( format( "Coordinator could not listen on port %s", port ), e );
+        }
+    }
+
+    /**
+     * @param address host:port, as configured for distributed drivers
+     * @return port the coordinator listens on
+     * @throws CompletionTimeException if address does not have format host:port
+     */
+    public static int portOf( String address ) throws CompletionTimeException
+    {
+        return DistributedDriverProtocol.portOf( address );
+    }
+
+    /**
+     * @return port the coordinator listens on, useful when it was created with port 0
+     */
+    public int port()
+    {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @param startDelayAsMilli duration between the time every driver is ready and the workload start time
+     * @return results of all drivers, merged
+     * @throws CompletionTimeException if a driver disconnects or sends an invalid message
+     */
+    public WorkloadResultsSnapshot coordinateWorkload( long startDelayAsMilli ) throws CompletionTimeException
+    {
+        CoordinatedWorkload workload = new CoordinatedWorkload();
+        try
+        {
+            workload.acceptDrivers();
+            long workloadStartTimeAsMilli = timeSource.nowAsMilli() + startDelayAsMilli;
+            loggingService.info( format( "All %s drivers ready, workload start time: %s",
+                    driverCount, workloadStartTimeAsMilli ) );
+            workload.sendWorkloadStartTime( workloadStartTimeAsMilli );
+            return workload.awaitResults();
+        }
+        catch ( IOException e )
+        {
+            workload.closeAllConnections();
+            throw new CompletionTimeException( "Error coordinating distributed drivers", e );
+        }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        serverSocket.close();
+    }
+
+    private class CoordinatedWorkload
+    {
+        private final Socket[] sockets = new Socket[driverCount];
+        private final DataInputStream[] ins = new DataInputStream[driverCount];
+        private final DataOutputStream[] outs = new DataOutputStream[driverCount];
+        private final boolean[] finished = new boolean[driverCount];
+        private final WorkloadResultsSnapshot[] results = new WorkloadResultsSnapshot[driverCount];
+        private final long[] initiatedTimesAsMilli = new long[driverCount];
+        private final long[] completionTimesAsMilli = new long[driverCount];
+        private long globalInitiatedTimeAsMilli = -1;
+        private long globalCompletionTimeAsMilli = -1;
+        private final List<String> errors = new ArrayList<>();
+
+        private CoordinatedWorkload()
+        {
+            Arrays.fill( initiatedTimesAsMilli, -1 );
+            Arrays.fill( completionTimesAsMilli, -1 );
+        }
+
+        private void acceptDrivers() throws IOException
+        {
+            for ( int i = 0; i < driverCount; i++ )
+            {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay( true );
+                DataInputStream in = new DataInputStream( new BufferedInputStream( socket.getInputStream() ) );
+                DataOutputStream out = new DataOutputStream( new BufferedOutputStream( socket.getOutputStream() ) );
+                DistributedDriverProtocol.expectMessageType( DistributedDriverProtocol.DRIVER_READY, in.readByte() );
+                int driverId = in.readInt();
+                if ( driverId < 0 || driverId >= driverCount || null != sockets[driverId] )
+                {
+                    socket.close();
+                    throw new IOException( format( "Invalid or duplicate driver ID %s, expected %s drivers",
+                            driverId, driverCount ) );
+                }
+                sockets[driverId] = socket;
+                ins[driverId] = in;
+                outs[driverId] = out;
+                loggingService.info( format( "Driver %s ready (%s/%s)", driverId, i + 1, driverCount ) );
+            }
+        }
+
+        private void sendWorkloadStartTime( long workloadStartTimeAsMilli ) throws IOException
+        {
+            for ( DataOutputStream out : outs )
+            {
+                out.writeByte( DistributedDriverProtocol.WORKLOAD_START_TIME );
+                out.writeLong( workloadStartTimeAsMilli );
+                out.flush();
+            }
+        }
+
+        private WorkloadResultsSnapshot awaitResults() throws CompletionTimeException
+        {
+            List<Thread> threads = new ArrayList<>();
+            for ( int driverId = 0; driverId < driverCount; driverId++ )
+            {
+                threads.add( new DriverReceiverThread( driverId ) );
+                threads.add( new DriverSenderThread( driverId ) );
+            }
+            for ( Thread thread : threads )
+            {
+                thread.setDaemon( true );
+                thread.start();
+            }
+            try
+            {
+                // senders exit once their driver finished or an error was encountered, so all threads terminate
+                for ( Thread thread : threads )
+                {
+                    thread.join();
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                closeAllConnections();
+                Thread.currentThread().interrupt();
+                throw new CompletionTimeException( "Interrupted while waiting for results of drivers" );
+            }
+            synchronized ( this )
+            {
+                if ( !errors.isEmpty() )
+                {
+                    throw new CompletionTimeException( "Error coordinating distributed drivers\n" + errors );
+                }
+            }
+            return WorkloadResultsSnapshot.merge( Arrays.asList( results ) );
+        }
+
+        private synchronized void localCompletionTimeReceived( int driverId,
+                long initiatedTimeAsMilli,
+                long completionTimeAsMilli )
+        {
+            initiatedTimesAsMilli[driverId] = initiatedTimeAsMilli;
+            completionTimesAsMilli[driverId] = completionTimeAsMilli;
+            if ( updateGlobalCompletionTime() )
+            {
+                // sender threads write to the drivers, so a slow driver never blocks this lock
+                notifyAll();
+            }
+        }
+
+        /**
+         * Blocks until global completion time is greater than the given time, the driver finished, or an error was
+         * encountered
+         *
+         * @return global (initiated time, completion time), or null if nothing more should be sent to the driver
+         */
+        private synchronized long[] awaitGlobalCompletionTimeAfter( int driverId, long completionTimeAsMilli )
+                throws InterruptedException
+        {
+            while ( !finished[driverId] && errors.isEmpty() && globalCompletionTimeAsMilli <= completionTimeAsMilli )
+            {
+                wait();
+            }
+            return (finished[driverId] || !errors.isEmpty())
+                   ? null
+                   : new long[]{globalInitiatedTimeAsMilli, globalCompletionTimeAsMilli};
+        }
+
+        private synchronized boolean isFinished( int driverId )
+        {
+            return finished[driverId];
+        }
+
+        /**
+         * @return true if global completion time advanced
+         */
+        private boolean updateGlobalCompletionTime()
+        {
+            long tempInitiatedTimeAsMilli = -1;
+            for ( long initiatedTimeAsMilli : initiatedTimesAsMilli )
+            {
+                if ( -1 == initiatedTimeAsMilli )
+                {
+                    // until every driver has initiated time, global completion time is undefined
+                    return false;
+                }
+                else if ( -1 == tempInitiatedTimeAsMilli || initiatedTimeAsMilli < tempInitiatedTimeAsMilli )
+                {
+                    tempInitiatedTimeAsMilli = initiatedTimeAsMilli;
+                }
+            }
+            globalInitiatedTimeAsMilli = Math.max( globalInitiatedTimeAsMilli, tempInitiatedTimeAsMilli );
+
+            long tempCompletionTimeAsMilli = -1;
+            for ( long completionTimeAsMilli : completionTimesAsMilli )
+            {
+                if ( -1 != completionTimeAsMilli &&
+                     completionTimeAsMilli < tempInitiatedTimeAsMilli &&
+                     completionTimeAsMilli > tempCompletionTimeAsMilli )
+                {
+                    tempCompletionTimeAsMilli = completionTimeAsMilli;
+                }
+            }
+            if ( tempCompletionTimeAsMilli > globalCompletionTimeAsMilli )
+            {
+                globalCompletionTimeAsMilli = tempCompletionTimeAsMilli;
+                return true;
+            }
+            return false;
+        }
+
+        private void resultsReceived( int driverId, WorkloadResultsSnapshot driverResults ) throws IOException
+        {
+            synchronized ( this )
+            {
+                results[driverId] = driverResults;
+                finished[driverId] = true;
+                notifyAll();
+            }
+            // sender writes under the same lock and checks finished first, so once the connection is closed nothing
+            // is written to it, the driver waits for the coordinator to close the connection before closing it
+            synchronized ( outs[driverId] )
+            {
+                sockets[driverId].close();
+            }
+            loggingService.info( format( "Driver %s finished", driverId ) );
+        }
+
+        private synchronized void errorEncountered( int driverId, Exception e )
+        {
+            errors.add( format( "Driver %s: %s", driverId, ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            notifyAll();
+            closeAllConnections();
+        }
+
+        private synchronized void closeAllConnections()
+        {
+            for ( Socket socket : sockets )
+            {
+                if ( null != socket )
+                {
+                    try
+                    {
+                        socket.close();
+                    }
+                    catch ( IOException e )
+                    {
+                        // closing to unblock the other receiver threads, nothing more to do
+                    }
+                }
+            }
+        }
+
+        private class DriverReceiverThread extends Thread
+        {
+            private final int driverId;
+
+            private DriverReceiverThread( int driverId )
+            {
+                super( DriverReceiverThread.class.getSimpleName() + "-" + driverId + "-" +
+                       System.currentTimeMillis() );
+                this.driverId = driverId;
+            }
+
+            @Override
+            public void run()
+            {
+                DataInputStream in = ins[driverId];
+                try
+                {
+                    while ( true )
+                    {
+                        byte messageType = in.readByte();
+                        if ( DistributedDriverProtocol.LOCAL_COMPLETION_TIME == messageType )
+                        {
+                            long initiatedTimeAsMilli = in.readLong();
+                            long completionTimeAsMilli = in.readLong();
+                            localCompletionTimeReceived( driverId, initiatedTimeAsMilli, completionTimeAsMilli );
+                        }
+                        else
+                        {
+                            DistributedDriverProtocol.expectMessageType( DistributedDriverProtocol.RESULTS,
+                                    messageType );
+                            resultsReceived( driverId, DistributedDriverProtocol.readResults( in ) );
+                            return;
+                        }
+                    }
+                }
+                catch ( IOException e )
+                {
+                    errorEncountered( driverId, e );
+                }
+            }
+        }
+
+        private class DriverSenderThread extends Thread
+        {
+            private final int driverId;
+
+            private DriverSenderThread( int driverId )
+            {
+                super( DriverSenderThread.class.getSimpleName() + "-" + driverId + "-" + System.currentTimeMillis() );
+                this.driverId = driverId;
+            }
+
+            @Override
+            public void run()
+            {
+                DataOutputStream out = outs[driverId];
+                long sentCompletionTimeAsMilli = -1;
+                try
+                {
+                    long[] globalTimesAsMilli;
+                    while ( null != (globalTimesAsMilli =
+                            awaitGlobalCompletionTimeAfter( driverId, sentCompletionTimeAsMilli )) )
+                    {
+                        synchronized ( out )
+                        {
+                            if ( isFinished( driverId ) )
+                            {
+                                return;
+                            }
+                            out.writeByte( DistributedDriverProtocol.GLOBAL_COMPLETION_TIME );
+                            out.writeLong( globalTimesAsMilli[0] );
+                            out.writeLong( globalTimesAsMilli[1] );
+                            out.flush();
+                        }
+                        sentCompletionTimeAsMilli = globalTimesAsMilli[1];
+                    }
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                }
+                catch ( IOException e )
+                {
+                    // also thrown when connections are closed after an error, which is then already reported
+                    if ( !isFinished( driverId ) )
+                    {
+                        errorEncountered( driverId, e );
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static java.lang.String.format;
+
+/**
+ * Messages exchanged between the coordinator and the driver processes of a distributed workload.
+ * Every message starts with a one byte type, followed by its fields.
+ * <p/>
+ * Driver --> Coordinator
+ * <ul>
+ * <li>DRIVER_READY [int driverId]: driver has loaded its workload streams and waits for the workload start time</li>
+ * <li>LOCAL_COMPLETION_TIME [long lastKnownLowestInitiatedTime, long completionTime]: local times of the driver
+ * changed</li>
+ * <li>RESULTS [int length, UTF-8 JSON, histograms]: results of the driver, followed by the recorded histograms of
+ * its metrics (see WorkloadResultsSnapshot.writeHistograms()), the coordinator closes the connection afterwards</li>
+ * </ul>
+ * Coordinator --> Driver
+ * <ul>
+ * <li>WORKLOAD_START_TIME [long startTime]: every driver has loaded its workload streams</li>
+ * <li>GLOBAL_COMPLETION_TIME [long lastKnownLowestInitiatedTime, long completionTime]: global times advanced</li>
+ * </ul>
+ */
+class DistributedDriverProtocol
+{
+    static final byte DRIVER_READY = 1;
+    static final byte WORKLOAD_START_TIME = 2;
+    static final byte LOCAL_COMPLETION_TIME = 3;
+    static final byte GLOBAL_COMPLETION_TIME = 4;
+    static final byte RESULTS = 5;
+
+    private static final int MAX_RESULTS_LENGTH = 64 * 1024 * 1024;
+
+    static void writeResults( DataOutputStream out, WorkloadResultsSnapshot results ) throws IOException
+    {
+        byte[] bytes = results.toJson().getBytes( StandardCharsets.UTF_8 );
+        out.writeByte( RESULTS );
+        out.writeInt( bytes.length );
+        out.write( bytes );
+        results.writeHistograms( out );
+    }
+
+    /**
+     * Reads the remainder of a RESULTS message, after its type
+     */
+    static WorkloadResultsSnapshot readResults( DataInputStream in ) throws IOException
+    {
+        int length = in.readInt();
+        if ( length < 0 || length > MAX_RESULTS_LENGTH )
+        {
+            throw new IOException( format( "Invalid results length: %s", length ) );
+        }
+        byte[] bytes = new byte[length];
+        in.readFully( bytes );
+        WorkloadResultsSnapshot results = WorkloadResultsSnapshot.fromJson( new String( bytes, StandardCharsets.UTF_8 ) );
+        results.readHistograms( in );
+        return results;
+    }
+
+    static void expectMessageType( byte expectedType, byte type ) throws IOException
+    {
+        if ( expectedType != type )
+        {
+            throw new IOException( format( "Expected message type %s but received %s", expectedType, type ) );
+        }
+    }
+
+    static String[] hostAndPort( String address ) throws CompletionTimeException
+    {
+        int separatorIndex = address.lastIndexOf( ':' );
+        if ( separatorIndex <= 0 || separatorIndex == address.length() - 1 )
+        {
+            throw new CompletionTimeException( format( "Address must have format host:port, found: %s", address ) );
+        }
+        return new String[]{address.substring( 0, separatorIndex ), address.substring( separatorIndex + 1 )};
+    }
+
+    static int portOf( String address ) throws CompletionTimeException
+    {
+        String port = hostAndPort( address )[1];
+        try
+        {
+            return Integer.parseInt( port );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new CompletionTimeException( format( "Invalid port in address: %s", address ), e );
+        }
+    }
+
+    private DistributedDriverProtocol()
+    {
+    }
+}
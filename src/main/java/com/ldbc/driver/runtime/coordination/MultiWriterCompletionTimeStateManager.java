@@ -1,7 +1,8 @@
 package com.ldbc.driver.runtime.coordination;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.ldbc.driver.runtime.PaddedAtomicLong;
+
+import java.util.Arrays;
 
 import static java.lang.String.format;
 
@@ -15,21 +16,23 @@ import static java.lang.String.format;
  * <p/>
  * This class performs the logic of tracking completion time.
  * It can be written to by multiple threads in a thread-safe manner.
+ * <p/>
+ * Each writer tracks its own initiated and completed times, under its own lock, and publishes its lowest initiated
+ * time and completion time to padded atomics. Writers never contend with each other, and never with readers.
+ * Readers compute global initiated time and completion time from the published values without locking.
+ * Per writer, both published values only ever increase, so a reader that sees a mix of older and newer values
+ * computes an initiated time that is lower than or equal to the true one, which keeps completion time safe.
+ * Computed global values are cached, and also only ever increase.
+ * <p/>
+ * While threads wait for completion time to advance, writers compute it after every write and wake those threads.
  */
-public class MultiWriterCompletionTimeStateManager implements CompletionTimeReader
+public class MultiWriterCompletionTimeStateManager implements NotifyingCompletionTimeReader
 {
-    private enum Event
-    {
-        READ_LAST_KNOWN_IT,
-        READ_CT,
-        WRITE_IT,
-        WRITE_CT,
-        ADD_WRITER
-    }
-
-    private final List<CompletionTimeReaderWriter> completionTimeReaderWriters = new ArrayList<>();
-    private long completionTimeAsMilli = -1;
-    private long initiationTimeAsMilli = -1;
+    // copy-on-write, writers are only added before IT/CT times are submitted
+    private volatile WriterState[] writerStates = new WriterState[0];
+    private final PaddedAtomicLong completionTimeAsMilli = new PaddedAtomicLong( -1 );
+    private final PaddedAtomicLong initiationTimeAsMilli = new PaddedAtomicLong( -1 );
+    private final CompletionTimeWaitQueue completionTimeWaitQueue = new CompletionTimeWaitQueue();
 
     MultiWriterCompletionTimeStateManager()
     {
@@ -38,23 +41,43 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
     @Override
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
     {
-        return (long) processEvent( Event.READ_LAST_KNOWN_IT, -1, -1 );
+        updateCompletionTime();
+        return initiationTimeAsMilli.get();
     }
 
     @Override
     public long completionTimeAsMilli() throws CompletionTimeException
     {
-        return (long) processEvent( Event.READ_CT, -1, -1 );
+        updateCompletionTime();
+        return completionTimeAsMilli.get();
+    }
+
+    @Override
+    public boolean awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsNano ) throws CompletionTimeException
+    {
+        return completionTimeWaitQueue.await( timeAsMilli, maxWaitAsNano, this );
     }
 
     void submitInitiatedTime( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
     {
-        processEvent( Event.WRITE_IT, writerId, scheduledStartTimeAsMilli );
+        writerStateFor( writerId ).submitInitiatedTime( scheduledStartTimeAsMilli );
+        notifyWaiters();
     }
 
     void submitCompletedTime( int writerId, long scheduledStartTimeAsMilli ) throws CompletionTimeException
     {
-        processEvent( Event.WRITE_CT, writerId, scheduledStartTimeAsMilli );
+        writerStateFor( writerId ).submitCompletedTime( scheduledStartTimeAsMilli );
+        notifyWaiters();
+    }
+
+    private void notifyWaiters()
+    {
+        // only compute global completion time when there is a waiting thread it could wake
+        if ( completionTimeWaitQueue.hasWaiters() )
+        {
+            updateCompletionTime();
+            completionTimeWaitQueue.completionTimeAdvanced( completionTimeAsMilli.get() );
+        }
     }
 
     /**
@@ -63,108 +86,112 @@ public class MultiWriterCompletionTimeStateManager implements CompletionTimeRead
      * @return new writer
      * @throws CompletionTimeException
      */
-    CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    synchronized CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
-        return (CompletionTimeWriter) processEvent( Event.ADD_WRITER, -1, -1 );
+        int nextWriterId = writerStates.length;
+        WriterState[] newWriterStates = Arrays.copyOf( writerStates, nextWriterId + 1 );
+        newWriterStates[nextWriterId] = new WriterState();
+        writerStates = newWriterStates;
+        return new MultiWriterCompletionTimeStateManagerWriter( nextWriterId, this );
     }
 
-    synchronized private Object processEvent( Event event, int writerId, long scheduledStartTimeAsMilli )
-            throws CompletionTimeException
+    private WriterState writerStateFor( int writerId ) throws CompletionTimeException
     {
-        switch ( event )
-        {
-        case READ_LAST_KNOWN_IT:
-        {
-            return initiationTimeAsMilli;
-        }
-        case READ_CT:
-        {
-            return completionTimeAsMilli;
-        }
-        case WRITE_IT:
-        {
-            CompletionTimeWriter completionTimeWriter = completionTimeReaderWriters.get( writerId );
-            if ( null == completionTimeWriter )
-            { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
-            completionTimeWriter.submitInitiatedTime( scheduledStartTimeAsMilli );
-            updateCompletionTime();
-            return null;
-        }
-        case WRITE_CT:
-        {
-            CompletionTimeWriter completionTimeWriter = completionTimeReaderWriters.get( writerId );
-            if ( null == completionTimeWriter )
-            { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
-            completionTimeWriter.submitCompletedTime( scheduledStartTimeAsMilli );
-            updateCompletionTime();
-            return null;
-        }
-        case ADD_WRITER:
-        {
-            int nextWriterId = completionTimeReaderWriters.size();
-            CompletionTimeReaderWriter completionTimeReaderWriter = new CompletionTimeStateManager();
-            CompletionTimeWriter completionTimeWriter =
-                    new MultiWriterCompletionTimeStateManagerWriter( nextWriterId, this );
-            completionTimeReaderWriters.add( completionTimeReaderWriter );
-            return completionTimeWriter;
-        }
-        default:
-        {
-            throw new CompletionTimeException( "This should never happen" );
-        }
-        }
+        WriterState[] currentWriterStates = writerStates;
+        if ( writerId < 0 || writerId >= currentWriterStates.length )
+        { throw new CompletionTimeException( format( "Writer ID %s does not exist", writerId ) ); }
+        return currentWriterStates[writerId];
     }
 
-    private void updateCompletionTime() throws CompletionTimeException
+    private void updateCompletionTime()
     {
+        WriterState[] currentWriterStates = writerStates;
         long tempInitiationTimeAsMilli = -1;
-        for ( CompletionTimeReader reader : completionTimeReaderWriters )
+        for ( WriterState writerState : currentWriterStates )
         {
-            long readerInitiationTimeAsMilli = reader.lastKnownLowestInitiatedTimeAsMilli();
-            if ( -1 == readerInitiationTimeAsMilli )
+            long writerInitiationTimeAsMilli = writerState.lastKnownLowestInitiatedTimeAsMilli.get();
+            if ( -1 == writerInitiationTimeAsMilli )
             {
                 // if any initiation times are null, initiation time and completion time are undefined
                 return;
             }
             else if ( -1 == tempInitiationTimeAsMilli ||
-                      readerInitiationTimeAsMilli < tempInitiationTimeAsMilli )
+                      writerInitiationTimeAsMilli < tempInitiationTimeAsMilli )
             {
-                tempInitiationTimeAsMilli = readerInitiationTimeAsMilli;
+                tempInitiationTimeAsMilli = writerInitiationTimeAsMilli;
             }
             else
             {
-                // reader has initiation time, but it is greater than minimum initiation time
+                // writer has initiation time, but it is greater than minimum initiation time
             }
         }
+        if ( -1 == tempInitiationTimeAsMilli )
+        {
+            // no writers
+            return;
+        }
 
-        initiationTimeAsMilli = tempInitiationTimeAsMilli;
+        initiationTimeAsMilli.setIfGreater( tempInitiationTimeAsMilli );
 
-        long tempCompletionTimeAsMilli = completionTimeAsMilli;
-        for ( CompletionTimeReader reader : completionTimeReaderWriters )
+        long tempCompletionTimeAsMilli = -1;
+        for ( WriterState writerState : currentWriterStates )
         {
-            long readerCompletionTimeAsMilli = reader.completionTimeAsMilli();
-            if ( -1 == readerCompletionTimeAsMilli )
+            // uncompleted times of every writer are at or above the (only increasing) initiation times read above,
+            // so any completed time below the minimum of those initiation times is safe
+            long writerCompletionTimeAsMilli = writerState.completionTimeAsMilli.get();
+            if ( -1 == writerCompletionTimeAsMilli )
             {
-                // reader has non-null initiation time and null completion time
-                // if at least one reader has non-null completion time it is still possible that completion
+                // writer has non-null initiation time and null completion time
+                // if at least one writer has non-null completion time it is still possible that completion
                 // time is non-null
                 // initiation time already tells us that no more times will arrive BELOW that time
-                // continue checking completion times of other readers
+                // continue checking completion times of other writers
             }
-            else if ( readerCompletionTimeAsMilli < tempInitiationTimeAsMilli )
+            else if ( writerCompletionTimeAsMilli < tempInitiationTimeAsMilli )
             {
-                if ( -1 == tempCompletionTimeAsMilli ||
-                     readerCompletionTimeAsMilli > tempCompletionTimeAsMilli )
+                if ( writerCompletionTimeAsMilli > tempCompletionTimeAsMilli )
                 {
-                    tempCompletionTimeAsMilli = readerCompletionTimeAsMilli;
+                    tempCompletionTimeAsMilli = writerCompletionTimeAsMilli;
                 }
             }
             else
             {
                 // completion time must be lower than initiation time
-                // continue checking completion times of other readers
+                // continue checking completion times of other writers
             }
         }
-        completionTimeAsMilli = tempCompletionTimeAsMilli;
+        if ( -1 != tempCompletionTimeAsMilli )
+        {
+            completionTimeAsMilli.setIfGreater( tempCompletionTimeAsMilli );
+        }
+    }
+
+    /**
+     * State of one writer. Its CompletionTimeStateManager is not thread-safe, and a writer may be shared by the
+     * threads of an executor, so updates are synchronized on the writer state, which is never shared between writers
+     */
+    private static class WriterState
+    {
+        private final CompletionTimeStateManager completionTimeStateManager = new CompletionTimeStateManager();
+        private final PaddedAtomicLong lastKnownLowestInitiatedTimeAsMilli = new PaddedAtomicLong( -1 );
+        private final PaddedAtomicLong completionTimeAsMilli = new PaddedAtomicLong( -1 );
+
+        synchronized void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeStateManager.submitInitiatedTime( timeAsMilli );
+            publish();
+        }
+
+        synchronized void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeStateManager.submitCompletedTime( timeAsMilli );
+            publish();
+        }
+
+        private void publish() throws CompletionTimeException
+        {
+            lastKnownLowestInitiatedTimeAsMilli.set( completionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli() );
+            completionTimeAsMilli.set( completionTimeStateManager.completionTimeAsMilli() );
+        }
     }
 }
@@ -0,0 +1,19 @@
+package com.ldbc.driver.runtime.coordination;
+
+/**
+ * Completion time reader that wakes waiting threads as soon as completion time advances past the time they wait for,
+ * so that waiting for completion time does not require polling
+ */
+public interface NotifyingCompletionTimeReader extends CompletionTimeReader
+{
+    /**
+     * Blocks until completion time is at or above timeAsMilli, until maxWaitAsNano has passed, or until the calling
+     * thread is interrupted
+     *
+     * @param timeAsMilli completion time to wait for
+     * @param maxWaitAsNano longest duration to wait for
+     * @return true if completion time is at or above timeAsMilli
+     * @throws CompletionTimeException
+     */
+    boolean awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsNano ) throws CompletionTimeException;
+}
@@ -12,8 +12,6 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
 
     private enum Event
     {
-        READ_COMPLETION_TIME,
-        READ_FUTURE_COMPLETION_TIME,
         CREATE_NEW_COMPLETION_TIME_WRITER,
         GET_ALL_WRITERS
     }
@@ -40,7 +38,8 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
     @Override
     public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
     {
-        return (CompletionTimeAsMilliFuture) processEvent( Event.READ_FUTURE_COMPLETION_TIME );
+        // reading completion time does not need the lock
+        return new CompletionTimeAsMilliFuture( completionTimeStateManager.completionTimeAsMilli() );
     }
 
     @Override
@@ -50,16 +49,23 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
     }
 
     @Override
-    // TODO remove from interface
     public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
     {
-        throw new UnsupportedOperationException( "Method not supported" );
+        // reading initiated time does not need the lock
+        return completionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli();
     }
 
     @Override
     public long completionTimeAsMilli() throws CompletionTimeException
     {
-        return (long) processEvent( Event.READ_COMPLETION_TIME );
+        // reading completion time does not need the lock
+        return completionTimeStateManager.completionTimeAsMilli();
+    }
+
+    @Override
+    public boolean awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsNano ) throws CompletionTimeException
+    {
+        return completionTimeStateManager.awaitCompletionTimeAsMilli( timeAsMilli, maxWaitAsNano );
     }
 
     @Override
@@ -79,14 +85,6 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         {
             switch ( event )
             {
-            case READ_COMPLETION_TIME:
-            {
-                return completionTimeStateManager.completionTimeAsMilli();
-            }
-            case READ_FUTURE_COMPLETION_TIME:
-            {
-                return new CompletionTimeAsMilliFuture( completionTimeStateManager.completionTimeAsMilli() );
-            }
             case CREATE_NEW_COMPLETION_TIME_WRITER:
             {
                 CompletionTimeWriter completionTimeWriter = completionTimeStateManager.newCompletionTimeWriter();
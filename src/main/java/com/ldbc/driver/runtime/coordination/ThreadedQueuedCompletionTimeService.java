@@ -25,6 +25,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
     private final TimeSource timeSource;
     private final QueueEventSubmitter<CompletionTimeEvent> queueEventSubmitter;
     private final AtomicLong sharedCtReference;
+    private final CompletionTimeWaitQueue completionTimeWaitQueue = new CompletionTimeWaitQueue();
     private final AtomicLong sharedWriteEventCountReference;
     private final ThreadedQueuedCompletionTimeServiceThread threadedQueuedCompletionTimeServiceThread;
     private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
@@ -43,7 +44,8 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         threadedQueuedCompletionTimeServiceThread = new ThreadedQueuedCompletionTimeServiceThread(
                 completionTimeEventQueue,
                 errorReporter,
-                sharedCtReference );
+                sharedCtReference,
+                completionTimeWaitQueue );
         threadedQueuedCompletionTimeServiceThread.start();
     }
 
@@ -53,6 +55,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return sharedCtReference.get();
     }
 
+    @Override
+    public boolean awaitCompletionTimeAsMilli( long timeAsMilli, long maxWaitAsNano ) throws CompletionTimeException
+    {
+        return completionTimeWaitQueue.await( timeAsMilli, maxWaitAsNano, this );
+    }
+
     @Override
     public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
@@ -0,0 +1,242 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Executor for handlers that implement AsyncOperationHandler.
+ * A small pool of threads waits for scheduled start times and issues requests, but does not wait for results.
+ * Completion time and metrics are submitted from the completion callbacks, which hand child operations back to the
+ * pool, as children wait for their own scheduled start times.
+ * Handlers that do not implement AsyncOperationHandler are executed synchronously by the pool threads.
+ * <p>
+ * At most maxInFlightOperations operations are submitted or in flight at once, execute() blocks while that limit is
+ * reached.
+ */
+public class AsyncOperationExecutor implements OperationExecutor
+{
+    private final ExecutorService issuingExecutorService;
+    private final Semaphore inFlightPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public AsyncOperationExecutor( int threadCount,
+            int maxInFlightOperations,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.childOperationGenerator = childOperationGenerator;
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.errorReporter = errorReporter;
+        this.inFlightPermits = new Semaphore( maxInFlightOperations );
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            private final AtomicLong count = new AtomicLong( 0 );
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                return new Thread(
+                        runnable,
+                        AsyncOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-thread(" + count.getAndIncrement() + ")"
+                );
+            }
+        };
+        // queue never fills up, submitted operations are bounded by in-flight permits, and an in-flight operation
+        // only has one task queued at a time: either itself or its next child operation
+        this.issuingExecutorService = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                0,
+                TimeUnit.MILLISECONDS,
+                DefaultQueues.<Runnable>newAlwaysBlockingBounded( maxInFlightOperations ),
+                threadFactory
+        );
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            // --- BLOCKING CALL (when max in-flight operations has been reached) ---
+            inFlightPermits.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException( "Interrupted while waiting for an in-flight slot", e );
+        }
+        try
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            issuingExecutorService.execute( new IssueRunnable( operationHandlerRunnableContext ) );
+        }
+        catch ( Throwable e )
+        {
+            inFlightPermits.release();
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            long shutdownDeadlineAsMilli = System.currentTimeMillis() + waitAsMilli;
+            // issued operations complete on threads of the database client, which hand child operations back to
+            // the pool, so the pool may only be shutdown once all handlers have completed
+            while ( uncompletedHandlers.get() > 0 && System.currentTimeMillis() < shutdownDeadlineAsMilli )
+            {
+                Spinner.powerNap( 1 );
+            }
+            if ( uncompletedHandlers.get() > 0 )
+            {
+                List<Runnable> notIssued = issuingExecutorService.shutdownNow();
+                throw new OperationExecutorException( format(
+                        "%s shutdown before all handlers could complete\n%s handlers were in flight\n" +
+                        "%s operations were not issued",
+                        getClass().getSimpleName(),
+                        uncompletedHandlers.get(),
+                        notIssued.size() ) );
+            }
+            issuingExecutorService.shutdown();
+            boolean poolTerminated = issuingExecutorService.awaitTermination(
+                    Math.max( 0, shutdownDeadlineAsMilli - System.currentTimeMillis() ),
+                    TimeUnit.MILLISECONDS );
+            if ( !poolTerminated )
+            {
+                issuingExecutorService.shutdownNow();
+                throw new OperationExecutorException(
+                        format( "%s pool did not terminate in time", getClass().getSimpleName() ) );
+            }
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private class IssueRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private IssueRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            operationHandlerRunnableContext.runAsync()
+                    .thenCompose( ignore -> executeChildOperations() )
+                    .whenComplete( ( ignore, throwable ) ->
+                    {
+                        if ( null != throwable )
+                        {
+                            errorReporter.reportError( this,
+                                    format( "Error executing child operations\n%s",
+                                            ConcurrentErrorReporter.stackTraceToString( throwable ) ) );
+                        }
+                        uncompletedHandlers.decrementAndGet();
+                        operationHandlerRunnableContext.cleanup();
+                        inFlightPermits.release();
+                    } );
+        }
+
+        private CompletionStage<Void> executeChildOperations()
+        {
+            try
+            {
+                return childOperationExecutor.executeAsync(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever,
+                        issuingExecutorService
+                );
+            }
+            catch ( Throwable e )
+            {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                future.completeExceptionally( e );
+                return future;
+            }
+        }
+    }
+}
@@ -7,8 +7,14 @@ import com.ldbc.driver.OperationHandlerRunnableContext;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 public class ChildOperationExecutor
 {
+    private static final CompletionStage<Void> COMPLETED = CompletableFuture.completedFuture( null );
+
     public void execute(
             ChildOperationGenerator childOperationGenerator,
             Operation operation,
@@ -52,4 +58,108 @@ public class ChildOperationExecutor
             }
         }
     }
+
+    /**
+     * Asynchronous version of execute(), for use from completion callbacks of AsyncOperationHandler.
+     * Each child operation is only started once its parent has completed, but no thread waits in between.
+     * Children wait for their scheduled start times, which are later than those of their parents, so each child is
+     * started by a thread of childExecutor, never by the completion callback thread of the database client.
+     *
+     * @param childExecutor executes child operations, up to the point they were issued
+     * @return stage that completes once the last child operation has completed
+     */
+    public CompletionStage<Void> executeAsync(
+            ChildOperationGenerator childOperationGenerator,
+            Operation operation,
+            Object result,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            Executor childExecutor )
+            throws WorkloadException
+    {
+        if ( null == childOperationGenerator )
+        {
+            return COMPLETED;
+        }
+        double state = childOperationGenerator.initialState();
+        Operation childOperation = childOperationGenerator.nextOperation(
+                state,
+                operation,
+                result,
+                actualStartTimeAsMilli,
+                runDurationAsNano
+        );
+        return executeChildAsync( childOperationGenerator, state, childOperation,
+                operationHandlerRunnableContextRetriever, childExecutor );
+    }
+
+    private CompletionStage<Void> executeChildAsync(
+            final ChildOperationGenerator childOperationGenerator,
+            final double state,
+            final Operation operation,
+            final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            final Executor childExecutor )
+    {
+        if ( null == operation )
+        {
+            return COMPLETED;
+        }
+        final OperationHandlerRunnableContext childOperationHandlerRunnableContext;
+        try
+        {
+            childOperationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+        }
+        catch ( Throwable e )
+        {
+            return failed( e );
+        }
+        CompletionStage<Void> childStage;
+        try
+        {
+            // waits for scheduled start time, so must not run on the thread that completed the previous operation
+            childStage = CompletableFuture
+                    .supplyAsync( childOperationHandlerRunnableContext::runAsync, childExecutor )
+                    .thenCompose( runStage -> runStage );
+        }
+        catch ( Throwable e )
+        {
+            childOperationHandlerRunnableContext.cleanup();
+            return failed( e );
+        }
+        return childStage.thenCompose( ignore ->
+        {
+            Operation nextOperation;
+            double nextState;
+            try
+            {
+                nextState = childOperationGenerator.updateState( state, operation.type() );
+                nextOperation = childOperationGenerator.nextOperation(
+                        nextState,
+                        childOperationHandlerRunnableContext.operation(),
+                        childOperationHandlerRunnableContext.resultReporter().result(),
+                        childOperationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        childOperationHandlerRunnableContext.resultReporter().runDurationAsNano()
+                );
+            }
+            catch ( Throwable e )
+            {
+                return failed( e );
+            }
+            finally
+            {
+                childOperationHandlerRunnableContext.cleanup();
+            }
+            return executeChildAsync( childOperationGenerator, nextState, nextOperation,
+                    operationHandlerRunnableContextRetriever, childExecutor );
+        } );
+    }
+
+    private static CompletionStage<Void> failed( Throwable e )
+    {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.completeExceptionally( e );
+        return future;
+    }
 }
@@ -0,0 +1,15 @@
+package com.ldbc.driver.runtime.executor;
+
+public enum DispatcherType
+{
+    /**
+     * Operations are passed directly to the executor,
+     * handlers wait for scheduled start times & dependencies while occupying executor threads
+     */
+    NONE,
+    /**
+     * Operations are held in a timing wheel until they are due and their dependencies are satisfied,
+     * only then are they passed to the executor
+     */
+    TIMER_WHEEL
+}
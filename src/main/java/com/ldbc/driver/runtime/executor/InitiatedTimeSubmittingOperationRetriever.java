@@ -1,7 +1,6 @@
 package com.ldbc.driver.runtime.executor;
 
 import com.ldbc.driver.Operation;
-import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 
@@ -16,11 +15,12 @@ class InitiatedTimeSubmittingOperationRetriever
     private Operation nextNonDependencyOperation = null;
     private Operation nextDependencyOperation = null;
 
-    InitiatedTimeSubmittingOperationRetriever( WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+    InitiatedTimeSubmittingOperationRetriever( Iterator<Operation> nonDependencyOperations,
+            Iterator<Operation> dependencyOperations,
             CompletionTimeWriter completionTimeWriter )
     {
-        this.nonDependencyOperations = streamDefinition.nonDependencyOperations();
-        this.dependencyOperations = streamDefinition.dependencyOperations();
+        this.nonDependencyOperations = nonDependencyOperations;
+        this.dependencyOperations = dependencyOperations;
         this.completionTimeWriter = completionTimeWriter;
     }
 
@@ -0,0 +1,8 @@
+package com.ldbc.driver.runtime.executor;
+
+public enum OperationExecutorType
+{
+    THREAD_POOL,
+    VIRTUAL_THREAD,
+    ASYNC
+}
@@ -3,6 +3,7 @@ package com.ldbc.driver.runtime.executor;
 import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.temporal.TimeSource;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -20,11 +21,20 @@ public class OperationStreamExecutorService
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final AtomicBoolean forceThreadToTerminate = new AtomicBoolean( false );
 
+    /**
+     * @param prefetchSize if positive, operations are generated ahead by threads of their own, see
+     * {@link PrefetchingOperationIterator}
+     * @param prefetchLookAheadAsMilli if positive, bounds how far ahead of their scheduled start time operations are
+     * generated
+     */
     public OperationStreamExecutorService(
             ConcurrentErrorReporter errorReporter,
             WorkloadStreamDefinition streamDefinition,
             OperationExecutor operationExecutor,
-            CompletionTimeWriter completionTimeWriter )
+            CompletionTimeWriter completionTimeWriter,
+            TimeSource timeSource,
+            int prefetchSize,
+            long prefetchLookAheadAsMilli )
     {
         this.errorReporter = errorReporter;
         if ( streamDefinition.dependencyOperations().hasNext() || streamDefinition.nonDependencyOperations().hasNext() )
@@ -35,7 +45,10 @@ public class OperationStreamExecutorService
                     streamDefinition,
                     hasFinished,
                     forceThreadToTerminate,
-                    completionTimeWriter );
+                    completionTimeWriter,
+                    timeSource,
+                    prefetchSize,
+                    prefetchLookAheadAsMilli );
         }
         else
         {
@@ -5,7 +5,11 @@ import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 class OperationStreamExecutorServiceThread extends Thread
@@ -17,13 +21,17 @@ class OperationStreamExecutorServiceThread extends Thread
     private final AtomicBoolean hasFinished;
     private final AtomicBoolean forcedTerminate;
     private final InitiatedTimeSubmittingOperationRetriever initiatedTimeSubmittingOperationRetriever;
+    private final List<PrefetchingOperationIterator> prefetchingOperationIterators = new ArrayList<>();
 
     public OperationStreamExecutorServiceThread( OperationExecutor operationExecutor,
             ConcurrentErrorReporter errorReporter,
             WorkloadStreamDefinition streamDefinition,
             AtomicBoolean hasFinished,
             AtomicBoolean forcedTerminate,
-            CompletionTimeWriter completionTimeWriter )
+            CompletionTimeWriter completionTimeWriter,
+            TimeSource timeSource,
+            int prefetchSize,
+            long prefetchLookAheadAsMilli )
     {
         super( OperationStreamExecutorServiceThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
         this.operationExecutor = operationExecutor;
@@ -31,14 +39,34 @@ class OperationStreamExecutorServiceThread extends Thread
         this.hasFinished = hasFinished;
         this.forcedTerminate = forcedTerminate;
         this.initiatedTimeSubmittingOperationRetriever = new InitiatedTimeSubmittingOperationRetriever(
-                streamDefinition,
+                prefetched( streamDefinition.nonDependencyOperations(), timeSource, prefetchSize,
+                        prefetchLookAheadAsMilli ),
+                prefetched( streamDefinition.dependencyOperations(), timeSource, prefetchSize,
+                        prefetchLookAheadAsMilli ),
                 completionTimeWriter
         );
     }
 
+    private Iterator<Operation> prefetched( Iterator<Operation> operations, TimeSource timeSource, int prefetchSize,
+            long prefetchLookAheadAsMilli )
+    {
+        if ( prefetchSize <= 0 || !operations.hasNext() )
+        {
+            return operations;
+        }
+        PrefetchingOperationIterator prefetchingOperations =
+                new PrefetchingOperationIterator( operations, prefetchSize, timeSource, prefetchLookAheadAsMilli );
+        prefetchingOperationIterators.add( prefetchingOperations );
+        return prefetchingOperations;
+    }
+
     @Override
     public void run()
     {
+        for ( PrefetchingOperationIterator prefetchingOperations : prefetchingOperationIterators )
+        {
+            prefetchingOperations.start();
+        }
         try
         {
             while ( initiatedTimeSubmittingOperationRetriever.hasNextOperation() && !forcedTerminate.get() )
@@ -54,6 +82,7 @@ class OperationStreamExecutorServiceThread extends Thread
         }
         finally
         {
+            closePrefetchingOperationIterators();
             while ( 0 < operationExecutor.uncompletedOperationHandlerCount() && !forcedTerminate.get() )
             {
                 Spinner.powerNap( POLL_INTERVAL_WHILE_WAITING_FOR_LAST_HANDLER_TO_FINISH_AS_MILLI );
@@ -61,4 +90,20 @@ class OperationStreamExecutorServiceThread extends Thread
             this.hasFinished.set( true );
         }
     }
+
+    private void closePrefetchingOperationIterators()
+    {
+        for ( PrefetchingOperationIterator prefetchingOperations : prefetchingOperationIterators )
+        {
+            try
+            {
+                prefetchingOperations.close( OperationStreamExecutorService.SHUTDOWN_WAIT_TIMEOUT_AS_MILLI );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
 }
@@ -0,0 +1,180 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.runtime.PaddedAtomicLong;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retrieves operations from the wrapped iterator on a producer thread of its own, into a bounded single-producer
+ * single-consumer ring, so the time spent generating operations (e.g., parsing and merging streams) does not delay
+ * the thread that consumes them.
+ * <p/>
+ * The producer runs at most prefetchSize operations ahead of the consumer. If look ahead is positive, it also stops
+ * generating once it published an operation that is scheduled to start more than look ahead from now, until that
+ * operation is within look ahead or was consumed.
+ * <p/>
+ * Must be started before use and closed after use. Errors of the wrapped iterator are thrown by hasNext()/next() of
+ * this iterator, once the operations retrieved before the error were consumed.
+ */
+class PrefetchingOperationIterator implements Iterator<Operation>
+{
+    private static final long MAX_PARK_DURATION_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 100 );
+    private static final long MAX_LOOK_AHEAD_PARK_DURATION_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+    private final Iterator<Operation> operations;
+    private final TimeSource timeSource;
+    private final long lookAheadAsMilli;
+    private final Operation[] ring;
+    private final int mask;
+    // index of the next operation to consume, only written by consumer
+    private final PaddedAtomicLong head = new PaddedAtomicLong();
+    // index of the next operation to produce, only written by producer
+    private final PaddedAtomicLong tail = new PaddedAtomicLong();
+    private final Thread producerThread;
+    private volatile boolean producerFinished = false;
+    private volatile boolean closed = false;
+    private volatile Throwable producerError = null;
+
+    PrefetchingOperationIterator( Iterator<Operation> operations, int prefetchSize, TimeSource timeSource,
+            long lookAheadAsMilli )
+    {
+        if ( prefetchSize < 1 )
+        {
+            throw new IllegalArgumentException( "Prefetch size must be positive: " + prefetchSize );
+        }
+        this.operations = operations;
+        this.timeSource = timeSource;
+        this.lookAheadAsMilli = lookAheadAsMilli;
+        int capacity = Integer.highestOneBit( prefetchSize );
+        capacity = (capacity == prefetchSize) ? capacity : capacity << 1;
+        this.ring = new Operation[capacity];
+        this.mask = capacity - 1;
+        this.producerThread = new Thread(
+                new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        produce();
+                    }
+                },
+                PrefetchingOperationIterator.class.getSimpleName() + "-" + System.currentTimeMillis()
+        );
+        this.producerThread.setDaemon( true );
+    }
+
+    void start()
+    {
+        producerThread.start();
+    }
+
+    /**
+     * Stops the producer, waiting for it at most for the given duration
+     */
+    void close( long waitAsMilli ) throws InterruptedException
+    {
+        closed = true;
+        producerThread.join( waitAsMilli );
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        int attempt = 0;
+        while ( true )
+        {
+            if ( head.get() < tail.get() )
+            {
+                return true;
+            }
+            if ( producerFinished )
+            {
+                // tail is published before producer finishes, re-check to not miss the last operations
+                if ( head.get() < tail.get() )
+                {
+                    return true;
+                }
+                Throwable error = producerError;
+                if ( null != error )
+                {
+                    throw new GeneratorException( "Error while prefetching operations", error );
+                }
+                return false;
+            }
+            if ( closed )
+            {
+                return false;
+            }
+            Spinner.backOff( attempt++, MAX_PARK_DURATION_AS_NANO );
+        }
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( !hasNext() )
+        {
+            throw new NoSuchElementException( "Iterator has nothing more to return" );
+        }
+        long index = head.get();
+        int slot = (int) index & mask;
+        Operation operation = ring[slot];
+        ring[slot] = null;
+        // ordered store, producer reuses the slot only after it sees the new head
+        head.lazySet( index + 1 );
+        return operation;
+    }
+
+    private void produce()
+    {
+        try
+        {
+            while ( !closed && operations.hasNext() )
+            {
+                Operation operation = operations.next();
+                long index = tail.get();
+                int attempt = 0;
+                while ( index - head.get() >= ring.length )
+                {
+                    if ( closed )
+                    {
+                        return;
+                    }
+                    Spinner.backOff( attempt++, MAX_PARK_DURATION_AS_NANO );
+                }
+                ring[(int) index & mask] = operation;
+                // ordered store, consumer reads the slot only after it sees the new tail
+                tail.lazySet( index + 1 );
+                // never hold back the next operation while the ring is empty: consumer may be waiting for it in
+                // hasNext(), e.g., while operations of another stream that are due earlier wait to be returned
+                if ( lookAheadAsMilli > 0 )
+                {
+                    attempt = 0;
+                    while ( operation.scheduledStartTimeAsMilli() - lookAheadAsMilli > timeSource.nowAsMilli() &&
+                            head.get() <= index )
+                    {
+                        if ( closed )
+                        {
+                            return;
+                        }
+                        Spinner.backOff( attempt++, MAX_LOOK_AHEAD_PARK_DURATION_AS_NANO );
+                    }
+                }
+            }
+        }
+        catch ( Throwable e )
+        {
+            producerError = e;
+        }
+        finally
+        {
+            producerFinished = true;
+        }
+    }
+}
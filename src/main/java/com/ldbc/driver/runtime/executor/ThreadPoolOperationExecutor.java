@@ -2,11 +2,14 @@ package com.ldbc.driver.runtime.executor;
 
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Db;
+import com.ldbc.driver.DbException;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsService;
@@ -145,7 +148,6 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
     private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
     {
         private final ChildOperationGenerator childOperationGenerator;
-        private final ChildOperationExecutor childOperationExecutor;
         private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
         private final ConcurrentErrorReporter errorReporter;
 
@@ -190,7 +192,6 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 ConcurrentErrorReporter errorReporter )
         {
             super( corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory );
-            this.childOperationExecutor = new ChildOperationExecutor();
             this.uncompletedHandlers = uncompletedHandlers;
             this.childOperationGenerator = childOperationGenerator;
             this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
@@ -198,22 +199,33 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         }
 
         // Note, this occurs in same worker thread as beforeExecute() and run()
+        // Rather than running the whole chain of child operations here, which would keep this worker busy for many
+        // round trips, only the next child operation is created and queued as a task of its own. It is picked up by
+        // any worker, and its completion queues the one after it. Each child operation still has its own scheduled
+        // start time, so its metrics are unaffected.
         @Override
         protected void afterExecute( Runnable runnable, Throwable throwable )
         {
             super.afterExecute( runnable, throwable );
             OperationHandlerRunnableContext operationHandlerRunnableContext =
-                    (OperationHandlerRunnableContext) runnable;
+                    (runnable instanceof ChildOperationHandlerRunnable)
+                    ? ((ChildOperationHandlerRunnable) runnable).operationHandlerRunnableContext()
+                    : (OperationHandlerRunnableContext) runnable;
             try
             {
-                childOperationExecutor.execute(
-                        childOperationGenerator,
-                        operationHandlerRunnableContext.operation(),
-                        operationHandlerRunnableContext.resultReporter().result(),
-                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
-                        operationHandlerRunnableContextRetriever
-                );
+                if ( runnable instanceof ChildOperationHandlerRunnable )
+                {
+                    double state = childOperationGenerator.updateState(
+                            ((ChildOperationHandlerRunnable) runnable).state(),
+                            operationHandlerRunnableContext.operation().type()
+                    );
+                    executeNextChildOperation( operationHandlerRunnableContext, state );
+                }
+                else if ( null != childOperationGenerator )
+                {
+                    executeNextChildOperation( operationHandlerRunnableContext,
+                            childOperationGenerator.initialState() );
+                }
             }
             catch ( Throwable e )
             {
@@ -226,5 +238,86 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 operationHandlerRunnableContext.cleanup();
             }
         }
+
+        private void executeNextChildOperation( OperationHandlerRunnableContext parentOperationHandlerRunnableContext,
+                double state ) throws WorkloadException, OperationExecutorException, DbException,
+                CompletionTimeException, InterruptedException
+        {
+            // parent is cleaned up by the caller
+            Operation childOperation = nextChildOperation( parentOperationHandlerRunnableContext, state );
+            while ( null != childOperation )
+            {
+                OperationHandlerRunnableContext childOperationHandlerRunnableContext =
+                        operationHandlerRunnableContextRetriever.getInitializedHandlerFor( childOperation );
+                // counted before the parent is counted as completed, so the chain is never seen as completed early
+                uncompletedHandlers.incrementAndGet();
+                // never wait for space in the queue: if all workers did, none would be left to drain it
+                boolean queued = getQueue().offer(
+                        new ChildOperationHandlerRunnable( childOperationHandlerRunnableContext, state ),
+                        0,
+                        TimeUnit.NANOSECONDS
+                );
+                if ( queued )
+                {
+                    return;
+                }
+                // queue is full, run child operation on this worker, as before
+                uncompletedHandlers.decrementAndGet();
+                try
+                {
+                    childOperationHandlerRunnableContext.run();
+                    state = childOperationGenerator.updateState( state, childOperation.type() );
+                    childOperation = nextChildOperation( childOperationHandlerRunnableContext, state );
+                }
+                finally
+                {
+                    childOperationHandlerRunnableContext.cleanup();
+                }
+            }
+        }
+
+        private Operation nextChildOperation( OperationHandlerRunnableContext previousOperationHandlerRunnableContext,
+                double state ) throws WorkloadException
+        {
+            return childOperationGenerator.nextOperation(
+                    state,
+                    previousOperationHandlerRunnableContext.operation(),
+                    previousOperationHandlerRunnableContext.resultReporter().result(),
+                    previousOperationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                    previousOperationHandlerRunnableContext.resultReporter().runDurationAsNano()
+            );
+        }
+    }
+
+    /**
+     * Child operation, together with the state of the child operation generator it was created with
+     */
+    private static class ChildOperationHandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+        private final double state;
+
+        private ChildOperationHandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext,
+                double state )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+            this.state = state;
+        }
+
+        OperationHandlerRunnableContext operationHandlerRunnableContext()
+        {
+            return operationHandlerRunnableContext;
+        }
+
+        double state()
+        {
+            return state;
+        }
+
+        @Override
+        public void run()
+        {
+            operationHandlerRunnableContext.run();
+        }
     }
 }
@@ -0,0 +1,225 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.scheduling.TimerWheel;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Holds operations in a timing wheel, and only passes them on to the wrapped executor once they are due and, for
+ * dependent operations, once completion time has advanced past their dependency time stamp.
+ * Threads of the wrapped executor then spend (almost) no time waiting in the spinner.
+ * <p>
+ * Operations are released one tick before their scheduled start time, the spinner of the wrapped executor waits
+ * out the remainder, so scheduling precision is that of the spinner.
+ */
+public class TimerWheelDispatchingOperationExecutor implements OperationExecutor
+{
+    public static final int DEFAULT_WHEEL_SIZE = 1024;
+    private static final long RELEASE_AHEAD_AS_MILLI = 1;
+    private static final long IDLE_PARK_DURATION_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 200 );
+    private static final Comparator<Operation> DEPENDENCY_TIME_STAMP_COMPARATOR = new Comparator<Operation>()
+    {
+        @Override
+        public int compare( Operation o1, Operation o2 )
+        {
+            return Long.compare( o1.dependencyTimeStamp(), o2.dependencyTimeStamp() );
+        }
+    };
+
+    private final OperationExecutor executor;
+    private final Queue<Operation> submitted = new ConcurrentLinkedQueue<>();
+    // limits number of operations that have been submitted but not yet dispatched
+    private final Semaphore heldPermits;
+    private final AtomicLong heldOperations = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final DispatcherThread dispatcherThread;
+
+    public TimerWheelDispatchingOperationExecutor( OperationExecutor executor,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeReader completionTimeReader,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            int maxHeldOperations,
+            int wheelSize )
+    {
+        this.executor = executor;
+        this.heldPermits = new Semaphore( maxHeldOperations );
+        this.dispatcherThread = new DispatcherThread(
+                streamDefinition.dependentOperationTypes(),
+                completionTimeReader,
+                timeSource,
+                errorReporter,
+                new TimerWheel( wheelSize, timeSource.nowAsMilli() )
+        );
+        this.dispatcherThread.start();
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            // --- BLOCKING CALL (when maximum number of held operations has been reached) ---
+            heldPermits.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Interrupted while waiting to submit operation", e );
+        }
+        heldOperations.incrementAndGet();
+        submitted.add( operation );
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        shutdown.set( true );
+        try
+        {
+            dispatcherThread.join( waitAsMilli );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new OperationExecutorException( "Interrupted while waiting for dispatcher to shutdown", e );
+        }
+        long undispatchedOperations = heldOperations.get();
+        executor.shutdown( waitAsMilli );
+        if ( undispatchedOperations > 0 )
+        {
+            throw new OperationExecutorException( format(
+                    "%s shutdown before all operations were dispatched\n%s operations were not dispatched",
+                    getClass().getSimpleName(),
+                    undispatchedOperations ) );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        // read held first, as dispatched operations are counted by the executor before they are un-counted here
+        return heldOperations.get() + executor.uncompletedOperationHandlerCount();
+    }
+
+    private class DispatcherThread extends Thread
+    {
+        private final Set<Class<? extends Operation>> dependentOperationTypes;
+        private final CompletionTimeReader completionTimeReader;
+        private final TimeSource timeSource;
+        private final ConcurrentErrorReporter errorReporter;
+        private final TimerWheel timerWheel;
+        private final Queue<Operation> due = new ArrayDeque<>();
+        private final PriorityQueue<Operation> waitingForCompletionTime =
+                new PriorityQueue<>( 16, DEPENDENCY_TIME_STAMP_COMPARATOR );
+
+        private DispatcherThread( Set<Class<? extends Operation>> dependentOperationTypes,
+                CompletionTimeReader completionTimeReader,
+                TimeSource timeSource,
+                ConcurrentErrorReporter errorReporter,
+                TimerWheel timerWheel )
+        {
+            super( TimerWheelDispatchingOperationExecutor.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            this.dependentOperationTypes = dependentOperationTypes;
+            this.completionTimeReader = completionTimeReader;
+            this.timeSource = timeSource;
+            this.errorReporter = errorReporter;
+            this.timerWheel = timerWheel;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( !shutdown.get() )
+                {
+                    if ( !dispatchDueOperations() )
+                    {
+                        LockSupport.parkNanos( IDLE_PARK_DURATION_AS_NANO );
+                    }
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error encountered while dispatching operations\n%s",
+                                ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+        }
+
+        /**
+         * @return true if at least one operation was dispatched
+         */
+        private boolean dispatchDueOperations() throws Exception
+        {
+            Operation operation;
+            while ( null != (operation = submitted.poll()) )
+            {
+                if ( !timerWheel.add( operation ) )
+                {
+                    due.add( operation );
+                }
+            }
+            timerWheel.advanceTo( timeSource.nowAsMilli() + RELEASE_AHEAD_AS_MILLI, due );
+
+            boolean dispatched = false;
+            long completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+            while ( null != (operation = due.poll()) )
+            {
+                if ( dependentOperationTypes.contains( operation.getClass() ) &&
+                     completionTimeAsMilli < operation.dependencyTimeStamp() )
+                {
+                    waitingForCompletionTime.add( operation );
+                }
+                else
+                {
+                    dispatch( operation );
+                    dispatched = true;
+                }
+            }
+            if ( !waitingForCompletionTime.isEmpty() )
+            {
+                completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+                while ( !waitingForCompletionTime.isEmpty() &&
+                        completionTimeAsMilli >= waitingForCompletionTime.peek().dependencyTimeStamp() )
+                {
+                    dispatch( waitingForCompletionTime.poll() );
+                    dispatched = true;
+                }
+            }
+            return dispatched;
+        }
+
+        private void dispatch( Operation operation ) throws OperationExecutorException
+        {
+            // --- BLOCKING CALL (when executor is saturated) ---
+            executor.execute( operation );
+            heldOperations.decrementAndGet();
+            heldPermits.release();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Executes every operation handler (and the child operations it generates) on its own thread, created on demand.
+ * When the JVM supports virtual threads (Java 21+) those are used, so blocked handlers do not occupy OS threads.
+ * Otherwise platform threads are used, and idle ones are reused.
+ * <p>
+ * At most maxConcurrency handlers are in flight at once, execute() blocks while that limit is reached.
+ */
+public class VirtualThreadOperationExecutor implements OperationExecutor
+{
+    private static final long PLATFORM_THREAD_KEEP_ALIVE_AS_MILLI = TimeUnit.SECONDS.toMillis( 60 );
+
+    /**
+     * @return factory of virtual threads, or null if the running JVM does not support virtual threads
+     */
+    public static ThreadFactory virtualThreadFactoryOrNull()
+    {
+        try
+        {
+            Method ofVirtual = Thread.class.getMethod( "ofVirtual" );
+            Object builder = ofVirtual.invoke( null );
+            Method factory = Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" );
+            return (ThreadFactory) factory.invoke( builder );
+        }
+        catch ( Exception e )
+        {
+            return null;
+        }
+    }
+
+    public static boolean isVirtualThreadSupported()
+    {
+        return null != virtualThreadFactoryOrNull();
+    }
+
+    private final ExecutorService executorService;
+    private final Semaphore inFlightPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public VirtualThreadOperationExecutor( int maxConcurrency,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        this.childOperationGenerator = childOperationGenerator;
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.errorReporter = errorReporter;
+        this.inFlightPermits = new Semaphore( maxConcurrency );
+        ThreadFactory virtualThreadFactory = virtualThreadFactoryOrNull();
+        ThreadFactory threadFactory = (null == virtualThreadFactory)
+                                      ? new PlatformThreadFactory()
+                                      : virtualThreadFactory;
+        long keepAliveTimeAsMilli = (null == virtualThreadFactory)
+                                    ? PLATFORM_THREAD_KEEP_ALIVE_AS_MILLI
+                                    : 0;
+        this.executorService = new ThreadPoolExecutor(
+                0,
+                Integer.MAX_VALUE,
+                keepAliveTimeAsMilli,
+                TimeUnit.MILLISECONDS,
+                new SynchronousQueue<Runnable>(),
+                threadFactory
+        );
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            // --- BLOCKING CALL (when max concurrency has been reached) ---
+            inFlightPermits.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException( "Interrupted while waiting for an in-flight slot", e );
+        }
+        try
+        {
+            OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            executorService.execute( new HandlerAndChildrenRunnable( operationHandlerRunnableContext ) );
+        }
+        catch ( Throwable e )
+        {
+            inFlightPermits.release();
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            executorService.shutdown();
+            boolean allHandlersCompleted = executorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            if ( !allHandlersCompleted )
+            {
+                List<Runnable> stillRunningThreads = executorService.shutdownNow();
+                throw new OperationExecutorException( format(
+                        "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                        getClass().getSimpleName(),
+                        uncompletedHandlers.get() - stillRunningThreads.size() ) );
+            }
+        }
+        catch ( OperationExecutorException e )
+        {
+            throw e;
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    private class HandlerAndChildrenRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private HandlerAndChildrenRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                operationHandlerRunnableContext.run();
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error executing handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                inFlightPermits.release();
+            }
+        }
+    }
+
+    private static class PlatformThreadFactory implements ThreadFactory
+    {
+        private final long factoryTimeStampId = System.currentTimeMillis();
+        private final AtomicLong count = new AtomicLong( 0 );
+
+        @Override
+        public Thread newThread( Runnable runnable )
+        {
+            return new Thread(
+                    runnable,
+                    VirtualThreadOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                    "-thread(" + count.getAndIncrement() + ")"
+            );
+        }
+    }
+}
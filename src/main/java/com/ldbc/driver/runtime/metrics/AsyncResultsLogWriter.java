@@ -0,0 +1,410 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.google.common.io.CountingOutputStream;
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the results log in CSV format, like SimpleResultsLogWriter, but without doing I/O on the calling thread.
+ * <p/>
+ * Rows are encoded into a batch, full batches are handed to a dedicated I/O thread. There are two batches, one
+ * being filled and one being written (double buffering), so the calling thread only waits when it fills a batch
+ * before the previous one was written, i.e., when the disk can not keep up. Those waits are recorded as stalls.
+ * <p/>
+ * Output can be gzip compressed. When a rotation size is given, the log is split into segments: once a segment
+ * reaches that size (at a batch boundary, so segments can exceed it by up to one batch) the next batch is written
+ * to the next segment. Only the first segment has headers, so their contents concatenated equal an unsplit log.
+ * <p/>
+ * Not thread safe, rows must be written by one thread at a time.
+ */
+public class AsyncResultsLogWriter implements ResultsLogWriter
+{
+    public static final int DEFAULT_BATCH_SIZE_AS_BYTES = 256 * 1024;
+    static final String GZIP_EXTENSION = ".gz";
+    private static final String CSV_EXTENSION = ".csv";
+    private static final long MAX_STALL_AS_NANO = TimeUnit.MINUTES.toNanos( 10 );
+    private static final Batch TERMINATE = new Batch( 0 );
+
+    private final File resultsLog;
+    private final TimeUnit unit;
+    private final int batchSizeAsBytes;
+    private final BlockingQueue<Batch> fullBatches = new ArrayBlockingQueue<>( 1 );
+    private final BlockingQueue<Batch> emptyBatches = new ArrayBlockingQueue<>( 1 );
+    private final Map<String,byte[]> operationNameBytes = new HashMap<>();
+    private final ContinuousMetricManager stalls = new ContinuousMetricManager(
+            "Results Log Stalls",
+            TimeUnit.NANOSECONDS,
+            MAX_STALL_AS_NANO,
+            3
+    );
+    private final IoThread ioThread;
+    private Batch batch;
+    private boolean closed = false;
+
+    public AsyncResultsLogWriter( File resultsLog,
+            TimeUnit unit,
+            boolean gzip,
+            long rotationSizeAsBytes ) throws IOException
+    {
+        this( resultsLog, unit, gzip, rotationSizeAsBytes, DEFAULT_BATCH_SIZE_AS_BYTES );
+    }
+
+    /**
+     * @param rotationSizeAsBytes size (on disk, i.e., compressed if gzip) after which the next segment is started,
+     * 0 for a single segment
+     */
+    public AsyncResultsLogWriter( File resultsLog,
+            TimeUnit unit,
+            boolean gzip,
+            long rotationSizeAsBytes,
+            int batchSizeAsBytes ) throws IOException
+    {
+        if ( rotationSizeAsBytes < 0 )
+        {
+            throw new IOException( format( "Rotation size can not be negative: %s", rotationSizeAsBytes ) );
+        }
+        if ( batchSizeAsBytes < 1 )
+        {
+            throw new IOException( format( "Batch size must be positive: %s", batchSizeAsBytes ) );
+        }
+        this.resultsLog = resultsLog;
+        this.unit = unit;
+        this.batchSizeAsBytes = batchSizeAsBytes;
+        this.batch = new Batch( batchSizeAsBytes );
+        this.emptyBatches.add( new Batch( batchSizeAsBytes ) );
+        this.ioThread = new IoThread( resultsLog, gzip, rotationSizeAsBytes, fullBatches, emptyBatches );
+        // first segment is opened immediately, so errors creating the results log surface here
+        ioThread.openSegment();
+        ioThread.start();
+
+        appendHeaders();
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        if ( closed )
+        {
+            throw new IOException( "Results log writer has been closed" );
+        }
+        byte[] nameBytes = operationNameBytes.get( operationName );
+        if ( null == nameBytes )
+        {
+            nameBytes = operationName.getBytes( StandardCharsets.UTF_8 );
+            operationNameBytes.put( operationName, nameBytes );
+        }
+        batch.append( nameBytes );
+        batch.appendSeparator();
+        batch.append( scheduledStartTimeAsMilli );
+        batch.appendSeparator();
+        batch.append( actualStartTimeAsMilli );
+        batch.appendSeparator();
+        batch.append( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) );
+        batch.appendSeparator();
+        batch.append( resultCode );
+        batch.appendSeparator();
+        batch.append( originalStartTime );
+        batch.appendNewLine();
+        if ( batch.length >= batchSizeAsBytes )
+        {
+            handOff();
+        }
+    }
+
+    /**
+     * @return time the writing thread waited for the I/O thread, once per batch it had to wait for
+     */
+    public ContinuousMetricSnapshot stallsSnapshot()
+    {
+        return stalls.snapshot();
+    }
+
+    private void appendHeaders()
+    {
+        String[] headers = new String[]{
+                HEADER_OPERATION_TYPE,
+                HEADER_SCHEDULED_START_TIME,
+                HEADER_ACTUAL_START_TIME,
+                HEADER_EXECUTION_DURATION_PREFIX + unit.name(),
+                HEADER_RESULT_CODE,
+                HEADER_ORIGINAL_START_TIME
+        };
+        for ( int i = 0; i < headers.length; i++ )
+        {
+            if ( i > 0 )
+            {
+                batch.appendSeparator();
+            }
+            batch.append( headers[i].getBytes( StandardCharsets.UTF_8 ) );
+        }
+        batch.appendNewLine();
+    }
+
+    private void handOff() throws IOException
+    {
+        ioThread.throwIfFailed();
+        try
+        {
+            Batch emptyBatch = emptyBatches.poll();
+            if ( null == emptyBatch )
+            {
+                // previous batch is still being written
+                long stallStartAsNano = System.nanoTime();
+                emptyBatch = emptyBatches.take();
+                stalls.addMeasurement( Math.max( 1, Math.min( System.nanoTime() - stallStartAsNano,
+                        MAX_STALL_AS_NANO ) ) );
+            }
+            fullBatches.put( batch );
+            batch = emptyBatch;
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted while handing results to results log I/O thread" );
+        }
+    }
+
+    /**
+     * Writes all remaining rows, then stops the I/O thread and closes the results log
+     */
+    @Override
+    public void close() throws Exception
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            if ( batch.length > 0 )
+            {
+                handOff();
+            }
+        }
+        finally
+        {
+            fullBatches.put( TERMINATE );
+            ioThread.join();
+        }
+        ioThread.throwIfFailed();
+    }
+
+    /**
+     * @return segments of a results log written by this writer that exist, in the order they were written
+     */
+    public static List<File> segments( File resultsLog )
+    {
+        List<File> segments = new ArrayList<>();
+        File segment;
+        while ( (segment = segmentFile( resultsLog, segments.size() )).exists() )
+        {
+            segments.add( segment );
+        }
+        return segments;
+    }
+
+    /**
+     * Segment 0 is the results log itself, segment N of X.csv(.gz) is X-N.csv(.gz)
+     */
+    static File segmentFile( File resultsLog, int index )
+    {
+        if ( 0 == index )
+        {
+            return resultsLog;
+        }
+        String name = resultsLog.getName();
+        String extension = (name.endsWith( CSV_EXTENSION + GZIP_EXTENSION ))
+                           ? CSV_EXTENSION + GZIP_EXTENSION
+                           : (name.endsWith( CSV_EXTENSION )) ? CSV_EXTENSION : "";
+        String baseName = name.substring( 0, name.length() - extension.length() );
+        return new File( resultsLog.getParentFile(), baseName + "-" + index + extension );
+    }
+
+    private static class Batch
+    {
+        private static final byte SEPARATOR = SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR.getBytes(
+                StandardCharsets.UTF_8 )[0];
+        private static final byte NEW_LINE = '\n';
+        // longest long: sign + 19 digits
+        private static final int MAX_LONG_LENGTH = 20;
+
+        private byte[] bytes;
+        private int length = 0;
+
+        private Batch( int sizeAsBytes )
+        {
+            // room for the row that fills the batch
+            this.bytes = new byte[sizeAsBytes + 1024];
+        }
+
+        private void ensureCapacity( int additionalBytes )
+        {
+            if ( length + additionalBytes > bytes.length )
+            {
+                byte[] newBytes = new byte[Math.max( bytes.length * 2, length + additionalBytes )];
+                System.arraycopy( bytes, 0, newBytes, 0, length );
+                bytes = newBytes;
+            }
+        }
+
+        private void append( byte[] value )
+        {
+            ensureCapacity( value.length );
+            System.arraycopy( value, 0, bytes, length, value.length );
+            length += value.length;
+        }
+
+        private void append( long value )
+        {
+            ensureCapacity( MAX_LONG_LENGTH );
+            if ( Long.MIN_VALUE == value )
+            {
+                append( Long.toString( value ).getBytes( StandardCharsets.UTF_8 ) );
+                return;
+            }
+            if ( value < 0 )
+            {
+                bytes[length++] = '-';
+                value = -value;
+            }
+            int digitCount = 1;
+            for ( long remainder = value / 10; remainder > 0; remainder /= 10 )
+            {
+                digitCount++;
+            }
+            for ( int i = length + digitCount - 1; i >= length; i-- )
+            {
+                bytes[i] = (byte) ('0' + (value % 10));
+                value /= 10;
+            }
+            length += digitCount;
+        }
+
+        private void appendSeparator()
+        {
+            ensureCapacity( 1 );
+            bytes[length++] = SEPARATOR;
+        }
+
+        private void appendNewLine()
+        {
+            ensureCapacity( 1 );
+            bytes[length++] = NEW_LINE;
+        }
+    }
+
+    private static class IoThread extends Thread
+    {
+        private final File resultsLog;
+        private final boolean gzip;
+        private final long rotationSizeAsBytes;
+        private final BlockingQueue<Batch> fullBatches;
+        private final BlockingQueue<Batch> emptyBatches;
+        private int segmentIndex = -1;
+        private CountingOutputStream segmentBytes = null;
+        private OutputStream segment = null;
+        private volatile Throwable failure = null;
+
+        private IoThread( File resultsLog,
+                boolean gzip,
+                long rotationSizeAsBytes,
+                BlockingQueue<Batch> fullBatches,
+                BlockingQueue<Batch> emptyBatches )
+        {
+            super( AsyncResultsLogWriter.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            this.resultsLog = resultsLog;
+            this.gzip = gzip;
+            this.rotationSizeAsBytes = rotationSizeAsBytes;
+            this.fullBatches = fullBatches;
+            this.emptyBatches = emptyBatches;
+        }
+
+        private void throwIfFailed() throws IOException
+        {
+            if ( null != failure )
+            {
+                throw new IOException( format( "Error writing results log %s", resultsLog.getAbsolutePath() ),
+                        failure );
+            }
+        }
+
+        private void openSegment() throws IOException
+        {
+            segmentIndex++;
+            File segmentFile = segmentFile( resultsLog, segmentIndex );
+            segmentBytes = new CountingOutputStream( new FileOutputStream( segmentFile ) );
+            segment = (gzip) ? new GZIPOutputStream( segmentBytes, 64 * 1024 ) : segmentBytes;
+        }
+
+        private void closeSegment() throws IOException
+        {
+            segment.close();
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                Batch batch;
+                while ( TERMINATE != (batch = fullBatches.take()) )
+                {
+                    // after a failure batches are still returned, so the writing thread never blocks forever
+                    if ( null == failure )
+                    {
+                        try
+                        {
+                            write( batch );
+                        }
+                        catch ( Throwable e )
+                        {
+                            failure = e;
+                        }
+                    }
+                    batch.length = 0;
+                    emptyBatches.put( batch );
+                }
+                closeSegment();
+            }
+            catch ( Throwable e )
+            {
+                if ( null == failure )
+                {
+                    failure = e;
+                }
+            }
+        }
+
+        private void write( Batch batch ) throws IOException
+        {
+            if ( rotationSizeAsBytes > 0 && segmentBytes.getCount() >= rotationSizeAsBytes )
+            {
+                closeSegment();
+                openSegment();
+            }
+            segment.write( batch.bytes, 0, batch.length );
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.metrics.sbe.MessageHeader;
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.BYTE_ORDER;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.DEFAULT_REGION_SIZE;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.FILE_HEADER_SIZE;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.FORMAT_VERSION;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.FORMAT_VERSION_OFFSET;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.MAGIC;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.MAGIC_OFFSET;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.MAX_OPERATION_NAME_LENGTH;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.MESSAGE_HEADER_OFFSET;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.OPERATION_NAME_ENTRY;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.OPERATION_NAME_ENTRY_HEADER_SIZE;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.OPERATION_RESULT_ENTRY;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.TIME_UNIT_OFFSET;
+import static java.lang.String.format;
+
+/**
+ * Reads results logs written by BinaryResultsLogWriter, through memory mapped regions of the file
+ */
+public class BinaryResultsLogReader implements ResultsLogReader
+{
+    private final File resultsLog;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long fileLength;
+    private final int regionSize;
+    private final DirectBuffer buffer;
+    private final MetricsEvent metricsEvent = new MetricsEvent();
+    private final int actingBlockLength;
+    private final int actingVersion;
+    private final TimeUnit unit;
+    // index is operation type
+    private final List<String> operationNames = new ArrayList<>();
+    private long regionPosition = 0;
+    private int regionLength;
+    private int offset;
+    private boolean hasRow = false;
+
+    /**
+     * @return true if the file starts like a log written by BinaryResultsLogWriter
+     */
+    public static boolean isBinaryResultsLog( File file ) throws IOException
+    {
+        if ( file.length() < FILE_HEADER_SIZE )
+        {
+            return false;
+        }
+        try ( RandomAccessFile randomAccessFile = new RandomAccessFile( file, "r" ) )
+        {
+            ByteBuffer magic = ByteBuffer.allocate( 8 ).order( BYTE_ORDER );
+            randomAccessFile.getChannel().read( magic, MAGIC_OFFSET );
+            return MAGIC == magic.getLong( 0 );
+        }
+    }
+
+    public BinaryResultsLogReader( File resultsLog ) throws IOException
+    {
+        this( resultsLog, DEFAULT_REGION_SIZE );
+    }
+
+    BinaryResultsLogReader( File resultsLog, int regionSize ) throws IOException
+    {
+        if ( !isBinaryResultsLog( resultsLog ) )
+        {
+            throw new IOException( format( "Not a binary results log: %s", resultsLog.getAbsolutePath() ) );
+        }
+        this.resultsLog = resultsLog;
+        this.regionSize = regionSize;
+        this.file = new RandomAccessFile( resultsLog, "r" );
+        this.channel = file.getChannel();
+        this.fileLength = channel.size();
+        this.regionLength = (int) Math.min( regionSize, fileLength );
+        this.buffer = new DirectBuffer( channel.map( FileChannel.MapMode.READ_ONLY, 0, regionLength ) );
+
+        int formatVersion = buffer.getInt( FORMAT_VERSION_OFFSET, BYTE_ORDER );
+        if ( FORMAT_VERSION != formatVersion )
+        {
+            file.close();
+            throw new IOException( format( "Unsupported format version %s of results log: %s",
+                    formatVersion, resultsLog.getAbsolutePath() ) );
+        }
+        MessageHeader messageHeader = new MessageHeader().wrap( buffer, MESSAGE_HEADER_OFFSET, 0 );
+        this.actingBlockLength = messageHeader.blockLength();
+        this.actingVersion = messageHeader.version();
+        this.unit = TimeUnit.values()[buffer.getInt( TIME_UNIT_OFFSET, BYTE_ORDER )];
+        this.offset = FILE_HEADER_SIZE;
+    }
+
+    @Override
+    public boolean next()
+    {
+        hasRow = false;
+        try
+        {
+            while ( regionPosition + offset < fileLength )
+            {
+                ensureAvailable( 1 );
+                byte entryType = buffer.getByte( offset );
+                if ( OPERATION_RESULT_ENTRY == entryType )
+                {
+                    ensureAvailable( actingBlockLength );
+                    metricsEvent.wrapForDecode( buffer, offset, actingBlockLength, actingVersion );
+                    offset += actingBlockLength;
+                    hasRow = true;
+                    return true;
+                }
+                else if ( OPERATION_NAME_ENTRY == entryType )
+                {
+                    readOperationName();
+                }
+                else if ( 0 == entryType )
+                {
+                    // remainder of a mapped region that was never written, log was not closed
+                    return false;
+                }
+                else
+                {
+                    throw new RuntimeException( format( "Unknown entry type %s at position %s of results log: %s",
+                            entryType, regionPosition + offset, resultsLog.getAbsolutePath() ) );
+                }
+            }
+            return false;
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+    }
+
+    private void readOperationName() throws IOException
+    {
+        ensureAvailable( OPERATION_NAME_ENTRY_HEADER_SIZE );
+        int operationType = buffer.getInt( offset + 1, BYTE_ORDER );
+        int nameLength = buffer.getShort( offset + 5, BYTE_ORDER );
+        if ( operationType != operationNames.size() || nameLength < 0 || nameLength > MAX_OPERATION_NAME_LENGTH )
+        {
+            throw new IOException( format( "Corrupt operation name entry at position %s", regionPosition + offset ) );
+        }
+        ensureAvailable( OPERATION_NAME_ENTRY_HEADER_SIZE + nameLength );
+        byte[] nameBytes = new byte[nameLength];
+        buffer.getBytes( offset + OPERATION_NAME_ENTRY_HEADER_SIZE, nameBytes );
+        operationNames.add( new String( nameBytes, StandardCharsets.UTF_8 ) );
+        offset += OPERATION_NAME_ENTRY_HEADER_SIZE + nameLength;
+    }
+
+    private void ensureAvailable( int entrySize ) throws IOException
+    {
+        if ( offset + entrySize > regionLength )
+        {
+            long nextRegionPosition = regionPosition + offset;
+            if ( nextRegionPosition + entrySize > fileLength )
+            {
+                throw new IOException( format( "Truncated entry at position %s", nextRegionPosition ) );
+            }
+            regionPosition = nextRegionPosition;
+            regionLength = (int) Math.min( regionSize, fileLength - regionPosition );
+            offset = 0;
+            buffer.wrap( channel.map( FileChannel.MapMode.READ_ONLY, regionPosition, regionLength ) );
+        }
+    }
+
+    @Override
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    @Override
+    public String getOperationName()
+    {
+        assertHasRow();
+        return operationNames.get( metricsEvent.operationType() );
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli()
+    {
+        assertHasRow();
+        return metricsEvent.scheduledStartTimeAsMilli();
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli()
+    {
+        assertHasRow();
+        return metricsEvent.actualStartTimeAsMilli();
+    }
+
+    @Override
+    public long getRunDurationAsNano()
+    {
+        assertHasRow();
+        return metricsEvent.runDurationAsNano();
+    }
+
+    @Override
+    public int getResultCode()
+    {
+        assertHasRow();
+        return metricsEvent.resultCode();
+    }
+
+    @Override
+    public long getOriginalStartTime()
+    {
+        assertHasRow();
+        return metricsEvent.originalStartTime();
+    }
+
+    private void assertHasRow()
+    {
+        if ( !hasRow )
+        {
+            throw new RuntimeException( "Nothing to read. Reader has not been advanced or has reached EOF." );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        file.close();
+    }
+}
@@ -0,0 +1,172 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.metrics.sbe.MessageHeader;
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the results log in a compact binary format, through memory mapped regions of the file.
+ * <p/>
+ * File layout (little endian):
+ * <pre>
+ * header   : magic (int64), format version (int32), SBE message header of MetricsEvent (4 x uint16),
+ *            time unit ordinal (int32)
+ * entries  : operation name entry - entry type (int8), operation type (int32), name length (int16), UTF-8 name
+ *            operation result entry - MetricsEvent block, its event type is the entry type
+ * </pre>
+ * Operation names are written once, the first time they are seen, after that results refer to them by type.
+ * Run durations are kept in nanoseconds, the time unit is only used when results are exported.
+ * <p/>
+ * Not thread safe.
+ */
+public class BinaryResultsLogWriter implements ResultsLogWriter
+{
+    // "LDBCRLOG"
+    static final long MAGIC = 0x4C444243524C4F47L;
+    static final int FORMAT_VERSION = 1;
+    static final int MAGIC_OFFSET = 0;
+    static final int FORMAT_VERSION_OFFSET = 8;
+    static final int MESSAGE_HEADER_OFFSET = 12;
+    static final int TIME_UNIT_OFFSET = 20;
+    static final int FILE_HEADER_SIZE = 24;
+
+    static final byte OPERATION_NAME_ENTRY = 1;
+    static final byte OPERATION_RESULT_ENTRY = 2;
+    static final int OPERATION_NAME_ENTRY_HEADER_SIZE = 1 + 4 + 2;
+    static final int MAX_OPERATION_NAME_LENGTH = Short.MAX_VALUE;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final int DEFAULT_REGION_SIZE = 8 * 1024 * 1024;
+
+    private final File resultsLog;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final int regionSize;
+    private final DirectBuffer buffer;
+    private final MetricsEvent metricsEvent = new MetricsEvent();
+    private final Map<String,Integer> operationTypes = new HashMap<>();
+    // position of the mapped region in the file
+    private long regionPosition = 0;
+    // position within the mapped region
+    private int offset = 0;
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit ) throws IOException
+    {
+        this( resultsLog, unit, DEFAULT_REGION_SIZE );
+    }
+
+    BinaryResultsLogWriter( File resultsLog, TimeUnit unit, int regionSize ) throws IOException
+    {
+        if ( regionSize < OPERATION_NAME_ENTRY_HEADER_SIZE + MAX_OPERATION_NAME_LENGTH )
+        {
+            throw new IOException( format( "Region size too small: %s", regionSize ) );
+        }
+        this.resultsLog = resultsLog;
+        this.regionSize = regionSize;
+        this.file = new RandomAccessFile( resultsLog, "rw" );
+        this.channel = file.getChannel();
+        channel.truncate( 0 );
+        this.buffer = new DirectBuffer( channel.map( FileChannel.MapMode.READ_WRITE, regionPosition, regionSize ) );
+
+        buffer.putLong( MAGIC_OFFSET, MAGIC, BYTE_ORDER );
+        buffer.putInt( FORMAT_VERSION_OFFSET, FORMAT_VERSION, BYTE_ORDER );
+        new MessageHeader().wrap( buffer, MESSAGE_HEADER_OFFSET, MetricsEvent.SCHEMA_VERSION )
+                .blockLength( metricsEvent.sbeBlockLength() )
+                .templateId( metricsEvent.sbeTemplateId() )
+                .schemaId( metricsEvent.sbeSchemaId() )
+                .version( metricsEvent.sbeSchemaVersion() );
+        buffer.putInt( TIME_UNIT_OFFSET, unit.ordinal(), BYTE_ORDER );
+        offset = FILE_HEADER_SIZE;
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        Integer operationType = operationTypes.get( operationName );
+        if ( null == operationType )
+        {
+            operationType = writeOperationName( operationName );
+        }
+        ensureCapacity( MetricsEvent.BLOCK_LENGTH );
+        metricsEvent.wrapForEncode( buffer, offset )
+                .eventType( OPERATION_RESULT_ENTRY )
+                .operationType( operationType )
+                .scheduledStartTimeAsMilli( scheduledStartTimeAsMilli )
+                .actualStartTimeAsMilli( actualStartTimeAsMilli )
+                .runDurationAsNano( runDurationAsNano )
+                .resultCode( resultCode )
+                .originalStartTime( originalStartTime )
+                .responseTimeAsNano(
+                        MetricsManager.responseTimeAsNano(
+                                scheduledStartTimeAsMilli,
+                                actualStartTimeAsMilli,
+                                runDurationAsNano ) );
+        offset += MetricsEvent.BLOCK_LENGTH;
+    }
+
+    private int writeOperationName( String operationName ) throws IOException
+    {
+        byte[] nameBytes = operationName.getBytes( StandardCharsets.UTF_8 );
+        if ( nameBytes.length > MAX_OPERATION_NAME_LENGTH )
+        {
+            throw new IOException( format( "Operation name too long: %s", operationName ) );
+        }
+        int operationType = operationTypes.size();
+        ensureCapacity( OPERATION_NAME_ENTRY_HEADER_SIZE + nameBytes.length );
+        buffer.putByte( offset, OPERATION_NAME_ENTRY );
+        buffer.putInt( offset + 1, operationType, BYTE_ORDER );
+        buffer.putShort( offset + 5, (short) nameBytes.length, BYTE_ORDER );
+        buffer.putBytes( offset + OPERATION_NAME_ENTRY_HEADER_SIZE, nameBytes );
+        offset += OPERATION_NAME_ENTRY_HEADER_SIZE + nameBytes.length;
+        operationTypes.put( operationName, operationType );
+        return operationType;
+    }
+
+    private void ensureCapacity( int entrySize ) throws IOException
+    {
+        if ( offset + entrySize > regionSize )
+        {
+            regionPosition += offset;
+            offset = 0;
+            buffer.wrap( channel.map( FileChannel.MapMode.READ_WRITE, regionPosition, regionSize ) );
+        }
+    }
+
+    /**
+     * Cuts off the unused remainder of the last mapped region
+     */
+    @Override
+    public void close() throws Exception
+    {
+        try
+        {
+            channel.truncate( regionPosition + offset );
+        }
+        catch ( IOException e )
+        {
+            throw new IOException( format( "Error closing results log %s", resultsLog.getAbsolutePath() ), e );
+        }
+        finally
+        {
+            file.close();
+        }
+    }
+}
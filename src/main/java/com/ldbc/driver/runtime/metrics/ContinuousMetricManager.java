@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import org.HdrHistogram.AbstractHistogram;
 import org.HdrHistogram.Histogram;
 
 import java.util.concurrent.TimeUnit;
@@ -15,15 +16,22 @@ it would still maintain a resolution of 3.6 seconds (or better).
  */
 public class ContinuousMetricManager
 {
-    private final Histogram histogram;
+    private final AbstractHistogram histogram;
     private final String name;
     private final TimeUnit unit;
 
     public ContinuousMetricManager( String name, TimeUnit unit, long highestExpectedValue,
             int numberOfSignificantDigits )
     {
-        long lowestExpectedValue = 1;
-        histogram = new Histogram( lowestExpectedValue, highestExpectedValue, numberOfSignificantDigits );
+        this( name, unit, new Histogram( 1, highestExpectedValue, numberOfSignificantDigits ) );
+    }
+
+    /**
+     * Allows the backing histogram to be chosen, e.g., an AtomicHistogram when measurements are added concurrently
+     */
+    public ContinuousMetricManager( String name, TimeUnit unit, AbstractHistogram histogram )
+    {
+        this.histogram = histogram;
         this.name = name;
         this.unit = unit;
     }
@@ -33,6 +41,14 @@ public class ContinuousMetricManager
         histogram.recordValue( value );
     }
 
+    /**
+     * Adds all measurements of another histogram, e.g., one that was recorded by another thread
+     */
+    public void addMeasurements( AbstractHistogram measurements )
+    {
+        histogram.add( measurements );
+    }
+
     public ContinuousMetricSnapshot snapshot()
     {
         return new ContinuousMetricSnapshot(
@@ -49,10 +65,12 @@ public class ContinuousMetricManager
                 percentile95(),
                 percentile99(),
                 percentile99_9(),
-                stdDev() );
+                stdDev(),
+                // copy, as recording may continue after the snapshot was taken
+                histogram.copy() );
     }
 
-    private long count()
+    long count()
     {
         return histogram.getTotalCount();
     }
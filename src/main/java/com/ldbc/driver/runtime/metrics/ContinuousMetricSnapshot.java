@@ -1,10 +1,16 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
+import static java.lang.String.format;
+
 public class ContinuousMetricSnapshot
 {
     @JsonProperty( value = "name" )
@@ -35,6 +41,9 @@ public class ContinuousMetricSnapshot
     private long percentile99_9;
     @JsonProperty( value = "std_dev" )
     private double stdDev;
+    // recorded values the above were computed from, not part of the JSON format, transferred separately when needed
+    @JsonIgnore
+    private AbstractHistogram histogram;
 
     private ContinuousMetricSnapshot()
     {
@@ -54,6 +63,26 @@ public class ContinuousMetricSnapshot
             long percentile99,
             long percentile99_9,
             double stdDev )
+    {
+        this( name, unit, count, mean, min, max, percentile25, percentile50, percentile75, percentile90, percentile95,
+                percentile99, percentile99_9, stdDev, null );
+    }
+
+    ContinuousMetricSnapshot( String name,
+            TimeUnit unit,
+            long count,
+            double mean,
+            long min,
+            long max,
+            long percentile25,
+            long percentile50,
+            long percentile75,
+            long percentile90,
+            long percentile95,
+            long percentile99,
+            long percentile99_9,
+            double stdDev,
+            AbstractHistogram histogram )
     {
         this.name = name;
         this.unit = unit;
@@ -69,6 +98,55 @@ public class ContinuousMetricSnapshot
         this.percentile99 = percentile99;
         this.percentile99_9 = percentile99_9;
         this.stdDev = stdDev;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Combines snapshots of the same metric, recorded over disjoint sets of operations (e.g., by different driver
+     * processes). All values are recomputed from the sum of the recorded histograms of the snapshots, so every
+     * snapshot must still have its histogram, see histogram().
+     */
+    static ContinuousMetricSnapshot merge( List<ContinuousMetricSnapshot> snapshots )
+    {
+        ContinuousMetricSnapshot first = snapshots.get( 0 );
+        long highestTrackableValue = 1;
+        int numberOfSignificantValueDigits = 0;
+        for ( ContinuousMetricSnapshot snapshot : snapshots )
+        {
+            if ( snapshot.unit != first.unit )
+            {
+                throw new IllegalArgumentException(
+                        format( "Can not merge metrics with different units: %s, %s", first.unit, snapshot.unit ) );
+            }
+            if ( null == snapshot.histogram )
+            {
+                throw new IllegalArgumentException(
+                        format( "Can not merge metric %s without its recorded histogram", snapshot.name ) );
+            }
+            highestTrackableValue = Math.max( highestTrackableValue, snapshot.histogram.getHighestTrackableValue() );
+            numberOfSignificantValueDigits =
+                    Math.max( numberOfSignificantValueDigits, snapshot.histogram.getNumberOfSignificantValueDigits() );
+        }
+        Histogram histogram = new Histogram( 1, highestTrackableValue, numberOfSignificantValueDigits );
+        for ( ContinuousMetricSnapshot snapshot : snapshots )
+        {
+            histogram.add( snapshot.histogram );
+        }
+        return new ContinuousMetricManager( first.name, first.unit, histogram ).snapshot();
+    }
+
+    /**
+     * @return recorded values this snapshot was computed from, or null if it was read from JSON and its histogram
+     * was not transferred
+     */
+    public AbstractHistogram histogram()
+    {
+        return histogram;
+    }
+
+    void setHistogram( AbstractHistogram histogram )
+    {
+        this.histogram = histogram;
     }
 
     public String name()
@@ -64,6 +64,7 @@ public class DisruptorSbeMetricsEvent {
                 ", scheduledStartTimeAsMilli=" + metricsEvent.scheduledStartTimeAsMilli() +
                 ", actualStartTimeAsMilli=" + metricsEvent.actualStartTimeAsMilli() +
                 ", runDurationAsNano=" + metricsEvent.runDurationAsNano() +
+                ", responseTimeAsNano=" + metricsEvent.responseTimeAsNano() +
                 ", resultCode=" + metricsEvent.resultCode() +
                 ", originalStartTime=" + metricsEvent.originalStartTime() +
                 '}';
@@ -24,10 +24,16 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
     private final MetricsManager metricsManager;
     private final ConcurrentErrorReporter errorReporter;
     private final ResultsLogWriter resultsLogWriter;
-    private long processedEventCount = 0L;
+    private final int partitionIndex;
+    private final int partitionCount;
+    private volatile long processedEventCount = 0L;
     private final String[] operationNames;
     private final MetricsEvent metricsEvent;
 
+    /**
+     * Only records results of operation types for which: operation type % partitionCount == partitionIndex,
+     * results of other operation types are counted as processed but otherwise ignored
+     */
     DisruptorSbeMetricsEventHandler(
             ConcurrentErrorReporter errorReporter,
             ResultsLogWriter resultsLogWriter,
@@ -35,16 +41,22 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
-            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+            LoggingServiceFactory loggingServiceFactory,
+            int partitionIndex,
+            int partitionCount,
+            IntervalHistogramLog intervalHistogramLog ) throws MetricsCollectionException
     {
         this.errorReporter = errorReporter;
         this.resultsLogWriter = resultsLogWriter;
+        this.partitionIndex = partitionIndex;
+        this.partitionCount = partitionCount;
         this.metricsManager = new MetricsManager(
                 timeSource,
                 unit,
                 maxRuntimeDurationAsNano,
                 operationTypeToClassMapping,
-                loggingServiceFactory );
+                loggingServiceFactory,
+                intervalHistogramLog );
         operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
         this.metricsEvent = new MetricsEvent();
     }
@@ -64,6 +76,14 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
         return processedEventCount;
     }
 
+    /**
+     * Must only be called once no more events are processed
+     */
+    void close() throws MetricsCollectionException
+    {
+        metricsManager.close();
+    }
+
     @Override
     public void onEvent( DirectBuffer event, long l, boolean b ) throws Exception
     {
@@ -79,9 +99,15 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
         case DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT:
         {
             int operationType = metricsEvent.operationType();
+            if ( operationType % partitionCount != partitionIndex )
+            {
+                processedEventCount++;
+                break;
+            }
             long scheduledStartTimeAsMilli = metricsEvent.scheduledStartTimeAsMilli();
             long actualStartTimeAsMilli = metricsEvent.actualStartTimeAsMilli();
             long runDurationAsNano = metricsEvent.runDurationAsNano();
+            long responseTimeAsNano = metricsEvent.responseTimeAsNano();
             int resultCode = metricsEvent.resultCode();
             long originalStartTime = metricsEvent.originalStartTime();
 
@@ -93,7 +119,7 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                     resultCode,
                     originalStartTime );
 
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, responseTimeAsNano, operationType );
             processedEventCount++;
             break;
         }
@@ -5,7 +5,6 @@ import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
 import com.ldbc.driver.temporal.TimeSource;
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventTranslator;
 import com.lmax.disruptor.EventTranslatorVararg;
 import com.lmax.disruptor.RingBuffer;
@@ -14,6 +13,7 @@ import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import uk.co.real_logic.sbe.codec.java.DirectBuffer;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -32,10 +32,22 @@ import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MetricsCo
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT;
 import static java.lang.String.format;
 
+/**
+ * Operation results are published to a ring buffer and recorded by consumer threads.
+ * <p/>
+ * With one consumer, that consumer records every result and writes it to the results log.
+ * With N > 1 consumers, each records the results of the operation types for which: operation type % N == consumer
+ * index, and an additional thread writes the results log. Every consumer sees the same sequence of events, so status
+ * and results requests are answered by all of them at the same point in that sequence, and their answers are merged.
+ */
 public class DisruptorSbeMetricsService implements MetricsService
 {
     private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 5 );
 
+    public static final int DEFAULT_RING_BUFFER_SIZE = 1024;
+    public static final DisruptorWaitStrategyType DEFAULT_WAIT_STRATEGY = DisruptorWaitStrategyType.BLOCKING;
+    public static final int DEFAULT_CONSUMER_COUNT = 1;
+
     // TODO this could come from config, if we had a max_runtime parameter. for now, it can default to something
     public static final long DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos( 90 );
 
@@ -44,7 +56,9 @@ public class DisruptorSbeMetricsService implements MetricsService
     private final TimeSource timeSource;
     private final RingBuffer<DirectBuffer> ringBuffer;
     private final Disruptor<DirectBuffer> disruptor;
-    private final DisruptorSbeMetricsEventHandler eventHandler;
+    private final DisruptorSbeMetricsEventHandler[] eventHandlers;
+    // null if results log is written by the metrics event handler
+    private final DisruptorSbeResultsLogEventHandler resultsLogEventHandler;
     private final ConcurrentLinkedQueue<DisruptorSbeMetricsServiceWriter> metricsServiceWriters;
     private final ExecutorService executor;
 
@@ -57,40 +71,105 @@ public class DisruptorSbeMetricsService implements MetricsService
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
-        // Specify the size of the ring buffer, must be power of 2
-        int bufferSize = 1024;
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                DEFAULT_RING_BUFFER_SIZE,
+                DEFAULT_WAIT_STRATEGY,
+                DEFAULT_CONSUMER_COUNT,
+                null
+        );
+    }
 
-        this.executor = Executors.newSingleThreadExecutor();
+    /**
+     * @param ringBufferSize number of results that can be published before workers wait for consumers, power of 2
+     * @param consumerCount number of threads that record results, partitioned by operation type
+     * @param intervalHistogramLog where response times of every interval are logged, null if they should not be
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int ringBufferSize,
+            DisruptorWaitStrategyType waitStrategyType,
+            int consumerCount,
+            IntervalHistogramLog intervalHistogramLog ) throws MetricsCollectionException
+    {
+        if ( Integer.bitCount( ringBufferSize ) != 1 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Ring buffer size must be a power of 2, found: %s", ringBufferSize ) );
+        }
+        if ( consumerCount < 1 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Consumer count must be positive, found: %s", consumerCount ) );
+        }
+
+        ResultsLogWriter eventHandlerResultsLogWriter;
+        if ( 1 == consumerCount || resultsLogWriter instanceof NullResultsLogWriter )
+        {
+            resultsLogEventHandler = null;
+            eventHandlerResultsLogWriter = resultsLogWriter;
+        }
+        else
+        {
+            resultsLogEventHandler = new DisruptorSbeResultsLogEventHandler(
+                    resultsLogWriter,
+                    MetricsManager.toOperationNameArray( operationTypeToClassMapping )
+            );
+            eventHandlerResultsLogWriter = new NullResultsLogWriter();
+        }
+        eventHandlers = new DisruptorSbeMetricsEventHandler[consumerCount];
+        for ( int i = 0; i < consumerCount; i++ )
+        {
+            eventHandlers[i] = new DisruptorSbeMetricsEventHandler(
+                    errorReporter,
+                    eventHandlerResultsLogWriter,
+                    timeUnit,
+                    timeSource,
+                    maxRuntimeDurationAsNano,
+                    operationTypeToClassMapping,
+                    loggingServiceFactory,
+                    i,
+                    consumerCount,
+                    intervalHistogramLog
+            );
+        }
+
+        // one thread per event handler
+        this.executor = Executors.newFixedThreadPool( consumerCount + ((null == resultsLogEventHandler) ? 0 : 1) );
         // Construct the Disruptor
         disruptor = new Disruptor(
                 new MetricsCollectionEventFactory(),
-                bufferSize,
+                ringBufferSize,
                 // Executor that will be used to construct new threads for consumers
                 this.executor,
                 ProducerType.MULTI,
-                new BlockingWaitStrategy()
-//                new LiteBlockingWaitStrategy()
-//                new SleepingWaitStrategy()
-//                new YieldingWaitStrategy()
-//                new BusySpinWaitStrategy()
-//                new TimeoutBlockingWaitStrategy()
-//                new PhasedBackoffWaitStrategy()
-        );
-
-        // Connect the handler
-        eventHandler = new DisruptorSbeMetricsEventHandler(
-                errorReporter,
-                resultsLogWriter,
-                timeUnit,
-                timeSource,
-                maxRuntimeDurationAsNano,
-                operationTypeToClassMapping,
-                loggingServiceFactory
+                waitStrategyType.newWaitStrategy()
         );
 
-        disruptor.handleEventsWith( eventHandler );
+        // Connect the handlers, every handler consumes every event
         DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
-        disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+        disruptor.handleEventsWith( eventHandlers );
+        for ( DisruptorSbeMetricsEventHandler eventHandler : eventHandlers )
+        {
+            disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+        }
+        if ( null != resultsLogEventHandler )
+        {
+            disruptor.handleEventsWith( resultsLogEventHandler );
+            disruptor.handleExceptionsFor( resultsLogEventHandler ).with( exceptionHandler );
+        }
         disruptor.handleExceptionsWith( exceptionHandler );
 
         // Start the Disruptor, starts all threads running  & get the ring buffer from the Disruptor to be used for
@@ -112,7 +191,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         boolean shutdownSuccessful = false;
         while ( timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI )
         {
-            if ( eventHandler.processedEventCount() >= initiatedEvents.get() )
+            if ( processedEventCount() >= initiatedEvents.get() )
             {
                 shutdownSuccessful = true;
                 break;
@@ -124,7 +203,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             String errMsg =
                     format( "%s timed out waiting for last operations to complete\n%s/%s operations completed",
                             getClass().getSimpleName(),
-                            eventHandler.processedEventCount(),
+                            processedEventCount(),
                             initiatedEvents.get()
                     );
             throw new MetricsCollectionException( errMsg );
@@ -167,6 +246,10 @@ public class DisruptorSbeMetricsService implements MetricsService
             );
             throw new MetricsCollectionException( errMsg, e );
         }
+        for ( DisruptorSbeMetricsEventHandler eventHandler : eventHandlers )
+        {
+            eventHandler.close();
+        }
         AlreadyShutdownPolicy alreadyShutdownPolicy = new AlreadyShutdownPolicy();
         for ( DisruptorSbeMetricsServiceWriter metricsServiceWriter : metricsServiceWriters )
         {
@@ -175,6 +258,23 @@ public class DisruptorSbeMetricsService implements MetricsService
         shutdown.set( true );
     }
 
+    /**
+     * @return number of results processed by every event handler
+     */
+    private long processedEventCount()
+    {
+        long processedEventCount = Long.MAX_VALUE;
+        for ( DisruptorSbeMetricsEventHandler eventHandler : eventHandlers )
+        {
+            processedEventCount = Math.min( processedEventCount, eventHandler.processedEventCount() );
+        }
+        if ( null != resultsLogEventHandler )
+        {
+            processedEventCount = Math.min( processedEventCount, resultsLogEventHandler.processedEventCount() );
+        }
+        return processedEventCount;
+    }
+
     @Override
     public MetricsServiceWriter getWriter() throws MetricsCollectionException
     {
@@ -183,7 +283,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
         DisruptorSbeMetricsServiceWriter metricsServiceWriter =
-                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler );
+                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandlers );
         metricsServiceWriters.add( metricsServiceWriter );
         return metricsServiceWriter;
     }
@@ -192,7 +292,7 @@ public class DisruptorSbeMetricsService implements MetricsService
     {
         private final AtomicLong initiatedEvents;
         private final RingBuffer<DirectBuffer> ringBuffer;
-        private final DisruptorSbeMetricsEventHandler eventHandler;
+        private final DisruptorSbeMetricsEventHandler[] eventHandlers;
         private final SubmitOperationResultTranslator submitOperationResultTranslator;
         private final GetWorkloadStatusTranslator getWorkloadStatusTranslator;
         private final GetWorkloadResultsTranslator getWorkloadResultsTranslator;
@@ -201,11 +301,11 @@ public class DisruptorSbeMetricsService implements MetricsService
 
         public DisruptorSbeMetricsServiceWriter( AtomicLong initiatedEvents,
                 RingBuffer<DirectBuffer> ringBuffer,
-                DisruptorSbeMetricsEventHandler eventHandler )
+                DisruptorSbeMetricsEventHandler[] eventHandlers )
         {
             this.initiatedEvents = initiatedEvents;
             this.ringBuffer = ringBuffer;
-            this.eventHandler = eventHandler;
+            this.eventHandlers = eventHandlers;
             MetricsEvent metricsEvent = new MetricsEvent();
             this.submitOperationResultTranslator = new SubmitOperationResultTranslator( metricsEvent );
             this.getWorkloadStatusTranslator = new GetWorkloadStatusTranslator( metricsEvent );
@@ -222,6 +322,7 @@ public class DisruptorSbeMetricsService implements MetricsService
                 long scheduledStartTimeAsMilli,
                 long actualStartTimeAsMilli,
                 long runDurationAsNano,
+                long responseTimeAsNano,
                 int resultCode,
                 long originalStartTime) throws MetricsCollectionException
         {
@@ -231,7 +332,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             }
             initiatedEvents.incrementAndGet();
             ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
-                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+                    actualStartTimeAsMilli, runDurationAsNano, responseTimeAsNano, resultCode, originalStartTime );
         }
 
         @Override
@@ -241,14 +342,18 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 alreadyShutdownPolicy.apply();
             }
-            AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference = eventHandler.statusSnapshot();
-            int oldStamp = statusSnapshotReference.getStamp();
+            int[] oldStamps = new int[eventHandlers.length];
+            for ( int i = 0; i < eventHandlers.length; i++ )
+            {
+                oldStamps[i] = eventHandlers[i].statusSnapshot().getStamp();
+            }
             ringBuffer.publishEvent( getWorkloadStatusTranslator );
-            while ( statusSnapshotReference.getStamp() <= oldStamp )
+            List<WorkloadStatusSnapshot> statusSnapshots = new ArrayList<>( eventHandlers.length );
+            for ( int i = 0; i < eventHandlers.length; i++ )
             {
-                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
+                statusSnapshots.add( awaitNewerReference( eventHandlers[i].statusSnapshot(), oldStamps[i] ) );
             }
-            return statusSnapshotReference.getReference();
+            return (1 == statusSnapshots.size()) ? statusSnapshots.get( 0 ) : mergeStatus( statusSnapshots );
         }
 
         @Override
@@ -258,14 +363,83 @@ public class DisruptorSbeMetricsService implements MetricsService
             {
                 alreadyShutdownPolicy.apply();
             }
-            AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshotReference = eventHandler.resultsSnapshot();
-            int oldStamp = resultsSnapshotReference.getStamp();
+            int[] oldStamps = new int[eventHandlers.length];
+            for ( int i = 0; i < eventHandlers.length; i++ )
+            {
+                oldStamps[i] = eventHandlers[i].resultsSnapshot().getStamp();
+            }
             ringBuffer.publishEvent( getWorkloadResultsTranslator );
-            while ( resultsSnapshotReference.getStamp() <= oldStamp )
+            WorkloadResultsSnapshot firstResultsSnapshot = null;
+            List<WorkloadResultsSnapshot> nonEmptyResultsSnapshots = new ArrayList<>( eventHandlers.length );
+            for ( int i = 0; i < eventHandlers.length; i++ )
+            {
+                WorkloadResultsSnapshot resultsSnapshot =
+                        awaitNewerReference( eventHandlers[i].resultsSnapshot(), oldStamps[i] );
+                if ( null == firstResultsSnapshot )
+                {
+                    firstResultsSnapshot = resultsSnapshot;
+                }
+                // event handlers that recorded nothing have no start or finish time
+                if ( resultsSnapshot.totalOperationCount() > 0 )
+                {
+                    nonEmptyResultsSnapshots.add( resultsSnapshot );
+                }
+            }
+            switch ( nonEmptyResultsSnapshots.size() )
+            {
+            case 0:
+                return firstResultsSnapshot;
+            case 1:
+                return nonEmptyResultsSnapshots.get( 0 );
+            default:
+                // event handlers record disjoint operation types, so merged metrics are exact
+                return WorkloadResultsSnapshot.merge( nonEmptyResultsSnapshots );
+            }
+        }
+
+        private static <T> T awaitNewerReference( AtomicStampedReference<T> reference, int oldStamp )
+        {
+            while ( reference.getStamp() <= oldStamp )
             {
                 LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
             }
-            return resultsSnapshotReference.getReference();
+            return reference.getReference();
+        }
+
+        /**
+         * Combines statuses of event handlers that recorded disjoint operation types, taken at the same time
+         */
+        private static WorkloadStatusSnapshot mergeStatus( List<WorkloadStatusSnapshot> statusSnapshots )
+        {
+            long runDurationAsMilli = 0;
+            long operationCount = 0;
+            long durationSinceLastMeasurementAsMilli = -1;
+            for ( WorkloadStatusSnapshot statusSnapshot : statusSnapshots )
+            {
+                if ( 0 == statusSnapshot.operationCount() )
+                {
+                    continue;
+                }
+                runDurationAsMilli = Math.max( runDurationAsMilli, statusSnapshot.runDurationAsMilli() );
+                operationCount += statusSnapshot.operationCount();
+                if ( -1 == durationSinceLastMeasurementAsMilli ||
+                     statusSnapshot.durationSinceLastMeasurementAsMilli() < durationSinceLastMeasurementAsMilli )
+                {
+                    durationSinceLastMeasurementAsMilli = statusSnapshot.durationSinceLastMeasurementAsMilli();
+                }
+            }
+            if ( 0 == operationCount )
+            {
+                return new WorkloadStatusSnapshot( 0, 0, 0, 0 );
+            }
+            double operationsPerSecond =
+                    ((double) operationCount / TimeUnit.MILLISECONDS.toNanos( runDurationAsMilli )) *
+                    TimeUnit.SECONDS.toNanos( 1 );
+            return new WorkloadStatusSnapshot(
+                    runDurationAsMilli,
+                    operationCount,
+                    durationSinceLastMeasurementAsMilli,
+                    operationsPerSecond );
         }
 
         public static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
@@ -286,8 +460,9 @@ public class DisruptorSbeMetricsService implements MetricsService
                         .scheduledStartTimeAsMilli( (long) fields[1] )
                         .actualStartTimeAsMilli( (long) fields[2] )
                         .runDurationAsNano( (long) fields[3] )
-                        .resultCode( (int) fields[4] )
-                        .originalStartTime((long) fields[5]);
+                        .responseTimeAsNano( (long) fields[4] )
+                        .resultCode( (int) fields[5] )
+                        .originalStartTime((long) fields[6]);
             }
         }
 
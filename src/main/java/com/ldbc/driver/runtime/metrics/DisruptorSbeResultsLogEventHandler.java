@@ -0,0 +1,51 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import com.lmax.disruptor.EventHandler;
+import uk.co.real_logic.sbe.codec.java.DirectBuffer;
+
+/**
+ * Writes every operation result to the results log, leaving recording of metrics to other handlers
+ */
+class DisruptorSbeResultsLogEventHandler implements EventHandler<DirectBuffer>
+{
+    private final ResultsLogWriter resultsLogWriter;
+    private final String[] operationNames;
+    private final MetricsEvent metricsEvent;
+    private volatile long processedEventCount = 0L;
+
+    DisruptorSbeResultsLogEventHandler( ResultsLogWriter resultsLogWriter, String[] operationNames )
+    {
+        this.resultsLogWriter = resultsLogWriter;
+        this.operationNames = operationNames;
+        this.metricsEvent = new MetricsEvent();
+    }
+
+    long processedEventCount()
+    {
+        return processedEventCount;
+    }
+
+    @Override
+    public void onEvent( DirectBuffer event, long l, boolean b ) throws Exception
+    {
+        metricsEvent.wrapForDecode(
+                event,
+                DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE,
+                DisruptorSbeMetricsEvent.ACTING_BLOCK_LENGTH,
+                DisruptorSbeMetricsEvent.ACTING_VERSION
+        );
+        // status and results requests are answered by the metrics handlers
+        if ( DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT == metricsEvent.eventType() )
+        {
+            resultsLogWriter.write(
+                    operationNames[metricsEvent.operationType()],
+                    metricsEvent.scheduledStartTimeAsMilli(),
+                    metricsEvent.actualStartTimeAsMilli(),
+                    metricsEvent.runDurationAsNano(),
+                    metricsEvent.resultCode(),
+                    metricsEvent.originalStartTime() );
+            processedEventCount++;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.LiteBlockingWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+/**
+ * How metrics consumer threads wait for operation results, trading latency of metrics collection for CPU usage.
+ * Strategies that do not block should only be used if every consumer thread has a core of its own.
+ */
+public enum DisruptorWaitStrategyType
+{
+    BLOCKING,
+    LITE_BLOCKING,
+    SLEEPING,
+    YIELDING,
+    BUSY_SPIN;
+
+    WaitStrategy newWaitStrategy()
+    {
+        switch ( this )
+        {
+        case LITE_BLOCKING:
+            return new LiteBlockingWaitStrategy();
+        case SLEEPING:
+            return new SleepingWaitStrategy();
+        case YIELDING:
+            return new YieldingWaitStrategy();
+        case BUSY_SPIN:
+            return new BusySpinWaitStrategy();
+        default:
+            return new BlockingWaitStrategy();
+        }
+    }
+}
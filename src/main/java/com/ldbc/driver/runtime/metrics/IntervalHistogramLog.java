@@ -0,0 +1,186 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * Response time histograms of consecutive intervals, one log per operation type, in the HdrHistogram interval log
+ * format (.hlog, version 1.01), so they can also be processed with HdrHistogram tooling.
+ * <p/>
+ * Logs are written and read here rather than via HistogramLogWriter/HistogramLogReader, because in the version of
+ * HdrHistogram this project depends on those require javax.xml.bind, which newer JVMs do not provide.
+ * <p/>
+ * Interval boundaries are multiples of the interval duration since epoch, so logs of different operation types (and
+ * of different driver processes) share the same intervals.
+ */
+public class IntervalHistogramLog
+{
+    static final String FILENAME_SUFFIX = "-intervals.hlog";
+    static final String LOG_FORMAT_VERSION_LINE = "#[Histogram log format version 1.01]";
+    static final String LEGEND_LINE =
+            "\"StartTimestamp\",\"EndTimestamp\",\"Interval_Max\",\"Interval_Compressed_Histogram\"";
+    private static final Pattern START_TIME_PATTERN = Pattern.compile( "#\\[StartTime: ([0-9.]+) " );
+
+    private final File directory;
+    private final String fileNamePrefix;
+    private final long intervalAsMilli;
+
+    /**
+     * @param directory directory the logs are written to
+     * @param fileNamePrefix log of operation X is named: [fileNamePrefix]-X-intervals.hlog
+     * @param intervalAsMilli duration of every interval
+     */
+    public IntervalHistogramLog( File directory, String fileNamePrefix, long intervalAsMilli )
+    {
+        this.directory = directory;
+        this.fileNamePrefix = fileNamePrefix;
+        this.intervalAsMilli = intervalAsMilli;
+    }
+
+    public long intervalAsMilli()
+    {
+        return intervalAsMilli;
+    }
+
+    public File fileFor( String operationName )
+    {
+        return new File( directory, fileNamePrefix + "-" + operationName + FILENAME_SUFFIX );
+    }
+
+    /**
+     * @return operation name to log, of all logs in the directory that have this prefix, ordered by operation name
+     */
+    public Map<String,File> existingFiles()
+    {
+        Map<String,File> files = new TreeMap<>();
+        File[] candidates = directory.listFiles();
+        if ( null == candidates )
+        {
+            return files;
+        }
+        String prefix = fileNamePrefix + "-";
+        for ( File candidate : candidates )
+        {
+            String fileName = candidate.getName();
+            if ( candidate.isFile() && fileName.startsWith( prefix ) && fileName.endsWith( FILENAME_SUFFIX ) &&
+                 fileName.length() > prefix.length() + FILENAME_SUFFIX.length() )
+            {
+                String operationName =
+                        fileName.substring( prefix.length(), fileName.length() - FILENAME_SUFFIX.length() );
+                // operation names never contain '-', other prefixes (e.g., of warmup) do
+                if ( !operationName.contains( "-" ) )
+                {
+                    files.put( operationName, candidate );
+                }
+            }
+        }
+        return files;
+    }
+
+    IntervalHistogramLogWriter newWriter( String[] operationNames, TimeUnit unit, long highestTrackableValue )
+    {
+        return new IntervalHistogramLogWriter( this, operationNames, unit, highestTrackableValue );
+    }
+
+    /**
+     * Combines logged intervals into longer windows, e.g., to find the time range of a latency regression
+     *
+     * @param intervals histograms read from a log, in time order
+     * @param windowAsMilli duration of windows, multiple of the logged interval duration for exact window boundaries,
+     * 0 combines all intervals into one window
+     * @return one histogram per window that contains intervals, with start and end time stamps of the window
+     */
+    public static List<Histogram> windows( List<Histogram> intervals, long windowAsMilli )
+    {
+        List<Histogram> windows = new ArrayList<>();
+        Histogram window = null;
+        for ( Histogram interval : intervals )
+        {
+            long windowStartTimeAsMilli = (0 == windowAsMilli)
+                                          ? intervals.get( 0 ).getStartTimeStamp()
+                                          : interval.getStartTimeStamp() -
+                                            (interval.getStartTimeStamp() % windowAsMilli);
+            if ( null == window || window.getStartTimeStamp() != windowStartTimeAsMilli )
+            {
+                window = new Histogram( interval.getHighestTrackableValue(),
+                        interval.getNumberOfSignificantValueDigits() );
+                window.setStartTimeStamp( windowStartTimeAsMilli );
+                window.setEndTimeStamp( (0 == windowAsMilli)
+                                        ? intervals.get( intervals.size() - 1 ).getEndTimeStamp()
+                                        : windowStartTimeAsMilli + windowAsMilli );
+                windows.add( window );
+            }
+            window.add( interval );
+        }
+        return windows;
+    }
+
+    /**
+     * @return histograms of all intervals in the log, in the order they were logged, with start and end time stamps
+     * set to absolute times (milliseconds since epoch)
+     */
+    public static List<Histogram> read( File file ) throws MetricsCollectionException
+    {
+        List<Histogram> histograms = new ArrayList<>();
+        long startTimeAsMilli = 0;
+        try ( BufferedReader reader = Files.newBufferedReader( file.toPath(), StandardCharsets.UTF_8 ) )
+        {
+            String line;
+            while ( null != (line = reader.readLine()) )
+            {
+                if ( line.startsWith( "#" ) )
+                {
+                    Matcher matcher = START_TIME_PATTERN.matcher( line );
+                    if ( matcher.find() )
+                    {
+                        startTimeAsMilli = Math.round( Double.parseDouble( matcher.group( 1 ) ) * 1000 );
+                    }
+                    continue;
+                }
+                if ( line.isEmpty() || line.startsWith( "\"" ) )
+                {
+                    continue;
+                }
+                String[] columns = line.split( "," );
+                if ( columns.length != 4 )
+                {
+                    throw new MetricsCollectionException(
+                            format( "Malformed line in interval log %s\n%s", file.getAbsolutePath(), line ) );
+                }
+                Histogram histogram = Histogram.decodeFromCompressedByteBuffer(
+                        ByteBuffer.wrap( Base64.getDecoder().decode( columns[3] ) ),
+                        0 );
+                histogram.setStartTimeStamp(
+                        startTimeAsMilli + Math.round( Double.parseDouble( columns[0] ) * 1000 ) );
+                histogram.setEndTimeStamp(
+                        startTimeAsMilli + Math.round( Double.parseDouble( columns[1] ) * 1000 ) );
+                histograms.add( histogram );
+            }
+        }
+        catch ( MetricsCollectionException e )
+        {
+            throw e;
+        }
+        catch ( Exception e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error reading interval log %s", file.getAbsolutePath() ), e );
+        }
+        return histograms;
+    }
+}
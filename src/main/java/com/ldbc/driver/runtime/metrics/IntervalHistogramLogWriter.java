@@ -0,0 +1,168 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Writes an IntervalHistogramLog. Measurements are assigned to intervals by their time, an interval is written once
+ * a measurement of a later interval arrives, so measurements are expected to arrive roughly in time order.
+ * Measurements of an earlier interval that arrive late are added to the current one.
+ * Not thread safe, used by the thread that owns the MetricsManager.
+ */
+class IntervalHistogramLogWriter
+{
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final IntervalHistogramLog log;
+    private final String[] operationNames;
+    private final TimeUnit unit;
+    private final long highestTrackableValue;
+    // per operation type, created when the operation type is first measured
+    private final Histogram[] intervalHistograms;
+    private final PrintStream[] logs;
+    private ByteBuffer encodingBuffer = null;
+    private long logStartTimeAsMilli = -1;
+    private long intervalStartTimeAsMilli = -1;
+
+    IntervalHistogramLogWriter( IntervalHistogramLog log,
+            String[] operationNames,
+            TimeUnit unit,
+            long highestTrackableValue )
+    {
+        this.log = log;
+        this.operationNames = operationNames;
+        this.unit = unit;
+        this.highestTrackableValue = highestTrackableValue;
+        this.intervalHistograms = new Histogram[operationNames.length];
+        this.logs = new PrintStream[operationNames.length];
+    }
+
+    /**
+     * @param value value in the unit of this log, values above the highest trackable value are recorded as that
+     */
+    void record( int operationType, long timeAsMilli, long value ) throws MetricsCollectionException
+    {
+        advanceTo( timeAsMilli );
+        histogramFor( operationType ).recordValue( Math.min( value, highestTrackableValue ) );
+    }
+
+    void add( int operationType, long timeAsMilli, AbstractHistogram values ) throws MetricsCollectionException
+    {
+        advanceTo( timeAsMilli );
+        histogramFor( operationType ).add( values );
+    }
+
+    /**
+     * Writes the current interval and closes all logs
+     */
+    void close() throws MetricsCollectionException
+    {
+        writeInterval();
+        for ( int operationType = 0; operationType < logs.length; operationType++ )
+        {
+            if ( null != logs[operationType] )
+            {
+                logs[operationType].close();
+                if ( logs[operationType].checkError() )
+                {
+                    throw new MetricsCollectionException( format( "Error writing interval log %s",
+                            log.fileFor( operationNames[operationType] ).getAbsolutePath() ) );
+                }
+            }
+        }
+    }
+
+    private void advanceTo( long timeAsMilli ) throws MetricsCollectionException
+    {
+        if ( -1 == intervalStartTimeAsMilli )
+        {
+            intervalStartTimeAsMilli = intervalStartOf( timeAsMilli );
+            logStartTimeAsMilli = intervalStartTimeAsMilli;
+        }
+        else if ( timeAsMilli >= intervalStartTimeAsMilli + log.intervalAsMilli() )
+        {
+            writeInterval();
+            // intervals without measurements are skipped
+            intervalStartTimeAsMilli = intervalStartOf( timeAsMilli );
+        }
+    }
+
+    private long intervalStartOf( long timeAsMilli )
+    {
+        return timeAsMilli - (timeAsMilli % log.intervalAsMilli());
+    }
+
+    private Histogram histogramFor( int operationType )
+    {
+        if ( null == intervalHistograms[operationType] )
+        {
+            intervalHistograms[operationType] = new Histogram( highestTrackableValue, SIGNIFICANT_DIGITS );
+        }
+        return intervalHistograms[operationType];
+    }
+
+    private void writeInterval() throws MetricsCollectionException
+    {
+        for ( int operationType = 0; operationType < intervalHistograms.length; operationType++ )
+        {
+            Histogram histogram = intervalHistograms[operationType];
+            if ( null == histogram || 0 == histogram.getTotalCount() )
+            {
+                continue;
+            }
+            if ( null == encodingBuffer || encodingBuffer.capacity() < histogram.getNeededByteBufferCapacity() )
+            {
+                encodingBuffer = ByteBuffer.allocate( histogram.getNeededByteBufferCapacity() );
+            }
+            encodingBuffer.clear();
+            int length = histogram.encodeIntoCompressedByteBuffer( encodingBuffer );
+            byte[] encoded = new byte[length];
+            System.arraycopy( encodingBuffer.array(), 0, encoded, 0, length );
+            logFor( operationType ).format(
+                    Locale.US,
+                    "%.3f,%.3f,%.3f,%s\n",
+                    (intervalStartTimeAsMilli - logStartTimeAsMilli) / 1000.0,
+                    (intervalStartTimeAsMilli + log.intervalAsMilli() - logStartTimeAsMilli) / 1000.0,
+                    (double) histogram.getMaxValue(),
+                    Base64.getEncoder().encodeToString( encoded ) );
+            histogram.reset();
+        }
+    }
+
+    private PrintStream logFor( int operationType ) throws MetricsCollectionException
+    {
+        if ( null == logs[operationType] )
+        {
+            File file = log.fileFor( operationNames[operationType] );
+            try
+            {
+                logs[operationType] = new PrintStream( new FileOutputStream( file ), false, "UTF-8" );
+            }
+            catch ( FileNotFoundException | UnsupportedEncodingException e )
+            {
+                throw new MetricsCollectionException(
+                        format( "Error creating interval log %s", file.getAbsolutePath() ), e );
+            }
+            PrintStream out = logs[operationType];
+            out.println( IntervalHistogramLog.LOG_FORMAT_VERSION_LINE );
+            out.format( Locale.US, "#[StartTime: %.3f (seconds since epoch), %s]\n",
+                    logStartTimeAsMilli / 1000.0, new Date( logStartTimeAsMilli ) );
+            out.format( "#[Response times of %s, in %s]\n", operationNames[operationType], unit.name() );
+            out.println( IntervalHistogramLog.LEGEND_LINE );
+        }
+        return logs[operationType];
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.collect.Ordering;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.AbstractHistogram;
 
 import java.io.OutputStream;
 import java.nio.charset.Charset;
@@ -22,6 +23,9 @@ public class MetricsManager
     private long latestFinishTimeAsMilli;
     private final OperationTypeMetricsManager[] operationTypeMetricsManagers;
     private final Map<Integer,Class<? extends Operation>> operationTypeToClassMapping;
+    private final long highestExpectedRuntimeDurationAsNano;
+    // null if interval histograms are not logged
+    private final IntervalHistogramLogWriter intervalHistogramLogWriter;
 
     public static void export(
             WorkloadResultsSnapshot workloadResults,
@@ -122,6 +126,26 @@ public class MetricsManager
             long highestExpectedRuntimeDurationAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                null
+        );
+    }
+
+    /**
+     * @param intervalHistogramLog where response times of every interval are logged, null if they should not be
+     */
+    public MetricsManager( TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            IntervalHistogramLog intervalHistogramLog ) throws MetricsCollectionException
     {
         operationTypeMetricsManagers = toOperationTypeMetricsManagerArray(
                 operationTypeToClassMapping,
@@ -134,25 +158,98 @@ public class MetricsManager
         this.latestFinishTimeAsMilli = Long.MIN_VALUE;
         this.timeSource = timeSource;
         this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.intervalHistogramLogWriter = (null == intervalHistogramLog)
+                                          ? null
+                                          : intervalHistogramLog.newWriter(
+                                                  toOperationNameArray( operationTypeToClassMapping ),
+                                                  unit,
+                                                  unit.convert( highestExpectedRuntimeDurationAsNano,
+                                                          TimeUnit.NANOSECONDS ) );
     }
 
     final static long ONE_MS_AS_NS = TimeUnit.MILLISECONDS.toNanos( 1 );
 
-    public void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
+    /**
+     * Response time is measured from scheduled start time rather than actual start time, so it includes any delay
+     * spent waiting to be executed (i.e., it is corrected for coordinated omission).
+     * Operations that started before their scheduled start time (e.g., scheduled start times are being ignored)
+     * have no such delay, their response time equals their run duration.
+     *
+     * @param startDelayAsNano actual start time minus scheduled start time
+     */
+    public static long responseTimeAsNano( long startDelayAsNano, long runDurationAsNano )
+    {
+        return Math.max( 0, startDelayAsNano ) + runDurationAsNano;
+    }
+
+    /**
+     * Same as {@link #responseTimeAsNano(long, long)}, for when start times are only known in milliseconds, e.g.,
+     * when read from a results log
+     */
+    public static long responseTimeAsNano( long scheduledStartTimeAsMilli, long actualStartTimeAsMilli,
+            long runDurationAsNano )
+    {
+        return responseTimeAsNano(
+                TimeUnit.MILLISECONDS.toNanos( actualStartTimeAsMilli - scheduledStartTimeAsMilli ),
+                runDurationAsNano );
+    }
+
+    public void measure( long actualStartTimeAsMilli, long runDurationAsNano, long responseTimeAsNano,
+            int operationType ) throws MetricsCollectionException
+    {
+        long finishTimeAsMilli = actualStartTimeAsMilli + (runDurationAsNano / ONE_MS_AS_NS);
+        extendTimeRange( actualStartTimeAsMilli, finishTimeAsMilli );
+        operationTypeMetricsManagers[operationType].measure( runDurationAsNano, responseTimeAsNano );
+        if ( null != intervalHistogramLogWriter )
+        {
+            intervalHistogramLogWriter.record(
+                    operationType,
+                    finishTimeAsMilli,
+                    unit.convert( Math.min( responseTimeAsNano, highestExpectedRuntimeDurationAsNano ),
+                            TimeUnit.NANOSECONDS ) );
+        }
+    }
+
+    /**
+     * Adds measurements that were recorded elsewhere, e.g., in histograms of another thread.
+     * Time range of those measurements must be added separately, via extendTimeRange(), before adding them.
+     * In the interval histogram log they are assigned to the interval of the latest finish time.
+     *
+     * @param runDurations run durations, in the unit of this manager
+     * @param responseTimes response times, in the unit of this manager
+     */
+    void add( int operationType, AbstractHistogram runDurations, AbstractHistogram responseTimes )
             throws MetricsCollectionException
     {
-        if ( actualStartTimeAsMilli < startTimeAsMilli )
+        operationTypeMetricsManagers[operationType].add( runDurations, responseTimes );
+        if ( null != intervalHistogramLogWriter )
         {
-            startTimeAsMilli = actualStartTimeAsMilli;
+            intervalHistogramLogWriter.add( operationType, latestFinishTimeAsMilli, responseTimes );
         }
+    }
 
-        long operationFinishTimeAsMilli = actualStartTimeAsMilli + (runDurationAsNano / ONE_MS_AS_NS);
-        if ( operationFinishTimeAsMilli > latestFinishTimeAsMilli )
+    /**
+     * Writes the last interval of the interval histogram log, if there is one, and closes it
+     */
+    public void close() throws MetricsCollectionException
+    {
+        if ( null != intervalHistogramLogWriter )
         {
-            latestFinishTimeAsMilli = operationFinishTimeAsMilli;
+            intervalHistogramLogWriter.close();
         }
+    }
 
-        operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
+    void extendTimeRange( long startTimeAsMilli, long finishTimeAsMilli )
+    {
+        if ( startTimeAsMilli < this.startTimeAsMilli )
+        {
+            this.startTimeAsMilli = startTimeAsMilli;
+        }
+        if ( finishTimeAsMilli > latestFinishTimeAsMilli )
+        {
+            latestFinishTimeAsMilli = finishTimeAsMilli;
+        }
     }
 
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
@@ -161,7 +258,17 @@ public class MetricsManager
         while ( reader.next() )
         {
             int operationType = simpleNameToTypeMapping.get( reader.getOperationName() );
-            measure( reader.getActualStartTimeAsMilli(), reader.getRunDurationAsNano(), operationType );
+            long responseTimeAsNano = responseTimeAsNano(
+                    reader.getScheduledStartTimeAsMilli(),
+                    reader.getActualStartTimeAsMilli(),
+                    reader.getRunDurationAsNano()
+            );
+            measure(
+                    reader.getActualStartTimeAsMilli(),
+                    reader.getRunDurationAsNano(),
+                    responseTimeAsNano,
+                    operationType
+            );
         }
     }
 
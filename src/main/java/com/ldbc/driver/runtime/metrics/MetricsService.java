@@ -13,6 +13,7 @@ public interface MetricsService
                 long scheduledStartTimeAsMilli,
                 long actualStartTimeAsMilli,
                 long runDurationAsNano,
+                long responseTimeAsNano,
                 int resultCode,
                 long originalStartTime) throws MetricsCollectionException;
 
@@ -0,0 +1,15 @@
+package com.ldbc.driver.runtime.metrics;
+
+public enum MetricsServiceType
+{
+    /**
+     * Operation results are passed through a ring buffer to a single thread,
+     * which records them and writes every one of them to the results log
+     */
+    DISRUPTOR,
+    /**
+     * Operation results are recorded by the threads that execute them, into histograms of their own,
+     * results log is written by a separate thread and may be sampled
+     */
+    THREAD_LOCAL_HISTOGRAM
+}
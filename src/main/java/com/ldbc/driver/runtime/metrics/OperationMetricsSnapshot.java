@@ -2,6 +2,8 @@ package com.ldbc.driver.runtime.metrics;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public class OperationMetricsSnapshot {
@@ -13,6 +15,9 @@ public class OperationMetricsSnapshot {
     private long count;
     @JsonProperty("run_time")
     private ContinuousMetricSnapshot rutTimeMetric;
+    // measured from scheduled start time, i.e., includes time spent waiting to start
+    @JsonProperty("response_time")
+    private ContinuousMetricSnapshot responseTimeMetric;
 
     private OperationMetricsSnapshot() {
     }
@@ -20,11 +25,39 @@ public class OperationMetricsSnapshot {
     public OperationMetricsSnapshot(String name,
                                     TimeUnit durationUnit,
                                     long count,
-                                    ContinuousMetricSnapshot rutTimeMetric) {
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot responseTimeMetric) {
         this.name = name;
         this.durationUnit = durationUnit;
         this.count = count;
         this.rutTimeMetric = rutTimeMetric;
+        this.responseTimeMetric = responseTimeMetric;
+    }
+
+    /**
+     * Combines snapshots of the same operation type, recorded over disjoint sets of operations,
+     * see ContinuousMetricSnapshot.merge() for which values are exact
+     */
+    static OperationMetricsSnapshot merge(List<OperationMetricsSnapshot> snapshots) {
+        OperationMetricsSnapshot first = snapshots.get(0);
+        long count = 0;
+        List<ContinuousMetricSnapshot> runTimeMetrics = new ArrayList<>();
+        List<ContinuousMetricSnapshot> responseTimeMetrics = new ArrayList<>();
+        for (OperationMetricsSnapshot snapshot : snapshots) {
+            count += snapshot.count;
+            runTimeMetrics.add(snapshot.rutTimeMetric);
+            if (null != snapshot.responseTimeMetric) {
+                responseTimeMetrics.add(snapshot.responseTimeMetric);
+            }
+        }
+        return new OperationMetricsSnapshot(
+                first.name,
+                first.durationUnit,
+                count,
+                ContinuousMetricSnapshot.merge(runTimeMetrics),
+                // response time is only meaningful if it was recorded for all operations
+                (responseTimeMetrics.size() == snapshots.size()) ? ContinuousMetricSnapshot.merge(responseTimeMetrics)
+                                                                  : null);
     }
 
     public String name() {
@@ -43,6 +76,13 @@ public class OperationMetricsSnapshot {
         return rutTimeMetric;
     }
 
+    /**
+     * @return response time metric, or null if it was not recorded (e.g., snapshot from older results file)
+     */
+    public ContinuousMetricSnapshot responseTimeMetric() {
+        return responseTimeMetric;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,6 +95,9 @@ public class OperationMetricsSnapshot {
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (rutTimeMetric != null ? !rutTimeMetric.equals(that.rutTimeMetric) : that.rutTimeMetric != null)
             return false;
+        if (responseTimeMetric != null ? !responseTimeMetric.equals(that.responseTimeMetric)
+                                       : that.responseTimeMetric != null)
+            return false;
 
         return true;
     }
@@ -65,6 +108,7 @@ public class OperationMetricsSnapshot {
         result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
         result = 31 * result + (int) (count ^ (count >>> 32));
         result = 31 * result + (rutTimeMetric != null ? rutTimeMetric.hashCode() : 0);
+        result = 31 * result + (responseTimeMetric != null ? responseTimeMetric.hashCode() : 0);
         return result;
     }
 
@@ -75,6 +119,7 @@ public class OperationMetricsSnapshot {
                 ", durationUnit=" + durationUnit +
                 ", count=" + count +
                 ", rutTimeMetric=" + rutTimeMetric +
+                ", responseTimeMetric=" + responseTimeMetric +
                 '}';
     }
 }
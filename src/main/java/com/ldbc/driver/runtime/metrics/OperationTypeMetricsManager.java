@@ -3,6 +3,7 @@ package com.ldbc.driver.runtime.metrics;
 import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.temporal.TemporalUtil;
+import org.HdrHistogram.AbstractHistogram;
 
 import java.util.Comparator;
 import java.util.concurrent.TimeUnit;
@@ -12,9 +13,11 @@ import static java.lang.String.format;
 public class OperationTypeMetricsManager
 {
     private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_RESPONSE_TIME = "Response Time";
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    private final ContinuousMetricManager responseTimeMetric;
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
@@ -36,46 +39,74 @@ public class OperationTypeMetricsManager
                 unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
                 4
         );
+        this.responseTimeMetric = new ContinuousMetricManager(
+                METRIC_RESPONSE_TIME,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4
+        );
     }
 
-    void measure( long runDurationAsNano ) throws MetricsCollectionException
+    void measure( long runDurationAsNano, long responseTimeAsNano ) throws MetricsCollectionException
     {
         //
         // Measure operation runtime
         //
-        if ( runDurationAsNano > highestExpectedRuntimeDurationAsNano )
+        addMeasurement( runTimeMetric, "runtime", runDurationAsNano );
+        //
+        // Measure operation response time, from scheduled start time
+        //
+        addMeasurement( responseTimeMetric, "response time", responseTimeAsNano );
+    }
+
+    /**
+     * @param runDurations run durations, in the unit of this manager
+     * @param responseTimes response times, in the unit of this manager
+     */
+    void add( AbstractHistogram runDurations, AbstractHistogram responseTimes )
+    {
+        runTimeMetric.addMeasurements( runDurations );
+        responseTimeMetric.addMeasurements( responseTimes );
+    }
+
+    private void addMeasurement( ContinuousMetricManager metric, String metricName, long durationAsNano )
+            throws MetricsCollectionException
+    {
+        if ( durationAsNano > highestExpectedRuntimeDurationAsNano )
         {
             String errMsg = format(
-                    "Error recording runtime - reported value exceeds maximum allowed. Time " +
+                    "Error recording %s - reported value exceeds maximum allowed. Time " +
                     "reported as maximum.\n"
                     + "Reported: %s %s / %s\n"
                     + "For: %s\n"
                     + "Maximum: %s %s / %s",
-                    runDurationAsNano,
+                    metricName,
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    temporalUtil.nanoDurationToString( runDurationAsNano ),
+                    temporalUtil.nanoDurationToString( durationAsNano ),
                     name,
                     highestExpectedRuntimeDurationAsNano,
                     TimeUnit.NANOSECONDS.name(),
                     temporalUtil.nanoDurationToString( highestExpectedRuntimeDurationAsNano )
             );
             loggingService.info( errMsg );
-            runDurationAsNano = highestExpectedRuntimeDurationAsNano;
+            durationAsNano = highestExpectedRuntimeDurationAsNano;
         }
 
-        long runtimeInAppropriateUnit = unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+        long durationInAppropriateUnit = unit.convert( durationAsNano, TimeUnit.NANOSECONDS );
 
         try
         {
-            runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
+            metric.addMeasurement( durationInAppropriateUnit );
         }
         catch ( Throwable e )
         {
             String errMsg = format(
-                    "Error encountered adding runtime: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
-                    runDurationAsNano,
+                    "Error encountered adding %s: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
+                    metricName,
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    runtimeInAppropriateUnit,
+                    durationInAppropriateUnit,
                     unit.name(),
                     name,
                     highestExpectedRuntimeDurationAsNano,
@@ -89,7 +120,13 @@ public class OperationTypeMetricsManager
 
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        return new OperationMetricsSnapshot(
+                name,
+                unit,
+                count(),
+                runTimeMetric.snapshot(),
+                responseTimeMetric.snapshot()
+        );
     }
 
     public String name()
@@ -99,7 +136,7 @@ public class OperationTypeMetricsManager
 
     public long count()
     {
-        return runTimeMetric.snapshot().count();
+        return runTimeMetric.count();
     }
 
     static class OperationMetricsNameComparator implements Comparator<OperationMetricsSnapshot>
@@ -0,0 +1,59 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+/**
+ * Exports a results log of any format to the CSV format, e.g., for plotting.
+ * <p/>
+ * Usage: ResultsLogCsvExporter [results log] [CSV file]
+ */
+public class ResultsLogCsvExporter
+{
+    public static void main( String[] args ) throws MetricsCollectionException
+    {
+        if ( args.length != 2 )
+        {
+            System.out.println( format( "Usage: %s [results log] [CSV file]",
+                    ResultsLogCsvExporter.class.getSimpleName() ) );
+            System.exit( 1 );
+        }
+        long count = export( new File( args[0] ), new File( args[1] ) );
+        System.out.println( format( "Exported %s results to %s", count, args[1] ) );
+    }
+
+    /**
+     * @return number of exported results
+     */
+    public static long export( File resultsLog, File csvResultsLog ) throws MetricsCollectionException
+    {
+        long count = 0;
+        try ( ResultsLogReader reader = ResultsLogFormat.newReader( resultsLog ) )
+        {
+            try ( ResultsLogWriter writer = ResultsLogFormat.CSV.newWriter( csvResultsLog, reader.unit() ) )
+            {
+                while ( reader.next() )
+                {
+                    writer.write(
+                            reader.getOperationName(),
+                            reader.getScheduledStartTimeAsMilli(),
+                            reader.getActualStartTimeAsMilli(),
+                            reader.getRunDurationAsNano(),
+                            reader.getResultCode(),
+                            reader.getOriginalStartTime()
+                    );
+                    count++;
+                }
+            }
+        }
+        catch ( Exception e )
+        {
+            throw new MetricsCollectionException(
+                    format( "Error exporting %s to %s", resultsLog.getAbsolutePath(),
+                            csvResultsLog.getAbsolutePath() ), e );
+        }
+        return count;
+    }
+}
@@ -0,0 +1,115 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+public enum ResultsLogFormat
+{
+    /**
+     * One row of text per operation result, columns separated by '|'
+     */
+    CSV( "-results_log.csv" ),
+    /**
+     * Same as CSV, gzip compressed
+     */
+    CSV_GZIP( "-results_log.csv" + AsyncResultsLogWriter.GZIP_EXTENSION ),
+    /**
+     * Fixed width binary record per operation result, see BinaryResultsLogWriter,
+     * can be exported to CSV with ResultsLogCsvExporter
+     */
+    BINARY( "-results_log.bin" );
+
+    private final String fileNameSuffix;
+
+    ResultsLogFormat( String fileNameSuffix )
+    {
+        this.fileNameSuffix = fileNameSuffix;
+    }
+
+    public String fileNameSuffix()
+    {
+        return fileNameSuffix;
+    }
+
+    public ResultsLogWriter newWriter( File resultsLog, TimeUnit unit ) throws IOException
+    {
+        return newWriter( resultsLog, unit, 0 );
+    }
+
+    /**
+     * @param rotationSizeAsBytes size at which CSV results logs are split into another segment, 0 to never split
+     */
+    public ResultsLogWriter newWriter( File resultsLog, TimeUnit unit, long rotationSizeAsBytes ) throws IOException
+    {
+        switch ( this )
+        {
+        case BINARY:
+            return new BinaryResultsLogWriter( resultsLog, unit );
+        case CSV_GZIP:
+            return new AsyncResultsLogWriter( resultsLog, unit, true, rotationSizeAsBytes );
+        default:
+            return new AsyncResultsLogWriter( resultsLog, unit, false, rotationSizeAsBytes );
+        }
+    }
+
+    /**
+     * @return reader for the results log, of whichever format it was written in, including all of its segments
+     */
+    public static ResultsLogReader newReader( File resultsLog ) throws IOException
+    {
+        if ( BinaryResultsLogReader.isBinaryResultsLog( resultsLog ) )
+        {
+            return new BinaryResultsLogReader( resultsLog );
+        }
+        if ( !resultsLog.exists() )
+        {
+            throw new FileNotFoundException( resultsLog.getAbsolutePath() );
+        }
+        List<InputStream> segments = new ArrayList<>();
+        try
+        {
+            for ( File segment : AsyncResultsLogWriter.segments( resultsLog ) )
+            {
+                InputStream segmentInputStream = new BufferedInputStream( new FileInputStream( segment ) );
+                segments.add( segmentInputStream );
+                if ( isGzip( segmentInputStream ) )
+                {
+                    segments.set( segments.size() - 1, new GZIPInputStream( segmentInputStream ) );
+                }
+            }
+            return new SimpleResultsLogReader( new BufferedReader( new InputStreamReader(
+                    new SequenceInputStream( Collections.enumeration( segments ) ),
+                    StandardCharsets.UTF_8 ) ) );
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            for ( InputStream segment : segments )
+            {
+                segment.close();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isGzip( InputStream inputStream ) throws IOException
+    {
+        inputStream.mark( 2 );
+        int first = inputStream.read();
+        int second = inputStream.read();
+        inputStream.reset();
+        return (GZIPInputStream.GZIP_MAGIC & 0xff) == first && (GZIPInputStream.GZIP_MAGIC >> 8) == second;
+    }
+}
@@ -0,0 +1,146 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.DefaultQueues;
+
+import java.util.concurrent.BlockingQueue;
+
+import static java.lang.String.format;
+
+/**
+ * Writes operation results to a results log, off the threads that submit them.
+ * Producers only block while the queue is full, i.e., while the results log can not keep up.
+ */
+class ResultsLogWriterThread extends Thread
+{
+    private static final OperationResult TERMINATE = new OperationResult( -1, -1, -1, -1, -1, -1 );
+
+    private final ResultsLogWriter resultsLogWriter;
+    private final String[] operationNames;
+    private final ConcurrentErrorReporter errorReporter;
+    private final BlockingQueue<OperationResult> queue;
+
+    ResultsLogWriterThread( ResultsLogWriter resultsLogWriter,
+            String[] operationNames,
+            ConcurrentErrorReporter errorReporter,
+            int queueCapacity )
+    {
+        super( ResultsLogWriterThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
+        this.resultsLogWriter = resultsLogWriter;
+        this.operationNames = operationNames;
+        this.errorReporter = errorReporter;
+        this.queue = DefaultQueues.newBlockingBounded( queueCapacity );
+    }
+
+    void submit( int operationType,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws MetricsCollectionException
+    {
+        put( new OperationResult( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli,
+                runDurationAsNano, resultCode, originalStartTime ) );
+    }
+
+    /**
+     * Writes all results submitted so far, then terminates. Does not close the results log.
+     */
+    void shutdown( long timeoutAsMilli ) throws MetricsCollectionException
+    {
+        put( TERMINATE );
+        try
+        {
+            join( timeoutAsMilli );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new MetricsCollectionException( "Interrupted while waiting for results log to be written" );
+        }
+        if ( isAlive() )
+        {
+            throw new MetricsCollectionException(
+                    format( "%s timed out waiting for results log to be written, %s results remain",
+                            getClass().getSimpleName(), queue.size() ) );
+        }
+    }
+
+    private void put( OperationResult operationResult ) throws MetricsCollectionException
+    {
+        try
+        {
+            queue.put( operationResult );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new MetricsCollectionException( "Interrupted while submitting result to results log" );
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        boolean failed = false;
+        try
+        {
+            OperationResult operationResult;
+            while ( TERMINATE != (operationResult = queue.take()) )
+            {
+                if ( failed )
+                {
+                    // keep draining so producers never block on a results log that is no longer written
+                    continue;
+                }
+                try
+                {
+                    resultsLogWriter.write(
+                            operationNames[operationResult.operationType],
+                            operationResult.scheduledStartTimeAsMilli,
+                            operationResult.actualStartTimeAsMilli,
+                            operationResult.runDurationAsNano,
+                            operationResult.resultCode,
+                            operationResult.originalStartTime );
+                }
+                catch ( Throwable e )
+                {
+                    failed = true;
+                    errorReporter.reportError(
+                            this,
+                            format( "Error writing results log\n%s", ConcurrentErrorReporter.stackTraceToString( e ) )
+                    );
+                }
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            errorReporter.reportError( this, "Interrupted while writing results log" );
+        }
+    }
+
+    private static class OperationResult
+    {
+        private final int operationType;
+        private final long scheduledStartTimeAsMilli;
+        private final long actualStartTimeAsMilli;
+        private final long runDurationAsNano;
+        private final int resultCode;
+        private final long originalStartTime;
+
+        private OperationResult( int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime )
+        {
+            this.operationType = operationType;
+            this.scheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
+            this.actualStartTimeAsMilli = actualStartTimeAsMilli;
+            this.runDurationAsNano = runDurationAsNano;
+            this.resultCode = resultCode;
+            this.originalStartTime = originalStartTime;
+        }
+    }
+}
@@ -64,24 +64,33 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
                 .append( unit ).append( "\n" );
         sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Count:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().count() ) ).append( "\n" );
-        sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Min:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().min() ) ).append( "\n" );
-        sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().max() ) ).append( "\n" );
-        sb.append( offset ).append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Mean:" ) )
-                .append( FLOAT_FORMATTER.format( metric.runTimeMetric().mean() ) ).append( "\n" );
-        sb.append( offset ).append( offset )
-                .append( String.format( "%1$-" + padRightDistance + "s", "50th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile50() ) ).append( "\n" );
-        sb.append( offset ).append( offset )
-                .append( String.format( "%1$-" + padRightDistance + "s", "90th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile90() ) ).append( "\n" );
-        sb.append( offset ).append( offset )
-                .append( String.format( "%1$-" + padRightDistance + "s", "95th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile95() ) ).append( "\n" );
-        sb.append( offset ).append( offset )
-                .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
-                .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile99() ) ).append( "\n" );
+        sb.append( formatDurations( offset + offset, padRightDistance, metric.runTimeMetric() ) );
+        if ( null != metric.responseTimeMetric() )
+        {
+            sb.append( offset ).append( offset ).append( "Response Time (from scheduled start):\n" );
+            sb.append( formatDurations( offset + offset + offset, padRightDistance - offset.length(),
+                    metric.responseTimeMetric() ) );
+        }
+        return sb.toString();
+    }
+
+    private String formatDurations( String offset, int padRightDistance, ContinuousMetricSnapshot durations )
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Min:" ) )
+                .append( INTEGER_FORMATTER.format( durations.min() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
+                .append( INTEGER_FORMATTER.format( durations.max() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "Mean:" ) )
+                .append( FLOAT_FORMATTER.format( durations.mean() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "50th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( durations.percentile50() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "90th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( durations.percentile90() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "95th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( durations.percentile95() ) ).append( "\n" );
+        sb.append( offset ).append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( durations.percentile99() ) ).append( "\n" );
         return sb.toString();
     }
 }
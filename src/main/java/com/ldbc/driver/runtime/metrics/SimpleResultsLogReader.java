@@ -2,6 +2,7 @@ package com.ldbc.driver.runtime.metrics;
 
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
@@ -28,6 +29,15 @@ public class SimpleResultsLogReader implements ResultsLogReader
         this.unit = processHeaders();
     }
 
+    /**
+     * @param resultsLog results log in CSV format, e.g., decompressed or concatenated from segments
+     */
+    public SimpleResultsLogReader( BufferedReader resultsLog ) throws IOException
+    {
+        this.reader = new SimpleCsvFileReader( resultsLog, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
+        this.unit = processHeaders();
+    }
+
     private TimeUnit processHeaders()
     {
         if ( reader.hasNext() )
@@ -37,7 +47,11 @@ public class SimpleResultsLogReader implements ResultsLogReader
             {
                 throw new RuntimeException( "Expected first row to be headers but was: " + Arrays.toString( headers ) );
             }
-            return valueOf( headers[INDEX_EXECUTION_DURATION].replace( HEADER_EXECUTION_DURATION_PREFIX, "" ) );
+            // logs that do not state the time unit of durations can still be read, except for their durations
+            return (headers.length > INDEX_EXECUTION_DURATION &&
+                    headers[INDEX_EXECUTION_DURATION].startsWith( HEADER_EXECUTION_DURATION_PREFIX ))
+                   ? valueOf( headers[INDEX_EXECUTION_DURATION].replace( HEADER_EXECUTION_DURATION_PREFIX, "" ) )
+                   : null;
         }
         else
         {
@@ -91,6 +105,10 @@ public class SimpleResultsLogReader implements ResultsLogReader
     public long getRunDurationAsNano()
     {
         assertRowNotNull( row );
+        if ( null == unit )
+        {
+            throw new RuntimeException( "Time unit of durations is not specified in results log headers" );
+        }
         return unit.toNanos( Long.parseLong( row[INDEX_EXECUTION_DURATION] ) );
     }
 
@@ -0,0 +1,380 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.TimeSource;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.IntHistogram;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Every thread that submits operation results records them into histograms of its own, so submitting a result
+ * involves no shared state and never waits for a consumer thread.
+ * <p/>
+ * Per thread histograms hold one interval: whenever status or results are requested they are swapped out, without
+ * blocking the thread (see WriterReaderPhaser), and added to cumulative histograms.
+ * Interval histograms have 3 significant digits, i.e., values up to 2048 (of the configured time unit) are
+ * recorded exactly and larger values within 0.1%.
+ * <p/>
+ * The results log is optional: when a results log is given every Nth result of each thread is passed to a separate
+ * thread that writes it, where N is the results log sampling interval.
+ * <p/>
+ * A thread keeps its histograms until it terminates, after which they are reused by the next new thread.
+ * Intended for executors with long lived worker threads, the VIRTUAL_THREAD executor, which starts a thread per
+ * operation, is rejected by the driver configuration.
+ * <p/>
+ * Intervals of the interval histogram log are at least as long as the time between status requests, as that is when
+ * histograms of threads are collected.
+ */
+public class ThreadLocalHistogramMetricsService implements MetricsService
+{
+    private static final long SHUTDOWN_WAIT_TIMEOUT_AS_MILLI = TimeUnit.MINUTES.toMillis( 1 );
+    private static final int RESULTS_LOG_QUEUE_CAPACITY = 10_000;
+    private static final int INTERVAL_HISTOGRAM_SIGNIFICANT_DIGITS = 3;
+
+    private final TimeUnit unit;
+    private final long maxRuntimeDurationAsNano;
+    private final int operationTypeCount;
+    private final MetricsManager metricsManager;
+    private final ResultsLogWriterThread resultsLogWriterThread;
+    private final int resultsLogSamplingInterval;
+    private final ThreadLocal<Recorder> threadRecorder = new ThreadLocal<>();
+    private final ConcurrentLinkedQueue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+    private final Queue<Recorder> releasedRecorders = new ArrayDeque<>();
+    private final MetricsServiceWriter metricsServiceWriter = new ThreadLocalHistogramMetricsServiceWriter();
+    private volatile boolean shutdown = false;
+
+    /**
+     * @param resultsLogWriter results log, NullResultsLogWriter if results should not be logged
+     * @param resultsLogSamplingInterval every Nth result of each thread is written to the results log
+     * @param intervalHistogramLog where response times of every interval are logged, null if they should not be
+     */
+    public ThreadLocalHistogramMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit unit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            int resultsLogSamplingInterval,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            IntervalHistogramLog intervalHistogramLog ) throws MetricsCollectionException
+    {
+        if ( resultsLogSamplingInterval < 1 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Results log sampling interval must be positive, found: %s", resultsLogSamplingInterval ) );
+        }
+        this.unit = unit;
+        this.maxRuntimeDurationAsNano = maxRuntimeDurationAsNano;
+        this.metricsManager = new MetricsManager(
+                timeSource,
+                unit,
+                maxRuntimeDurationAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                intervalHistogramLog
+        );
+        String[] operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.operationTypeCount = operationNames.length;
+        this.resultsLogSamplingInterval = resultsLogSamplingInterval;
+        if ( resultsLogWriter instanceof NullResultsLogWriter )
+        {
+            this.resultsLogWriterThread = null;
+        }
+        else
+        {
+            this.resultsLogWriterThread = new ResultsLogWriterThread(
+                    resultsLogWriter,
+                    operationNames,
+                    errorReporter,
+                    RESULTS_LOG_QUEUE_CAPACITY
+            );
+            resultsLogWriterThread.setDaemon( true );
+            resultsLogWriterThread.start();
+        }
+    }
+
+    @Override
+    synchronized public void shutdown() throws MetricsCollectionException
+    {
+        if ( shutdown )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        shutdown = true;
+        if ( null != resultsLogWriterThread )
+        {
+            resultsLogWriterThread.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI );
+        }
+        collectIntervals();
+        metricsManager.close();
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        assertNotShutdown();
+        return metricsServiceWriter;
+    }
+
+    private void assertNotShutdown() throws MetricsCollectionException
+    {
+        if ( shutdown )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+    }
+
+    int recorderCount()
+    {
+        return recorders.size();
+    }
+
+    private Recorder recorderForCurrentThread()
+    {
+        Recorder recorder = threadRecorder.get();
+        if ( null == recorder )
+        {
+            recorder = acquireRecorder( Thread.currentThread() );
+            threadRecorder.set( recorder );
+        }
+        return recorder;
+    }
+
+    private synchronized Recorder acquireRecorder( Thread thread )
+    {
+        Recorder recorder = releasedRecorders.poll();
+        if ( null == recorder )
+        {
+            releaseRecordersOfTerminatedThreads();
+            recorder = releasedRecorders.poll();
+        }
+        if ( null == recorder )
+        {
+            recorder = new Recorder();
+            recorders.add( recorder );
+        }
+        recorder.owner = thread;
+        return recorder;
+    }
+
+    /**
+     * Recorded measurements are kept, they are collected like those of any other recorder
+     */
+    private void releaseRecordersOfTerminatedThreads()
+    {
+        for ( Recorder recorder : recorders )
+        {
+            if ( null != recorder.owner && !recorder.owner.isAlive() )
+            {
+                recorder.owner = null;
+                releasedRecorders.add( recorder );
+            }
+        }
+    }
+
+    /**
+     * Adds the current interval of every recorder to the cumulative metrics
+     */
+    private synchronized void collectIntervals() throws MetricsCollectionException
+    {
+        for ( Recorder recorder : recorders )
+        {
+            IntervalMetrics interval = recorder.swapInterval();
+            interval.addTo( metricsManager );
+            interval.reset();
+        }
+    }
+
+    private class ThreadLocalHistogramMetricsServiceWriter implements MetricsServiceWriter
+    {
+        @Override
+        public void submitOperationResult( int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                long responseTimeAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            assertNotShutdown();
+            Recorder recorder = recorderForCurrentThread();
+            try
+            {
+                recorder.record( operationType, actualStartTimeAsMilli, runDurationAsNano, responseTimeAsNano );
+            }
+            catch ( ArrayIndexOutOfBoundsException e )
+            {
+                throw new MetricsCollectionException(
+                        format( "Error recording result\nOperation Type: %s\nDuration Ns: %s\nResponse Time Ns: %s",
+                                operationType, runDurationAsNano, responseTimeAsNano ), e );
+            }
+            if ( null != resultsLogWriterThread && recorder.sampleResult() )
+            {
+                resultsLogWriterThread.submit( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli,
+                        runDurationAsNano, resultCode, originalStartTime );
+            }
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            assertNotShutdown();
+            synchronized ( ThreadLocalHistogramMetricsService.this )
+            {
+                collectIntervals();
+                return metricsManager.status();
+            }
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            assertNotShutdown();
+            synchronized ( ThreadLocalHistogramMetricsService.this )
+            {
+                collectIntervals();
+                return metricsManager.snapshot();
+            }
+        }
+    }
+
+    /**
+     * Histograms of one thread. Only ever written by that thread, swapped out by whichever thread collects them.
+     */
+    private class Recorder
+    {
+        private final WriterReaderPhaser phaser = new WriterReaderPhaser();
+        private volatile IntervalMetrics active = new IntervalMetrics();
+        private IntervalMetrics inactive = new IntervalMetrics();
+        // guarded by the service
+        private Thread owner = null;
+        // only accessed by the owner
+        private int resultsUntilNextSample = 1;
+
+        private void record( int operationType,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                long responseTimeAsNano )
+        {
+            long criticalValue = phaser.writerCriticalSectionEnter();
+            try
+            {
+                active.record( operationType, actualStartTimeAsMilli, runDurationAsNano, responseTimeAsNano );
+            }
+            finally
+            {
+                phaser.writerCriticalSectionExit( criticalValue );
+            }
+        }
+
+        private boolean sampleResult()
+        {
+            if ( --resultsUntilNextSample > 0 )
+            {
+                return false;
+            }
+            resultsUntilNextSample = resultsLogSamplingInterval;
+            return true;
+        }
+
+        /**
+         * @return interval that was active until now, no longer written to
+         */
+        private IntervalMetrics swapInterval()
+        {
+            IntervalMetrics previous = active;
+            active = inactive;
+            phaser.flipPhase();
+            inactive = previous;
+            return previous;
+        }
+    }
+
+    private class IntervalMetrics
+    {
+        private final AbstractHistogram[] runDurations = new AbstractHistogram[operationTypeCount];
+        private final AbstractHistogram[] responseTimes = new AbstractHistogram[operationTypeCount];
+        private long startTimeAsMilli = Long.MAX_VALUE;
+        private long latestFinishTimeAsMilli = Long.MIN_VALUE;
+
+        private void record( int operationType,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                long responseTimeAsNano )
+        {
+            if ( actualStartTimeAsMilli < startTimeAsMilli )
+            {
+                startTimeAsMilli = actualStartTimeAsMilli;
+            }
+            long finishTimeAsMilli = actualStartTimeAsMilli + (runDurationAsNano / MetricsManager.ONE_MS_AS_NS);
+            if ( finishTimeAsMilli > latestFinishTimeAsMilli )
+            {
+                latestFinishTimeAsMilli = finishTimeAsMilli;
+            }
+            // histograms are only created for operation types this thread executes
+            if ( null == runDurations[operationType] )
+            {
+                runDurations[operationType] = newHistogram();
+                responseTimes[operationType] = newHistogram();
+            }
+            runDurations[operationType].recordValue( toUnit( runDurationAsNano ) );
+            responseTimes[operationType].recordValue( toUnit( responseTimeAsNano ) );
+        }
+
+        // like MetricsManager, durations above the maximum are recorded as the maximum
+        private long toUnit( long durationAsNano )
+        {
+            return unit.convert( Math.min( durationAsNano, maxRuntimeDurationAsNano ), TimeUnit.NANOSECONDS );
+        }
+
+        private AbstractHistogram newHistogram()
+        {
+            return new IntHistogram(
+                    1,
+                    unit.convert( maxRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    INTERVAL_HISTOGRAM_SIGNIFICANT_DIGITS
+            );
+        }
+
+        private void addTo( MetricsManager metricsManager ) throws MetricsCollectionException
+        {
+            if ( Long.MAX_VALUE == startTimeAsMilli )
+            {
+                // nothing recorded
+                return;
+            }
+            metricsManager.extendTimeRange( startTimeAsMilli, latestFinishTimeAsMilli );
+            for ( int operationType = 0; operationType < operationTypeCount; operationType++ )
+            {
+                if ( null != runDurations[operationType] && runDurations[operationType].getTotalCount() > 0 )
+                {
+                    metricsManager.add( operationType, runDurations[operationType], responseTimes[operationType] );
+                }
+            }
+        }
+
+        private void reset()
+        {
+            startTimeAsMilli = Long.MAX_VALUE;
+            latestFinishTimeAsMilli = Long.MIN_VALUE;
+            for ( int operationType = 0; operationType < operationTypeCount; operationType++ )
+            {
+                if ( null != runDurations[operationType] )
+                {
+                    runDurations[operationType].reset();
+                    responseTimes[operationType].reset();
+                }
+            }
+        }
+    }
+}
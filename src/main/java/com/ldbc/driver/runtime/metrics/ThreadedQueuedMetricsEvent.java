@@ -20,6 +20,7 @@ abstract class ThreadedQueuedMetricsEvent {
         private final long scheduledStartTimeAsMilli;
         private final long actualStartTimeAsMilli;
         private final long runDurationAsNano;
+        private final long responseTimeAsNano;
         private final int resultCode;
         private final long originalStartTime;
 
@@ -28,12 +29,14 @@ abstract class ThreadedQueuedMetricsEvent {
                 long scheduledStartTimeAsMilli,
                 long actualStartTimeAsMilli,
                 long runDurationAsNano,
+                long responseTimeAsNano,
                 int resultCode,
                 long originalStartTime) {
             this.operationType = operationType;
             this.scheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
             this.actualStartTimeAsMilli = actualStartTimeAsMilli;
             this.runDurationAsNano = runDurationAsNano;
+            this.responseTimeAsNano = responseTimeAsNano;
             this.resultCode = resultCode;
             this.originalStartTime = originalStartTime;
         }
@@ -54,6 +57,10 @@ abstract class ThreadedQueuedMetricsEvent {
             return runDurationAsNano;
         }
 
+        public long responseTimeAsNano() {
+            return responseTimeAsNano;
+        }
+
         public int resultCode() {
             return resultCode;
         }
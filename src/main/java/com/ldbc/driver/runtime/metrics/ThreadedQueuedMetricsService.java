@@ -171,7 +171,8 @@ public class ThreadedQueuedMetricsService implements MetricsService
 
         @Override
         public void submitOperationResult( int operationType, long scheduledStartTimeAsMilli,
-                long actualStartTimeAsMilli, long runDurationAsNano, int resultCode, long originalStartTime )
+                long actualStartTimeAsMilli, long runDurationAsNano, long responseTimeAsNano, int resultCode,
+                long originalStartTime )
                 throws MetricsCollectionException
         {
             if ( null != alreadyShutdownPolicy )
@@ -186,6 +187,7 @@ public class ThreadedQueuedMetricsService implements MetricsService
                         scheduledStartTimeAsMilli,
                         actualStartTimeAsMilli,
                         runDurationAsNano,
+                        responseTimeAsNano,
                         resultCode,
                         originalStartTime
                 );
@@ -199,6 +201,7 @@ public class ThreadedQueuedMetricsService implements MetricsService
                         + "Scheduled Start Time Ms: %s\n"
                         + "Actual Start Time Ms: %s\n"
                         + "Duration Ns: %s\n"
+                        + "Response Time Ns: %s\n"
                         + "Result Code: %s\n"
                         + "Original start time: %s\n"
                         ,
@@ -206,6 +209,7 @@ public class ThreadedQueuedMetricsService implements MetricsService
                         scheduledStartTimeAsMilli,
                         actualStartTimeAsMilli,
                         runDurationAsNano,
+                        responseTimeAsNano,
                         resultCode,
                         originalStartTime
                 );
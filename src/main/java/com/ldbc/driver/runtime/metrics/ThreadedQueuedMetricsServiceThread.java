@@ -119,6 +119,7 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
                 metricsManager.measure(
                         submitOperationResultEvent.actualStartTimeAsMilli(),
                         submitOperationResultEvent.runDurationAsNano(),
+                        submitOperationResultEvent.responseTimeAsNano(),
                         submitOperationResultEvent.operationType()
                 );
             }
@@ -132,6 +133,7 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
                                 + "Scheduled Start Time Ms: %s\n"
                                 + "Actual Start Time Ms: %s\n"
                                 + "Duration Ns: %s\n"
+                                + "Response Time Ns: %s\n"
                                 + "Result Code: %s\n"
                                 + "Original start time: %s\n"
                                 ,
@@ -139,6 +141,7 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
                                 submitOperationResultEvent.scheduledStartTimeAsMilli(),
                                 submitOperationResultEvent.actualStartTimeAsMilli(),
                                 submitOperationResultEvent.runDurationAsNano(),
+                                submitOperationResultEvent.responseTimeAsNano(),
                                 submitOperationResultEvent.resultCode(),
                                 submitOperationResultEvent.originalStartTime(),
                                 ConcurrentErrorReporter.stackTraceToString( e )
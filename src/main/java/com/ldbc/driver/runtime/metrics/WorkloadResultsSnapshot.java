@@ -5,15 +5,28 @@ import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+import static java.lang.String.format;
 
 public class WorkloadResultsSnapshot
 {
+    private static final int MAX_ENCODED_HISTOGRAM_LENGTH = 64 * 1024 * 1024;
+
     @JsonProperty( value = "all_metrics" )
     private List<OperationMetricsSnapshot> metrics;
 
@@ -48,10 +61,120 @@ public class WorkloadResultsSnapshot
         return new ObjectMapper().readValue( jsonString, WorkloadResultsSnapshot.class );
     }
 
+    /**
+     * Combines results of workloads that executed disjoint sets of operations at the same time, e.g., the results
+     * of the driver processes of a distributed workload. Metrics are recomputed from their recorded histograms, so
+     * results read from JSON must have had their histograms read too, see readHistograms()
+     *
+     * @param snapshots results to combine, at least one
+     * @return combined results, spanning from the earliest start time to the latest finish time of all results
+     */
+    public static WorkloadResultsSnapshot merge( List<WorkloadResultsSnapshot> snapshots )
+    {
+        Map<String,List<OperationMetricsSnapshot>> metricsByName = new LinkedHashMap<>();
+        long startTimeAsMilli = Long.MAX_VALUE;
+        long latestFinishTimeAsMilli = Long.MIN_VALUE;
+        long operationCount = 0;
+        for ( WorkloadResultsSnapshot snapshot : snapshots )
+        {
+            for ( OperationMetricsSnapshot metric : snapshot.allMetrics() )
+            {
+                if ( !metricsByName.containsKey( metric.name() ) )
+                {
+                    metricsByName.put( metric.name(), new ArrayList<OperationMetricsSnapshot>() );
+                }
+                metricsByName.get( metric.name() ).add( metric );
+            }
+            startTimeAsMilli = Math.min( startTimeAsMilli, snapshot.startTimeAsMilli() );
+            latestFinishTimeAsMilli = Math.max( latestFinishTimeAsMilli, snapshot.latestFinishTimeAsMilli() );
+            operationCount += snapshot.totalOperationCount();
+        }
+        List<OperationMetricsSnapshot> metrics = new ArrayList<>();
+        for ( List<OperationMetricsSnapshot> metricsWithSameName : metricsByName.values() )
+        {
+            metrics.add( OperationMetricsSnapshot.merge( metricsWithSameName ) );
+        }
+        return new WorkloadResultsSnapshot(
+                metrics,
+                startTimeAsMilli,
+                latestFinishTimeAsMilli,
+                operationCount,
+                snapshots.get( 0 ).unit() );
+    }
+
     private WorkloadResultsSnapshot()
     {
     }
 
+    /**
+     * Writes the recorded histograms of all metrics, which are not part of the JSON format, in the order of
+     * allMetrics(). Results read from JSON get them back with readHistograms().
+     */
+    public void writeHistograms( DataOutputStream out ) throws IOException
+    {
+        out.writeInt( metrics.size() );
+        for ( OperationMetricsSnapshot metric : metrics )
+        {
+            writeHistogram( out, metric.runTimeMetric() );
+            writeHistogram( out, metric.responseTimeMetric() );
+        }
+    }
+
+    /**
+     * Reads histograms written by writeHistograms() of the results this instance was read from as JSON
+     */
+    public void readHistograms( DataInputStream in ) throws IOException
+    {
+        int metricCount = in.readInt();
+        if ( metricCount != metrics.size() )
+        {
+            throw new IOException(
+                    format( "Expected histograms of %s metrics but found %s", metrics.size(), metricCount ) );
+        }
+        for ( OperationMetricsSnapshot metric : metrics )
+        {
+            readHistogram( in, metric.runTimeMetric() );
+            readHistogram( in, metric.responseTimeMetric() );
+        }
+    }
+
+    private static void writeHistogram( DataOutputStream out, ContinuousMetricSnapshot metric ) throws IOException
+    {
+        AbstractHistogram histogram = (null == metric) ? null : metric.histogram();
+        if ( null == histogram )
+        {
+            out.writeInt( -1 );
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate( histogram.getNeededByteBufferCapacity() );
+        int length = histogram.encodeIntoCompressedByteBuffer( buffer );
+        out.writeInt( length );
+        out.write( buffer.array(), 0, length );
+    }
+
+    private static void readHistogram( DataInputStream in, ContinuousMetricSnapshot metric ) throws IOException
+    {
+        int length = in.readInt();
+        if ( -1 == length )
+        {
+            return;
+        }
+        if ( length < 0 || length > MAX_ENCODED_HISTOGRAM_LENGTH || null == metric )
+        {
+            throw new IOException( format( "Invalid histogram length: %s", length ) );
+        }
+        byte[] encoded = new byte[length];
+        in.readFully( encoded );
+        try
+        {
+            metric.setHistogram( Histogram.decodeFromCompressedByteBuffer( ByteBuffer.wrap( encoded ), 0 ) );
+        }
+        catch ( DataFormatException e )
+        {
+            throw new IOException( format( "Invalid histogram of metric %s", metric.name() ), e );
+        }
+    }
+
     public WorkloadResultsSnapshot(
             Iterable<OperationMetricsSnapshot> metrics,
             long startTimeAsMilli,
@@ -0,0 +1,68 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets a reader swap out data that writers record into, and then wait until no writer can still be using it,
+ * without writers ever blocking. Based on the WriterReaderPhaser of HdrHistogram (newer versions than the one this
+ * project depends on), see http://stuff-gil-says.blogspot.com/2014/11/writerreaderphaser-story-about-new.html
+ * <p/>
+ * Writer:
+ * <pre>
+ * long criticalValue = phaser.writerCriticalSectionEnter();
+ * try { active.record( ... ); } finally { phaser.writerCriticalSectionExit( criticalValue ); }
+ * </pre>
+ * Reader, one at a time:
+ * <pre>
+ * Data previous = active; active = inactive; phaser.flipPhase(); inactive = previous; // previous is now quiescent
+ * </pre>
+ */
+class WriterReaderPhaser
+{
+    private final AtomicLong startEpoch = new AtomicLong( 0 );
+    private final AtomicLong evenEndEpoch = new AtomicLong( 0 );
+    private final AtomicLong oddEndEpoch = new AtomicLong( Long.MIN_VALUE );
+
+    long writerCriticalSectionEnter()
+    {
+        return startEpoch.getAndIncrement();
+    }
+
+    void writerCriticalSectionExit( long criticalValueAtEnter )
+    {
+        if ( criticalValueAtEnter < 0 )
+        {
+            oddEndEpoch.getAndIncrement();
+        }
+        else
+        {
+            evenEndEpoch.getAndIncrement();
+        }
+    }
+
+    /**
+     * Returns once every writer that entered its critical section before this call has exited it.
+     * Callers must not flip concurrently.
+     */
+    void flipPhase()
+    {
+        boolean nextPhaseIsEven = startEpoch.get() < 0;
+        long initialStartValue;
+        if ( nextPhaseIsEven )
+        {
+            initialStartValue = 0;
+            evenEndEpoch.lazySet( initialStartValue );
+        }
+        else
+        {
+            initialStartValue = Long.MIN_VALUE;
+            oddEndEpoch.lazySet( initialStartValue );
+        }
+        long startValueAtFlip = startEpoch.getAndSet( initialStartValue );
+        AtomicLong previousPhaseEndEpoch = (nextPhaseIsEven) ? oddEndEpoch : evenEndEpoch;
+        while ( previousPhaseEndEpoch.get() != startValueAtFlip )
+        {
+            Thread.yield();
+        }
+    }
+}
@@ -5,7 +5,7 @@ import uk.co.real_logic.sbe.codec.java.*;
 
 public class MetricsEvent
 {
-    public static final int BLOCK_LENGTH = 41;
+    public static final int BLOCK_LENGTH = 49;
     public static final int TEMPLATE_ID = 1;
     public static final int SCHEMA_ID = 1;
     public static final int SCHEMA_VERSION = 0;
@@ -386,4 +386,47 @@ public class MetricsEvent
         CodecUtil.int64Put(buffer, offset + 33, value, java.nio.ByteOrder.LITTLE_ENDIAN);
         return this;
     }
+
+    public static int responseTimeAsNanoId()
+    {
+        return 8;
+    }
+
+    public static String responseTimeAsNanoMetaAttribute(final MetaAttribute metaAttribute)
+    {
+        switch (metaAttribute)
+        {
+            case EPOCH: return "unix";
+            case TIME_UNIT: return "nanosecond";
+            case SEMANTIC_TYPE: return "";
+        }
+
+        return "";
+    }
+
+    public static long responseTimeAsNanoNullValue()
+    {
+        return -9223372036854775808L;
+    }
+
+    public static long responseTimeAsNanoMinValue()
+    {
+        return -9223372036854775807L;
+    }
+
+    public static long responseTimeAsNanoMaxValue()
+    {
+        return 9223372036854775807L;
+    }
+
+    public long responseTimeAsNano()
+    {
+        return CodecUtil.int64Get(buffer, offset + 41, java.nio.ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public MetricsEvent responseTimeAsNano(final long value)
+    {
+        CodecUtil.int64Put(buffer, offset + 41, value, java.nio.ByteOrder.LITTLE_ENDIAN);
+        return this;
+    }
 }
@@ -4,19 +4,33 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.NotifyingCompletionTimeReader;
 import com.ldbc.driver.temporal.TemporalUtil;
 
+import java.util.concurrent.TimeUnit;
+
 import static java.lang.String.format;
 
+/**
+ * Passes once completion time has reached the dependency time stamp of the operation.
+ * If completion time can be waited for, via NotifyingCompletionTimeReader, waiting threads are woken when completion
+ * time advances past their dependency time stamp, rather than polling completion time.
+ */
 public class CtDependencyCheck implements SpinnerCheck
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    // waiting threads are woken when CT advances, this only bounds how long a thread waits between checks
+    private static final long MAX_WAIT_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 100 );
     private final CompletionTimeReader completionTimeReader;
+    private final NotifyingCompletionTimeReader notifyingCompletionTimeReader;
     private final ConcurrentErrorReporter errorReporter;
 
     public CtDependencyCheck( CompletionTimeReader completionTimeReader, ConcurrentErrorReporter errorReporter )
     {
         this.completionTimeReader = completionTimeReader;
+        this.notifyingCompletionTimeReader = (completionTimeReader instanceof NotifyingCompletionTimeReader)
+                                             ? (NotifyingCompletionTimeReader) completionTimeReader
+                                             : null;
         this.errorReporter = errorReporter;
     }
 
@@ -39,6 +53,28 @@ public class CtDependencyCheck implements SpinnerCheck
         }
     }
 
+    @Override
+    public boolean awaitProgress( Operation operation )
+    {
+        // interrupted threads can not be parked, let the spinner idle instead
+        if ( null == notifyingCompletionTimeReader || Thread.currentThread().isInterrupted() )
+        {
+            return false;
+        }
+        try
+        {
+            notifyingCompletionTimeReader.awaitCompletionTimeAsMilli(
+                    operation.dependencyTimeStamp(),
+                    MAX_WAIT_AS_NANO );
+            return true;
+        }
+        catch ( CompletionTimeException e )
+        {
+            // reported by the next check
+            return false;
+        }
+    }
+
     @Override
     public boolean handleFailedCheck( Operation operation )
     {
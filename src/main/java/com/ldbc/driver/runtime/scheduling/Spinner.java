@@ -1,8 +1,23 @@
 package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricManager;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.util.Function2;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.IntHistogram;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
 
 // TODO if error policy DOES NOT terminate benchmark and DOES NOT allow the operation to complete something needs
 // TODO to be done about DEPENDENT/CT, because the IT for the operation has already been reported
@@ -18,17 +33,68 @@ public class Spinner
 {
     public static final long DEFAULT_SLEEP_DURATION_10_MILLI = 10;
     public static final SpinnerCheck TRUE_CHECK = new TrueCheck();
+    // lags larger than this are recorded as this value
+    private static final long MAX_SCHEDULE_LAG_AS_NANO = TimeUnit.HOURS.toNanos( 1 );
+    // a histogram per waiting thread, keep them small
+    private static final int SCHEDULE_LAG_SIGNIFICANT_DIGITS = 2;
+    private static final long ONE_MILLI_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 1 );
+    private static final MethodHandle ON_SPIN_WAIT = onSpinWaitHandleOrNull();
 
     private final Function2<Operation,SpinnerCheck,Boolean,RuntimeException> spinFun;
+    private final ScheduleLag scheduleLag = new ScheduleLag();
 
     public Spinner(
             TimeSource timeSource,
             long sleepDurationAsMilli,
             boolean ignoreScheduleStartTimes )
     {
-        this.spinFun = (ignoreScheduleStartTimes)
-                       ? new WaitForChecksFun( sleepDurationAsMilli )
-                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+        this( timeSource, SpinnerType.SLEEP, sleepDurationAsMilli, ignoreScheduleStartTimes );
+    }
+
+    /**
+     * @param sleepDurationAsMilli for SLEEP, duration of sleep between polls.
+     * for HYBRID, longest duration a waiting thread may be parked for before it polls again
+     */
+    public Spinner(
+            TimeSource timeSource,
+            SpinnerType spinnerType,
+            long sleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes )
+    {
+        switch ( spinnerType )
+        {
+        case SLEEP:
+            this.spinFun = (ignoreScheduleStartTimes)
+                           ? new WaitForChecksFun( sleepDurationAsMilli )
+                           : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli, scheduleLag );
+            break;
+        case HYBRID:
+            long maxParkDurationAsNano =
+                    Math.max( TimeUnit.MILLISECONDS.toNanos( sleepDurationAsMilli ), HybridIdler.MIN_PARK_AS_NANO );
+            this.spinFun = (ignoreScheduleStartTimes)
+                           ? new HybridWaitForChecksFun( maxParkDurationAsNano )
+                           : new HybridWaitForChecksAndScheduledStartTimeFun(
+                                   timeSource,
+                                   maxParkDurationAsNano,
+                                   scheduleLag );
+            break;
+        default:
+            throw new IllegalArgumentException(
+                    format( "Unsupported %s: %s", SpinnerType.class.getSimpleName(), spinnerType ) );
+        }
+    }
+
+    /**
+     * Schedule lag is the time between the scheduled start time of an operation and the time at which the spinner
+     * released it for execution. Not recorded when scheduled start times are ignored.
+     * <p/>
+     * Threads record lag without synchronization, the snapshot is only exact when no thread is waiting.
+     *
+     * @return distribution of schedule lag, in nanoseconds, of all operations waited for so far
+     */
+    public ContinuousMetricSnapshot scheduleLagSnapshot()
+    {
+        return scheduleLag.snapshot();
     }
 
     boolean waitForScheduledStartTime( Operation operation )
@@ -71,18 +137,164 @@ public class Spinner
         }
     }
 
+    /**
+     * Hint to the processor that the caller is busy waiting.
+     * Uses Thread.onSpinWait() when the running JVM provides it (Java 9+), otherwise does nothing.
+     */
+    public static void onSpinWait()
+    {
+        if ( null != ON_SPIN_WAIT )
+        {
+            try
+            {
+                ON_SPIN_WAIT.invokeExact();
+            }
+            catch ( Throwable e )
+            {
+                // do nothing
+            }
+        }
+    }
+
+    /**
+     * For waiting on conditions without a known deadline, e.g., a queue to become non-empty.
+     * Spin-waits for the first attempts, then parks for exponentially increasing durations.
+     *
+     * @param attempt number of times the condition has already been checked
+     */
+    public static void backOff( int attempt, long maxParkDurationAsNano )
+    {
+        HybridIdler.backOff( attempt, maxParkDurationAsNano );
+    }
+
+    private static MethodHandle onSpinWaitHandleOrNull()
+    {
+        try
+        {
+            return MethodHandles.publicLookup()
+                    .findStatic( Thread.class, "onSpinWait", MethodType.methodType( void.class ) );
+        }
+        catch ( Exception e )
+        {
+            return null;
+        }
+    }
+
+    private static long deadlineAsNano( TimeSource timeSource, Operation operation )
+    {
+        return timeSource.nanoSnapshotAt( operation.scheduledStartTimeAsMilli() );
+    }
+
+    /**
+     * Lag of an operation released now, measured against a freshly mapped deadline. Falls back to the wall clock
+     * difference when the two disagree by more than a millisecond, so drift of the clocks is not recorded as lag.
+     */
+    private static long scheduleLagAsNano( TimeSource timeSource, Operation operation )
+    {
+        long lagAsNano = timeSource.nanoSnapshot() - deadlineAsNano( timeSource, operation );
+        // the wall clock truncates, lag is at least wall clock lag and less than a millisecond more
+        long wallClockLagAsNano =
+                TimeUnit.MILLISECONDS.toNanos( timeSource.nowAsMilli() - operation.scheduledStartTimeAsMilli() );
+        if ( lagAsNano < wallClockLagAsNano - ONE_MILLI_AS_NANO ||
+             lagAsNano > wallClockLagAsNano + 2 * ONE_MILLI_AS_NANO )
+        {
+            return wallClockLagAsNano;
+        }
+        return lagAsNano;
+    }
+
+    /**
+     * Every thread records schedule lag into a histogram of its own, so waiting threads share no state.
+     * Histograms of terminated threads are added to a cumulative histogram and dropped, as executors may start a
+     * thread per operation.
+     */
+    private static class ScheduleLag
+    {
+        private static final int MIN_RELEASE_THRESHOLD = 16;
+
+        private final ThreadLocal<ThreadScheduleLag> threadScheduleLag = new ThreadLocal<>();
+        // guarded by this
+        private final List<ThreadScheduleLag> threadScheduleLags = new ArrayList<>();
+        private final AbstractHistogram terminatedThreadsHistogram = newHistogram();
+        private int releaseThreshold = MIN_RELEASE_THRESHOLD;
+
+        private static AbstractHistogram newHistogram()
+        {
+            return new IntHistogram( 1, MAX_SCHEDULE_LAG_AS_NANO, SCHEDULE_LAG_SIGNIFICANT_DIGITS );
+        }
+
+        void record( long lagAsNano )
+        {
+            ThreadScheduleLag lag = threadScheduleLag.get();
+            if ( null == lag )
+            {
+                lag = register( Thread.currentThread() );
+                threadScheduleLag.set( lag );
+            }
+            lag.histogram.recordValue( Math.min( Math.max( lagAsNano, 0 ), MAX_SCHEDULE_LAG_AS_NANO ) );
+        }
+
+        private synchronized ThreadScheduleLag register( Thread thread )
+        {
+            if ( threadScheduleLags.size() >= releaseThreshold )
+            {
+                Iterator<ThreadScheduleLag> lags = threadScheduleLags.iterator();
+                while ( lags.hasNext() )
+                {
+                    ThreadScheduleLag lag = lags.next();
+                    if ( !lag.thread.isAlive() )
+                    {
+                        terminatedThreadsHistogram.add( lag.histogram );
+                        lags.remove();
+                    }
+                }
+                // amortizes the scan over the threads registered until the next one
+                releaseThreshold = Math.max( 2 * threadScheduleLags.size(), MIN_RELEASE_THRESHOLD );
+            }
+            ThreadScheduleLag lag = new ThreadScheduleLag( thread );
+            threadScheduleLags.add( lag );
+            return lag;
+        }
+
+        synchronized ContinuousMetricSnapshot snapshot()
+        {
+            AbstractHistogram histogram = newHistogram();
+            histogram.add( terminatedThreadsHistogram );
+            for ( ThreadScheduleLag lag : threadScheduleLags )
+            {
+                histogram.add( lag.histogram );
+            }
+            return new ContinuousMetricManager( "Schedule Lag", TimeUnit.NANOSECONDS, histogram ).snapshot();
+        }
+    }
+
+    private static class ThreadScheduleLag
+    {
+        private final Thread thread;
+        // only written by thread
+        private final AbstractHistogram histogram = ScheduleLag.newHistogram();
+
+        private ThreadScheduleLag( Thread thread )
+        {
+            this.thread = thread;
+        }
+    }
+
     private static class WaitForChecksAndScheduledStartTimeFun implements
             Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
         private final TimeSource timeSource;
         private final long sleepDurationAsMilli;
+        private final ScheduleLag scheduleLag;
 
         private WaitForChecksAndScheduledStartTimeFun(
                 TimeSource timeSource,
-                long sleepDurationAsMilli )
+                long sleepDurationAsMilli,
+                ScheduleLag scheduleLag )
         {
             this.timeSource = timeSource;
             this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.scheduleLag = scheduleLag;
         }
 
         @Override
@@ -92,7 +304,10 @@ public class Spinner
             // wait for checks to have all passed before allowing operation to start
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                if ( !check.awaitProgress( operation ) )
+                {
+                    powerNap( sleepDurationAsMilli );
+                }
             }
 
             // wait for scheduled operation start time
@@ -101,6 +316,8 @@ public class Spinner
                 powerNap( sleepDurationAsMilli );
             }
 
+            scheduleLag.record( scheduleLagAsNano( timeSource, operation ) );
+
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
         }
     }
@@ -120,13 +337,134 @@ public class Spinner
             // wait for checks to have all passed before allowing operation to start
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                if ( !check.awaitProgress( operation ) )
+                {
+                    powerNap( sleepDurationAsMilli );
+                }
             }
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
         }
     }
 
+    private static class HybridWaitForChecksAndScheduledStartTimeFun implements
+            Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
+    {
+        private final TimeSource timeSource;
+        private final long maxParkDurationAsNano;
+        private final ScheduleLag scheduleLag;
+
+        private HybridWaitForChecksAndScheduledStartTimeFun(
+                TimeSource timeSource,
+                long maxParkDurationAsNano,
+                ScheduleLag scheduleLag )
+        {
+            this.timeSource = timeSource;
+            this.maxParkDurationAsNano = maxParkDurationAsNano;
+            this.scheduleLag = scheduleLag;
+        }
+
+        @Override
+        public Boolean apply( Operation operation, SpinnerCheck check )
+        {
+            // wait for checks to have all passed before allowing operation to start
+            int attempt = 0;
+            while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
+            {
+                if ( !check.awaitProgress( operation ) )
+                {
+                    HybridIdler.backOff( attempt++, maxParkDurationAsNano );
+                }
+            }
+
+            // wait for scheduled operation start time
+            attempt = 0;
+            long deadlineAsNano = deadlineAsNano( timeSource, operation );
+            long remainingAsNano;
+            while ( (remainingAsNano = deadlineAsNano - timeSource.nanoSnapshot()) > 0 )
+            {
+                HybridIdler.idleUntilDeadline( remainingAsNano, maxParkDurationAsNano );
+            }
+            // clocks may drift apart during a run, never release operation before its start time
+            while ( timeSource.nowAsMilli() < operation.scheduledStartTimeAsMilli() )
+            {
+                HybridIdler.backOff( attempt++, maxParkDurationAsNano );
+            }
+
+            scheduleLag.record( scheduleLagAsNano( timeSource, operation ) );
+
+            return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
+        }
+    }
+
+    private static class HybridWaitForChecksFun implements Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
+    {
+        private final long maxParkDurationAsNano;
+
+        private HybridWaitForChecksFun( long maxParkDurationAsNano )
+        {
+            this.maxParkDurationAsNano = maxParkDurationAsNano;
+        }
+
+        @Override
+        public Boolean apply( Operation operation, SpinnerCheck check )
+        {
+            // wait for checks to have all passed before allowing operation to start
+            int attempt = 0;
+            while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
+            {
+                if ( !check.awaitProgress( operation ) )
+                {
+                    HybridIdler.backOff( attempt++, maxParkDurationAsNano );
+                }
+            }
+
+            return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
+        }
+    }
+
+    static class HybridIdler
+    {
+        static final long MIN_PARK_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 1 );
+        // parkNanos() commonly overshoots by tens of microseconds, stop parking this far from the deadline
+        static final long PARK_THRESHOLD_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 100 );
+        // close to the deadline even a spin-wait hint is too coarse, busy spin instead
+        static final long SPIN_WAIT_THRESHOLD_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 5 );
+        private static final int SPIN_WAIT_ATTEMPTS = 100;
+        private static final int MAX_BACK_OFF_SHIFT = 20;
+
+        /**
+         * Waits for (at most) the remaining duration: parks if far from deadline, spin-waits if near, else returns
+         */
+        static void idleUntilDeadline( long remainingAsNano, long maxParkDurationAsNano )
+        {
+            if ( remainingAsNano > PARK_THRESHOLD_AS_NANO )
+            {
+                LockSupport.parkNanos( Math.min( remainingAsNano - PARK_THRESHOLD_AS_NANO, maxParkDurationAsNano ) );
+            }
+            else if ( remainingAsNano > SPIN_WAIT_THRESHOLD_AS_NANO )
+            {
+                onSpinWait();
+            }
+        }
+
+        /**
+         * For conditions without a known deadline: spin-waits first, then parks for exponentially increasing durations
+         */
+        static void backOff( int attempt, long maxParkDurationAsNano )
+        {
+            if ( attempt < SPIN_WAIT_ATTEMPTS )
+            {
+                onSpinWait();
+            }
+            else
+            {
+                int shift = Math.min( attempt - SPIN_WAIT_ATTEMPTS, MAX_BACK_OFF_SHIFT );
+                LockSupport.parkNanos( Math.min( MIN_PARK_AS_NANO << shift, maxParkDurationAsNano ) );
+            }
+        }
+    }
+
     private static class TrueCheck implements SpinnerCheck
     {
         @Override
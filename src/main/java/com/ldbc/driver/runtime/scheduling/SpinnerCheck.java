@@ -18,6 +18,19 @@ public interface SpinnerCheck
      */
     SpinnerCheckResult doCheck( Operation operation );
 
+    /**
+     * Called by the spinner after doCheck returned STILL_CHECKING.
+     * Checks that can be notified when they may pass block here until then (or for some bounded duration),
+     * other checks return false immediately and the spinner idles as usual before checking again.
+     *
+     * @param operation
+     * @return true if this call waited, false if the spinner should idle before the next check
+     */
+    default boolean awaitProgress( Operation operation )
+    {
+        return false;
+    }
+
 
     /**
      * Only called if check fails
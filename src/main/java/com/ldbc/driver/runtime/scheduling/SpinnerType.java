@@ -0,0 +1,14 @@
+package com.ldbc.driver.runtime.scheduling;
+
+public enum SpinnerType
+{
+    /**
+     * Polls scheduled start times & checks, sleeping (millisecond granularity) between polls
+     */
+    SLEEP,
+    /**
+     * Waits for scheduled start times at nanosecond granularity,
+     * parking while far from the deadline, then spinning with a spin-wait hint, then busy spinning
+     */
+    HYBRID
+}
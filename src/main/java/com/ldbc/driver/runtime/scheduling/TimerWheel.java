@@ -0,0 +1,105 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.Operation;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static java.lang.String.format;
+
+/**
+ * Hashed timing wheel of operations, keyed by scheduled start time, with one bucket per millisecond.
+ * Operations scheduled further ahead than the span of the wheel share buckets with nearer operations,
+ * and are skipped over until they are due.
+ * <p>
+ * Not thread safe.
+ */
+public class TimerWheel
+{
+    private final ArrayDeque<Operation>[] buckets;
+    private final int mask;
+    // operations scheduled at or before this time have all been expired
+    private long currentTickAsMilli;
+    private long size = 0;
+
+    @SuppressWarnings( "unchecked" )
+    public TimerWheel( int bucketCount, long startTimeAsMilli )
+    {
+        if ( bucketCount <= 0 || Integer.bitCount( bucketCount ) != 1 )
+        {
+            throw new IllegalArgumentException( format( "Bucket count must be a power of 2: %s", bucketCount ) );
+        }
+        this.buckets = new ArrayDeque[bucketCount];
+        for ( int i = 0; i < bucketCount; i++ )
+        {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = bucketCount - 1;
+        this.currentTickAsMilli = startTimeAsMilli;
+    }
+
+    /**
+     * @param operation operation to schedule
+     * @return false if operation is already due, in which case it was not added to the wheel
+     */
+    public boolean add( Operation operation )
+    {
+        long scheduledStartTimeAsMilli = operation.scheduledStartTimeAsMilli();
+        if ( scheduledStartTimeAsMilli <= currentTickAsMilli )
+        {
+            return false;
+        }
+        buckets[(int) (scheduledStartTimeAsMilli & mask)].addLast( operation );
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes all operations scheduled at or before the given time.
+     * When advancing by less than the span of the wheel they are removed in order of scheduled start time,
+     * and operations with the same scheduled start time are removed in the order they were added.
+     *
+     * @param nowAsMilli time to advance wheel to
+     * @param due queue that operations which are due are added to
+     */
+    public void advanceTo( long nowAsMilli, Queue<Operation> due )
+    {
+        if ( nowAsMilli <= currentTickAsMilli )
+        {
+            return;
+        }
+        if ( 0 == size )
+        {
+            currentTickAsMilli = nowAsMilli;
+            return;
+        }
+        long tickCount = Math.min( nowAsMilli - currentTickAsMilli, buckets.length );
+        for ( long tick = currentTickAsMilli + 1; tick <= currentTickAsMilli + tickCount && size > 0; tick++ )
+        {
+            expire( buckets[(int) (tick & mask)], nowAsMilli, due );
+        }
+        currentTickAsMilli = nowAsMilli;
+    }
+
+    public long size()
+    {
+        return size;
+    }
+
+    private void expire( ArrayDeque<Operation> bucket, long nowAsMilli, Queue<Operation> due )
+    {
+        for ( int i = bucket.size(); i > 0; i-- )
+        {
+            Operation operation = bucket.pollFirst();
+            if ( operation.scheduledStartTimeAsMilli() <= nowAsMilli )
+            {
+                due.add( operation );
+                size--;
+            }
+            else
+            {
+                bucket.addLast( operation );
+            }
+        }
+    }
+}
@@ -1,6 +1,21 @@
 package com.ldbc.driver.temporal;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * nanoSnapshotAt() maps wall clock time onto System.nanoTime() via an offset, the value System.nanoTime() had at
+ * wall clock time 0. Every call samples both clocks: a sample is an upper bound of the offset, exact when it was
+ * taken right after the millisecond clock ticked, so the smallest sample is kept. The wall clock is slewed and
+ * stepped (e.g., by NTP) while System.nanoTime() is not, so the offset is reset to the sample whenever they moved
+ * more than a millisecond apart (beyond the millisecond resolution of samples). The mapping is thus never off by
+ * more than a few milliseconds during long runs, and usually by far less.
+ */
 public class SystemTimeSource implements TimeSource {
+    // samples exceed the offset by up to a millisecond, as the millisecond clock truncates
+    private static final long DRIFT_THRESHOLD_AS_NANO = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private final AtomicLong offsetAsNano = new AtomicLong(sampleOffsetAsNano());
 
     @Override
     public long nanoSnapshot() {
@@ -11,4 +26,27 @@ public class SystemTimeSource implements TimeSource {
     public long nowAsMilli() {
         return System.currentTimeMillis();
     }
-}
\ No newline at end of file
+
+    @Override
+    public long nanoSnapshotAt(long timeAsMilli) {
+        return offsetAsNano() + TimeUnit.MILLISECONDS.toNanos(timeAsMilli);
+    }
+
+    private long offsetAsNano() {
+        long sampleAsNano = sampleOffsetAsNano();
+        long offsetAsNano = this.offsetAsNano.get();
+        while (sampleAsNano < offsetAsNano || sampleAsNano - offsetAsNano > DRIFT_THRESHOLD_AS_NANO) {
+            // tighter bound, or clocks drifted apart
+            if (this.offsetAsNano.compareAndSet(offsetAsNano, sampleAsNano)) {
+                return sampleAsNano;
+            }
+            offsetAsNano = this.offsetAsNano.get();
+        }
+        return offsetAsNano;
+    }
+
+    private static long sampleOffsetAsNano() {
+        long nowAsMilli = System.currentTimeMillis();
+        return System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(nowAsMilli);
+    }
+}
@@ -1,5 +1,7 @@
 package com.ldbc.driver.temporal;
 
+import java.util.concurrent.TimeUnit;
+
 public interface TimeSource {
     // Avoid object creation where possible
     // Only use for measuring of short durations
@@ -7,4 +9,11 @@ public interface TimeSource {
 
     // Avoid object creation where possible
     long nowAsMilli();
-}
\ No newline at end of file
+
+    // Value nanoSnapshot() has at the given time, e.g., to measure the delay of an operation past its scheduled
+    // start time with nanosecond rather than millisecond resolution.
+    // Default is for time sources whose nanoSnapshot() is nowAsMilli() in nanoseconds
+    default long nanoSnapshotAt(long timeAsMilli) {
+        return TimeUnit.MILLISECONDS.toNanos(timeAsMilli);
+    }
+}
@@ -1,10 +1,10 @@
 package com.ldbc.driver.validation;
 
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
 import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 
 import static com.ldbc.driver.validation.ResultsLogValidationResult.ValidationErrorType;
 import static java.lang.String.format;
@@ -55,27 +55,20 @@ public class ResultsLogValidator
                 excessiveDelayThresholdAsMilli
         );
 
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        try ( ResultsLogReader reader = ResultsLogFormat.newReader( resultsLog ) )
         {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+            while ( reader.next() )
             {
-                String[] row = reader.next();
-                String operationType = row[0];
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
+                String operationType = reader.getOperationName();
+                long scheduledStartTimeAsMilli = reader.getScheduledStartTimeAsMilli();
+                long actualStartTimeAsMilli = reader.getActualStartTimeAsMilli();
                 long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
                 calculator.recordDelay( operationType, delayAsMilli );
             }
         }
-        catch ( FileNotFoundException e )
+        catch ( Exception e )
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
         }
 
         return calculator.snapshot();
@@ -84,20 +77,12 @@ public class ResultsLogValidator
     private long maxDelayAsMilli( File resultsLog ) throws ValidationException
     {
         long maxDelayAsMilli = 0;
-        try ( SimpleCsvFileReader reader = new SimpleCsvFileReader(
-                resultsLog,
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        try ( ResultsLogReader reader = ResultsLogFormat.newReader( resultsLog ) )
         {
-            // skip headers
-            reader.next();
-            while ( reader.hasNext() )
+            while ( reader.next() )
             {
-                String[] row = reader.next();
-                // operation type
-                long scheduledStartTimeAsMilli = Long.parseLong( row[1] );
-                long actualStartTimeAsMilli = Long.parseLong( row[2] );
-                // duration
-                // result code
+                long scheduledStartTimeAsMilli = reader.getScheduledStartTimeAsMilli();
+                long actualStartTimeAsMilli = reader.getActualStartTimeAsMilli();
                 long delayAsMilli = actualStartTimeAsMilli - scheduledStartTimeAsMilli;
                 if ( delayAsMilli < 0 )
                 {
@@ -121,9 +106,13 @@ public class ResultsLogValidator
                 }
             }
         }
-        catch ( FileNotFoundException e )
+        catch ( ValidationException e )
         {
-            throw new ValidationException( format( "Error opening results log: %s", resultsLog.getAbsolutePath() ), e );
+            throw e;
+        }
+        catch ( Exception e )
+        {
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
         }
         return maxDelayAsMilli;
     }
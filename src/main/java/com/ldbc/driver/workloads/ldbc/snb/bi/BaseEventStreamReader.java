@@ -11,10 +11,14 @@ import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
+import com.ldbc.driver.generator.CsvFileEventStreamSource;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.NoRemoveIterator;
 
 import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -28,6 +32,41 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
     private final InputStream parametersInputStream;
     private final Iterator<Object[]> parametersIterator;
 
+    /**
+     * Parameters file is read again every time all parameters have been used, rather than kept in memory
+     */
+    public BaseEventStreamReader(
+            File parametersFile,
+            CharSeekerParams charSeekerParams,
+            GeneratorFactory gf ) throws WorkloadException
+    {
+        FileInputStream parametersFileInputStream;
+        try
+        {
+            parametersFileInputStream = new FileInputStream( parametersFile );
+        }
+        catch ( FileNotFoundException e )
+        {
+            throw new WorkloadException(
+                    format( "Unable to open parameters file: %s", parametersFile.getAbsolutePath() ), e );
+        }
+        this.parametersInputStream = parametersFileInputStream;
+        this.charSeeker = null;
+        this.parametersIterator = gf.rereading(
+                new CsvFileEventStreamSource<>(
+                        parametersFileInputStream,
+                        charSeekerParams.bufferSize(),
+                        columnCount(),
+                        new Extractors( charSeekerParams.arrayDelimiter(), charSeekerParams.tupleDelimiter() ),
+                        decoder(),
+                        charSeekerParams.columnDelimiter()
+                )
+        );
+    }
+
+    /**
+     * Parameters are read once and kept in memory, to be repeated once all have been used
+     */
     public BaseEventStreamReader(
             InputStream parametersInputStream,
             CharSeekerParams charSeekerParams,
@@ -84,7 +123,10 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
     @Override
     public void close() throws IOException
     {
-        charSeeker.close();
+        if ( null != charSeeker )
+        {
+            charSeeker.close();
+        }
         parametersInputStream.close();
     }
 
@@ -12,12 +12,21 @@ import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 
 public class BiQuery12EventStreamReader extends BaseEventStreamReader
 {
+    public BiQuery12EventStreamReader(
+            File parametersFile,
+            CharSeekerParams charSeekerParams,
+            GeneratorFactory gf ) throws WorkloadException
+    {
+        super( parametersFile, charSeekerParams, gf );
+    }
+
     public BiQuery12EventStreamReader(
             InputStream parametersInputStream,
             CharSeekerParams charSeekerParams,
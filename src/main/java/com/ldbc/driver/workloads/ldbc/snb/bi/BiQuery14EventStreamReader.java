@@ -11,11 +11,20 @@ import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
 public class BiQuery14EventStreamReader extends BaseEventStreamReader
 {
+    public BiQuery14EventStreamReader(
+            File parametersFile,
+            CharSeekerParams charSeekerParams,
+            GeneratorFactory gf ) throws WorkloadException
+    {
+        super( parametersFile, charSeekerParams, gf );
+    }
+
     public BiQuery14EventStreamReader(
             InputStream parametersInputStream,
             CharSeekerParams charSeekerParams,
@@ -15,8 +15,6 @@ import com.ldbc.driver.generator.GeneratorFactory;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -34,26 +32,26 @@ public class LdbcSnbBiWorkload extends Workload
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     // TODO alternatively they could be CloseableStream (or similar) where files and everything are in 1 class
     private List<Closeable> readOperationFileReaders = new ArrayList<>();
-    private FileInputStream readOperation1FileInputStream;
-    private FileInputStream readOperation2FileInputStream;
-    private FileInputStream readOperation3FileInputStream;
-    private FileInputStream readOperation4FileInputStream;
-    private FileInputStream readOperation5FileInputStream;
-    private FileInputStream readOperation6FileInputStream;
-    private FileInputStream readOperation7FileInputStream;
-    private FileInputStream readOperation8FileInputStream;
-    private FileInputStream readOperation9FileInputStream;
-    private FileInputStream readOperation10FileInputStream;
-    private FileInputStream readOperation11FileInputStream;
-    private FileInputStream readOperation12FileInputStream;
-    private FileInputStream readOperation13FileInputStream;
-    private FileInputStream readOperation14FileInputStream;
-    private FileInputStream readOperation15FileInputStream;
-    private FileInputStream readOperation16FileInputStream;
-    private FileInputStream readOperation17FileInputStream;
-    private FileInputStream readOperation18FileInputStream;
-    private FileInputStream readOperation19FileInputStream;
-    private FileInputStream readOperation20FileInputStream;
+    private File readOperation1ParametersFile;
+    private File readOperation2ParametersFile;
+    private File readOperation3ParametersFile;
+    private File readOperation4ParametersFile;
+    private File readOperation5ParametersFile;
+    private File readOperation6ParametersFile;
+    private File readOperation7ParametersFile;
+    private File readOperation8ParametersFile;
+    private File readOperation9ParametersFile;
+    private File readOperation10ParametersFile;
+    private File readOperation11ParametersFile;
+    private File readOperation12ParametersFile;
+    private File readOperation13ParametersFile;
+    private File readOperation14ParametersFile;
+    private File readOperation15ParametersFile;
+    private File readOperation16ParametersFile;
+    private File readOperation17ParametersFile;
+    private File readOperation18ParametersFile;
+    private File readOperation19ParametersFile;
+    private File readOperation20ParametersFile;
 
     // TODO these things should really all be in an instance of LdbcSnbBiWorkloadConfiguration or ...State
     private LdbcSnbBiWorkloadConfiguration.LdbcSnbBiInterleaves interleaves = null;
@@ -115,73 +113,46 @@ public class LdbcSnbBiWorkload extends Workload
                 ) );
             }
         }
-        try
-        {
-            readOperation1FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_1_PARAMS_FILENAME )
-            );
-            readOperation2FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_2_PARAMS_FILENAME )
-            );
-            readOperation3FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_3_PARAMS_FILENAME )
-            );
-            readOperation4FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_4_PARAMS_FILENAME )
-            );
-            readOperation5FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_5_PARAMS_FILENAME )
-            );
-            readOperation6FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_6_PARAMS_FILENAME )
-            );
-            readOperation7FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_7_PARAMS_FILENAME )
-            );
-            readOperation8FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_8_PARAMS_FILENAME )
-            );
-            readOperation9FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_9_PARAMS_FILENAME )
-            );
-            readOperation10FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_10_PARAMS_FILENAME )
-            );
-            readOperation11FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_11_PARAMS_FILENAME )
-            );
-            readOperation12FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_12_PARAMS_FILENAME )
-            );
-            readOperation13FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_13_PARAMS_FILENAME )
-            );
-            readOperation14FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_14_PARAMS_FILENAME )
-            );
-            readOperation15FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_15_PARAMS_FILENAME )
-            );
-            readOperation16FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_16_PARAMS_FILENAME )
-            );
-            readOperation17FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_17_PARAMS_FILENAME )
-            );
-            readOperation18FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_18_PARAMS_FILENAME )
-            );
-            readOperation19FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_19_PARAMS_FILENAME )
-            );
-            readOperation20FileInputStream = new FileInputStream(
-                    new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_20_PARAMS_FILENAME )
-            );
-        }
-        catch ( FileNotFoundException e )
-        {
-            throw new WorkloadException( "Error load query parameters file", e );
-        }
+        readOperation1ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_1_PARAMS_FILENAME );
+        readOperation2ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_2_PARAMS_FILENAME );
+        readOperation3ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_3_PARAMS_FILENAME );
+        readOperation4ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_4_PARAMS_FILENAME );
+        readOperation5ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_5_PARAMS_FILENAME );
+        readOperation6ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_6_PARAMS_FILENAME );
+        readOperation7ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_7_PARAMS_FILENAME );
+        readOperation8ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_8_PARAMS_FILENAME );
+        readOperation9ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_9_PARAMS_FILENAME );
+        readOperation10ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_10_PARAMS_FILENAME );
+        readOperation11ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_11_PARAMS_FILENAME );
+        readOperation12ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_12_PARAMS_FILENAME );
+        readOperation13ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_13_PARAMS_FILENAME );
+        readOperation14ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_14_PARAMS_FILENAME );
+        readOperation15ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_15_PARAMS_FILENAME );
+        readOperation16ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_16_PARAMS_FILENAME );
+        readOperation17ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_17_PARAMS_FILENAME );
+        readOperation18ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_18_PARAMS_FILENAME );
+        readOperation19ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_19_PARAMS_FILENAME );
+        readOperation20ParametersFile =
+                new File( parametersDir, LdbcSnbBiWorkloadConfiguration.OPERATION_20_PARAMS_FILENAME );
 
         enabledOperationTypes = new HashSet<>();
         for ( String operationEnableKey : LdbcSnbBiWorkloadConfiguration.OPERATION_ENABLE_KEYS )
@@ -255,14 +226,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery1PostingSummary.class ) )
         {
             BiQuery1EventStreamReader operation1StreamWithoutTimes = new BiQuery1EventStreamReader(
-                    readOperation1FileInputStream,
+                    readOperation1ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation1StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation1Interleave,
                                     interleaves.operation1Interleave
                             ),
@@ -275,14 +246,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery2TagEvolution.class ) )
         {
             BiQuery2EventStreamReader operation2StreamWithoutTimes = new BiQuery2EventStreamReader(
-                    readOperation2FileInputStream,
+                    readOperation2ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation2StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation2Interleave,
                                     interleaves.operation2Interleave
                             ),
@@ -296,14 +267,14 @@ public class LdbcSnbBiWorkload extends Workload
         {
             BiQuery3EventStreamReader operation3StreamWithoutTimes = null;
             operation3StreamWithoutTimes = new BiQuery3EventStreamReader(
-                    readOperation3FileInputStream,
+                    readOperation3ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation3StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation3Interleave,
                                     interleaves.operation3Interleave
                             ),
@@ -316,14 +287,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery4TopCountryPosters.class ) )
         {
             BiQuery4EventStreamReader operation4StreamWithoutTimes = new BiQuery4EventStreamReader(
-                    readOperation4FileInputStream,
+                    readOperation4ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation4StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation4Interleave,
                                     interleaves.operation4Interleave
                             ),
@@ -336,14 +307,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery5ActivePosters.class ) )
         {
             BiQuery5EventStreamReader operation5StreamWithoutTimes = new BiQuery5EventStreamReader(
-                    readOperation5FileInputStream,
+                    readOperation5ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation5StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation5Interleave,
                                     interleaves.operation5Interleave
                             ),
@@ -356,14 +327,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery6AuthoritativeUsers.class ) )
         {
             BiQuery6EventStreamReader operation6StreamWithoutTimes = new BiQuery6EventStreamReader(
-                    readOperation6FileInputStream,
+                    readOperation6ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation6StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation6Interleave,
                                     interleaves.operation6Interleave
                             ),
@@ -376,14 +347,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery7RelatedTopics.class ) )
         {
             BiQuery7EventStreamReader operation7StreamWithoutTimes = new BiQuery7EventStreamReader(
-                    readOperation7FileInputStream,
+                    readOperation7ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation7StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation7Interleave,
                                     interleaves.operation7Interleave
                             ),
@@ -396,14 +367,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery8TagPerson.class ) )
         {
             BiQuery8EventStreamReader operation8StreamWithoutTimes = new BiQuery8EventStreamReader(
-                    readOperation8FileInputStream,
+                    readOperation8ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation8StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation8Interleave,
                                     interleaves.operation8Interleave
                             ),
@@ -416,14 +387,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery9TopThreadInitiators.class ) )
         {
             BiQuery9EventStreamReader operation9StreamWithoutTimes = new BiQuery9EventStreamReader(
-                    readOperation9FileInputStream,
+                    readOperation9ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation9StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation9Interleave,
                                     interleaves.operation9Interleave
                             ),
@@ -436,14 +407,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery10ExpertsInSocialCircle.class ) )
         {
             BiQuery10EventStreamReader operation10StreamWithoutTimes = new BiQuery10EventStreamReader(
-                    readOperation10FileInputStream,
+                    readOperation10ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation10StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation10Interleave,
                                     interleaves.operation10Interleave
                             ),
@@ -456,14 +427,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery11FriendshipTriangles.class ) )
         {
             BiQuery11EventStreamReader operation11StreamWithoutTimes = new BiQuery11EventStreamReader(
-                    readOperation11FileInputStream,
+                    readOperation11ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation11StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation11Interleave,
                                     interleaves.operation11Interleave
                             ),
@@ -476,14 +447,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery12PersonPostCounts.class ) )
         {
             BiQuery12EventStreamReader operation12StreamWithoutTimes = new BiQuery12EventStreamReader(
-                    readOperation12FileInputStream,
+                    readOperation12ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation12StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation12Interleave,
                                     interleaves.operation12Interleave
                             ),
@@ -496,14 +467,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery13Zombies.class ) )
         {
             BiQuery13EventStreamReader operation13StreamWithoutTimes = new BiQuery13EventStreamReader(
-                    readOperation13FileInputStream,
+                    readOperation13ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation13StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation13Interleave,
                                     interleaves.operation13Interleave
                             ),
@@ -516,14 +487,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery14InternationalDialog.class ) )
         {
             BiQuery14EventStreamReader operation14StreamWithoutTimes = new BiQuery14EventStreamReader(
-                    readOperation14FileInputStream,
+                    readOperation14ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation14StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation14Interleave,
                                     interleaves.operation14Interleave
                             ),
@@ -536,14 +507,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery15WeightedPaths.class ) )
         {
             BiQuery15EventStreamReader operation15StreamWithoutTimes = new BiQuery15EventStreamReader(
-                    readOperation15FileInputStream,
+                    readOperation15ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation15StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation15Interleave,
                                     interleaves.operation15Interleave
                             ),
@@ -556,14 +527,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery16FakeNewsDetection.class ) )
         {
             BiQuery16EventStreamReader operation16StreamWithoutTimes = new BiQuery16EventStreamReader(
-                    readOperation16FileInputStream,
+                    readOperation16ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation16StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation18Interleave,
                                     interleaves.operation18Interleave
                             ),
@@ -576,14 +547,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery17InformationPropagationAnalysis.class ) )
         {
             BiQuery17EventStreamReader operation17StreamWithoutTimes = new BiQuery17EventStreamReader(
-                    readOperation17FileInputStream,
+                    readOperation17ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation17StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation17Interleave,
                                     interleaves.operation17Interleave
                             ),
@@ -596,14 +567,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery18FriendRecommendation.class ) )
         {
             BiQuery18EventStreamReader operation18StreamWithoutTimes = new BiQuery18EventStreamReader(
-                    readOperation18FileInputStream,
+                    readOperation18ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation18StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation18Interleave,
                                     interleaves.operation18Interleave
                             ),
@@ -616,14 +587,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery19InteractionPathBetweenCities.class ) )
         {
             BiQuery19EventStreamReader operation19StreamWithoutTimes = new BiQuery19EventStreamReader(
-                    readOperation19FileInputStream,
+                    readOperation19ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation19StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation19Interleave,
                                     interleaves.operation19Interleave
                             ),
@@ -636,14 +607,14 @@ public class LdbcSnbBiWorkload extends Workload
         if ( enabledOperationTypes.contains( LdbcSnbBiQuery20Recruitment.class ) )
         {
             BiQuery20EventStreamReader operation20StreamWithoutTimes = new BiQuery20EventStreamReader(
-                    readOperation20FileInputStream,
+                    readOperation20ParametersFile,
                     CHAR_SEEKER_PARAMS,
                     gf
             );
             readOperationFileReaders.add( operation20StreamWithoutTimes );
             asynchronousNonDependencyStreamsList.add(
                     gf.assignStartTimes(
-                            gf.incrementing(
+                            gf.incrementingLong(
                                     workloadStartTimeAsMilli + interleaves.operation20Interleave,
                                     interleaves.operation20Interleave
                             ),
@@ -979,6 +950,12 @@ public class LdbcSnbBiWorkload extends Workload
             throw new SerializingMarshallingException(
                     format( "Error while parsing serialized results\n%s", serializedOperation ), e );
         }
+        return marshalOperation( operationAsList );
+    }
+
+    @Override
+    public Operation marshalOperation( List<Object> operationAsList ) throws SerializingMarshallingException
+    {
         String operationClassName = (String) operationAsList.get( 0 );
 
         if ( operationClassName.equals( LdbcSnbBiQuery1PostingSummary.class.getName() ) )
@@ -1129,7 +1106,7 @@ public class LdbcSnbBiWorkload extends Workload
                         "%s\nSerialized Operation: %s",
                         getClass().getName(),
                         operationClassName,
-                        serializedOperation ) );
+                        operationAsList ) );
     }
 
     @Override
@@ -19,14 +19,16 @@ import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.validation.LdbcSnbInteractiveDbValidationParametersFilter;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
-import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
-import com.ldbc.driver.csv.charseeker.Mark;
+import com.ldbc.driver.csv.charseeker.MappedCharSeeker;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
+import com.ldbc.driver.generator.CsvFileEventStreamSource;
+import com.ldbc.driver.generator.DecodeAheadIterator;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.LongIterator;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.util.ClassLoadingException;
@@ -52,6 +54,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -105,6 +108,9 @@ public class LdbcSnbInteractiveWorkload extends Workload {
     private Set<Class> enabledWriteOperationTypes;
 //    private Set<Class> enabledDeleteOperationTypes;
     private LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser;
+    private int updateStreamDecodeAhead;
+    private int updateStreamDecoderThreads;
+    private ForkJoinPool updateStreamDecoderPool = null;
 
     @Override
     public Map<Integer, Class<? extends Operation>> operationTypeToClassMapping() {
@@ -421,6 +427,26 @@ public class LdbcSnbInteractiveWorkload extends Workload {
             throw new WorkloadException("Invalid parser: " + parserString);
         }
         this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf(parserString.trim());
+
+        String decodeAheadString = params.get(LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_DECODE_AHEAD);
+        String decoderThreadsString =
+                params.get(LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_DECODER_THREADS);
+        try {
+            updateStreamDecodeAhead = (null == decodeAheadString)
+                    ? LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_DECODE_AHEAD
+                    : Integer.parseInt(decodeAheadString.trim());
+            updateStreamDecoderThreads = (null == decoderThreadsString)
+                    ? Runtime.getRuntime().availableProcessors()
+                    : Integer.parseInt(decoderThreadsString.trim());
+        } catch (NumberFormatException e) {
+            throw new WorkloadException("Unable to parse update stream decode ahead configuration", e);
+        }
+        if (updateStreamDecodeAhead < 0 || updateStreamDecoderThreads < 1) {
+            throw new WorkloadException(format("Invalid update stream decode ahead configuration: %s=%s %s=%s",
+                    LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_DECODE_AHEAD, updateStreamDecodeAhead,
+                    LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_DECODER_THREADS,
+                    updateStreamDecoderThreads));
+        }
         this.compressionRatio = Double.parseDouble(
                 params.get(ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG).trim()
         );
@@ -440,6 +466,10 @@ public class LdbcSnbInteractiveWorkload extends Workload {
             readOperationFileReader.close();
         }
 
+        if (null != updateStreamDecoderPool) {
+            updateStreamDecoderPool.shutdownNow();
+        }
+
 //        for (Closeable deleteOperationFileReader: deleteOperationFileReaders) {
 //            deleteOperationFileReader.close();
 //        }
@@ -483,6 +513,12 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                 return Tuple.tuple2(
                         WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, '|'), charSeeker);
             }
+            case MAPPED_CHAR_SEEKER: {
+                MappedCharSeeker charSeeker = new MappedCharSeeker(updateOperationsFile);
+                Extractors extractors = new Extractors(';', ',');
+                return Tuple.tuple2(
+                        WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, '|'), charSeeker);
+            }
         }
         SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(updateOperationsFile,
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING);
@@ -490,6 +526,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                 csvFileReader);
     }
 
+    /**
+     * If enabled, decodes update stream ahead of its consumer, on the shared pool of update stream decoder threads,
+     * so update throughput is not limited by the parsing speed of the threads that execute update streams
+     */
+    private Tuple2<Iterator<Operation>, Closeable> decodeAhead(
+            Tuple2<Iterator<Operation>, Closeable> parserAndCloseable) {
+        if (0 == updateStreamDecodeAhead) {
+            return parserAndCloseable;
+        }
+        if (null == updateStreamDecoderPool) {
+            updateStreamDecoderPool = new ForkJoinPool(updateStreamDecoderThreads);
+        }
+        DecodeAheadIterator<Operation> decodeAheadIterator = DecodeAheadIterator.decodeAhead(
+                parserAndCloseable._1(), parserAndCloseable._2(), updateStreamDecoderPool, updateStreamDecodeAhead);
+        return Tuple.<Iterator<Operation>, Closeable>tuple2(decodeAheadIterator, decodeAheadIterator);
+    }
+
     @Override
     protected WorkloadStreams getStreams(GeneratorFactory gf, boolean hasDbConnected) throws WorkloadException {
         long workloadStartTimeAsMilli = Long.MAX_VALUE;
@@ -516,7 +569,7 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                 Iterator<Operation> personUpdateOperationsParser;
                 try {
                     Tuple2<Iterator<Operation>, Closeable> parserAndCloseable =
-                            fileToWriteStreamParser(personUpdateOperationFile, parser);
+                            decodeAhead(fileToWriteStreamParser(personUpdateOperationFile, parser));
                     personUpdateOperationsParser = parserAndCloseable._1();
                     personUpdateOperationsFileReaders.add(parserAndCloseable._2());
                 } catch (IOException e) {
@@ -660,7 +713,7 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                 Iterator<Operation> forumUpdateOperationsParser;
                 try {
                     Tuple2<Iterator<Operation>, Closeable> parserAndCloseable =
-                            fileToWriteStreamParser(forumUpdateOperationFile, parser);
+                            decodeAhead(fileToWriteStreamParser(forumUpdateOperationFile, parser));
                     forumUpdateOperationsParser = parserAndCloseable._1();
                     forumUpdateOperationsFileReaders.add(parserAndCloseable._2());
                 } catch (IOException e) {
@@ -751,44 +804,30 @@ public class LdbcSnbInteractiveWorkload extends Workload {
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query1EventStreamReader.Query1Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation1File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation1File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation1File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation1File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation1StreamWithoutTimes = new Query1EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation1StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation1InterleaveAsMilli,
+            LongIterator operation1StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation1InterleaveAsMilli,
                             readOperation1InterleaveAsMilli);
 
             readOperation1Stream = gf.assignStartTimes(
@@ -796,51 +835,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation1StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation2Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query2EventStreamReader.Query2Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation2File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation2File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation2File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation2File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation2StreamWithoutTimes = new Query2EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation2StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation2InterleaveAsMilli,
+            LongIterator operation2StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation2InterleaveAsMilli,
                             readOperation2InterleaveAsMilli);
 
             readOperation2Stream = gf.assignStartTimes(
@@ -848,54 +873,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation2StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation3Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query3EventStreamReader.Query3Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation3File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation3File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation3File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation3File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation3StreamWithoutTimes = new Query3EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    5,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation3StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation3InterleaveAsMilli,
+            LongIterator operation3StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation3InterleaveAsMilli,
                             readOperation3InterleaveAsMilli);
 
             readOperation3Stream = gf.assignStartTimes(
@@ -903,52 +911,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation3StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation4Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query4EventStreamReader.Query4Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation4File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation4File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation4File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation4File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation4StreamWithoutTimes = new Query4EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    3,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation4StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation4InterleaveAsMilli,
+            LongIterator operation4StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation4InterleaveAsMilli,
                             readOperation4InterleaveAsMilli);
 
             readOperation4Stream = gf.assignStartTimes(
@@ -956,51 +949,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation4StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation5Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query5EventStreamReader.Query5Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation5File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation5File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation5File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation5File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation5StreamWithoutTimes = new Query5EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation5StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation5InterleaveAsMilli,
+            LongIterator operation5StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation5InterleaveAsMilli,
                             readOperation5InterleaveAsMilli);
 
             readOperation5Stream = gf.assignStartTimes(
@@ -1008,51 +987,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation5StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation6Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query6EventStreamReader.Query6Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation6File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation6File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation6File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation6File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation6StreamWithoutTimes = new Query6EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation6StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation6InterleaveAsMilli,
+            LongIterator operation6StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation6InterleaveAsMilli,
                             readOperation6InterleaveAsMilli);
 
             readOperation6Stream = gf.assignStartTimes(
@@ -1060,50 +1025,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation6StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation7Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query7EventStreamReader.Query7Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation7File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation7File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation7File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation7File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation7StreamWithoutTimes = new Query7EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    1,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation7StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation7InterleaveAsMilli,
+            LongIterator operation7StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation7InterleaveAsMilli,
                             readOperation7InterleaveAsMilli);
 
             readOperation7Stream = gf.assignStartTimes(
@@ -1111,50 +1063,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation7StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation8Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query8EventStreamReader.Query8Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation8File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation8File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation8File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation8File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation8StreamWithoutTimes = new Query8EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    1,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation8StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation8InterleaveAsMilli,
+            LongIterator operation8StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation8InterleaveAsMilli,
                             readOperation8InterleaveAsMilli);
 
             readOperation8Stream = gf.assignStartTimes(
@@ -1162,51 +1101,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation8StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation9Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query9EventStreamReader.Query9Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation9File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation9File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation9File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation9File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation9StreamWithoutTimes = new Query9EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation9StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation9InterleaveAsMilli,
+            LongIterator operation9StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation9InterleaveAsMilli,
                             readOperation9InterleaveAsMilli);
 
             readOperation9Stream = gf.assignStartTimes(
@@ -1214,51 +1139,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation9StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation10Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query10EventStreamReader.Query10Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation10File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation10File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation10File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation10File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation10StreamWithoutTimes = new Query10EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation10StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation10InterleaveAsMilli,
+            LongIterator operation10StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation10InterleaveAsMilli,
                             readOperation10InterleaveAsMilli);
 
             readOperation10Stream = gf.assignStartTimes(
@@ -1266,52 +1177,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation10StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation11Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query11EventStreamReader.Query11Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation11File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation11File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation11File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation11File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation11StreamWithoutTimes = new Query11EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    3,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation11StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation11InterleaveAsMilli,
+            LongIterator operation11StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation11InterleaveAsMilli,
                             readOperation11InterleaveAsMilli);
 
             readOperation11Stream = gf.assignStartTimes(
@@ -1319,51 +1215,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation11StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation12Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query12EventStreamReader.Query12Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation12File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation12File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation12File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation12File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation12StreamWithoutTimes = new Query12EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation12StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation12InterleaveAsMilli,
+            LongIterator operation12StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation12InterleaveAsMilli,
                             readOperation12InterleaveAsMilli);
 
             readOperation12Stream = gf.assignStartTimes(
@@ -1371,51 +1253,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation12StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation13Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query13EventStreamReader.Query13Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation13File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation13File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation13File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation13File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation13StreamWithoutTimes = new Query13EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation13StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation13InterleaveAsMilli,
+            LongIterator operation13StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation13InterleaveAsMilli,
                             readOperation13InterleaveAsMilli);
 
             readOperation13Stream = gf.assignStartTimes(
@@ -1423,51 +1291,37 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation13StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         Iterator<Operation> readOperation14Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query14EventStreamReader.Query14Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
+            FileInputStream parametersInputStream;
             try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation14File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
+                parametersInputStream = new FileInputStream(readOperation14File);
             } catch (FileNotFoundException e) {
                 throw new WorkloadException(
                         format("Unable to open parameters file: %s", readOperation14File.getAbsolutePath()),
                         e);
             }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation14File.getAbsolutePath()), e);
-            }
 
             Iterator<Operation> operation14StreamWithoutTimes = new Query14EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
+                    gf.rereading(
+                            new CsvFileEventStreamSource<>(
+                                    parametersInputStream,
+                                    bufferSize,
+                                    2,
+                                    new Extractors(arrayDelimiter, tupleDelimiter),
                                     decoder,
                                     columnDelimiter
                             )
                     )
             );
 
-            Iterator<Long> operation14StartTimes =
-                    gf.incrementing(workloadStartTimeAsMilli + readOperation14InterleaveAsMilli,
+            LongIterator operation14StartTimes =
+                    gf.incrementingLong(workloadStartTimeAsMilli + readOperation14InterleaveAsMilli,
                             readOperation14InterleaveAsMilli);
 
             readOperation14Stream = gf.assignStartTimes(
@@ -1475,7 +1329,7 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation14StreamWithoutTimes
             );
 
-            readOperationFileReaders.add(charSeeker);
+            readOperationFileReaders.add(parametersInputStream);
         }
 
         if (enabledLongReadOperationTypes.contains(LdbcQuery1.class)) {
@@ -1543,57 +1397,7 @@ public class LdbcSnbInteractiveWorkload extends Workload {
          * *******
          * *******/
 
-        ChildOperationGenerator shortReadsChildGenerator = null;
-        if (!enabledShortReadOperationTypes.isEmpty()) {
-            Map<Integer, Long> longReadInterleavesAsMilli = new HashMap<>();
-            longReadInterleavesAsMilli.put(LdbcQuery1.TYPE, readOperation1InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery2.TYPE, readOperation2InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery3.TYPE, readOperation3InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery4.TYPE, readOperation4InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery5.TYPE, readOperation5InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery6.TYPE, readOperation6InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery7.TYPE, readOperation7InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery8.TYPE, readOperation8InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery9.TYPE, readOperation9InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery10.TYPE, readOperation10InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery11.TYPE, readOperation11InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery12.TYPE, readOperation12InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery13.TYPE, readOperation13InterleaveAsMilli);
-            longReadInterleavesAsMilli.put(LdbcQuery14.TYPE, readOperation14InterleaveAsMilli);
-
-            RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(42l);
-            double initialProbability = 1.0;
-            Queue<Long> personIdBuffer = (hasDbConnected)
-                    ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer(1024)
-                    : LdbcSnbShortReadGenerator.constantBuffer(1);
-            Queue<Long> messageIdBuffer = (hasDbConnected)
-                    ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer(1024)
-                    : LdbcSnbShortReadGenerator.constantBuffer(1);
-            LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
-                    ?
-                    LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME
-                    :
-                    LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_SCHEDULED_START_TIME;
-            LdbcSnbShortReadGenerator.BufferReplenishFun bufferReplenishFun = (hasDbConnected)
-                    ? new LdbcSnbShortReadGenerator
-                    .ResultBufferReplenishFun(
-                    personIdBuffer, messageIdBuffer)
-                    : new LdbcSnbShortReadGenerator
-                    .NoOpBufferReplenishFun();
-            shortReadsChildGenerator = new LdbcSnbShortReadGenerator(
-                    initialProbability,
-                    shortReadDissipationFactor,
-                    updateInterleaveAsMilli,
-                    enabledShortReadOperationTypes,
-                    compressionRatio,
-                    personIdBuffer,
-                    messageIdBuffer,
-                    randomFactory,
-                    longReadInterleavesAsMilli,
-                    scheduledStartTimePolicy,
-                    bufferReplenishFun
-            );
-        }
+        ChildOperationGenerator shortReadsChildGenerator = shortReadsChildGenerator(hasDbConnected);
 
         /* **************
          * **************
@@ -1614,6 +1418,65 @@ public class LdbcSnbInteractiveWorkload extends Workload {
         return ldbcSnbInteractiveWorkloadStreams;
     }
 
+    @Override
+    protected ChildOperationGenerator compiledChildOperationGenerator(boolean hasDbConnected) {
+        return shortReadsChildGenerator(hasDbConnected);
+    }
+
+    private ChildOperationGenerator shortReadsChildGenerator(boolean hasDbConnected) {
+        if (enabledShortReadOperationTypes.isEmpty()) {
+            return null;
+        }
+        Map<Integer, Long> longReadInterleavesAsMilli = new HashMap<>();
+        longReadInterleavesAsMilli.put(LdbcQuery1.TYPE, readOperation1InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery2.TYPE, readOperation2InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery3.TYPE, readOperation3InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery4.TYPE, readOperation4InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery5.TYPE, readOperation5InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery6.TYPE, readOperation6InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery7.TYPE, readOperation7InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery8.TYPE, readOperation8InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery9.TYPE, readOperation9InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery10.TYPE, readOperation10InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery11.TYPE, readOperation11InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery12.TYPE, readOperation12InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery13.TYPE, readOperation13InterleaveAsMilli);
+        longReadInterleavesAsMilli.put(LdbcQuery14.TYPE, readOperation14InterleaveAsMilli);
+
+        RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(42l);
+        double initialProbability = 1.0;
+        Queue<Long> personIdBuffer = (hasDbConnected)
+                ? LdbcSnbShortReadGenerator.circularQueueBuffer(1024)
+                : LdbcSnbShortReadGenerator.constantBuffer(1);
+        Queue<Long> messageIdBuffer = (hasDbConnected)
+                ? LdbcSnbShortReadGenerator.circularQueueBuffer(1024)
+                : LdbcSnbShortReadGenerator.constantBuffer(1);
+        LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
+                ?
+                LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME
+                :
+                LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_SCHEDULED_START_TIME;
+        LdbcSnbShortReadGenerator.BufferReplenishFun bufferReplenishFun = (hasDbConnected)
+                ? new LdbcSnbShortReadGenerator
+                .ResultBufferReplenishFun(
+                personIdBuffer, messageIdBuffer)
+                : new LdbcSnbShortReadGenerator
+                .NoOpBufferReplenishFun();
+        return new LdbcSnbShortReadGenerator(
+                initialProbability,
+                shortReadDissipationFactor,
+                updateInterleaveAsMilli,
+                enabledShortReadOperationTypes,
+                compressionRatio,
+                personIdBuffer,
+                messageIdBuffer,
+                randomFactory,
+                longReadInterleavesAsMilli,
+                scheduledStartTimePolicy,
+                bufferReplenishFun
+        );
+    }
+
     @Override
     public LdbcSnbInteractiveDbValidationParametersFilter getDbValidationParametersFilter(int requiredValidationParameterCount) {
         final Set<Class> multiResultOperations = Sets.newHashSet(
@@ -2251,7 +2114,11 @@ public class LdbcSnbInteractiveWorkload extends Workload {
             throw new SerializingMarshallingException(
                     format("Error while parsing serialized results\n%s", serializedOperation), e);
         }
+        return marshalOperation(operationAsList);
+    }
 
+    @Override
+    public Operation marshalOperation(List<Object> operationAsList) throws SerializingMarshallingException {
         String operationTypeName = (String) operationAsList.get(0);
         if (operationTypeName.equals(LdbcQuery1.class.getName())) {
             long personId = ((Number) operationAsList.get(1)).longValue();
@@ -2540,7 +2407,7 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                                 "%s\nSerialized Operation: %s",
                         getClass().getName(),
                         operationTypeName,
-                        serializedOperation));
+                        operationAsList));
     }
 
     private static final Equator<LdbcQuery14Result> LDBC_QUERY_14_RESULT_EQUATOR = new Equator<LdbcQuery14Result>() {
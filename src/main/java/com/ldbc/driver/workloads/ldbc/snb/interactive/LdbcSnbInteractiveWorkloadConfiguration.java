@@ -47,11 +47,22 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration {
     public enum UpdateStreamParser {
         REGEX,
         CHAR_SEEKER,
-        CHAR_SEEKER_THREAD
+        CHAR_SEEKER_THREAD,
+        // memory mapped, parses numbers straight from bytes and only decodes strings
+        MAPPED_CHAR_SEEKER
     }
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
-    public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.CHAR_SEEKER;
+    public final static UpdateStreamParser DEFAULT_UPDATE_STREAM_PARSER = UpdateStreamParser.MAPPED_CHAR_SEEKER;
+
+    // Number of decoded update operations buffered per update stream file, by a pool of decoder threads
+    // 0 disables decoding ahead, update streams are then decoded by the threads that execute them
+    public final static String UPDATE_STREAM_DECODE_AHEAD =
+            LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser_decode_ahead";
+    public final static int DEFAULT_UPDATE_STREAM_DECODE_AHEAD = 0;
+    // Number of threads decoding update stream files ahead, defaults to number of available processors
+    public final static String UPDATE_STREAM_DECODER_THREADS =
+            LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser_threads";
     public final static String LDBC_INTERACTIVE_PACKAGE_PREFIX =
             removeSuffix(LdbcQuery1.class.getName(), LdbcQuery1.class.getSimpleName());
 
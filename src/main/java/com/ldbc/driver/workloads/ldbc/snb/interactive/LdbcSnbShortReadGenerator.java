@@ -1,8 +1,6 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.google.common.collect.EvictingQueue;
 import com.google.common.collect.Ordering;
-import com.google.common.collect.Queues;
 import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
@@ -1363,9 +1361,9 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     Buffer
      */
 
-    static Queue<Long> synchronizedCircularQueueBuffer( int bufferSize )
+    static Queue<Long> circularQueueBuffer( int bufferSize )
     {
-        return Queues.synchronizedQueue( EvictingQueue.<Long>create( bufferSize ) );
+        return new LongCircularQueueBuffer( bufferSize );
     }
 
     static Queue<Long> constantBuffer( final long value )
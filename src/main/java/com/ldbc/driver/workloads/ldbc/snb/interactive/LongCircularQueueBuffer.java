@@ -0,0 +1,237 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.ldbc.driver.runtime.PaddedAtomicLong;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, bounded, multi-producer multi-consumer queue of primitive longs that evicts its oldest element when an
+ * element is added while it is full, i.e., a concurrent replacement of a synchronized
+ * {@link com.google.common.collect.EvictingQueue}.
+ * <p/>
+ * Every slot has a sequence number that tells producers and consumers whose turn it is (Vyukov's bounded queue):
+ * producers and consumers each claim a slot with one CAS on the tail/head index, then publish it by advancing the
+ * sequence number of that slot, so they never wait on a monitor. Values are stored unboxed.
+ * <p/>
+ * poll() and peek() return null while the queue is empty, and also while the oldest slot was claimed by a producer
+ * that did not publish its value yet. size() is approximate while the queue is being modified, iterator() is weakly
+ * consistent: it returns the values that were still in the queue when they were read.
+ * Buffer size is rounded up to the next power of 2.
+ */
+class LongCircularQueueBuffer extends AbstractQueue<Long>
+{
+    private final long[] values;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    // index of the next slot to poll from
+    private final PaddedAtomicLong head = new PaddedAtomicLong();
+    // index of the next slot to add to
+    private final PaddedAtomicLong tail = new PaddedAtomicLong();
+
+    LongCircularQueueBuffer( int bufferSize )
+    {
+        // with one slot, sequence numbers of published and released slots would be indistinguishable
+        if ( bufferSize < 2 )
+        {
+            throw new IllegalArgumentException( "Buffer size must be at least 2: " + bufferSize );
+        }
+        int capacity = Integer.highestOneBit( bufferSize );
+        capacity = (capacity == bufferSize) ? capacity : capacity << 1;
+        this.values = new long[capacity];
+        this.sequences = new AtomicLongArray( capacity );
+        for ( int i = 0; i < capacity; i++ )
+        {
+            sequences.set( i, i );
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds value, evicting the oldest values as long as the queue is full
+     */
+    @Override
+    public boolean add( Long value )
+    {
+        addLong( value );
+        return true;
+    }
+
+    /**
+     * Same as add(), never rejects a value
+     */
+    @Override
+    public boolean offer( Long value )
+    {
+        addLong( value );
+        return true;
+    }
+
+    void addLong( long value )
+    {
+        while ( !offerLong( value ) )
+        {
+            if ( tail.get() - head.get() >= values.length )
+            {
+                // full, make room by evicting oldest
+                long index = claimHead();
+                if ( -1 != index )
+                {
+                    release( index );
+                }
+            }
+            else
+            {
+                // a consumer claimed the oldest value but did not release its slot yet, do not evict another
+                Thread.yield();
+            }
+        }
+    }
+
+    @Override
+    public Long poll()
+    {
+        long index = claimHead();
+        if ( -1 == index )
+        {
+            return null;
+        }
+        long value = values[(int) index & mask];
+        release( index );
+        return value;
+    }
+
+    /**
+     * Reads the oldest value without claiming it
+     */
+    @Override
+    public Long peek()
+    {
+        long index = head.get();
+        while ( true )
+        {
+            int slot = (int) index & mask;
+            if ( sequences.get( slot ) != index + 1 )
+            {
+                long currentIndex = head.get();
+                if ( currentIndex == index )
+                {
+                    // value of index was not published yet, queue is empty
+                    return null;
+                }
+                // another consumer claimed index
+                index = currentIndex;
+                continue;
+            }
+            long value = values[slot];
+            // value is only valid if the slot was not released, and possibly reused, while it was being read
+            if ( sequences.get( slot ) == index + 1 )
+            {
+                return value;
+            }
+            index = head.get();
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        long size = tail.get() - head.get();
+        return (int) Math.max( 0, Math.min( size, values.length ) );
+    }
+
+    @Override
+    public Iterator<Long> iterator()
+    {
+        List<Long> snapshot = new ArrayList<>();
+        long producer = tail.get();
+        for ( long index = head.get(); index < producer; index++ )
+        {
+            int slot = (int) index & mask;
+            if ( sequences.get( slot ) == index + 1 )
+            {
+                long value = values[slot];
+                // skip values that were polled or evicted while being read
+                if ( sequences.get( slot ) == index + 1 )
+                {
+                    snapshot.add( value );
+                }
+            }
+        }
+        return Collections.unmodifiableList( snapshot ).iterator();
+    }
+
+    private boolean offerLong( long value )
+    {
+        long index = tail.get();
+        while ( true )
+        {
+            int slot = (int) index & mask;
+            long difference = sequences.get( slot ) - index;
+            if ( 0 == difference )
+            {
+                // slot is free for this index, claim it
+                if ( tail.compareAndSet( index, index + 1 ) )
+                {
+                    values[slot] = value;
+                    // publish value to consumer of this index
+                    sequences.set( slot, index + 1 );
+                    return true;
+                }
+                index = tail.get();
+            }
+            else if ( difference < 0 )
+            {
+                // slot still holds the value of the previous lap, queue is full
+                return false;
+            }
+            else
+            {
+                // another producer claimed index
+                index = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return index of the oldest value, claimed by this consumer, or -1 if there was no value to claim. The slot of a
+     * claimed index must be released once its value was read.
+     */
+    private long claimHead()
+    {
+        long index = head.get();
+        while ( true )
+        {
+            int slot = (int) index & mask;
+            long difference = sequences.get( slot ) - (index + 1);
+            if ( 0 == difference )
+            {
+                if ( head.compareAndSet( index, index + 1 ) )
+                {
+                    return index;
+                }
+                index = head.get();
+            }
+            else if ( difference < 0 )
+            {
+                // value of index was not published yet, queue is empty
+                return -1;
+            }
+            else
+            {
+                // another consumer claimed index
+                index = head.get();
+            }
+        }
+    }
+
+    private void release( long index )
+    {
+        // slot is free for the producer of the next lap
+        sequences.set( (int) index & mask, index + values.length );
+    }
+}
@@ -11,6 +11,7 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.validation.DbValidationParametersFilter;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.LongIterator;
 import com.ldbc.driver.generator.MinMaxGenerator;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
@@ -196,8 +197,8 @@ public class SimpleWorkload extends Workload {
         Iterator<Operation> workloadOperations =
                 Iterators.concat(initialInsertOperationGenerator, transactionalOperationGenerator);
 
-        Iterator<Long> startTimesAsMilli = gf.incrementing(workloadStartTimeAsMilli + 1, 100l);
-        Iterator<Long> dependencyTimesAsMilli = gf.constant(workloadStartTimeAsMilli);
+        LongIterator startTimesAsMilli = gf.incrementingLong(workloadStartTimeAsMilli + 1, 100l);
+        LongIterator dependencyTimesAsMilli = gf.constantLong(workloadStartTimeAsMilli);
 
         WorkloadStreams workloadStreams = new WorkloadStreams();
         workloadStreams.setAsynchronousStream(
@@ -0,0 +1,111 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.util.Tuple3;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class CompiledWorkloadTest {
+    @Test
+    public void shouldCalculateSamePositionsFromTimeStampsAsFromStreamingThroughOperations() throws Exception {
+        LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory(false);
+        Random random = new Random(42);
+        // many equal time stamps, within and across streams, and an empty stream
+        List<long[]> timeStampsForStream = new ArrayList<>();
+        for (int streamLength : new int[]{3000, 0, 1, 2500, 700}) {
+            long[] timeStamps = new long[streamLength];
+            long timeStamp = random.nextInt(10);
+            for (int i = 0; i < streamLength; i++) {
+                timeStamp += random.nextInt(3);
+                timeStamps[i] = timeStamp;
+            }
+            timeStampsForStream.add(timeStamps);
+        }
+        List<ArrayTimeStamps> streams = new ArrayList<>();
+        for (long[] timeStamps : timeStampsForStream) {
+            streams.add(new ArrayTimeStamps(timeStamps));
+        }
+
+        for (long offset : new long[]{0, 1, 2, 999, 1024, 3333, 6199, 6200, 6201, 10000}) {
+            for (long limit : new long[]{0, 1, 17, 1024, 2500, 7000}) {
+                Tuple3<long[], long[], Long> expected = WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                        operationStreams(timeStampsForStream),
+                        offset,
+                        limit,
+                        childOperationGenerators(timeStampsForStream.size()),
+                        loggingServiceFactory
+                );
+                long[] expectedEnd = new long[timeStampsForStream.size()];
+                for (int i = 0; i < expectedEnd.length; i++) {
+                    expectedEnd[i] = expected.getElement1()[i] + expected.getElement2()[i];
+                }
+
+                assertThat(format(offset, limit), CompiledWorkload.positionsOf(offset, streams),
+                        equalTo(expected.getElement1()));
+                assertThat(format(offset, limit), CompiledWorkload.positionsOf(offset + limit, streams),
+                        equalTo(expectedEnd));
+            }
+        }
+    }
+
+    private static String format(long offset, long limit) {
+        return "offset " + offset + ", limit " + limit;
+    }
+
+    private static List<Iterator<Operation>> operationStreams(List<long[]> timeStampsForStream) {
+        List<Iterator<Operation>> streams = new ArrayList<>();
+        for (long[] timeStamps : timeStampsForStream) {
+            List<Operation> operations = new ArrayList<>();
+            for (long timeStamp : timeStamps) {
+                operations.add(new TimedNamedOperation1(timeStamp, timeStamp, 0, "name"));
+            }
+            streams.add(operations.iterator());
+        }
+        return streams;
+    }
+
+    private static List<ChildOperationGenerator> childOperationGenerators(int count) {
+        List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            childOperationGenerators.add(null);
+        }
+        return childOperationGenerators;
+    }
+
+    private static class ArrayTimeStamps implements CompiledWorkload.TimeStamps {
+        private final long[] timeStamps;
+
+        private ArrayTimeStamps(long[] timeStamps) {
+            this.timeStamps = timeStamps;
+        }
+
+        @Override
+        public long count() {
+            return timeStamps.length;
+        }
+
+        @Override
+        public long countBefore(long timeStamp) throws IOException {
+            int count = 0;
+            while (count < timeStamps.length && timeStamps[count] < timeStamp) {
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public long timeStampAt(long position) throws IOException {
+            return timeStamps[(int) position];
+        }
+    }
+}
@@ -110,6 +110,50 @@ public class WorkloadStreamsTest
         assertThat( secondBlocking2NonDependencyOperation.dependencyTimeStamp(), is( 100010l ) );
     }
 
+    @Test
+    public void shouldPartitionWorkloadStreamsWithoutLosingOperations()
+    {
+        // Given
+        int partitionCount = 2;
+
+        // When
+        WorkloadStreams partition0 =
+                WorkloadStreams.partitionWorkloadStreams( getWorkloadStreams(), 0, partitionCount );
+        WorkloadStreams partition1 =
+                WorkloadStreams.partitionWorkloadStreams( getWorkloadStreams(), 1, partitionCount );
+
+        // Then
+        // blocking streams are assigned whole
+        assertThat( partition0.blockingStreamDefinitions().size(), equalTo( 1 ) );
+        assertThat( partition1.blockingStreamDefinitions().size(), equalTo( 1 ) );
+        assertThat( partition0.blockingStreamDefinitions().get( 0 ).dependencyOperations().next().timeStamp(),
+                is( 4l ) );
+        assertThat( partition1.blockingStreamDefinitions().get( 0 ).dependencyOperations().next().timeStamp(),
+                is( 8l ) );
+
+        // asynchronous operations are assigned round robin
+        Iterator<Operation> asyncDependencyOperations0 = partition0.asynchronousStream().dependencyOperations();
+        Iterator<Operation> asyncDependencyOperations1 = partition1.asynchronousStream().dependencyOperations();
+        for ( long i = 0; i < 100; i++ )
+        {
+            assertThat( asyncDependencyOperations0.next().timeStamp(), is( (2 * i) * 10 ) );
+            assertThat( asyncDependencyOperations1.next().timeStamp(), is( (2 * i + 1) * 10 ) );
+        }
+        Iterator<Operation> asyncNonDependencyOperations0 = partition0.asynchronousStream().nonDependencyOperations();
+        Iterator<Operation> asyncNonDependencyOperations1 = partition1.asynchronousStream().nonDependencyOperations();
+        for ( long i = 0; i < 100; i++ )
+        {
+            assertThat( asyncNonDependencyOperations0.next().timeStamp(), is( 2 + (2 * i) * 100 ) );
+            assertThat( asyncNonDependencyOperations1.next().timeStamp(), is( 2 + (2 * i + 1) * 100 ) );
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldFailToPartitionWorkloadStreamsWithInvalidPartitionIndex()
+    {
+        WorkloadStreams.partitionWorkloadStreams( getWorkloadStreams(), 2, 2 );
+    }
+
     @Test
     public void shouldPerformTimeOffsetCorrectly() throws WorkloadException
     {
@@ -2,6 +2,8 @@ package com.ldbc.driver.control;
 
 import com.google.common.collect.Lists;
 import com.ldbc.driver.modes.DriverModeType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
@@ -127,7 +129,24 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
         );
 
         DriverConfiguration configurationAfter =
@@ -499,6 +518,19 @@ public class ConsoleAndFileDriverConfigurationTest
         assertThat( configurationFromParamsMap.asMap(), equalTo( configurationFromParamsArgs.asMap() ) );
     }
 
+    @Test( expected = DriverConfigurationException.class )
+    public void shouldRejectThreadLocalHistogramMetricsServiceWithVirtualThreadExecutor()
+            throws DriverConfigurationException
+    {
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                "db class name", "workload class name", 1 );
+        Map<String,String> params = new HashMap<>();
+        params.put( ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_ARG,
+                MetricsServiceType.THREAD_LOCAL_HISTOGRAM.name() );
+        params.put( ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_ARG, OperationExecutorType.VIRTUAL_THREAD.name() );
+        configuration.applyArgs( params );
+    }
+
     @Test
     public void
     shouldWorkWhenOnlyRequiredParametersAreGivenAndAssignCorrectDefaultsForOptionalParametersThatAreNotProvided()
@@ -588,7 +620,24 @@ public class ConsoleAndFileDriverConfigurationTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
         );
 
         assertThat( params.asMap(), equalTo( paramsMap ) );
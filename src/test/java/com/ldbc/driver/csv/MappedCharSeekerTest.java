@@ -0,0 +1,126 @@
+package com.ldbc.driver.csv;
+
+import com.ldbc.driver.csv.charseeker.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MappedCharSeekerTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldSeekSameValuesAsBufferedCharSeeker() throws Exception {
+        int[] columnDelimiters = new int[]{'|'};
+        String data = "" +
+                "1|Zhao|Lei|\n" +
+                "2||Åsa Ölund|Jiménez\r\n" +
+                "\n" +
+                "3|\"quoted|value\"|张伟\n" +
+                "4|\"say \\\"hi\\\"\"|last";
+
+        // small buffers and regions, so values are split over them
+        for (int bufferSize : new int[]{16, 23, 1024}) {
+            CharSeeker bufferedCharSeeker = new BufferedCharSeeker(Readables.wrap(new StringReader(data)));
+            CharSeeker mappedCharSeeker = new MappedCharSeeker(write(data), bufferSize, 7, '"');
+
+            assertThat(values(mappedCharSeeker, columnDelimiters),
+                    equalTo(values(bufferedCharSeeker, columnDelimiters)));
+            bufferedCharSeeker.close();
+            mappedCharSeeker.close();
+        }
+    }
+
+    @Test
+    public void shouldUnescapeQuotedValues() throws Exception {
+        int[] columnDelimiters = new int[]{'|'};
+        String data = "\"a \"\"b\"\" c\"|\"d \\\"e\\\"\"\n";
+        CharSeeker charSeeker = new MappedCharSeeker(write(data), 1024, 1024, '"');
+        Extractors extractors = new Extractors(';', ',');
+        Mark mark = new Mark();
+
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("a \"b\" c"));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(true));
+        assertThat(charSeeker.extract(mark, extractors.string()).value(), equalTo("d \"e\""));
+        assertThat(mark.isEndOfLine(), is(true));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(false));
+        charSeeker.close();
+    }
+
+    @Test
+    public void shouldExtractNumbersAndArraysFromBytes() throws Exception {
+        int[] columnDelimiters = new int[]{'|'};
+        String data = "-1234567890123|42|1;-2;3|1,2;3,4|en;sv|2.5\n";
+        CharSeeker charSeeker = new MappedCharSeeker(write(data), 16, 16, '"');
+        Extractors extractors = new Extractors(';', ',');
+        Mark mark = new Mark();
+
+        charSeeker.seek(mark, columnDelimiters);
+        assertThat(charSeeker.extract(mark, extractors.long_()).longValue(), is(-1234567890123L));
+        charSeeker.seek(mark, columnDelimiters);
+        assertThat(charSeeker.extract(mark, extractors.int_()).intValue(), is(42));
+        charSeeker.seek(mark, columnDelimiters);
+        assertThat(charSeeker.extract(mark, extractors.longArray()).value(), equalTo(new long[]{1, -2, 3}));
+        charSeeker.seek(mark, columnDelimiters);
+        int[][] intTupleArray = charSeeker.extract(mark, extractors.intTupleArray(2)).value();
+        assertThat(intTupleArray.length, is(2));
+        assertThat(intTupleArray[0], equalTo(new int[]{1, 2}));
+        assertThat(intTupleArray[1], equalTo(new int[]{3, 4}));
+        charSeeker.seek(mark, columnDelimiters);
+        assertThat(charSeeker.extract(mark, extractors.stringArray()).value(), equalTo(new String[]{"en", "sv"}));
+        // extractor that can only extract from characters
+        charSeeker.seek(mark, columnDelimiters);
+        assertThat(charSeeker.extract(mark, extractors.double_()).doubleValue(), is(2.5));
+        assertThat(charSeeker.seek(mark, columnDelimiters), is(false));
+        charSeeker.close();
+    }
+
+    @Test
+    public void shouldNotSeekInEmptyFile() throws Exception {
+        CharSeeker charSeeker = new MappedCharSeeker(write(""));
+        assertThat(charSeeker.seek(new Mark(), new int[]{'|'}), is(false));
+        charSeeker.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailToSeekValueLargerThanBuffer() throws Exception {
+        CharSeeker charSeeker = new MappedCharSeeker(write("1|1234567890|2\n"), 4, 4, '"');
+        Mark mark = new Mark();
+        try {
+            charSeeker.seek(mark, new int[]{'|'});
+            charSeeker.seek(mark, new int[]{'|'});
+        } finally {
+            charSeeker.close();
+        }
+    }
+
+    private File write(String data) throws IOException {
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), data.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<String> values(CharSeeker charSeeker, int[] columnDelimiters) throws IOException {
+        Extractors extractors = new Extractors(';', ',');
+        Mark mark = new Mark();
+        List<String> values = new ArrayList<>();
+        while (charSeeker.seek(mark, columnDelimiters)) {
+            values.add(mark.lineNumber() + ":" + charSeeker.extract(mark, extractors.string()).value() +
+                    (mark.isEndOfLine() ? ":EOL" : ""));
+        }
+        return values;
+    }
+}
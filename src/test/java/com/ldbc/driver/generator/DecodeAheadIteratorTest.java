@@ -0,0 +1,231 @@
+package com.ldbc.driver.generator;
+
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class DecodeAheadIteratorTest
+{
+    private static final long ENOUGH_MILLISECONDS_FOR_DECODE_TASKS_TO_DO_THEIR_THING = 200;
+
+    @Test
+    public void shouldReturnAllElementsOfAllSourcesInOrderWhenSourcesShareFewerThreads() throws Exception
+    {
+        ForkJoinPool pool = new ForkJoinPool( 2 );
+        try
+        {
+            for ( int bufferSize : new int[]{1, 3, 1024, 100000} )
+            {
+                List<List<Integer>> sources = new ArrayList<>();
+                List<DecodeAheadIterator<Integer>> decodeAheadIterators = new ArrayList<>();
+                for ( int i = 0; i < 8; i++ )
+                {
+                    List<Integer> source = integers( i * 1000, 1000 + i * 1000 );
+                    sources.add( source );
+                    decodeAheadIterators.add(
+                            DecodeAheadIterator.decodeAhead( source.iterator(), new NoOpCloseable(), pool, bufferSize )
+                    );
+                }
+                // interleave consumption of sources
+                List<List<Integer>> decoded = new ArrayList<>();
+                for ( int i = 0; i < sources.size(); i++ )
+                {
+                    decoded.add( new ArrayList<Integer>() );
+                }
+                boolean anyHasNext = true;
+                while ( anyHasNext )
+                {
+                    anyHasNext = false;
+                    for ( int i = 0; i < decodeAheadIterators.size(); i++ )
+                    {
+                        if ( decodeAheadIterators.get( i ).hasNext() )
+                        {
+                            anyHasNext = true;
+                            decoded.get( i ).add( decodeAheadIterators.get( i ).next() );
+                        }
+                    }
+                }
+                for ( DecodeAheadIterator<Integer> decodeAheadIterator : decodeAheadIterators )
+                {
+                    decodeAheadIterator.close();
+                }
+                assertThat( decoded, equalTo( sources ) );
+            }
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldDecodeAtMostBufferSizeElementsAhead() throws Exception
+    {
+        ForkJoinPool pool = new ForkJoinPool( 1 );
+        try
+        {
+            CountingIterator source = new CountingIterator( integers( 0, 100 ).iterator() );
+            DecodeAheadIterator<Integer> decodeAheadIterator =
+                    DecodeAheadIterator.decodeAhead( source, new NoOpCloseable(), pool, 8 );
+
+            Thread.sleep( ENOUGH_MILLISECONDS_FOR_DECODE_TASKS_TO_DO_THEIR_THING );
+            assertThat( source.count(), is( 8 ) );
+
+            // no more decoding until half of buffer was consumed
+            for ( int i = 0; i < 3; i++ )
+            {
+                assertThat( decodeAheadIterator.next(), is( i ) );
+            }
+            Thread.sleep( ENOUGH_MILLISECONDS_FOR_DECODE_TASKS_TO_DO_THEIR_THING );
+            assertThat( source.count(), is( 8 ) );
+
+            assertThat( decodeAheadIterator.next(), is( 3 ) );
+            Thread.sleep( ENOUGH_MILLISECONDS_FOR_DECODE_TASKS_TO_DO_THEIR_THING );
+            assertThat( source.count(), is( 12 ) );
+
+            decodeAheadIterator.close();
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldThrowErrorOfSourceAfterPrecedingElements() throws Exception
+    {
+        ForkJoinPool pool = new ForkJoinPool( 1 );
+        try
+        {
+            final Iterator<Integer> integers = integers( 0, 3 ).iterator();
+            Iterator<Integer> failingSource = new Iterator<Integer>()
+            {
+                @Override
+                public boolean hasNext()
+                {
+                    return true;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if ( integers.hasNext() )
+                    {
+                        return integers.next();
+                    }
+                    throw new IllegalStateException( "parse error" );
+                }
+            };
+            DecodeAheadIterator<Integer> decodeAheadIterator =
+                    DecodeAheadIterator.decodeAhead( failingSource, new NoOpCloseable(), pool, 2 );
+
+            for ( int i = 0; i < 3; i++ )
+            {
+                assertThat( decodeAheadIterator.next(), is( i ) );
+            }
+            try
+            {
+                decodeAheadIterator.hasNext();
+                fail( "Expected error of source" );
+            }
+            catch ( GeneratorException e )
+            {
+                assertThat( e.getCause().getMessage(), equalTo( "parse error" ) );
+            }
+            decodeAheadIterator.close();
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldCloseSourceWhenClosed() throws Exception
+    {
+        ForkJoinPool pool = new ForkJoinPool( 1 );
+        try
+        {
+            final AtomicBoolean sourceClosed = new AtomicBoolean( false );
+            DecodeAheadIterator<Integer> decodeAheadIterator = DecodeAheadIterator.decodeAhead(
+                    integers( 0, 100000 ).iterator(),
+                    new Closeable()
+                    {
+                        @Override
+                        public void close() throws IOException
+                        {
+                            sourceClosed.set( true );
+                        }
+                    },
+                    pool,
+                    16
+            );
+            assertThat( decodeAheadIterator.next(), is( 0 ) );
+            decodeAheadIterator.close();
+            assertThat( sourceClosed.get(), is( true ) );
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+    private static List<Integer> integers( int from, int to )
+    {
+        List<Integer> integers = new ArrayList<>();
+        for ( int i = from; i < to; i++ )
+        {
+            integers.add( i );
+        }
+        return integers;
+    }
+
+    private static class NoOpCloseable implements Closeable
+    {
+        @Override
+        public void close() throws IOException
+        {
+        }
+    }
+
+    private static class CountingIterator implements Iterator<Integer>
+    {
+        private final Iterator<Integer> integers;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingIterator( Iterator<Integer> integers )
+        {
+            this.integers = integers;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return integers.hasNext();
+        }
+
+        @Override
+        public Integer next()
+        {
+            count.incrementAndGet();
+            return integers.next();
+        }
+
+        int count()
+        {
+            return count.get();
+        }
+    }
+}
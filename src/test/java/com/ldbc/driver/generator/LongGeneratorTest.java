@@ -0,0 +1,107 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LongGeneratorTest
+{
+    private GeneratorFactory gf = null;
+
+    @Before
+    public final void initGeneratorFactory()
+    {
+        gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+    }
+
+    @Test
+    public void shouldIncrementAndLimit()
+    {
+        assertThat( longs( gf.limitLong( gf.incrementingLong( 10, 5 ), 4 ) ),
+                equalTo( Lists.newArrayList( 10L, 15L, 20L, 25L ) ) );
+        assertThat( longs( gf.limitLong( gf.constantLong( 7 ), 2 ) ), equalTo( Lists.newArrayList( 7L, 7L ) ) );
+        assertThat( gf.limitLong( gf.incrementingLong( 0, 1 ), 0 ).hasNext(), is( false ) );
+    }
+
+    @Test
+    public void shouldMergeSort()
+    {
+        LongIterator merged = gf.mergeSortLong(
+                gf.limitLong( gf.incrementingLong( 0, 3 ), 3 ),
+                gf.limitLong( gf.incrementingLong( 1, 2 ), 4 ),
+                gf.limitLong( gf.incrementingLong( 0, 1 ), 0 )
+        );
+        assertThat( longs( merged ), equalTo( Lists.newArrayList( 0L, 1L, 3L, 3L, 5L, 6L, 7L ) ) );
+    }
+
+    @Test
+    public void shouldOffsetAndCompressLikeOperationStartTimes()
+    {
+        for ( Double compressionRatio : new Double[]{null, 0.5, 2.0, 0.3} )
+        {
+            List<Operation> operations = new ArrayList<>();
+            for ( int i = 0; i < 10; i++ )
+            {
+                operations.add( new NothingOperation() );
+            }
+            Iterator<Operation> timeMappedOperations = gf.timeOffsetAndCompress(
+                    gf.assignStartTimes( gf.incrementingLong( 1000, 7 ), operations.iterator() ),
+                    10,
+                    compressionRatio
+            );
+            List<Long> expected = new ArrayList<>();
+            while ( timeMappedOperations.hasNext() )
+            {
+                expected.add( timeMappedOperations.next().scheduledStartTimeAsMilli() );
+            }
+
+            LongIterator times = gf.timeOffsetAndCompressLong(
+                    gf.limitLong( gf.incrementingLong( 1000, 7 ), 10 ),
+                    10,
+                    compressionRatio
+            );
+            assertThat( longs( times ), equalTo( expected ) );
+        }
+    }
+
+    @Test
+    public void shouldAssignTimesUntilEitherTimesOrOperationsStop()
+    {
+        List<Operation> operations = Lists.<Operation>newArrayList(
+                new NothingOperation(), new NothingOperation(), new NothingOperation() );
+        Iterator<Operation> timedOperations = gf.assignDependencyTimes(
+                gf.constantLong( 5 ),
+                gf.assignStartTimes( gf.limitLong( gf.incrementingLong( 100, 10 ), 2 ), operations.iterator() )
+        );
+
+        Operation operation = timedOperations.next();
+        assertThat( operation.scheduledStartTimeAsMilli(), is( 100L ) );
+        assertThat( operation.timeStamp(), is( 100L ) );
+        assertThat( operation.dependencyTimeStamp(), is( 5L ) );
+        operation = timedOperations.next();
+        assertThat( operation.scheduledStartTimeAsMilli(), is( 110L ) );
+        assertThat( operation.timeStamp(), is( 110L ) );
+        assertThat( operation.dependencyTimeStamp(), is( 5L ) );
+        assertThat( timedOperations.hasNext(), is( false ) );
+    }
+
+    private static List<Long> longs( LongIterator longIterator )
+    {
+        List<Long> longs = new ArrayList<>();
+        while ( longIterator.hasNext() )
+        {
+            longs.add( longIterator.nextLong() );
+        }
+        return longs;
+    }
+}
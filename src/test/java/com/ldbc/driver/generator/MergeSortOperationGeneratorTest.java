@@ -0,0 +1,129 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MergeSortOperationGeneratorTest
+{
+    private final GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+
+    @Test
+    public void shouldMergeLikeStableSortForAnyNumberOfGenerators()
+    {
+        Random random = new Random( 42 );
+        for ( int generatorCount = 0; generatorCount <= 17; generatorCount++ )
+        {
+            List<List<Operation>> operationsForGenerator = new ArrayList<>();
+            List<Operation> expectedOperations = new ArrayList<>();
+            for ( int i = 0; i < generatorCount; i++ )
+            {
+                // some generators are empty, many times are equal, within and across generators
+                List<Operation> operations = new ArrayList<>();
+                long time = random.nextInt( 10 );
+                int operationCount = (0 == random.nextInt( 4 )) ? 0 : random.nextInt( 200 );
+                for ( int j = 0; j < operationCount; j++ )
+                {
+                    time += random.nextInt( 3 );
+                    operations.add( new TimedNamedOperation1( time, time, 0, i + "-" + j ) );
+                }
+                operationsForGenerator.add( operations );
+                expectedOperations.addAll( operations );
+            }
+            // stable, equal times stay in order of generator
+            Collections.sort( expectedOperations, new Comparator<Operation>()
+            {
+                @Override
+                public int compare( Operation o1, Operation o2 )
+                {
+                    return Long.compare( o1.timeStamp(), o2.timeStamp() );
+                }
+            } );
+
+            assertThat( list( gf.mergeSortOperationsByTimeStamp( iterators( operationsForGenerator ) ) ),
+                    equalTo( expectedOperations ) );
+            assertThat( list( gf.mergeSortOperationsByScheduledStartTime( iterators( operationsForGenerator ) ) ),
+                    equalTo( expectedOperations ) );
+        }
+    }
+
+    @Test
+    public void shouldNotRetrieveNextOperationOfGeneratorBeforePreviousOneWasReturned()
+    {
+        final List<Operation> retrieved = new ArrayList<>();
+        final Iterator<Operation> operations = operations( 1, 2, 3 ).iterator();
+        Iterator<Operation> recordingOperations = new Iterator<Operation>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return operations.hasNext();
+            }
+
+            @Override
+            public Operation next()
+            {
+                Operation operation = operations.next();
+                retrieved.add( operation );
+                return operation;
+            }
+        };
+        Iterator<Operation> merged = gf.mergeSortOperationsByTimeStamp( recordingOperations );
+
+        assertThat( retrieved.size(), is( 0 ) );
+        assertThat( merged.next().timeStamp(), is( 1L ) );
+        assertThat( retrieved.size(), is( 1 ) );
+        assertThat( merged.hasNext(), is( true ) );
+        assertThat( retrieved.size(), is( 2 ) );
+    }
+
+    @Test( expected = NoSuchElementException.class )
+    public void shouldThrowWhenExhausted()
+    {
+        Iterator<Operation> merged = gf.mergeSortOperationsByTimeStamp( operations( 1 ).iterator() );
+        merged.next();
+        merged.next();
+    }
+
+    private static List<Operation> operations( long... times )
+    {
+        List<Operation> operations = new ArrayList<>();
+        for ( long time : times )
+        {
+            operations.add( new TimedNamedOperation1( time, time, 0, "name" ) );
+        }
+        return operations;
+    }
+
+    private static Iterator<Operation>[] iterators( List<List<Operation>> operationsForGenerator )
+    {
+        Iterator<Operation>[] iterators = new Iterator[operationsForGenerator.size()];
+        for ( int i = 0; i < iterators.length; i++ )
+        {
+            iterators[i] = operationsForGenerator.get( i ).iterator();
+        }
+        return iterators;
+    }
+
+    private static List<Operation> list( Iterator<Operation> operations )
+    {
+        List<Operation> list = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            list.add( operations.next() );
+        }
+        return list;
+    }
+}
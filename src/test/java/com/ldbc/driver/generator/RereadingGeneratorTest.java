@@ -0,0 +1,141 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.csv.charseeker.CharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Mark;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RereadingGeneratorTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    GeneratorFactory generators;
+
+    @Before
+    public void initGenerators() {
+        generators = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+    }
+
+    @Test
+    public void shouldExhaustImmediatelyIfSourceIsEmpty() {
+        // Given
+        final AtomicInteger readCount = new AtomicInteger(0);
+        RereadingGenerator.Source<Integer> source = new RereadingGenerator.Source<Integer>() {
+            @Override
+            public Iterator<Integer> read() {
+                readCount.incrementAndGet();
+                return Collections.<Integer>emptyIterator();
+            }
+        };
+
+        // When
+        Iterator<Integer> rereadingGenerator = generators.rereading(source);
+
+        // Then
+        assertThat(rereadingGenerator.hasNext(), is(false));
+        assertThat(rereadingGenerator.hasNext(), is(false));
+        assertThat(readCount.get(), is(1));
+    }
+
+    @Test
+    public void shouldLoopIndefinitelyReadingSourceAgainWhenItHasMoreThanMaxCachedElements() {
+        // Given
+        final AtomicInteger readCount = new AtomicInteger(0);
+        RereadingGenerator.Source<Integer> source = new RereadingGenerator.Source<Integer>() {
+            @Override
+            public Iterator<Integer> read() {
+                readCount.incrementAndGet();
+                return Arrays.asList(1, 2, 3).iterator();
+            }
+        };
+
+        // When
+        Iterator<Integer> rereadingGenerator = generators.rereading(source, 2);
+
+        // Then
+        assertThat(rereadingGenerator.next(), is(1));
+        assertThat(rereadingGenerator.next(), is(2));
+        assertThat(rereadingGenerator.next(), is(3));
+        assertThat(rereadingGenerator.next(), is(1));
+        assertThat(rereadingGenerator.next(), is(2));
+        assertThat(rereadingGenerator.next(), is(3));
+        assertThat(rereadingGenerator.next(), is(1));
+        assertThat(readCount.get(), is(3));
+    }
+
+    @Test
+    public void shouldLoopIndefinitelyReadingSourceOnceWhenItHasAtMostMaxCachedElements() {
+        // Given
+        final AtomicInteger readCount = new AtomicInteger(0);
+        RereadingGenerator.Source<Integer> source = new RereadingGenerator.Source<Integer>() {
+            @Override
+            public Iterator<Integer> read() {
+                readCount.incrementAndGet();
+                return Arrays.asList(1, 2, 3).iterator();
+            }
+        };
+
+        // When
+        Iterator<Integer> rereadingGenerator = generators.rereading(source, 3);
+
+        // Then
+        assertThat(rereadingGenerator.next(), is(1));
+        assertThat(rereadingGenerator.next(), is(2));
+        assertThat(rereadingGenerator.next(), is(3));
+        assertThat(rereadingGenerator.next(), is(1));
+        assertThat(rereadingGenerator.next(), is(2));
+        assertThat(rereadingGenerator.next(), is(3));
+        assertThat(rereadingGenerator.next(), is(1));
+        assertThat(readCount.get(), is(1));
+    }
+
+    @Test
+    public void shouldLoopIndefinitelyOverEventsOfCsvFile() throws IOException {
+        // Given
+        File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "id|name\n1|a\n2|b\n".getBytes(StandardCharsets.UTF_8));
+        CsvEventStreamReaderBasicCharSeeker.EventDecoder<String> decoder =
+                new CsvEventStreamReaderBasicCharSeeker.EventDecoder<String>() {
+                    @Override
+                    public String decodeEvent(CharSeeker charSeeker, Extractors extractors, int[] columnDelimiters,
+                                              Mark mark) throws IOException {
+                        if (!charSeeker.seek(mark, columnDelimiters)) {
+                            return null;
+                        }
+                        long id = charSeeker.extract(mark, extractors.long_()).longValue();
+                        charSeeker.seek(mark, columnDelimiters);
+                        return id + ":" + charSeeker.extract(mark, extractors.string()).value();
+                    }
+                };
+
+        // When
+        try (FileInputStream fileInputStream = new FileInputStream(file)) {
+            Iterator<String> rereadingGenerator = generators.rereading(
+                    new CsvFileEventStreamSource<>(fileInputStream, 1024, 2, new Extractors(';', ','), decoder, '|'),
+                    1);
+
+            // Then
+            assertThat(rereadingGenerator.next(), is("1:a"));
+            assertThat(rereadingGenerator.next(), is("2:b"));
+            assertThat(rereadingGenerator.next(), is("1:a"));
+            assertThat(rereadingGenerator.next(), is("2:b"));
+            assertThat(rereadingGenerator.next(), is("1:a"));
+        }
+    }
+}
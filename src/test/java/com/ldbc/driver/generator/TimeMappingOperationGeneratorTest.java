@@ -384,7 +384,24 @@ public class TimeMappingOperationGeneratorTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
         );
 
         Map<String,String> updateStreamParams = MapUtils.loadPropertiesToMap(
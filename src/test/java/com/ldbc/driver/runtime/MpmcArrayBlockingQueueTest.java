@@ -0,0 +1,262 @@
+package com.ldbc.driver.runtime;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class MpmcArrayBlockingQueueTest
+{
+    @Test
+    public void shouldRoundCapacityUpToPowerOfTwo()
+    {
+        assertThat( new MpmcArrayBlockingQueue<Integer>( 1 ).capacity(), is( 2 ) );
+        assertThat( new MpmcArrayBlockingQueue<Integer>( 8 ).capacity(), is( 8 ) );
+        assertThat( new MpmcArrayBlockingQueue<Integer>( 1000 ).capacity(), is( 1024 ) );
+    }
+
+    @Test
+    public void shouldBeFifoAndRejectOffersWhenFull()
+    {
+        // Given
+        MpmcArrayBlockingQueue<Integer> queue = new MpmcArrayBlockingQueue<>( 4 );
+
+        // When/Then
+        assertThat( queue.poll(), is( nullValue() ) );
+        assertThat( queue.isEmpty(), is( true ) );
+        // wrap around the array several times
+        for ( int lap = 0; lap < 3; lap++ )
+        {
+            for ( int i = 0; i < 4; i++ )
+            {
+                assertThat( queue.offer( i ), is( true ) );
+            }
+            assertThat( queue.offer( 4 ), is( false ) );
+            assertThat( queue.size(), is( 4 ) );
+            assertThat( queue.remainingCapacity(), is( 0 ) );
+            assertThat( queue.peek(), equalTo( 0 ) );
+            for ( int i = 0; i < 4; i++ )
+            {
+                assertThat( queue.poll(), equalTo( i ) );
+            }
+            assertThat( queue.poll(), is( nullValue() ) );
+            assertThat( queue.isEmpty(), is( true ) );
+        }
+    }
+
+    @Test
+    public void shouldDrainAndIterateInOrder()
+    {
+        // Given
+        MpmcArrayBlockingQueue<Integer> queue = new MpmcArrayBlockingQueue<>( 8 );
+        for ( int i = 0; i < 5; i++ )
+        {
+            queue.add( i );
+        }
+
+        // When
+        List<Integer> iterated = new ArrayList<>( queue );
+        List<Integer> drained = new ArrayList<>();
+        int drainedCount = queue.drainTo( drained, 3 );
+
+        // Then
+        assertThat( iterated.toString(), equalTo( "[0, 1, 2, 3, 4]" ) );
+        assertThat( drainedCount, is( 3 ) );
+        assertThat( drained.toString(), equalTo( "[0, 1, 2]" ) );
+        assertThat( queue.size(), is( 2 ) );
+    }
+
+    @Test
+    public void shouldSkipRemovedElements()
+    {
+        // Given
+        MpmcArrayBlockingQueue<Integer> queue = new MpmcArrayBlockingQueue<>( 4 );
+        for ( int i = 0; i < 4; i++ )
+        {
+            queue.add( i );
+        }
+
+        // When
+        boolean removed0 = queue.remove( 0 );
+        boolean removed2 = queue.remove( 2 );
+        boolean removedMissing = queue.remove( 5 );
+
+        // Then
+        assertThat( removed0, is( true ) );
+        assertThat( removed2, is( true ) );
+        assertThat( removedMissing, is( false ) );
+        assertThat( queue.peek(), equalTo( 1 ) );
+        assertThat( new ArrayList<>( queue ).toString(), equalTo( "[1, 3]" ) );
+        assertThat( queue.poll(), equalTo( 1 ) );
+        assertThat( queue.poll(), equalTo( 3 ) );
+        assertThat( queue.poll(), is( nullValue() ) );
+        assertThat( queue.remove( 3 ), is( false ) );
+    }
+
+    @Test
+    public void parkedConsumerShouldBeWokenByOffer() throws InterruptedException
+    {
+        // Given
+        final MpmcArrayBlockingQueue<Integer> queue = new MpmcArrayBlockingQueue<>( 2 );
+        final AtomicLong taken = new AtomicLong( -1 );
+        Thread consumer = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    taken.set( queue.take() );
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        consumer.start();
+
+        // When
+        // long enough for the consumer to stop backing off and park, always with a timeout
+        consumer.join( 100 );
+        assertThat( consumer.isAlive(), is( true ) );
+        // wakes up periodically to check the queue again, it is parked nearly all of the time
+        long deadlineAsMilli = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis( 1 );
+        while ( Thread.State.TIMED_WAITING != consumer.getState() && System.currentTimeMillis() < deadlineAsMilli )
+        {
+            Thread.sleep( 1 );
+        }
+        assertThat( consumer.getState(), equalTo( Thread.State.TIMED_WAITING ) );
+        queue.offer( 1 );
+        consumer.join( TimeUnit.SECONDS.toMillis( 10 ) );
+
+        // Then
+        assertThat( consumer.isAlive(), is( false ) );
+        assertThat( taken.get(), equalTo( 1L ) );
+    }
+
+    @Test
+    public void timedMethodsShouldReturnAfterTimeout() throws InterruptedException
+    {
+        // Given
+        MpmcArrayBlockingQueue<Integer> queue = new MpmcArrayBlockingQueue<>( 2 );
+
+        // When/Then
+        assertThat( queue.poll( 10, TimeUnit.MILLISECONDS ), is( nullValue() ) );
+        assertThat( queue.offer( 1, 10, TimeUnit.MILLISECONDS ), is( true ) );
+        assertThat( queue.offer( 2, 10, TimeUnit.MILLISECONDS ), is( true ) );
+        assertThat( queue.offer( 3, 10, TimeUnit.MILLISECONDS ), is( false ) );
+    }
+
+    @Test
+    public void alwaysBlockingQueueShouldBlockOfferWhileFull() throws InterruptedException
+    {
+        // Given
+        final BlockingQueue<Integer> queue = DefaultQueues.newAlwaysBlockingBounded( 2 );
+        queue.offer( 1 );
+        queue.offer( 2 );
+        Thread producer = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                queue.offer( 3 );
+            }
+        };
+
+        // When
+        producer.start();
+        producer.join( 100 );
+
+        // Then
+        assertThat( producer.isAlive(), is( true ) );
+        assertThat( queue.take(), equalTo( 1 ) );
+        producer.join();
+        assertThat( queue.take(), equalTo( 2 ) );
+        assertThat( queue.take(), equalTo( 3 ) );
+    }
+
+    @Test
+    public void shouldDeliverEveryElementExactlyOnceToConcurrentConsumers() throws InterruptedException
+    {
+        // Given
+        final BlockingQueue<Long> queue = DefaultQueues.newBlockingBounded( 64 );
+        final int producerCount = 4;
+        final int consumerCount = 4;
+        final long elementsPerProducer = 100_000;
+        final AtomicLong consumedSum = new AtomicLong( 0 );
+        final AtomicLong consumedCount = new AtomicLong( 0 );
+        List<Thread> threads = new ArrayList<>();
+        for ( int p = 0; p < producerCount; p++ )
+        {
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        for ( long i = 1; i <= elementsPerProducer; i++ )
+                        {
+                            queue.put( i );
+                        }
+                    }
+                    catch ( InterruptedException e )
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+            } );
+        }
+        for ( int c = 0; c < consumerCount; c++ )
+        {
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        while ( consumedCount.get() < producerCount * elementsPerProducer )
+                        {
+                            Long element = queue.poll( 10, TimeUnit.MILLISECONDS );
+                            if ( null != element )
+                            {
+                                consumedSum.addAndGet( element );
+                                consumedCount.incrementAndGet();
+                            }
+                        }
+                    }
+                    catch ( InterruptedException e )
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+            } );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+
+        // Then
+        long expectedSum = producerCount * (elementsPerProducer * (elementsPerProducer + 1) / 2);
+        assertThat( consumedCount.get(), equalTo( producerCount * elementsPerProducer ) );
+        assertThat( consumedSum.get(), equalTo( expectedSum ) );
+        assertThat( queue.isEmpty(), is( true ) );
+    }
+}
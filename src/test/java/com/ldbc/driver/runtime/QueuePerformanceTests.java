@@ -16,7 +16,9 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.*;
@@ -108,7 +110,24 @@ public class QueuePerformanceTests
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
         );
 
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
@@ -400,4 +419,136 @@ public class QueuePerformanceTests
         assertThat( queue.size(), is( 0 ) );
         return timeSource.nowAsMilli() - startTimeAsMilli;
     }
+
+    @Ignore
+    @Test
+    public void comparePerformanceOfBoundedQueueImplementationsWithManyProducersOrManyConsumers()
+            throws InterruptedException
+    {
+        int queueItemCount = 1000000;
+        int experimentCount = 5;
+        int threadCount = 4;
+        int bound = DefaultQueues.DEFAULT_BOUND_1000;
+
+        // single producer many consumers, e.g., thread pool executor work queue
+        long totalDurationLinkedBlockingQueueSpmc = 0l;
+        long totalDurationMpmcArrayBlockingQueueSpmc = 0l;
+        long totalDurationAlwaysBlockingMpmcArrayBlockingQueueSpmc = 0l;
+        // many producers single consumer, e.g., completion time and metrics event queues
+        long totalDurationLinkedBlockingQueueMpsc = 0l;
+        long totalDurationMpmcArrayBlockingQueueMpsc = 0l;
+
+        for ( int i = 0; i < experimentCount; i++ )
+        {
+            totalDurationLinkedBlockingQueueSpmc = totalDurationLinkedBlockingQueueSpmc +
+                    multiThreadedBlockingQueuePerformanceTest( queueItemCount, 1, threadCount,
+                            new LinkedBlockingQueue<Integer>( bound ) );
+            totalDurationMpmcArrayBlockingQueueSpmc = totalDurationMpmcArrayBlockingQueueSpmc +
+                    multiThreadedBlockingQueuePerformanceTest( queueItemCount, 1, threadCount,
+                            DefaultQueues.<Integer>newBlockingBounded( bound ) );
+            totalDurationAlwaysBlockingMpmcArrayBlockingQueueSpmc =
+                    totalDurationAlwaysBlockingMpmcArrayBlockingQueueSpmc +
+                    multiThreadedBlockingQueuePerformanceTest( queueItemCount, 1, threadCount,
+                            DefaultQueues.<Integer>newAlwaysBlockingBounded( bound ) );
+
+            totalDurationLinkedBlockingQueueMpsc = totalDurationLinkedBlockingQueueMpsc +
+                    multiThreadedBlockingQueuePerformanceTest( queueItemCount, threadCount, 1,
+                            new LinkedBlockingQueue<Integer>( bound ) );
+            totalDurationMpmcArrayBlockingQueueMpsc = totalDurationMpmcArrayBlockingQueueMpsc +
+                    multiThreadedBlockingQueuePerformanceTest( queueItemCount, threadCount, 1,
+                            DefaultQueues.<Integer>newBlockingBounded( bound ) );
+        }
+
+        long itemCount = (long) queueItemCount * experimentCount;
+        System.out.println( format( "%s producer(s), %s consumer(s), bound %s", 1, threadCount, bound ) );
+        System.out.println( "LinkedBlockingQueue(blocking) = \t\t\t\t" +
+                            itemCount / totalDurationLinkedBlockingQueueSpmc + " item/ms" );
+        System.out.println( "MpmcArrayBlockingQueue(blocking) = \t\t\t" +
+                            itemCount / totalDurationMpmcArrayBlockingQueueSpmc + " item/ms" );
+        System.out.println( "AlwaysBlockingMpmcArrayBlockingQueue(blocking) = \t" +
+                            itemCount / totalDurationAlwaysBlockingMpmcArrayBlockingQueueSpmc + " item/ms" );
+        System.out.println( format( "%s producer(s), %s consumer(s), bound %s", threadCount, 1, bound ) );
+        System.out.println( "LinkedBlockingQueue(blocking) = \t\t\t\t" +
+                            itemCount / totalDurationLinkedBlockingQueueMpsc + " item/ms" );
+        System.out.println( "MpmcArrayBlockingQueue(blocking) = \t\t\t" +
+                            itemCount / totalDurationMpmcArrayBlockingQueueMpsc + " item/ms" );
+    }
+
+    public long multiThreadedBlockingQueuePerformanceTest( final int queueItemCount,
+            final int producerCount,
+            final int consumerCount,
+            final BlockingQueue<Integer> queue ) throws InterruptedException
+    {
+        List<Thread> writeThreads = new ArrayList<>();
+        for ( int p = 0; p < producerCount; p++ )
+        {
+            writeThreads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        for ( int i = 0; i < queueItemCount / producerCount; i++ )
+                        {
+                            queue.put( i );
+                        }
+                    }
+                    catch ( InterruptedException e )
+                    {
+                        e.printStackTrace();
+                    }
+                }
+            } );
+        }
+
+        List<Thread> readThreads = new ArrayList<>();
+        for ( int c = 0; c < consumerCount; c++ )
+        {
+            readThreads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        Integer val = 0;
+                        while ( TERMINATE.equals( val ) == false )
+                        {
+                            val = queue.take();
+                        }
+                    }
+                    catch ( InterruptedException e )
+                    {
+                        e.printStackTrace();
+                    }
+                }
+            } );
+        }
+
+        long startTimeAsMilli = timeSource.nowAsMilli();
+        for ( Thread readThread : readThreads )
+        {
+            readThread.start();
+        }
+        for ( Thread writeThread : writeThreads )
+        {
+            writeThread.start();
+        }
+        for ( Thread writeThread : writeThreads )
+        {
+            writeThread.join();
+        }
+        for ( int c = 0; c < consumerCount; c++ )
+        {
+            queue.put( TERMINATE );
+        }
+        for ( Thread readThread : readThreads )
+        {
+            readThread.join();
+        }
+        assertThat( queue.poll(), is( nullValue() ) );
+        assertThat( queue.size(), is( 0 ) );
+        return timeSource.nowAsMilli() - startTimeAsMilli;
+    }
 }
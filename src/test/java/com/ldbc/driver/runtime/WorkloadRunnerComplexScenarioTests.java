@@ -7,6 +7,7 @@ import com.ldbc.driver.DbException;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingService;
@@ -17,10 +18,13 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.executor.DispatcherType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.runtime.scheduling.SpinnerType;
 import com.ldbc.driver.temporal.ManualTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.dummy.DummyDb;
@@ -1767,11 +1771,16 @@ public class WorkloadRunnerComplexScenarioTests
                 errorReporter,
                 completionTimeService,
                 loggingServiceFactory,
+                OperationExecutorType.THREAD_POOL,
+                DispatcherType.NONE,
                 threadCount,
                 statusDisplayIntervalAsMilli,
+                SpinnerType.SLEEP,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduledStartTime,
-                operationHandlerExecutorsBoundedQueueSize
+                operationHandlerExecutorsBoundedQueueSize,
+                ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
         );
         return new WorkloadRunnerThread( runner, errorReporter );
     }
@@ -23,6 +23,7 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.executor.DispatcherType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
@@ -136,7 +137,24 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -205,11 +223,16 @@ public class WorkloadRunnerTest
                     errorReporter,
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
+                    controlService.getConfiguration().executorType(),
+                    controlService.getConfiguration().dispatcherType(),
                     controlService.getConfiguration().getThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().spinnerType(),
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.getConfiguration().prefetchSize(),
+                    controlService.getConfiguration().prefetchLookAheadAsMilli() );
 
             runner.getFuture().get();
             csvResultsLogWriter.close();
@@ -340,7 +363,24 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -407,11 +447,16 @@ public class WorkloadRunnerTest
                     errorReporter,
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
+                    controlService.getConfiguration().executorType(),
+                    controlService.getConfiguration().dispatcherType(),
                     controlService.getConfiguration().getThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().spinnerType(),
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.getConfiguration().prefetchSize(),
+                    controlService.getConfiguration().prefetchLookAheadAsMilli() );
 
             runner.getFuture().get();
 
@@ -501,13 +546,62 @@ public class WorkloadRunnerTest
         {
             doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
                     threadCount,
-                    operationCount
+                    operationCount,
+                    DispatcherType.NONE,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithNothingDbAndTimerWheelDispatcherAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    DispatcherType.TIMER_WHEEL,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithNothingDbAndPrefetchingAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    DispatcherType.NONE,
+                    16,
+                    0
+            );
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    operationCount,
+                    DispatcherType.TIMER_WHEEL,
+                    1000,
+                    TimeUnit.SECONDS.toMillis( 1 )
             );
         }
     }
 
     public void doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
-            int threadCount, long operationCount )
+            int threadCount, long operationCount, DispatcherType dispatcherType, int prefetchSize,
+            long prefetchLookAheadAsMilli )
             throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
             CompletionTimeException, DriverConfigurationException, ExecutionException
     {
@@ -561,7 +655,24 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                    dispatcherType,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    prefetchSize,
+                    prefetchLookAheadAsMilli
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -628,11 +739,16 @@ public class WorkloadRunnerTest
                     errorReporter,
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
+                    controlService.getConfiguration().executorType(),
+                    controlService.getConfiguration().dispatcherType(),
                     controlService.getConfiguration().getThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().spinnerType(),
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.getConfiguration().prefetchSize(),
+                    controlService.getConfiguration().prefetchLookAheadAsMilli() );
 
             runner.getFuture().get();
 
@@ -828,7 +944,24 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -889,11 +1022,16 @@ public class WorkloadRunnerTest
                     errorReporter,
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
+                    controlService.getConfiguration().executorType(),
+                    controlService.getConfiguration().dispatcherType(),
                     controlService.getConfiguration().getThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().spinnerType(),
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
-                    boundedQueueSize );
+                    boundedQueueSize,
+                    controlService.getConfiguration().prefetchSize(),
+                    controlService.getConfiguration().prefetchLookAheadAsMilli() );
 
             runner.getFuture().get();
 
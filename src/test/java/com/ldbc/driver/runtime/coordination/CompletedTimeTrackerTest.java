@@ -1,8 +1,11 @@
 package com.ldbc.driver.runtime.coordination;
 
 import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTrackerImpl;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.RingBufferCompletedTimeTracker;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -33,7 +36,13 @@ public class CompletedTimeTrackerTest
         shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
-    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTrackerImpl tracker )
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime_UsingRingBuffer() throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( RingBufferCompletedTimeTracker.create() );
+    }
+
+    private void shouldRemoveTimesCorrectlyWhenThereIsOnlyOneTime( CompletionTimeStateManager.CompletedTimeTracker tracker )
             throws CompletionTimeException
     {
         // Given
@@ -64,8 +73,16 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder_UsingRingBuffer()
+            throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
+                new RingBufferCompletedTimeTracker( 2 ) );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedInOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
@@ -138,8 +155,16 @@ public class CompletedTimeTrackerTest
                 CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder_UsingRingBuffer()
+            throws CompletionTimeException
+    {
+        shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
+                new RingBufferCompletedTimeTracker( 2 ) );
+    }
+
     private void shouldRemoveTimesCorrectlyWhenThereIsAreMultipleTimesThatAreAddedOutOfOrder(
-            CompletionTimeStateManager.CompletedTimeTrackerImpl tracker ) throws CompletionTimeException
+            CompletionTimeStateManager.CompletedTimeTracker tracker ) throws CompletionTimeException
     {
         // Given
         // tracker
@@ -217,4 +242,35 @@ public class CompletedTimeTrackerTest
         // [ , , , , , , , , , , , , , , , , , , , , , , ]
         assertThat( tracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ), is( -1L ) );
     }
+
+    @Test
+    public void ringBufferImplementationShouldBehaveLikeTreeMultiSetImplementationWhileGrowingAndWrapping()
+    {
+        // Given
+        CompletionTimeStateManager.CompletedTimeTracker expectedTracker =
+                CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+        CompletionTimeStateManager.CompletedTimeTracker tracker = new RingBufferCompletedTimeTracker( 4 );
+        Random random = new Random( 42 );
+        long timeAsMilli = 0;
+
+        // When/Then
+        for ( int i = 0; i < 100_000; i++ )
+        {
+            timeAsMilli += random.nextInt( 3 );
+            // completed times arrive approximately, but not exactly, in order
+            long completedTimeAsMilli = Math.max( 0, timeAsMilli - random.nextInt( 20 ) );
+            expectedTracker.addCompletedTimeAsMilli( completedTimeAsMilli );
+            tracker.addCompletedTimeAsMilli( completedTimeAsMilli );
+            if ( 0 == random.nextInt( 10 ) )
+            {
+                long lowerThanAsMilli = timeAsMilli - random.nextInt( 100 );
+                assertThat(
+                        tracker.removeTimesLowerThanAndReturnHighestRemoved( lowerThanAsMilli ),
+                        is( expectedTracker.removeTimesLowerThanAndReturnHighestRemoved( lowerThanAsMilli ) ) );
+            }
+        }
+        assertThat(
+                tracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ),
+                is( expectedTracker.removeTimesLowerThanAndReturnHighestRemoved( Long.MAX_VALUE ) ) );
+    }
 }
@@ -8,6 +8,8 @@ import org.junit.Test;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -130,6 +132,93 @@ public class CompletionTimeServiceTest
         assertThat( cts.completionTimeAsMilli(), is( 0L ) );
     }
 
+    @Test
+    public void shouldWakeThreadWaitingForCtWhenCtAdvancesWithSynchronizedImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldWakeThreadWaitingForCtWhenCtAdvances( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldWakeThreadWaitingForCtWhenCtAdvancesWithThreadedImplementation()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldWakeThreadWaitingForCtWhenCtAdvances( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    private void shouldWakeThreadWaitingForCtWhenCtAdvances( final CompletionTimeService cts )
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        final long maxWaitAsNano = TimeUnit.MINUTES.toNanos( 1 );
+        final AtomicBoolean completionTimeReached = new AtomicBoolean( false );
+        final AtomicLong waitDurationAsNano = new AtomicLong( -1 );
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        writer.submitInitiatedTime( 0L );
+        Thread waitingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    long startTimeAsNano = System.nanoTime();
+                    completionTimeReached.set( cts.awaitCompletionTimeAsMilli( 1L, maxWaitAsNano ) );
+                    waitDurationAsNano.set( System.nanoTime() - startTimeAsNano );
+                }
+                catch ( CompletionTimeException e )
+                {
+                    throw new RuntimeException( e );
+                }
+            }
+        };
+        waitingThread.start();
+
+        // When
+        writer.submitCompletedTime( 0L );
+        writer.submitInitiatedTime( 1L );
+        // CT = 0
+        Thread.sleep( 100 );
+        assertThat( waitingThread.isAlive(), is( true ) );
+        writer.submitCompletedTime( 1L );
+        writer.submitInitiatedTime( 2L );
+        // CT = 1
+        waitingThread.join( TimeUnit.SECONDS.toMillis( 10 ) );
+
+        // Then
+        assertThat( waitingThread.isAlive(), is( false ) );
+        assertThat( completionTimeReached.get(), is( true ) );
+        assertThat( cts.completionTimeAsMilli(), is( 1L ) );
+        // woken by CT advancing, not by timing out
+        assertThat( waitDurationAsNano.get() < maxWaitAsNano, is( true ) );
+    }
+
     @Test
     public void shouldReturnAllWritersWithSynchronizedImplementation() throws CompletionTimeException
     {
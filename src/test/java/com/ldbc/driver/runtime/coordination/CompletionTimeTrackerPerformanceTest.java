@@ -0,0 +1,95 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTracker;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.CompletedTimeTrackerImpl;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.InitiatedTimeTracker;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.InitiatedTimeTrackerImpl;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.RingBufferCompletedTimeTracker;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.RingBufferInitiatedTimeTracker;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+
+@Ignore
+public class CompletionTimeTrackerPerformanceTest
+{
+    private static final int OPERATION_COUNT = 1_000_000;
+    private static final int EXPERIMENT_COUNT = 5;
+
+    @Test
+    public void compareTrackerImplementationsWithFewOperationsInFlight() throws CompletionTimeException
+    {
+        compareTrackerImplementations( 16 );
+    }
+
+    @Test
+    public void compareTrackerImplementationsWithManyOperationsInFlight() throws CompletionTimeException
+    {
+        compareTrackerImplementations( 1024 );
+    }
+
+    private void compareTrackerImplementations( int operationsInFlight ) throws CompletionTimeException
+    {
+        long totalDurationTreeMultiSet = 0;
+        long totalDurationArrayList = 0;
+        long totalDurationRingBuffer = 0;
+        for ( int i = 0; i < EXPERIMENT_COUNT; i++ )
+        {
+            totalDurationTreeMultiSet += trackerPerformanceTest(
+                    operationsInFlight,
+                    InitiatedTimeTrackerImpl.createUsingTreeMultiSet(),
+                    CompletedTimeTrackerImpl.createUsingTreeMultiSet() );
+            totalDurationArrayList += trackerPerformanceTest(
+                    operationsInFlight,
+                    InitiatedTimeTrackerImpl.createUsingArrayList(),
+                    CompletedTimeTrackerImpl.createUsingArrayList() );
+            totalDurationRingBuffer += trackerPerformanceTest(
+                    operationsInFlight,
+                    RingBufferInitiatedTimeTracker.create(),
+                    RingBufferCompletedTimeTracker.create() );
+        }
+        long operationCount = (long) OPERATION_COUNT * EXPERIMENT_COUNT;
+        System.out.println( format( "%s operations in flight", operationsInFlight ) );
+        System.out.println( format( "TreeMultiSet = \t%s op/ms", operationCount / totalDurationTreeMultiSet ) );
+        System.out.println( format( "ArrayList = \t%s op/ms", operationCount / totalDurationArrayList ) );
+        System.out.println( format( "RingBuffer = \t%s op/ms", operationCount / totalDurationRingBuffer ) );
+        System.out.println();
+    }
+
+    /**
+     * Replays the same sequence of calls CompletionTimeStateManager makes: initiated times are submitted in ascending
+     * order, many share the same millisecond, and operations complete in random order within a window
+     */
+    private long trackerPerformanceTest( int operationsInFlight,
+            InitiatedTimeTracker initiatedTimeTracker,
+            CompletedTimeTracker completedTimeTracker ) throws CompletionTimeException
+    {
+        Random random = new Random( 42 );
+        long[] inFlightTimesAsMilli = new long[operationsInFlight];
+        long timeAsMilli = 0;
+        long startTimeAsMilli = System.currentTimeMillis();
+        for ( int i = 0; i < OPERATION_COUNT; i++ )
+        {
+            timeAsMilli += random.nextInt( 3 );
+            int slot = i % operationsInFlight;
+            if ( i >= operationsInFlight )
+            {
+                // complete one of the operations in flight, at random
+                slot = random.nextInt( operationsInFlight );
+                long completedTimeAsMilli = inFlightTimesAsMilli[slot];
+                long lowestInitiatedTimeAsMilli =
+                        initiatedTimeTracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( completedTimeAsMilli );
+                completedTimeTracker.addCompletedTimeAsMilli( completedTimeAsMilli );
+                completedTimeTracker.removeTimesLowerThanAndReturnHighestRemoved( lowestInitiatedTimeAsMilli );
+            }
+            long lowestInitiatedTimeAsMilli =
+                    initiatedTimeTracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( timeAsMilli );
+            completedTimeTracker.removeTimesLowerThanAndReturnHighestRemoved( lowestInitiatedTimeAsMilli );
+            inFlightTimesAsMilli[slot] = timeAsMilli;
+        }
+        return System.currentTimeMillis() - startTimeAsMilli;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ldbc.driver.runtime.coordination;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CompletionTimeWaitQueueTest
+{
+    @Test
+    public void shouldReturnImmediatelyWhenCompletionTimeHasAlreadyBeenReached() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue();
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 10 );
+
+        // When/Then
+        assertThat( waitQueue.await( 10, TimeUnit.MINUTES.toNanos( 1 ), completionTimeReader ), is( true ) );
+        assertThat( waitQueue.await( 5, TimeUnit.MINUTES.toNanos( 1 ), completionTimeReader ), is( true ) );
+        assertThat( waitQueue.hasWaiters(), is( false ) );
+    }
+
+    @Test
+    public void shouldReturnFalseAndDeregisterWhenCompletionTimeIsNotReachedBeforeTimeout()
+            throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue();
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+
+        // When/Then
+        assertThat( waitQueue.await( 10, TimeUnit.MILLISECONDS.toNanos( 10 ), completionTimeReader ), is( false ) );
+        assertThat( waitQueue.hasWaiters(), is( false ) );
+        assertThat( waitQueue.waitingCount(), is( 0 ) );
+    }
+
+    @Test
+    public void shouldWakeOnlyThreadsWhoseCompletionTimeHasBeenReached() throws Exception
+    {
+        // Given
+        final CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue();
+        final DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        WaitingThread waitingFor5 = new WaitingThread( waitQueue, completionTimeReader, 5 );
+        WaitingThread waitingFor10 = new WaitingThread( waitQueue, completionTimeReader, 10 );
+        waitingFor5.start();
+        waitingFor10.start();
+        while ( waitQueue.waitingCount() < 2 )
+        {
+            Thread.sleep( 1 );
+        }
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( 4 );
+        waitQueue.completionTimeAdvanced( 4 );
+        Thread.sleep( 100 );
+
+        // Then
+        assertThat( waitingFor5.isAlive(), is( true ) );
+        assertThat( waitingFor10.isAlive(), is( true ) );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( 7 );
+        waitQueue.completionTimeAdvanced( 7 );
+        waitingFor5.join( TimeUnit.SECONDS.toMillis( 10 ) );
+        Thread.sleep( 100 );
+
+        // Then
+        assertThat( waitingFor5.isAlive(), is( false ) );
+        assertThat( waitingFor5.completionTimeReached.get(), is( true ) );
+        assertThat( waitingFor10.isAlive(), is( true ) );
+        assertThat( waitQueue.waitingCount(), is( 1 ) );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( 10 );
+        waitQueue.completionTimeAdvanced( 10 );
+        waitingFor10.join( TimeUnit.SECONDS.toMillis( 10 ) );
+
+        // Then
+        assertThat( waitingFor10.isAlive(), is( false ) );
+        assertThat( waitingFor10.completionTimeReached.get(), is( true ) );
+        assertThat( waitQueue.hasWaiters(), is( false ) );
+    }
+
+    private static class WaitingThread extends Thread
+    {
+        private final CompletionTimeWaitQueue waitQueue;
+        private final CompletionTimeReader completionTimeReader;
+        private final long timeAsMilli;
+        private final AtomicBoolean completionTimeReached = new AtomicBoolean( false );
+
+        private WaitingThread( CompletionTimeWaitQueue waitQueue,
+                CompletionTimeReader completionTimeReader,
+                long timeAsMilli )
+        {
+            this.waitQueue = waitQueue;
+            this.completionTimeReader = completionTimeReader;
+            this.timeAsMilli = timeAsMilli;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                completionTimeReached.set(
+                        waitQueue.await( timeAsMilli, TimeUnit.MINUTES.toNanos( 1 ), completionTimeReader ) );
+            }
+            catch ( CompletionTimeException e )
+            {
+                throw new RuntimeException( e );
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class DistributedDriverCoordinatorTest
+{
+    private static final long TIMEOUT_AS_NANO = TimeUnit.SECONDS.toNanos( 10 );
+
+    @Test
+    public void shouldComputeGlobalCompletionTimeFromLocalTimesOfAllDrivers() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        ExecutorService executor = Executors.newFixedThreadPool( 3 );
+        try ( final DistributedDriverCoordinator coordinator = new DistributedDriverCoordinator(
+                0,
+                2,
+                timeSource,
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( getClass().getSimpleName() ) ) )
+        {
+            Future<WorkloadResultsSnapshot> coordinatorResults = executor.submit(
+                    new Callable<WorkloadResultsSnapshot>()
+                    {
+                        @Override
+                        public WorkloadResultsSnapshot call() throws Exception
+                        {
+                            return coordinator.coordinateWorkload( 0 );
+                        }
+                    } );
+            String address = "localhost:" + coordinator.port();
+            final DistributedDriverConnection connection0 = DistributedDriverConnection.connect( address, 0 );
+            final DistributedDriverConnection connection1 = DistributedDriverConnection.connect( address, 1 );
+            Future<Long> startTime0 = executor.submit( awaitWorkloadStartTime( connection0 ) );
+            Future<Long> startTime1 = executor.submit( awaitWorkloadStartTime( connection1 ) );
+            assertThat( startTime0.get( 10, TimeUnit.SECONDS ), equalTo( startTime1.get( 10, TimeUnit.SECONDS ) ) );
+
+            CompletionTimeService driver0 = new DistributedCompletionTimeService(
+                    assistant.newSynchronizedCompletionTimeService(), connection0, errorReporter );
+            CompletionTimeService driver1 = new DistributedCompletionTimeService(
+                    assistant.newSynchronizedCompletionTimeService(), connection1, errorReporter );
+            CompletionTimeWriter writer0 = driver0.newCompletionTimeWriter();
+            CompletionTimeWriter writer1 = driver1.newCompletionTimeWriter();
+
+            // When
+            writer0.submitInitiatedTime( 1 );
+            writer0.submitCompletedTime( 1 );
+            writer0.submitInitiatedTime( 2 );
+
+            // Then
+            // driver 1 has not initiated anything yet, so GCT is undefined
+            assertThat( driver0.awaitCompletionTimeAsMilli( 1, TimeUnit.MILLISECONDS.toNanos( 100 ) ),
+                    equalTo( false ) );
+            assertThat( driver0.completionTimeAsMilli(), equalTo( -1L ) );
+
+            // When
+            writer1.submitInitiatedTime( 3 );
+
+            // Then
+            assertThat( driver0.awaitCompletionTimeAsMilli( 1, TIMEOUT_AS_NANO ), equalTo( true ) );
+            assertThat( driver1.awaitCompletionTimeAsMilli( 1, TIMEOUT_AS_NANO ), equalTo( true ) );
+            assertThat( driver1.completionTimeAsMilli(), equalTo( 1L ) );
+
+            // When
+            writer0.submitCompletedTime( 2 );
+            writer0.submitInitiatedTime( Long.MAX_VALUE );
+
+            // Then
+            // operation at 3 of driver 1 has not completed, so GCT is the completion time of driver 0
+            assertThat( driver1.awaitCompletionTimeAsMilli( 2, TIMEOUT_AS_NANO ), equalTo( true ) );
+            assertThat( driver1.completionTimeAsMilli(), equalTo( 2L ) );
+
+            // When
+            writer1.submitCompletedTime( 3 );
+            writer1.submitInitiatedTime( Long.MAX_VALUE );
+
+            // Then
+            assertThat( driver0.awaitCompletionTimeAsMilli( 3, TIMEOUT_AS_NANO ), equalTo( true ) );
+            assertThat( driver0.completionTimeAsMilli(), equalTo( 3L ) );
+
+            // When
+            driver0.shutdown();
+            driver1.shutdown();
+            connection0.sendResults( results( 1000, 2000, 10 ) );
+            connection1.sendResults( results( 1500, 3000, 20 ) );
+            connection0.close();
+            connection1.close();
+
+            // Then
+            WorkloadResultsSnapshot mergedResults = coordinatorResults.get( 10, TimeUnit.SECONDS );
+            assertThat( mergedResults.startTimeAsMilli(), equalTo( 1000L ) );
+            assertThat( mergedResults.latestFinishTimeAsMilli(), equalTo( 3000L ) );
+            assertThat( mergedResults.totalOperationCount(), equalTo( 30L ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), equalTo( false ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldAdvanceGlobalCompletionTimeWhenDriverHasNoDependencyOperations() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        ExecutorService executor = Executors.newFixedThreadPool( 3 );
+        try ( final DistributedDriverCoordinator coordinator = new DistributedDriverCoordinator(
+                0,
+                2,
+                timeSource,
+                new Log4jLoggingServiceFactory( false ).loggingServiceFor( getClass().getSimpleName() ) ) )
+        {
+            Future<WorkloadResultsSnapshot> coordinatorResults = executor.submit(
+                    new Callable<WorkloadResultsSnapshot>()
+                    {
+                        @Override
+                        public WorkloadResultsSnapshot call() throws Exception
+                        {
+                            return coordinator.coordinateWorkload( 0 );
+                        }
+                    } );
+            String address = "localhost:" + coordinator.port();
+            final DistributedDriverConnection connection0 = DistributedDriverConnection.connect( address, 0 );
+            final DistributedDriverConnection connection1 = DistributedDriverConnection.connect( address, 1 );
+            Future<Long> startTime0 = executor.submit( awaitWorkloadStartTime( connection0 ) );
+            Future<Long> startTime1 = executor.submit( awaitWorkloadStartTime( connection1 ) );
+            startTime0.get( 10, TimeUnit.SECONDS );
+            startTime1.get( 10, TimeUnit.SECONDS );
+
+            CompletionTimeService driver0 = new DistributedCompletionTimeService(
+                    assistant.newSynchronizedCompletionTimeService(), connection0, errorReporter );
+            // driver 1 executes no dependency operations, so it never creates a writer for its streams
+            CompletionTimeService driver1 = new DistributedCompletionTimeService(
+                    assistant.newSynchronizedCompletionTimeService(), connection1, errorReporter );
+            CompletionTimeWriter writer0 = driver0.newCompletionTimeWriter();
+
+            // When
+            assistant.writeMaxTimesToNewWriter( driver1 );
+            writer0.submitInitiatedTime( 1 );
+            writer0.submitCompletedTime( 1 );
+            writer0.submitInitiatedTime( 2 );
+
+            // Then
+            assertThat( driver0.awaitCompletionTimeAsMilli( 1, TIMEOUT_AS_NANO ), equalTo( true ) );
+            assertThat( driver1.awaitCompletionTimeAsMilli( 1, TIMEOUT_AS_NANO ), equalTo( true ) );
+            assertThat( driver0.completionTimeAsMilli(), equalTo( 1L ) );
+
+            // When
+            writer0.submitCompletedTime( 2 );
+            writer0.submitInitiatedTime( Long.MAX_VALUE );
+
+            // Then
+            assertThat( driver1.awaitCompletionTimeAsMilli( 2, TIMEOUT_AS_NANO ), equalTo( true ) );
+
+            // When
+            driver0.shutdown();
+            driver1.shutdown();
+            connection0.sendResults( results( 1000, 2000, 10 ) );
+            connection1.sendResults( results( 1000, 2000, 0 ) );
+            connection0.close();
+            connection1.close();
+
+            // Then
+            WorkloadResultsSnapshot mergedResults = coordinatorResults.get( 10, TimeUnit.SECONDS );
+            assertThat( mergedResults.totalOperationCount(), equalTo( 10L ) );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), equalTo( false ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Callable<Long> awaitWorkloadStartTime( final DistributedDriverConnection connection )
+    {
+        return new Callable<Long>()
+        {
+            @Override
+            public Long call() throws Exception
+            {
+                return connection.awaitWorkloadStartTimeAsMilli();
+            }
+        };
+    }
+
+    private static WorkloadResultsSnapshot results( long startTimeAsMilli, long finishTimeAsMilli, long count )
+    {
+        return new WorkloadResultsSnapshot(
+                new ArrayList<>(),
+                startTimeAsMilli,
+                finishTimeAsMilli,
+                count,
+                TimeUnit.MILLISECONDS );
+    }
+}
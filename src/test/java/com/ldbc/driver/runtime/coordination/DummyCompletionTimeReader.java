@@ -2,7 +2,7 @@ package com.ldbc.driver.runtime.coordination;
 
 public class DummyCompletionTimeReader implements CompletionTimeReader
 {
-    long completionTimeAsMilli = -1;
+    volatile long completionTimeAsMilli = -1;
 
     public void setCompletionTimeAsMilli( long completionTimeAsMilli )
     {
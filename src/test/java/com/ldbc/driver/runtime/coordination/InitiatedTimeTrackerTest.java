@@ -1,8 +1,13 @@
 package com.ldbc.driver.runtime.coordination;
 
 import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.InitiatedTimeTrackerImpl;
+import com.ldbc.driver.runtime.coordination.CompletionTimeStateManager.RingBufferInitiatedTimeTracker;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -22,6 +27,12 @@ public class InitiatedTimeTrackerTest
         shouldReturnNullsWhenNoTimesHaveBeenSubmitted( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldReturnNullsWhenNoTimesHaveBeenSubmitted_RingBufferImplementation()
+    {
+        shouldReturnNullsWhenNoTimesHaveBeenSubmitted( RingBufferInitiatedTimeTracker.create() );
+    }
+
     private void shouldReturnNullsWhenNoTimesHaveBeenSubmitted( CompletionTimeStateManager.InitiatedTimeTracker
             tracker )
     {
@@ -58,6 +69,12 @@ public class InitiatedTimeTrackerTest
         shouldBehaveAsExpectedUnderScenario1( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldBehaveAsExpectedUnderScenario1_RingBufferImplementation() throws CompletionTimeException
+    {
+        shouldBehaveAsExpectedUnderScenario1( new RingBufferInitiatedTimeTracker( 2 ) );
+    }
+
     private void shouldBehaveAsExpectedUnderScenario1( CompletionTimeStateManager.InitiatedTimeTracker tracker )
             throws CompletionTimeException
     {
@@ -235,4 +252,41 @@ public class InitiatedTimeTrackerTest
         }
         assertThat( tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( 9999L ), is( 9999L ) );
     }
+
+    @Test
+    public void ringBufferImplementationShouldBehaveLikeTreeMultiSetImplementationWhileGrowingAndWrapping()
+            throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeStateManager.InitiatedTimeTracker expectedTracker =
+                InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
+        CompletionTimeStateManager.InitiatedTimeTracker tracker = new RingBufferInitiatedTimeTracker( 4 );
+        List<Long> uncompletedTimesAsMilli = new ArrayList<>();
+        Random random = new Random( 42 );
+        long timeAsMilli = 0;
+
+        // When/Then
+        for ( int i = 0; i < 100_000; i++ )
+        {
+            // many operations share the same initiated time
+            timeAsMilli += random.nextInt( 3 );
+            assertThat(
+                    tracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( timeAsMilli ),
+                    equalTo( expectedTracker.addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( timeAsMilli ) ) );
+            uncompletedTimesAsMilli.add( timeAsMilli );
+            while ( uncompletedTimesAsMilli.size() > random.nextInt( 50 ) )
+            {
+                // operations complete approximately, but not exactly, in order
+                int index = random.nextInt( Math.min( 10, uncompletedTimesAsMilli.size() ) );
+                long completedTimeAsMilli = uncompletedTimesAsMilli.remove( index );
+                long expectedLowestTimeAsMilli =
+                        expectedTracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( completedTimeAsMilli );
+                assertThat(
+                        tracker.removeTimeAndReturnLastKnownLowestTimeAsMilli( completedTimeAsMilli ),
+                        equalTo( expectedLowestTimeAsMilli ) );
+            }
+            assertThat( tracker.uncompletedInitiatedTimes(), is( expectedTracker.uncompletedInitiatedTimes() ) );
+            assertThat( tracker.highestInitiatedTimeAsMilli(), is( expectedTracker.highestInitiatedTimeAsMilli() ) );
+        }
+    }
 }
@@ -15,6 +15,7 @@ import org.junit.Test;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -1758,6 +1759,108 @@ public class MultiWriterCompletionTimeStateManagerTest
         return thread.hasCompletedExecution();
     }
 
+    @Test
+    public void completionTimeReadConcurrentlyWithWritesShouldNeverDecreaseOrPassUncompletedTimes()
+            throws CompletionTimeException, InterruptedException
+    {
+        // Given
+        final ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final MultiWriterCompletionTimeStateManager completionTimeStateManager =
+                new MultiWriterCompletionTimeStateManager();
+        final int writerCount = 4;
+        final long lastTimeAsMilli = 100_000;
+        // lowest uncompleted time of each writer, updated before it is submitted so it is never behind the writer
+        final AtomicLongArray lowestUncompletedTimesAsMilli = new AtomicLongArray( writerCount );
+        final AtomicBoolean writersFinished = new AtomicBoolean( false );
+        List<Thread> writerThreads = Lists.newArrayList();
+        for ( int i = 0; i < writerCount; i++ )
+        {
+            final int writerIndex = i;
+            final CompletionTimeWriter writer = completionTimeStateManager.newCompletionTimeWriter();
+            writerThreads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        // two operations in flight: initiate t, then complete t - 1
+                        writer.submitInitiatedTime( 0 );
+                        for ( long timeAsMilli = 1; timeAsMilli <= lastTimeAsMilli; timeAsMilli++ )
+                        {
+                            writer.submitInitiatedTime( timeAsMilli );
+                            lowestUncompletedTimesAsMilli.set( writerIndex, timeAsMilli );
+                            writer.submitCompletedTime( timeAsMilli - 1 );
+                        }
+                        lowestUncompletedTimesAsMilli.set( writerIndex, Long.MAX_VALUE );
+                        writer.submitCompletedTime( lastTimeAsMilli );
+                    }
+                    catch ( CompletionTimeException e )
+                    {
+                        errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+                    }
+                }
+            } );
+        }
+        Thread readerThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    long previousCompletionTimeAsMilli = -1;
+                    while ( !writersFinished.get() )
+                    {
+                        long completionTimeAsMilli = completionTimeStateManager.completionTimeAsMilli();
+                        if ( completionTimeAsMilli < previousCompletionTimeAsMilli )
+                        {
+                            errorReporter.reportError( this, "Completion time decreased: " +
+                                                             previousCompletionTimeAsMilli + " -> " +
+                                                             completionTimeAsMilli );
+                            return;
+                        }
+                        for ( int i = 0; i < writerCount; i++ )
+                        {
+                            if ( -1 != completionTimeAsMilli &&
+                                 completionTimeAsMilli >= lowestUncompletedTimesAsMilli.get( i ) )
+                            {
+                                errorReporter.reportError( this, "Completion time passed uncompleted time: " +
+                                                                 completionTimeAsMilli + " >= " +
+                                                                 lowestUncompletedTimesAsMilli.get( i ) );
+                                return;
+                            }
+                        }
+                        previousCompletionTimeAsMilli = completionTimeAsMilli;
+                    }
+                }
+                catch ( CompletionTimeException e )
+                {
+                    errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+                }
+            }
+        };
+
+        // When
+        readerThread.start();
+        for ( Thread writerThread : writerThreads )
+        {
+            writerThread.start();
+        }
+        for ( Thread writerThread : writerThreads )
+        {
+            writerThread.join();
+        }
+        writersFinished.set( true );
+        readerThread.join();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        // all completed, completion time must be lower than latest initiated time
+        assertThat( completionTimeStateManager.lastKnownLowestInitiatedTimeAsMilli(), is( lastTimeAsMilli ) );
+        assertThat( completionTimeStateManager.completionTimeAsMilli(), is( lastTimeAsMilli - 1 ) );
+    }
+
     static class CompletionTimeWriterThread extends Thread
     {
         enum WriteType
@@ -0,0 +1,283 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.AsyncOperationHandler;
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.ResultReporter;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyResult;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+public class AsyncOperationExecutorTest
+{
+    @Test
+    public void executorShouldNotWaitForResultsBeforeIssuingNextOperation() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int threadCount = 1;
+        int maxInFlightOperations = 100;
+        OperationExecutor executor = newExecutor( threadCount, maxInFlightOperations, null, timeSource, errorReporter,
+                metricsService );
+        DelayedAsyncNothingOperationHandler.reset();
+
+        int operationCount = 50;
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            executor.execute( nothingOperation( scheduledStartTimeAsMilli ) );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        assertThat( DelayedAsyncNothingOperationHandler.MAX_IN_FLIGHT.get(), greaterThan( threadCount ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldChainChildOperationsFromCompletionCallbacks() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int childrenPerOperation = 2;
+        OperationExecutor executor = newExecutor( 1, 10, new FixedCountChildOperationGenerator( childrenPerOperation ),
+                timeSource, errorReporter, metricsService );
+        DelayedAsyncNothingOperationHandler.reset();
+
+        int operationCount = 10;
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli();
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            executor.execute( nothingOperation( scheduledStartTimeAsMilli ) );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers, and their children, to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount * (1 + childrenPerOperation) ) );
+        // children wait for their scheduled start times, the completion callback thread must not
+        assertThat( DelayedAsyncNothingOperationHandler.ISSUED_OUTSIDE_POOL.get(), is( 0 ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test( expected = OperationExecutorException.class )
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        OperationExecutor executor = newExecutor( 1, 1, null, timeSource, errorReporter, metricsService );
+
+        // When
+        executor.shutdown( 1000l );
+
+        // Then
+        executor.shutdown( 1000l );
+    }
+
+    private static Operation nothingOperation( long scheduledStartTimeAsMilli )
+    {
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+        operation.setTimeStamp( scheduledStartTimeAsMilli );
+        operation.setDependencyTimeStamp( 0l );
+        return operation;
+    }
+
+    private OperationExecutor newExecutor( int threadCount,
+            int maxInFlightOperations,
+            ChildOperationGenerator childOperationGenerator,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        boolean ignoreScheduledStartTime = false;
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                childOperationGenerator
+        );
+        Db db = new AsyncDummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return new AsyncOperationExecutor(
+                threadCount,
+                maxInFlightOperations,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    public static class AsyncDummyDb extends Db
+    {
+        private final DbConnectionState connectionState = new DbConnectionState()
+        {
+            @Override
+            public void close() throws IOException
+            {
+            }
+        };
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( NothingOperation.class, DelayedAsyncNothingOperationHandler.class );
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return connectionState;
+        }
+    }
+
+    /**
+     * Completes every operation on another thread, a few milliseconds after it was issued
+     */
+    public static class DelayedAsyncNothingOperationHandler
+            implements AsyncOperationHandler<NothingOperation,DbConnectionState>
+    {
+        private static final ScheduledExecutorService COMPLETER = Executors.newSingleThreadScheduledExecutor();
+        private static final AtomicInteger IN_FLIGHT = new AtomicInteger( 0 );
+        private static final AtomicInteger MAX_IN_FLIGHT = new AtomicInteger( 0 );
+        private static final AtomicInteger ISSUED_OUTSIDE_POOL = new AtomicInteger( 0 );
+
+        static void reset()
+        {
+            IN_FLIGHT.set( 0 );
+            MAX_IN_FLIGHT.set( 0 );
+            ISSUED_OUTSIDE_POOL.set( 0 );
+        }
+
+        @Override
+        public CompletionStage<Void> executeOperationAsync( NothingOperation operation,
+                DbConnectionState dbConnectionState,
+                ResultReporter resultReporter ) throws DbException
+        {
+            int inFlight = IN_FLIGHT.incrementAndGet();
+            MAX_IN_FLIGHT.accumulateAndGet( inFlight, Math::max );
+            if ( !Thread.currentThread().getName().startsWith( AsyncOperationExecutor.class.getSimpleName() ) )
+            {
+                ISSUED_OUTSIDE_POOL.incrementAndGet();
+            }
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            COMPLETER.schedule( () ->
+            {
+                try
+                {
+                    resultReporter.report( 0, new DummyResult(), operation );
+                    IN_FLIGHT.decrementAndGet();
+                    future.complete( null );
+                }
+                catch ( DbException e )
+                {
+                    future.completeExceptionally( e );
+                }
+            }, 10, TimeUnit.MILLISECONDS );
+            return future;
+        }
+    }
+
+    private static class FixedCountChildOperationGenerator implements ChildOperationGenerator
+    {
+        private final int childrenPerOperation;
+
+        private FixedCountChildOperationGenerator( int childrenPerOperation )
+        {
+            this.childrenPerOperation = childrenPerOperation;
+        }
+
+        @Override
+        public double initialState()
+        {
+            return 0;
+        }
+
+        @Override
+        public Operation nextOperation( double state, Operation operation, Object result,
+                long actualStartTimeAsMilli, long runDurationAsNano )
+        {
+            return (state < childrenPerOperation) ? nothingOperation( actualStartTimeAsMilli ) : null;
+        }
+
+        @Override
+        public double updateState( double previousState, int previousOperationType )
+        {
+            return previousState + 1;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.temporal.ManualTimeSource;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class PrefetchingOperationIteratorTest
+{
+    private static final long ENOUGH_MILLISECONDS_FOR_PRODUCER_THREAD_TO_DO_ITS_THING = 200;
+
+    @Test
+    public void shouldReturnAllOperationsInOrder() throws Exception
+    {
+        List<Operation> operations = operations( 10000 );
+        for ( int prefetchSize : new int[]{1, 3, 1024, 100000} )
+        {
+            PrefetchingOperationIterator prefetchingOperations = new PrefetchingOperationIterator(
+                    operations.iterator(), prefetchSize, new ManualTimeSource( 0 ), 0 );
+            prefetchingOperations.start();
+            List<Operation> prefetched = new ArrayList<>();
+            while ( prefetchingOperations.hasNext() )
+            {
+                prefetched.add( prefetchingOperations.next() );
+            }
+            prefetchingOperations.close( 1000 );
+            assertThat( prefetched, equalTo( operations ) );
+        }
+    }
+
+    @Test
+    public void shouldRetrieveAtMostPrefetchSizeOperationsAhead() throws Exception
+    {
+        CountingIterator operations = new CountingIterator( operations( 100 ).iterator() );
+        PrefetchingOperationIterator prefetchingOperations =
+                new PrefetchingOperationIterator( operations, 8, new ManualTimeSource( 0 ), 0 );
+        prefetchingOperations.start();
+
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_PRODUCER_THREAD_TO_DO_ITS_THING );
+        // full ring, plus the operation that waits for a free slot
+        assertThat( operations.count(), is( 9 ) );
+
+        prefetchingOperations.next();
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_PRODUCER_THREAD_TO_DO_ITS_THING );
+        assertThat( operations.count(), is( 10 ) );
+
+        prefetchingOperations.close( 1000 );
+    }
+
+    @Test
+    public void shouldNotRetrieveOperationsBeyondLookAheadWhileOneIsAvailable() throws Exception
+    {
+        // scheduled start times 0, 10, 20, ...
+        CountingIterator operations = new CountingIterator( operations( 100 ).iterator() );
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        PrefetchingOperationIterator prefetchingOperations =
+                new PrefetchingOperationIterator( operations, 1024, timeSource, 25 );
+        prefetchingOperations.start();
+
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_PRODUCER_THREAD_TO_DO_ITS_THING );
+        // 0, 10, 20 are within look ahead, 30 is not
+        assertThat( operations.count(), is( 4 ) );
+
+        timeSource.setNowFromMilli( 10 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_PRODUCER_THREAD_TO_DO_ITS_THING );
+        assertThat( operations.count(), is( 5 ) );
+
+        // consuming all available operations does not wait for time to advance
+        for ( int i = 0; i < 6; i++ )
+        {
+            assertThat( prefetchingOperations.hasNext(), is( true ) );
+            assertThat( prefetchingOperations.next().scheduledStartTimeAsMilli(), is( i * 10L ) );
+        }
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_PRODUCER_THREAD_TO_DO_ITS_THING );
+        assertThat( operations.count(), is( 7 ) );
+
+        prefetchingOperations.close( 1000 );
+    }
+
+    @Test
+    public void shouldThrowErrorOfWrappedIteratorAfterPrecedingOperations() throws Exception
+    {
+        final Iterator<Operation> operations = operations( 3 ).iterator();
+        Iterator<Operation> failingOperations = new Iterator<Operation>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return true;
+            }
+
+            @Override
+            public Operation next()
+            {
+                if ( operations.hasNext() )
+                {
+                    return operations.next();
+                }
+                throw new IllegalStateException( "parse error" );
+            }
+        };
+        PrefetchingOperationIterator prefetchingOperations =
+                new PrefetchingOperationIterator( failingOperations, 2, new ManualTimeSource( 0 ), 0 );
+        prefetchingOperations.start();
+
+        for ( int i = 0; i < 3; i++ )
+        {
+            assertThat( prefetchingOperations.next().scheduledStartTimeAsMilli(), is( i * 10L ) );
+        }
+        try
+        {
+            prefetchingOperations.hasNext();
+            fail( "Expected error of wrapped iterator" );
+        }
+        catch ( GeneratorException e )
+        {
+            assertThat( e.getCause().getMessage(), equalTo( "parse error" ) );
+        }
+        prefetchingOperations.close( 1000 );
+    }
+
+    private static List<Operation> operations( int count )
+    {
+        List<Operation> operations = new ArrayList<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            operations.add( new TimedNamedOperation1( i * 10L, i * 10L, 0L, Integer.toString( i ) ) );
+        }
+        return operations;
+    }
+
+    private static class CountingIterator implements Iterator<Operation>
+    {
+        private final Iterator<Operation> operations;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingIterator( Iterator<Operation> operations )
+        {
+            this.operations = operations;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return operations.hasNext();
+        }
+
+        @Override
+        public Operation next()
+        {
+            count.incrementAndGet();
+            return operations.next();
+        }
+
+        int count()
+        {
+            return count.get();
+        }
+    }
+}
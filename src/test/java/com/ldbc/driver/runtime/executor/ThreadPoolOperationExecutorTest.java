@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.executor;
 
+import com.ldbc.driver.ChildOperationGenerator;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.WorkloadStreams;
@@ -164,6 +165,80 @@ public class ThreadPoolOperationExecutorTest
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
 
+    @Test
+    public void executorShouldRunChildOperationsAsTasksOfTheirOwnOrInlineWhenQueueIsFull() throws Exception
+    {
+        // bounded queue size 1 leaves no room for child operations, which then run on the worker of their parent
+        for ( int boundedQueueSize : new int[]{DefaultQueues.DEFAULT_BOUND_1000, 1} )
+        {
+            // Given
+            LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+            TimeSource timeSource = new SystemTimeSource();
+            boolean ignoreScheduledStartTime = false;
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            Spinner spinner =
+                    new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+            CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+            DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+            dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+            DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+            int childrenPerOperation = 3;
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                    new HashSet<Class<? extends Operation>>(),
+                    new HashSet<Class<? extends Operation>>(),
+                    Collections.<Operation>emptyIterator(),
+                    Collections.<Operation>emptyIterator(),
+                    new FixedCountChildOperationGenerator( childrenPerOperation )
+            );
+            Db db = new DummyDb();
+            db.init(
+                    new HashMap<String,String>(),
+                    loggingService,
+                    DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+            );
+
+            int threadCount = 2;
+
+            OperationExecutor executor = new ThreadPoolOperationExecutor(
+                    threadCount,
+                    boundedQueueSize,
+                    db,
+                    streamDefinition,
+                    dummyCompletionTimeWriter,
+                    dummyCompletionTimeReader,
+                    spinner,
+                    timeSource,
+                    errorReporter,
+                    metricsService,
+                    streamDefinition.childOperationGenerator()
+            );
+
+            int operationCount = 20;
+            long scheduledStartTimeAsMilli = timeSource.nowAsMilli();
+
+            // When
+            for ( int i = 0; i < operationCount; i++ )
+            {
+                Operation operation = new NothingOperation();
+                operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli );
+                operation.setTimeStamp( scheduledStartTimeAsMilli );
+                operation.setDependencyTimeStamp( 0l );
+                executor.execute( operation );
+            }
+
+            while ( executor.uncompletedOperationHandlerCount() > 0 )
+            {
+                // wait for handlers, and their children, to finish
+                Spinner.powerNap( 100 );
+            }
+
+            // Then
+            assertThat( metricsService.count(), is( (long) operationCount * (1 + childrenPerOperation) ) );
+            executor.shutdown( 1000l );
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        }
+    }
+
     @Test
     public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
     {
@@ -240,4 +315,41 @@ public class ThreadPoolOperationExecutorTest
         assertThat( exceptionThrown, is( true ) );
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
+
+    private static class FixedCountChildOperationGenerator implements ChildOperationGenerator
+    {
+        private final int childrenPerOperation;
+
+        private FixedCountChildOperationGenerator( int childrenPerOperation )
+        {
+            this.childrenPerOperation = childrenPerOperation;
+        }
+
+        @Override
+        public double initialState()
+        {
+            return 0;
+        }
+
+        @Override
+        public Operation nextOperation( double state, Operation operation, Object result,
+                long actualStartTimeAsMilli, long runDurationAsNano )
+        {
+            if ( state >= childrenPerOperation )
+            {
+                return null;
+            }
+            Operation childOperation = new NothingOperation();
+            childOperation.setScheduledStartTimeAsMilli( actualStartTimeAsMilli );
+            childOperation.setTimeStamp( actualStartTimeAsMilli );
+            childOperation.setDependencyTimeStamp( 0l );
+            return childOperation;
+        }
+
+        @Override
+        public double updateState( double previousState, int previousOperationType )
+        {
+            return previousState + 1;
+        }
+    }
 }
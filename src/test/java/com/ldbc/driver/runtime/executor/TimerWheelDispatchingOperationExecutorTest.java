@@ -0,0 +1,175 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.google.common.collect.Sets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.temporal.ManualTimeSource;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimerWheelDispatchingOperationExecutorTest
+{
+    private static final long ENOUGH_MILLISECONDS_FOR_DISPATCHER_THREAD_TO_DO_ITS_THING = 200;
+
+    @Test
+    public void shouldPassOperationsToExecutorOnlyOnceTheyAreDue() throws Exception
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        RecordingOperationExecutor recordingExecutor = new RecordingOperationExecutor();
+        OperationExecutor executor = new TimerWheelDispatchingOperationExecutor(
+                recordingExecutor,
+                streamDefinition( new HashSet<Class<? extends Operation>>() ),
+                completionTimeReader,
+                timeSource,
+                errorReporter,
+                100,
+                TimerWheelDispatchingOperationExecutor.DEFAULT_WHEEL_SIZE
+        );
+        Operation operation1 = new TimedNamedOperation1( 10l, 10l, 0l, "1" );
+        Operation operation2 = new TimedNamedOperation1( 20l, 20l, 0l, "2" );
+
+        // When
+        executor.execute( operation2 );
+        executor.execute( operation1 );
+
+        // Then
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_DISPATCHER_THREAD_TO_DO_ITS_THING );
+        assertThat( recordingExecutor.executed(), equalTo( operations() ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 2l ) );
+
+        timeSource.setNowFromMilli( 10 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_DISPATCHER_THREAD_TO_DO_ITS_THING );
+        assertThat( recordingExecutor.executed(), equalTo( operations( operation1 ) ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 1l ) );
+
+        timeSource.setNowFromMilli( 20 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_DISPATCHER_THREAD_TO_DO_ITS_THING );
+        assertThat( recordingExecutor.executed(), equalTo( operations( operation1, operation2 ) ) );
+
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldHoldDependentOperationsUntilCompletionTimeAllowsThem() throws Exception
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        RecordingOperationExecutor recordingExecutor = new RecordingOperationExecutor();
+        OperationExecutor executor = new TimerWheelDispatchingOperationExecutor(
+                recordingExecutor,
+                streamDefinition( Sets.<Class<? extends Operation>>newHashSet( TimedNamedOperation2.class ) ),
+                completionTimeReader,
+                timeSource,
+                errorReporter,
+                100,
+                TimerWheelDispatchingOperationExecutor.DEFAULT_WHEEL_SIZE
+        );
+        Operation dependent = new TimedNamedOperation2( 10l, 10l, 5l, "dependent" );
+        Operation notDependent = new TimedNamedOperation1( 10l, 10l, 5l, "not dependent" );
+
+        // When
+        executor.execute( dependent );
+        executor.execute( notDependent );
+        timeSource.setNowFromMilli( 10 );
+
+        // Then
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_DISPATCHER_THREAD_TO_DO_ITS_THING );
+        assertThat( recordingExecutor.executed(), equalTo( operations( notDependent ) ) );
+
+        completionTimeReader.setCompletionTimeAsMilli( 5 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_DISPATCHER_THREAD_TO_DO_ITS_THING );
+        assertThat( recordingExecutor.executed(), equalTo( operations( notDependent, dependent ) ) );
+
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test( expected = OperationExecutorException.class )
+    public void shouldThrowExceptionIfShutdownBeforeAllOperationsWereDispatched() throws Exception
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        OperationExecutor executor = new TimerWheelDispatchingOperationExecutor(
+                new RecordingOperationExecutor(),
+                streamDefinition( new HashSet<Class<? extends Operation>>() ),
+                completionTimeReader,
+                timeSource,
+                new ConcurrentErrorReporter(),
+                100,
+                TimerWheelDispatchingOperationExecutor.DEFAULT_WHEEL_SIZE
+        );
+        executor.execute( new TimedNamedOperation1( 10l, 10l, 0l, "name" ) );
+
+        // When/Then
+        executor.shutdown( 100l );
+    }
+
+    private static WorkloadStreams.WorkloadStreamDefinition streamDefinition(
+            HashSet<Class<? extends Operation>> dependentOperationTypes )
+    {
+        return new WorkloadStreams.WorkloadStreamDefinition(
+                dependentOperationTypes,
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+    }
+
+    private static List<Operation> operations( Operation... operations )
+    {
+        List<Operation> operationsList = new ArrayList<>();
+        Collections.addAll( operationsList, operations );
+        return operationsList;
+    }
+
+    private static class RecordingOperationExecutor implements OperationExecutor
+    {
+        private final List<Operation> executed = new ArrayList<>();
+
+        @Override
+        synchronized public void execute( Operation operation ) throws OperationExecutorException
+        {
+            executed.add( operation );
+        }
+
+        @Override
+        public void shutdown( long waitAsMilli ) throws OperationExecutorException
+        {
+        }
+
+        @Override
+        public long uncompletedOperationHandlerCount()
+        {
+            // operations are never completed, so count of held operations can be observed in isolation
+            return 0;
+        }
+
+        synchronized List<Operation> executed()
+        {
+            return new ArrayList<>( executed );
+        }
+    }
+}
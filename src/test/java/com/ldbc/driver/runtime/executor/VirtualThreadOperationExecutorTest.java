@@ -0,0 +1,118 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class VirtualThreadOperationExecutorTest
+{
+    @Test
+    public void executorShouldReturnAllResultsWhenMaxConcurrencyIsReached() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int maxConcurrency = 1;
+        OperationExecutor executor = newExecutor( maxConcurrency, timeSource, errorReporter, metricsService );
+
+        int operationCount = 10;
+        long scheduledStartTimeAsMilli = timeSource.nowAsMilli() + 100l;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( scheduledStartTimeAsMilli + i );
+            operation.setTimeStamp( operation.scheduledStartTimeAsMilli() );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test( expected = OperationExecutorException.class )
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        OperationExecutor executor = newExecutor( 1, timeSource, errorReporter, metricsService );
+
+        // When
+        executor.shutdown( 1000l );
+
+        // Then
+        executor.shutdown( 1000l );
+    }
+
+    private OperationExecutor newExecutor( int maxConcurrency,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        boolean ignoreScheduledStartTime = false;
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return new VirtualThreadOperationExecutor(
+                maxConcurrency,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+}
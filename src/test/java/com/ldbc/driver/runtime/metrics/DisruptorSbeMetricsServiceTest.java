@@ -83,6 +83,78 @@ public class DisruptorSbeMetricsServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnCorrectMeasurementsWhenConsumersArePartitionedByOperationType() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CountingResultsLogWriter resultsLogWriter = new CountingResultsLogWriter();
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                64,
+                DisruptorWaitStrategyType.YIELDING,
+                // LdbcQuery1 and LdbcQuery2 are recorded by different consumers
+                2,
+                null
+        );
+
+        // When
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            shouldReturnCorrectMeasurements( metricsServiceWriter );
+            WorkloadStatusSnapshot status = metricsServiceWriter.status();
+
+            // Then
+            assertThat( status.operationCount(), equalTo( 3l ) );
+            assertThat( status.durationSinceLastMeasurementAsMilli() >= 0, is( true ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+        assertThat( resultsLogWriter.count, equalTo( 3 ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldFailToCreateMetricsServiceWithRingBufferSizeThatIsNotPowerOf2() throws Exception
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        boolean exceptionThrown = false;
+        try
+        {
+            new DisruptorSbeMetricsService(
+                    timeSource,
+                    new ConcurrentErrorReporter(),
+                    TimeUnit.MILLISECONDS,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    new NullResultsLogWriter(),
+                    operationTypeToClassMapping,
+                    loggingServiceFactory,
+                    1000,
+                    DisruptorWaitStrategyType.BLOCKING,
+                    1,
+                    null
+            );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
     public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
             throws WorkloadException, MetricsCollectionException
     {
@@ -98,7 +170,10 @@ public class DisruptorSbeMetricsServiceTest
         long operation1RunDuration = TimeUnit.MILLISECONDS.toNanos( 1 );
 
         metricsServiceWriter.submitOperationResult( operation1.type(), operation1.scheduledStartTimeAsMilli(),
-                operation1ActualStartTime, operation1RunDuration, operation1ResultCode, operation1.timeStamp() );
+                operation1ActualStartTime, operation1RunDuration,
+                MetricsManager.responseTimeAsNano( operation1.scheduledStartTimeAsMilli(), operation1ActualStartTime,
+                        operation1RunDuration ),
+                operation1ResultCode, operation1.timeStamp() );
 
         assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( 2l ) );
         assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), equalTo( 3l ) );
@@ -111,7 +186,10 @@ public class DisruptorSbeMetricsServiceTest
         long operation2RunDuration = TimeUnit.MILLISECONDS.toNanos( 3 );
 
         metricsServiceWriter.submitOperationResult( operation2.type(), operation2.scheduledStartTimeAsMilli(),
-                operation2ActualStartTime, operation2RunDuration, operation2ResultCode, operation2.timeStamp() );
+                operation2ActualStartTime, operation2RunDuration,
+                MetricsManager.responseTimeAsNano( operation2.scheduledStartTimeAsMilli(), operation2ActualStartTime,
+                        operation2RunDuration ),
+                operation2ResultCode, operation2.timeStamp() );
 
         assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( 2l ) );
         assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), equalTo( 11l ) );
@@ -124,10 +202,57 @@ public class DisruptorSbeMetricsServiceTest
         long operation3RunDuration = TimeUnit.MILLISECONDS.toNanos( 5 );
 
         metricsServiceWriter.submitOperationResult( operation3.type(), operation3.scheduledStartTimeAsMilli(),
-                operation3ActualStartTime, operation3RunDuration, operation3ResultCode, operation3.timeStamp() );
+                operation3ActualStartTime, operation3RunDuration,
+                MetricsManager.responseTimeAsNano( operation3.scheduledStartTimeAsMilli(), operation3ActualStartTime,
+                        operation3RunDuration ),
+                operation3ResultCode, operation3.timeStamp() );
 
         WorkloadResultsSnapshot results = metricsServiceWriter.results();
         assertThat( results.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( results.latestFinishTimeAsMilli(), equalTo( 16l ) );
+
+        // response time is measured from scheduled start time: (actual - scheduled) + duration
+        OperationMetricsSnapshot operation1And2Metrics = metricsFor( results, operation1 );
+        assertThat( operation1And2Metrics.runTimeMetric().max(), equalTo( 3l ) );
+        assertThat( operation1And2Metrics.responseTimeMetric().count(), equalTo( 2l ) );
+        assertThat( operation1And2Metrics.responseTimeMetric().min(), equalTo( 2l ) );
+        assertThat( operation1And2Metrics.responseTimeMetric().max(), equalTo( 10l ) );
+        OperationMetricsSnapshot operation3Metrics = metricsFor( results, operation3 );
+        assertThat( operation3Metrics.runTimeMetric().max(), equalTo( 5l ) );
+        assertThat( operation3Metrics.responseTimeMetric().max(), equalTo( 15l ) );
+    }
+
+    private OperationMetricsSnapshot metricsFor( WorkloadResultsSnapshot results, Operation operation )
+    {
+        for ( OperationMetricsSnapshot metrics : results.allMetrics() )
+        {
+            if ( metrics.name().equals( operation.getClass().getSimpleName() ) )
+            {
+                return metrics;
+            }
+        }
+        throw new AssertionError( "No metrics for " + operation.getClass().getSimpleName() );
+    }
+
+    private static class CountingResultsLogWriter implements ResultsLogWriter
+    {
+        // only written by the results log consumer, read after shutdown
+        private volatile int count = 0;
+
+        @Override
+        public void write( String operationName,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime )
+        {
+            count++;
+        }
+
+        @Override
+        public void close()
+        {
+        }
     }
 }
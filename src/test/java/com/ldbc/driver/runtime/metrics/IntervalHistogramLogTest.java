@@ -0,0 +1,150 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.HdrHistogram.Histogram;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class IntervalHistogramLogTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldLogResponseTimesOfEveryIntervalPerOperationType() throws Exception
+    {
+        // Given
+        File directory = temporaryFolder.newFolder();
+        IntervalHistogramLog log = new IntervalHistogramLog( directory, "test", 1000 );
+        MetricsManager metricsManager = newMetricsManager( log );
+
+        // When
+        // interval [1000,2000)
+        measure( metricsManager, LdbcQuery1.TYPE, 1000, 1 );
+        measure( metricsManager, LdbcQuery1.TYPE, 1500, 3 );
+        measure( metricsManager, LdbcQuery2.TYPE, 1600, 7 );
+        // interval [2000,3000)
+        measure( metricsManager, LdbcQuery1.TYPE, 2100, 5 );
+        // interval [3000,4000) has no measurements, interval [4000,5000)
+        measure( metricsManager, LdbcQuery1.TYPE, 4500, 9 );
+        metricsManager.close();
+
+        // Then
+        Map<String,File> files = log.existingFiles();
+        assertThat( files.size(), equalTo( 2 ) );
+
+        List<Histogram> query1Intervals = IntervalHistogramLog.read( files.get( LdbcQuery1.class.getSimpleName() ) );
+        assertThat( query1Intervals.size(), equalTo( 3 ) );
+        assertInterval( query1Intervals.get( 0 ), 1000, 2000, 2, 3 );
+        assertInterval( query1Intervals.get( 1 ), 2000, 3000, 1, 5 );
+        assertInterval( query1Intervals.get( 2 ), 4000, 5000, 1, 9 );
+
+        List<Histogram> query2Intervals = IntervalHistogramLog.read( files.get( LdbcQuery2.class.getSimpleName() ) );
+        assertThat( query2Intervals.size(), equalTo( 1 ) );
+        assertInterval( query2Intervals.get( 0 ), 1000, 2000, 1, 7 );
+    }
+
+    @Test
+    public void shouldCombineIntervalsIntoWindows() throws Exception
+    {
+        // Given
+        File directory = temporaryFolder.newFolder();
+        IntervalHistogramLog log = new IntervalHistogramLog( directory, "test", 1000 );
+        MetricsManager metricsManager = newMetricsManager( log );
+        for ( long timeAsMilli = 1000; timeAsMilli < 6000; timeAsMilli += 100 )
+        {
+            measure( metricsManager, LdbcQuery1.TYPE, timeAsMilli, timeAsMilli / 1000 );
+        }
+        metricsManager.close();
+        List<Histogram> intervals = IntervalHistogramLog.read( log.fileFor( LdbcQuery1.class.getSimpleName() ) );
+
+        // When
+        List<Histogram> windows = IntervalHistogramLog.windows( intervals, 2000 );
+        List<Histogram> wholeLog = IntervalHistogramLog.windows( intervals, 0 );
+
+        // Then
+        assertThat( intervals.size(), equalTo( 5 ) );
+        assertThat( windows.size(), equalTo( 3 ) );
+        assertInterval( windows.get( 0 ), 0, 2000, 10, 1 );
+        assertInterval( windows.get( 1 ), 2000, 4000, 20, 3 );
+        assertInterval( windows.get( 2 ), 4000, 6000, 20, 5 );
+        assertThat( wholeLog.size(), equalTo( 1 ) );
+        assertInterval( wholeLog.get( 0 ), 1000, 6000, 50, 5 );
+    }
+
+    @Test
+    public void shouldOnlyFindLogsWithPrefix() throws Exception
+    {
+        // Given
+        File directory = temporaryFolder.newFolder();
+        createFile( new File( directory, "run-LdbcQuery1" + IntervalHistogramLog.FILENAME_SUFFIX ) );
+        createFile( new File( directory, "run-WARMUP--LdbcQuery1" + IntervalHistogramLog.FILENAME_SUFFIX ) );
+        createFile( new File( directory, "other-LdbcQuery1" + IntervalHistogramLog.FILENAME_SUFFIX ) );
+        createFile( new File( directory, "run-results_log.csv" ) );
+
+        // When
+        Map<String,File> files = new IntervalHistogramLog( directory, "run", 1000 ).existingFiles();
+
+        // Then
+        assertThat( files.size(), equalTo( 1 ) );
+        assertThat( files.containsKey( "LdbcQuery1" ), is( true ) );
+    }
+
+    private static MetricsManager newMetricsManager( IntervalHistogramLog log ) throws MetricsCollectionException
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return new MetricsManager(
+                new SystemTimeSource(),
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                operationTypeToClassMapping,
+                new Log4jLoggingServiceFactory( false ),
+                log
+        );
+    }
+
+    // operation finishes when it starts, response time is measured from scheduled start time
+    private static void measure( MetricsManager metricsManager,
+            int operationType,
+            long timeAsMilli,
+            long responseTimeAsMilli ) throws MetricsCollectionException
+    {
+        metricsManager.measure( timeAsMilli, 0, TimeUnit.MILLISECONDS.toNanos( responseTimeAsMilli ), operationType );
+    }
+
+    private static void assertInterval( Histogram interval,
+            long startTimeAsMilli,
+            long endTimeAsMilli,
+            long count,
+            long maxResponseTimeAsMilli )
+    {
+        assertThat( interval.getStartTimeStamp(), equalTo( startTimeAsMilli ) );
+        assertThat( interval.getEndTimeStamp(), equalTo( endTimeAsMilli ) );
+        assertThat( interval.getTotalCount(), equalTo( count ) );
+        assertThat( interval.getMaxValue(), equalTo( maxResponseTimeAsMilli ) );
+    }
+
+    private static void createFile( File file ) throws IOException
+    {
+        Files.write( file.toPath(), new byte[0] );
+    }
+}
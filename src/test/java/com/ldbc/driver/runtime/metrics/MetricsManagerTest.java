@@ -43,12 +43,32 @@ public class MetricsManagerTest
         long operation3ActualStartTimeAsMilli = 11;
         long operation3RunDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 5 );
 
-        metricsManager.measure( operation1ActualStartTimeAsMilli, operation1RunDurationAsNano, operation1.type() );
-        metricsManager.measure( operation2ActualStartTimeAsMilli, operation2RunDurationAsNano, operation2.type() );
-        metricsManager.measure( operation3ActualStartTimeAsMilli, operation3RunDurationAsNano, operation3.type() );
+        metricsManager.measure( operation1ActualStartTimeAsMilli, operation1RunDurationAsNano,
+                operation1RunDurationAsNano, operation1.type() );
+        metricsManager.measure( operation2ActualStartTimeAsMilli, operation2RunDurationAsNano,
+                operation2RunDurationAsNano, operation2.type() );
+        metricsManager.measure( operation3ActualStartTimeAsMilli, operation3RunDurationAsNano,
+                operation3RunDurationAsNano, operation3.type() );
 
         WorkloadResultsSnapshot snapshot = metricsManager.snapshot();
         assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
     }
+
+    @Test
+    public void shouldMeasureResponseTimeFromScheduledStartTime()
+    {
+        long runDurationAsNano = TimeUnit.MICROSECONDS.toNanos( 1500 );
+        // started on time
+        assertThat( MetricsManager.responseTimeAsNano( 10, 10, runDurationAsNano ), equalTo( runDurationAsNano ) );
+        // started late, waiting time is included
+        assertThat( MetricsManager.responseTimeAsNano( 10, 14, runDurationAsNano ),
+                equalTo( TimeUnit.MILLISECONDS.toNanos( 4 ) + runDurationAsNano ) );
+        // started early (e.g., scheduled start times ignored), there was no waiting time
+        assertThat( MetricsManager.responseTimeAsNano( 10, 5, runDurationAsNano ), equalTo( runDurationAsNano ) );
+        // start delay known in nanoseconds, sub-millisecond delays are included
+        assertThat( MetricsManager.responseTimeAsNano( 250_000, runDurationAsNano ),
+                equalTo( 250_000 + runDurationAsNano ) );
+        assertThat( MetricsManager.responseTimeAsNano( -250_000, runDurationAsNano ), equalTo( runDurationAsNano ) );
+    }
 }
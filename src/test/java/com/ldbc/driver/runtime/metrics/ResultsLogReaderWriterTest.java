@@ -5,8 +5,11 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -112,4 +115,164 @@ public class ResultsLogReaderWriterTest
             assertFalse( reader.next() );
         }
     }
+
+    @Test
+    public void shouldWriteAndReadSameValuesInBinaryFormatAcrossMappedRegions() throws Exception
+    {
+        // Given
+        File resultsLog = temporaryFolder.newFile();
+        // smallest region size, so results log spans many regions
+        int regionSize = BinaryResultsLogWriter.OPERATION_NAME_ENTRY_HEADER_SIZE +
+                         BinaryResultsLogWriter.MAX_OPERATION_NAME_LENGTH;
+        int count = 10_000;
+
+        // When
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( resultsLog, MILLISECONDS, regionSize ) )
+        {
+            writer.write( "a", Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE );
+            for ( int i = 0; i < count; i++ )
+            {
+                writer.write( "operation" + (i % 3), i, i + 1, i + 2, i % 7, i + 3 );
+            }
+        }
+
+        // Then
+        assertTrue( BinaryResultsLogReader.isBinaryResultsLog( resultsLog ) );
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog, regionSize ) )
+        {
+            assertThat( reader.unit(), equalTo( MILLISECONDS ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+            for ( int i = 0; i < count; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( "operation" + (i % 3) ) );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( (long) i ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( i + 1L ) );
+                // durations are kept in nanoseconds, regardless of unit
+                assertThat( reader.getRunDurationAsNano(), equalTo( i + 2L ) );
+                assertThat( reader.getResultCode(), equalTo( i % 7 ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( i + 3L ) );
+            }
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldExportBinaryResultsLogToCsv() throws Exception
+    {
+        // Given
+        File resultsLog = temporaryFolder.newFile();
+        File csvResultsLog = temporaryFolder.newFile();
+        TimeUnit unit = MICROSECONDS;
+        try ( ResultsLogWriter writer = ResultsLogFormat.BINARY.newWriter( resultsLog, unit ) )
+        {
+            writer.write( "a", 1, 2, MICROSECONDS.toNanos( 3 ), 4, 5 );
+            writer.write( "b", 6, 7, MICROSECONDS.toNanos( 8 ) + 999, 9, 10 );
+        }
+
+        // When
+        long exportedCount = ResultsLogCsvExporter.export( resultsLog, csvResultsLog );
+
+        // Then
+        assertThat( exportedCount, equalTo( 2L ) );
+        assertFalse( BinaryResultsLogReader.isBinaryResultsLog( csvResultsLog ) );
+        try ( ResultsLogReader reader = ResultsLogFormat.newReader( csvResultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( unit ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 1L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 2L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( MICROSECONDS.toNanos( 3 ) ) );
+            assertThat( reader.getResultCode(), equalTo( 4 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 5L ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "b" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 6L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 7L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( MICROSECONDS.toNanos( 8 ) ) );
+            assertThat( reader.getResultCode(), equalTo( 9 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 10L ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldWriteSameCsvAsynchronouslyAsSynchronously() throws Exception
+    {
+        // Given
+        File synchronousResultsLog = temporaryFolder.newFile();
+        File asynchronousResultsLog = temporaryFolder.newFile();
+        int count = 10_000;
+        // small batches, so they are handed to the I/O thread many times
+        int batchSizeAsBytes = 1000;
+
+        // When
+        try ( ResultsLogWriter synchronousWriter = new SimpleResultsLogWriter( synchronousResultsLog, MICROSECONDS );
+              ResultsLogWriter asynchronousWriter =
+                      new AsyncResultsLogWriter( asynchronousResultsLog, MICROSECONDS, false, 0, batchSizeAsBytes ) )
+        {
+            for ( ResultsLogWriter writer : new ResultsLogWriter[]{synchronousWriter, asynchronousWriter} )
+            {
+                writer.write( "a", Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Integer.MIN_VALUE, -1 );
+                for ( int i = 0; i < count; i++ )
+                {
+                    writer.write( "operation" + (i % 3), i, -i, i * 1001L, i % 7, 10L * i );
+                }
+            }
+        }
+
+        // Then
+        assertThat( Files.readAllLines( asynchronousResultsLog.toPath() ),
+                equalTo( Files.readAllLines( synchronousResultsLog.toPath() ) ) );
+    }
+
+    @Test
+    public void shouldReadCompressedResultsLogFromAllSegments() throws Exception
+    {
+        // Given
+        File resultsLog = new File( temporaryFolder.newFolder(), "test" + ResultsLogFormat.CSV_GZIP.fileNameSuffix() );
+        int count = 10_000;
+        int batchSizeAsBytes = 1000;
+        long rotationSizeAsBytes = 2000;
+
+        // When
+        try ( ResultsLogWriter writer = new AsyncResultsLogWriter(
+                resultsLog, MILLISECONDS, true, rotationSizeAsBytes, batchSizeAsBytes ) )
+        {
+            for ( int i = 0; i < count; i++ )
+            {
+                writer.write( "operation" + (i % 3), i, i + 1, MILLISECONDS.toNanos( i + 2 ), i % 7, i + 3 );
+            }
+        }
+
+        // Then
+        List<File> segments = AsyncResultsLogWriter.segments( resultsLog );
+        assertTrue( segments.size() > 1 );
+        assertThat( segments.get( 0 ), equalTo( resultsLog ) );
+        assertThat( segments.get( 1 ).getName(), equalTo( "test-results_log-1.csv.gz" ) );
+        try ( ResultsLogReader reader = ResultsLogFormat.newReader( resultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( MILLISECONDS ) );
+            for ( int i = 0; i < count; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( "operation" + (i % 3) ) );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( (long) i ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( i + 1L ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( MILLISECONDS.toNanos( i + 2 ) ) );
+                assertThat( reader.getResultCode(), equalTo( i % 7 ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( i + 3L ) );
+            }
+            assertFalse( reader.next() );
+        }
+    }
 }
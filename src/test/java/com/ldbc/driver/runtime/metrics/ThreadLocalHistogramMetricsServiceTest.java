@@ -0,0 +1,278 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ThreadLocalHistogramMetricsServiceTest
+{
+    private TimeSource timeSource = new SystemTimeSource();
+    private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldNotAcceptOperationResultsAfterShutdown() throws MetricsCollectionException
+    {
+        MetricsService metricsService = newMetricsService( new NullResultsLogWriter(), 1 );
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        metricsService.shutdown();
+        boolean exceptionThrown = false;
+        try
+        {
+            submit( metricsServiceWriter, LdbcQuery1.TYPE, 1, 1 );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    @Test
+    public void shouldReturnCorrectMeasurements() throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MetricsService metricsService = new ThreadLocalHistogramMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                1,
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                null
+        );
+        try
+        {
+            // same expectations as for the disruptor based metrics service
+            new DisruptorSbeMetricsServiceTest().shouldReturnCorrectMeasurements( metricsService.getWriter() );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void shouldCollectResultsOfAllThreadsWhileTheySubmitResults() throws Exception
+    {
+        // Given
+        final MetricsService metricsService = newMetricsService( new NullResultsLogWriter(), 1 );
+        int threadCount = 8;
+        final int resultsPerThread = 100_000;
+        final AtomicBoolean failed = new AtomicBoolean( false );
+        List<Thread> threads = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            final long actualStartTimeAsMilli = i + 1;
+            threads.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+                        for ( int j = 0; j < resultsPerThread; j++ )
+                        {
+                            // run durations 1..10 ms
+                            submit( metricsServiceWriter, (0 == j % 2) ? LdbcQuery1.TYPE : LdbcQuery2.TYPE,
+                                    actualStartTimeAsMilli, j % 10 + 1 );
+                        }
+                    }
+                    catch ( MetricsCollectionException e )
+                    {
+                        failed.set( true );
+                    }
+                }
+            } );
+        }
+
+        // When
+        for ( Thread thread : threads )
+        {
+            thread.start();
+        }
+        long previousCount = 0;
+        while ( anyAlive( threads ) )
+        {
+            // intervals are collected while threads are recording
+            long count = metricsService.getWriter().status().operationCount();
+            assertThat( count >= previousCount, is( true ) );
+            previousCount = count;
+        }
+        WorkloadResultsSnapshot results = metricsService.getWriter().results();
+        metricsService.shutdown();
+
+        // Then
+        assertThat( failed.get(), is( false ) );
+        assertThat( results.totalOperationCount(), equalTo( (long) threadCount * resultsPerThread ) );
+        assertThat( results.startTimeAsMilli(), equalTo( 1L ) );
+        assertThat( results.latestFinishTimeAsMilli(), equalTo( threadCount + 10L ) );
+        for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+        {
+            assertThat( operationMetrics.count(), equalTo( (long) threadCount * resultsPerThread / 2 ) );
+            assertThat( operationMetrics.runTimeMetric().count(), equalTo( operationMetrics.count() ) );
+            assertThat( operationMetrics.responseTimeMetric().count(), equalTo( operationMetrics.count() ) );
+            assertThat( operationMetrics.runTimeMetric().min() >= 1, is( true ) );
+            assertThat( operationMetrics.runTimeMetric().max() <= 10, is( true ) );
+        }
+    }
+
+    @Test
+    public void shouldKeepResultsOfTerminatedThreadsAndReuseTheirHistograms() throws Exception
+    {
+        // Given
+        final ThreadLocalHistogramMetricsService metricsService =
+                newMetricsService( new NullResultsLogWriter(), 1 );
+        final int resultsPerThread = 10;
+        int threadCount = 100;
+
+        // When
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            Thread thread = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        for ( int j = 0; j < resultsPerThread; j++ )
+                        {
+                            submit( metricsService.getWriter(), LdbcQuery1.TYPE, 1, 1 );
+                        }
+                    }
+                    catch ( MetricsCollectionException e )
+                    {
+                        throw new RuntimeException( e );
+                    }
+                }
+            };
+            thread.start();
+            thread.join();
+        }
+
+        // Then
+        assertThat( metricsService.getWriter().results().totalOperationCount(),
+                equalTo( (long) threadCount * resultsPerThread ) );
+        // threads executed one after the other, each reused the histograms of the one before
+        assertThat( metricsService.recorderCount(), equalTo( 1 ) );
+        metricsService.shutdown();
+    }
+
+    @Test
+    public void shouldWriteEveryNthResultOfEachThreadToResultsLog() throws Exception
+    {
+        // Given
+        CountingResultsLogWriter resultsLogWriter = new CountingResultsLogWriter();
+        MetricsService metricsService = newMetricsService( resultsLogWriter, 10 );
+
+        // When
+        for ( int i = 0; i < 1000; i++ )
+        {
+            submit( metricsService.getWriter(), LdbcQuery2.TYPE, i, 1 );
+        }
+        WorkloadResultsSnapshot results = metricsService.getWriter().results();
+        metricsService.shutdown();
+
+        // Then
+        assertThat( results.totalOperationCount(), equalTo( 1000L ) );
+        assertThat( resultsLogWriter.count.get(), equalTo( 100L ) );
+        assertThat( resultsLogWriter.lastOperationName, equalTo( LdbcQuery2.class.getSimpleName() ) );
+    }
+
+    private ThreadLocalHistogramMetricsService newMetricsService( ResultsLogWriter resultsLogWriter,
+            int resultsLogSamplingInterval ) throws MetricsCollectionException
+    {
+        return new ThreadLocalHistogramMetricsService(
+                timeSource,
+                new ConcurrentErrorReporter(),
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                resultsLogWriter,
+                resultsLogSamplingInterval,
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                null
+        );
+    }
+
+    private static Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return operationTypeToClassMapping;
+    }
+
+    private static void submit( MetricsService.MetricsServiceWriter metricsServiceWriter,
+            int operationType,
+            long actualStartTimeAsMilli,
+            long runDurationAsMilli ) throws MetricsCollectionException
+    {
+        long runDurationAsNano = TimeUnit.MILLISECONDS.toNanos( runDurationAsMilli );
+        metricsServiceWriter.submitOperationResult(
+                operationType,
+                actualStartTimeAsMilli,
+                actualStartTimeAsMilli,
+                runDurationAsNano,
+                MetricsManager.responseTimeAsNano( actualStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano ),
+                0,
+                actualStartTimeAsMilli );
+    }
+
+    private static boolean anyAlive( List<Thread> threads )
+    {
+        for ( Thread thread : threads )
+        {
+            if ( thread.isAlive() )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class CountingResultsLogWriter implements ResultsLogWriter
+    {
+        private final AtomicLong count = new AtomicLong( 0 );
+        private volatile String lastOperationName = null;
+
+        @Override
+        public void write( String operationName,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime )
+        {
+            lastOperationName = operationName;
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void close()
+        {
+        }
+    }
+}
@@ -166,7 +166,10 @@ public class ThreadedQueuedMetricsServiceTest
         long operation1RunDuration = TimeUnit.MILLISECONDS.toNanos( 1 );
 
         metricsServiceWriter.submitOperationResult( operation1.type(), operation1.scheduledStartTimeAsMilli(),
-                operation1ActualStartTime, operation1RunDuration, operation1ResultCode, operation1.timeStamp() );
+                operation1ActualStartTime, operation1RunDuration,
+                MetricsManager.responseTimeAsNano( operation1.scheduledStartTimeAsMilli(), operation1ActualStartTime,
+                        operation1RunDuration ),
+                operation1ResultCode, operation1.timeStamp() );
 
         assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( 2l ) );
         assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), equalTo( 3l ) );
@@ -179,7 +182,10 @@ public class ThreadedQueuedMetricsServiceTest
         long operation2RunDuration = TimeUnit.MILLISECONDS.toNanos( 3 );
 
         metricsServiceWriter.submitOperationResult( operation2.type(), operation2.scheduledStartTimeAsMilli(),
-                operation2ActualStartTime, operation2RunDuration, operation2ResultCode, operation2.timeStamp() );
+                operation2ActualStartTime, operation2RunDuration,
+                MetricsManager.responseTimeAsNano( operation2.scheduledStartTimeAsMilli(), operation2ActualStartTime,
+                        operation2RunDuration ),
+                operation2ResultCode, operation2.timeStamp() );
 
         assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( 2l ) );
         assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), equalTo( 11l ) );
@@ -192,10 +198,35 @@ public class ThreadedQueuedMetricsServiceTest
         long operation3RunDuration = TimeUnit.MILLISECONDS.toNanos( 5 );
 
         metricsServiceWriter.submitOperationResult( operation3.type(), operation3.scheduledStartTimeAsMilli(),
-                operation3ActualStartTime, operation3RunDuration, operation3ResultCode, operation3.timeStamp() );
+                operation3ActualStartTime, operation3RunDuration,
+                MetricsManager.responseTimeAsNano( operation3.scheduledStartTimeAsMilli(), operation3ActualStartTime,
+                        operation3RunDuration ),
+                operation3ResultCode, operation3.timeStamp() );
 
         WorkloadResultsSnapshot results = metricsServiceWriter.results();
         assertThat( results.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( results.latestFinishTimeAsMilli(), equalTo( 16l ) );
+
+        // response time is measured from scheduled start time: (actual - scheduled) + duration
+        OperationMetricsSnapshot operation1And2Metrics = metricsFor( results, operation1 );
+        assertThat( operation1And2Metrics.runTimeMetric().max(), equalTo( 3l ) );
+        assertThat( operation1And2Metrics.responseTimeMetric().count(), equalTo( 2l ) );
+        assertThat( operation1And2Metrics.responseTimeMetric().min(), equalTo( 2l ) );
+        assertThat( operation1And2Metrics.responseTimeMetric().max(), equalTo( 10l ) );
+        OperationMetricsSnapshot operation3Metrics = metricsFor( results, operation3 );
+        assertThat( operation3Metrics.runTimeMetric().max(), equalTo( 5l ) );
+        assertThat( operation3Metrics.responseTimeMetric().max(), equalTo( 15l ) );
+    }
+
+    private OperationMetricsSnapshot metricsFor( WorkloadResultsSnapshot results, Operation operation )
+    {
+        for ( OperationMetricsSnapshot metrics : results.allMetrics() )
+        {
+            if ( metrics.name().equals( operation.getClass().getSimpleName() ) )
+            {
+                return metrics;
+            }
+        }
+        throw new AssertionError( "No metrics for " + operation.getClass().getSimpleName() );
     }
 }
@@ -3,12 +3,18 @@ package com.ldbc.driver.runtime.metrics;
 import com.ldbc.driver.WorkloadException;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 
@@ -59,6 +65,80 @@ public class WorkloadResultsSnapshotTest
         assertThat( snapshot1, equalTo( snapshot2 ) );
     }
 
+    @Test
+    public void shouldMergeSnapshotsOfDisjointOperations() throws IOException
+    {
+        // Given
+        // values 1..4 and 5..8
+        ContinuousMetricManager runTimeManager1 = new ContinuousMetricManager( "run time", TimeUnit.MILLISECONDS,
+                1000, 4 );
+        ContinuousMetricManager runTimeManager2 = new ContinuousMetricManager( "run time", TimeUnit.MILLISECONDS,
+                1000, 4 );
+        for ( int i = 1; i <= 4; i++ )
+        {
+            runTimeManager1.addMeasurement( i );
+            runTimeManager2.addMeasurement( i + 4 );
+        }
+        ContinuousMetricSnapshot runTime1 = runTimeManager1.snapshot();
+        ContinuousMetricSnapshot runTime2 = runTimeManager2.snapshot();
+        WorkloadResultsSnapshot snapshot1 = new WorkloadResultsSnapshot(
+                Arrays.asList(
+                        new OperationMetricsSnapshot( "a", TimeUnit.MILLISECONDS, 4, runTime1, null ),
+                        new OperationMetricsSnapshot( "b", TimeUnit.MILLISECONDS, 4, runTime1, runTime1 ) ),
+                1000, 2000, 8, TimeUnit.MILLISECONDS );
+        WorkloadResultsSnapshot snapshot2 = new WorkloadResultsSnapshot(
+                Arrays.asList(
+                        new OperationMetricsSnapshot( "b", TimeUnit.MILLISECONDS, 4, runTime2, runTime2 ) ),
+                1500, 3000, 4, TimeUnit.MILLISECONDS );
+        // as received from another driver process
+        ByteArrayOutputStream histograms = new ByteArrayOutputStream();
+        snapshot2.writeHistograms( new DataOutputStream( histograms ) );
+        WorkloadResultsSnapshot receivedSnapshot2 = WorkloadResultsSnapshot.fromJson( snapshot2.toJson() );
+        receivedSnapshot2.readHistograms(
+                new DataInputStream( new ByteArrayInputStream( histograms.toByteArray() ) ) );
+
+        // When
+        WorkloadResultsSnapshot merged =
+                WorkloadResultsSnapshot.merge( Arrays.asList( snapshot1, receivedSnapshot2 ) );
+
+        // Then
+        assertThat( merged.startTimeAsMilli(), equalTo( 1000L ) );
+        assertThat( merged.latestFinishTimeAsMilli(), equalTo( 3000L ) );
+        assertThat( merged.totalOperationCount(), equalTo( 12L ) );
+        assertThat( merged.allMetrics().size(), equalTo( 2 ) );
+        assertThat( merged.allMetrics().get( 0 ), equalTo( snapshot1.allMetrics().get( 0 ) ) );
+        OperationMetricsSnapshot b = merged.allMetrics().get( 1 );
+        assertThat( b.name(), equalTo( "b" ) );
+        assertThat( b.count(), equalTo( 8L ) );
+        // exact values of 1..8, recomputed from the merged histograms
+        assertThat( b.runTimeMetric().count(), equalTo( 8L ) );
+        assertThat( b.runTimeMetric().mean(), equalTo( 4.5 ) );
+        assertThat( b.runTimeMetric().min(), equalTo( 1L ) );
+        assertThat( b.runTimeMetric().max(), equalTo( 8L ) );
+        assertThat( b.runTimeMetric().stdDev(), closeTo( Math.sqrt( 5.25 ), 0.000001 ) );
+        assertThat( b.runTimeMetric().percentile25(), equalTo( 2L ) );
+        assertThat( b.runTimeMetric().percentile50(), equalTo( 4L ) );
+        assertThat( b.runTimeMetric().percentile75(), equalTo( 6L ) );
+        assertThat( b.responseTimeMetric(), equalTo( b.runTimeMetric() ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotMergeSnapshotsWithoutHistograms() throws IOException
+    {
+        // Given
+        ContinuousMetricManager runTimeManager = new ContinuousMetricManager( "run time", TimeUnit.MILLISECONDS,
+                1000, 4 );
+        runTimeManager.addMeasurement( 1 );
+        WorkloadResultsSnapshot snapshot = new WorkloadResultsSnapshot(
+                Arrays.asList(
+                        new OperationMetricsSnapshot( "a", TimeUnit.MILLISECONDS, 1, runTimeManager.snapshot(),
+                                null ) ),
+                1000, 2000, 1, TimeUnit.MILLISECONDS );
+
+        // When
+        WorkloadResultsSnapshot.merge( Arrays.asList( snapshot, WorkloadResultsSnapshot.fromJson( snapshot.toJson() ) ) );
+    }
+
     private WorkloadResultsSnapshot createSnapshot( int seed, TimeUnit timeUnit1, TimeUnit timeUnit2,
             TimeUnit timeUnit3, TimeUnit timeUnit4 )
     {
@@ -91,10 +171,24 @@ public class WorkloadResultsSnapshotTest
                 runTimePercentile99,
                 runTimePercentile99_9,
                 runTimeStdDev );
+        ContinuousMetricSnapshot responseTimeMetric = new ContinuousMetricSnapshot(
+                "response time",
+                runTimeUnit,
+                runTimeCount,
+                seed++,
+                seed++,
+                seed++,
+                seed++, seed++,
+                seed++, seed++,
+                seed++,
+                seed++,
+                seed++,
+                seed++ );
 
         Map<String,OperationMetricsSnapshot> metrics = new HashMap<>();
         metrics.put( Integer.toString( seed++ ),
-                new OperationMetricsSnapshot( operationName, operationDurationUnit, operationCount, runTimeMetric ) );
+                new OperationMetricsSnapshot( operationName, operationDurationUnit, operationCount, runTimeMetric,
+                        responseTimeMetric ) );
 
         long operationStartTime = seed++;
         long operationLatestFinishTime = seed++;
@@ -48,4 +48,19 @@ public class CtDependencyCheckTest
         dummyCompletionTimeReader.setCompletionTimeAsMilli( 10 );
         assertThat( ctDependencyCheck.doCheck( operation ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
     }
+
+    @Test
+    public void shouldNotWaitForProgressWhenCtReaderCanNotNotifyOfProgress()
+    {
+        // Given
+        Operation operation = new TimedNamedOperation1( -1, -1, 5, null );
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( 0 );
+        CtDependencyCheck ctDependencyCheck =
+                new CtDependencyCheck( dummyCompletionTimeReader, new ConcurrentErrorReporter() );
+
+        // When/Then
+        // spinner must idle between checks itself
+        assertThat( ctDependencyCheck.awaitProgress( operation ), is( false ) );
+    }
 }
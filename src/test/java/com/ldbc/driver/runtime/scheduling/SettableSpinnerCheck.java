@@ -4,7 +4,7 @@ import com.ldbc.driver.Operation;
 
 public class SettableSpinnerCheck implements SpinnerCheck
 {
-    private SpinnerCheckResult result;
+    private volatile SpinnerCheckResult result;
 
     public SettableSpinnerCheck( SpinnerCheckResult result )
     {
@@ -1,6 +1,7 @@
 package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 import com.ldbc.driver.temporal.ManualTimeSource;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -155,6 +156,185 @@ public class SpinnerTests
         spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
     }
 
+    @Test
+    public void hybridSpinnerShouldPassOnlyWhenCheckPassesAndStartTimeArrives() throws InterruptedException
+    {
+        // Given
+        timeSource.setNowFromMilli( 0 );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 1l;
+        SettableSpinnerCheck check = new SettableSpinnerCheck( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING );
+        Spinner spinner =
+                new Spinner( timeSource, SpinnerType.HYBRID, spinnerSleepDuration, ignoreScheduledStartTime );
+
+        long scheduledStartTime = 10l;
+        Operation operation = new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, 0l, "name" );
+
+        SpinningThread spinningThread = new SpinningThread( spinner, operation, check );
+
+        // When
+        spinningThread.start();
+
+        // Then
+        // time = no, check = not yet
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( false ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( false ) );
+
+        check.setResult( SpinnerCheck.SpinnerCheckResult.PASSED );
+
+        // time = no, check = yes
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( false ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( false ) );
+
+        timeSource.setNowFromMilli( scheduledStartTime - 1 );
+
+        // time = no, check = yes
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( false ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( false ) );
+
+        timeSource.setNowFromMilli( scheduledStartTime );
+
+        // time = yes, check = yes
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        assertThat( spinningThread.spinnerHasCompleted(), is( true ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( true ) );
+        assertThat( spinner.scheduleLagSnapshot().count(), is( 1l ) );
+
+        spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+    }
+
+    @Test
+    public void hybridSpinnerShouldNotReleaseOperationBeforeScheduledStartTime()
+    {
+        // Given
+        TimeSource systemTimeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 1l;
+        Spinner spinner =
+                new Spinner( systemTimeSource, SpinnerType.HYBRID, spinnerSleepDuration, ignoreScheduledStartTime );
+        int operationCount = 20;
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            long scheduledStartTime = systemTimeSource.nowAsMilli() + 5;
+            Operation operation = new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, 0l, "name" );
+            assertThat( spinner.waitForScheduledStartTime( operation ), is( true ) );
+
+            // Then
+            assertThat( systemTimeSource.nowAsMilli() >= scheduledStartTime, is( true ) );
+        }
+        assertThat( spinner.scheduleLagSnapshot().count(), is( (long) operationCount ) );
+    }
+
+    @Test
+    public void shouldNotRecordDriftOfClocksAsScheduleLag()
+    {
+        // Given
+        final ManualTimeSource timeSource = new ManualTimeSource( 1000 );
+        // maps wall clock time 50 ms too early onto nanoSnapshot()
+        TimeSource driftedTimeSource = new TimeSource()
+        {
+            @Override
+            public long nanoSnapshot()
+            {
+                return timeSource.nanoSnapshot();
+            }
+
+            @Override
+            public long nowAsMilli()
+            {
+                return timeSource.nowAsMilli();
+            }
+
+            @Override
+            public long nanoSnapshotAt( long timeAsMilli )
+            {
+                return TimeUnit.MILLISECONDS.toNanos( timeAsMilli - 50 );
+            }
+        };
+        for ( SpinnerType spinnerType : SpinnerType.values() )
+        {
+            Spinner spinner = new Spinner( driftedTimeSource, spinnerType, 0l, false );
+            Operation operation = new TimedNamedOperation1( 1000l, 1000l, 0l, "name" );
+
+            // When
+            assertThat( spinner.waitForScheduledStartTime( operation ), is( true ) );
+
+            // Then
+            assertThat( spinner.scheduleLagSnapshot().max(), is( 0l ) );
+        }
+    }
+
+    @Test
+    public void shouldKeepScheduleLagOfTerminatedThreads() throws InterruptedException
+    {
+        // Given
+        final TimeSource systemTimeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 1l;
+        final Spinner spinner =
+                new Spinner( systemTimeSource, SpinnerType.HYBRID, spinnerSleepDuration, ignoreScheduledStartTime );
+        int threadCount = 100;
+
+        // When
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            Thread thread = new Thread( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    long scheduledStartTime = systemTimeSource.nowAsMilli();
+                    spinner.waitForScheduledStartTime(
+                            new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, 0l, "name" ) );
+                }
+            } );
+            thread.start();
+            thread.join();
+        }
+
+        // Then
+        assertThat( spinner.scheduleLagSnapshot().count(), is( (long) threadCount ) );
+    }
+
+    @Ignore
+    @Test
+    public void compareScheduleLagOfSleepAndHybridSpinners()
+    {
+        TimeSource systemTimeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 1l;
+        int operationCount = 10000;
+        // operations are spaced less than the sleep duration apart, as happens with high time compression ratios
+        long intervalAsNano = TimeUnit.MICROSECONDS.toNanos( 500 );
+
+        for ( SpinnerType spinnerType : SpinnerType.values() )
+        {
+            Spinner spinner =
+                    new Spinner( systemTimeSource, spinnerType, spinnerSleepDuration, ignoreScheduledStartTime );
+            long startTimeAsMilli = systemTimeSource.nowAsMilli() + 100;
+            for ( int i = 0; i < operationCount; i++ )
+            {
+                long scheduledStartTime = startTimeAsMilli + TimeUnit.NANOSECONDS.toMillis( i * intervalAsNano );
+                Operation operation = new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, 0l, "name" );
+                spinner.waitForScheduledStartTime( operation );
+            }
+            ContinuousMetricSnapshot scheduleLag = spinner.scheduleLagSnapshot();
+            System.out.println(
+                    format( "Spinner(%s) schedule lag (ns) for %s operations: mean %s, 99th %s, 99.9th %s, max %s",
+                            spinnerType,
+                            operationCount,
+                            integerFormat.format( scheduleLag.mean() ),
+                            integerFormat.format( scheduleLag.percentile99() ),
+                            integerFormat.format( scheduleLag.percentile99_9() ),
+                            integerFormat.format( scheduleLag.max() ) ) );
+        }
+    }
+
     private static class SpinningThread extends Thread
     {
         private final Spinner spinner;
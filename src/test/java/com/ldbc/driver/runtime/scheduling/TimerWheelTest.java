@@ -0,0 +1,128 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TimerWheelTest
+{
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldRequirePowerOfTwoBucketCount()
+    {
+        new TimerWheel( 10, 0 );
+    }
+
+    @Test
+    public void shouldNotAddOperationsThatAreAlreadyDue()
+    {
+        // Given
+        TimerWheel timerWheel = new TimerWheel( 8, 10 );
+
+        // When
+        boolean addedPast = timerWheel.add( operation( 9 ) );
+        boolean addedNow = timerWheel.add( operation( 10 ) );
+        boolean addedFuture = timerWheel.add( operation( 11 ) );
+
+        // Then
+        assertThat( addedPast, is( false ) );
+        assertThat( addedNow, is( false ) );
+        assertThat( addedFuture, is( true ) );
+        assertThat( timerWheel.size(), is( 1l ) );
+    }
+
+    @Test
+    public void shouldReleaseOperationsInScheduledStartTimeOrderWhenTheyAreDue()
+    {
+        // Given
+        TimerWheel timerWheel = new TimerWheel( 8, 0 );
+        Operation operation1 = operation( 1 );
+        Operation operation2a = operation( 3, "a" );
+        Operation operation2b = operation( 3, "b" );
+        Operation operation3 = operation( 5 );
+        timerWheel.add( operation3 );
+        timerWheel.add( operation2a );
+        timerWheel.add( operation1 );
+        timerWheel.add( operation2b );
+        Queue<Operation> due = new ArrayDeque<>();
+
+        // When/Then
+        timerWheel.advanceTo( 0, due );
+        assertThat( due.isEmpty(), is( true ) );
+
+        timerWheel.advanceTo( 2, due );
+        assertThat( drain( due ), equalTo( operations( operation1 ) ) );
+
+        timerWheel.advanceTo( 4, due );
+        assertThat( drain( due ), equalTo( operations( operation2a, operation2b ) ) );
+
+        timerWheel.advanceTo( 5, due );
+        assertThat( drain( due ), equalTo( operations( operation3 ) ) );
+        assertThat( timerWheel.size(), is( 0l ) );
+    }
+
+    @Test
+    public void shouldHoldOperationsScheduledBeyondSpanOfWheelUntilTheyAreDue()
+    {
+        // Given
+        int bucketCount = 4;
+        TimerWheel timerWheel = new TimerWheel( bucketCount, 0 );
+        Operation near = operation( 1 );
+        // same bucket as near operation
+        Operation far = operation( 1 + 3 * bucketCount );
+        timerWheel.add( far );
+        timerWheel.add( near );
+        Queue<Operation> due = new ArrayDeque<>();
+
+        // When/Then
+        timerWheel.advanceTo( 1, due );
+        assertThat( drain( due ), equalTo( operations( near ) ) );
+
+        timerWheel.advanceTo( 3 * bucketCount, due );
+        assertThat( due.isEmpty(), is( true ) );
+
+        // advance by more than span of wheel
+        timerWheel.advanceTo( 100, due );
+        assertThat( drain( due ), equalTo( operations( far ) ) );
+        assertThat( timerWheel.size(), is( 0l ) );
+    }
+
+    private static Operation operation( long scheduledStartTimeAsMilli )
+    {
+        return operation( scheduledStartTimeAsMilli, "name" );
+    }
+
+    private static Operation operation( long scheduledStartTimeAsMilli, String name )
+    {
+        return new TimedNamedOperation1( scheduledStartTimeAsMilli, scheduledStartTimeAsMilli, 0l, name );
+    }
+
+    private static List<Operation> operations( Operation... operations )
+    {
+        List<Operation> operationsList = new ArrayList<>();
+        for ( Operation operation : operations )
+        {
+            operationsList.add( operation );
+        }
+        return operationsList;
+    }
+
+    private static List<Operation> drain( Queue<Operation> due )
+    {
+        List<Operation> operations = new ArrayList<>();
+        Operation operation;
+        while ( null != (operation = due.poll()) )
+        {
+            operations.add( operation );
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ldbc.driver.temporal;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+public class SystemTimeSourceTest
+{
+    @Test
+    public void nanoSnapshotAtNowShouldBeCloseToNanoSnapshot() throws InterruptedException
+    {
+        SystemTimeSource timeSource = new SystemTimeSource();
+        long toleranceAsNano = TimeUnit.MILLISECONDS.toNanos( 2 );
+        for ( int i = 0; i < 20; i++ )
+        {
+            long beforeAsNano = timeSource.nanoSnapshot();
+            long nowAsMilli = timeSource.nowAsMilli();
+            long afterAsNano = timeSource.nanoSnapshot();
+            long nowAsNano = timeSource.nanoSnapshotAt( nowAsMilli );
+            // wall clock time nowAsMilli started at most a millisecond before it was read
+            assertTrue( nowAsNano <= afterAsNano + toleranceAsNano );
+            assertTrue( nowAsNano >= beforeAsNano - TimeUnit.MILLISECONDS.toNanos( 1 ) - toleranceAsNano );
+            Thread.sleep( 1 );
+        }
+    }
+}
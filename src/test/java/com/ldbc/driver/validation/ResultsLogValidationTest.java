@@ -2,6 +2,8 @@ package com.ldbc.driver.validation;
 
 import com.google.common.collect.Lists;
 import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
 import org.junit.Assert;
@@ -14,6 +16,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -260,6 +263,28 @@ public class ResultsLogValidationTest
         doSummaryAsserts( summaryAfterMarshal );
     }
 
+    @Test
+    public void shouldReturnExpectedSummaryWhenValidatedFromBinaryFile() throws Exception
+    {
+        // Given
+        long excessiveDelayThreshold = 5;
+        File file = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = ResultsLogFormat.BINARY.newWriter( file, TimeUnit.MILLISECONDS ) )
+        {
+            for ( Tuple2<String,Long> delay : DELAYS )
+            {
+                writer.write( delay._1(), 0, delay._2(), 0, 0, 0 );
+            }
+        }
+
+        // When
+        ResultsLogValidator validator = new ResultsLogValidator();
+        ResultsLogValidationSummary summary = validator.compute( file, excessiveDelayThreshold );
+
+        // Then
+        doSummaryAsserts( summary );
+    }
+
     private void doSummaryAsserts( ResultsLogValidationSummary summary )
     {
         assertThat( summary.excessiveDelayThresholdAsMilli(), equalTo( 5l ) );
@@ -1,6 +1,7 @@
 package com.ldbc.driver.workloads;
 
 import com.google.common.base.Function;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
@@ -23,6 +24,7 @@ import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
 import com.ldbc.driver.util.Tuple2;
+import com.ldbc.driver.util.Tuple3;
 import com.ldbc.driver.validation.DbValidationResult;
 import com.ldbc.driver.validation.WorkloadValidationResult;
 import com.ldbc.driver.validation.WorkloadValidator;
@@ -288,6 +290,72 @@ public abstract class WorkloadTest {
         }
     }
 
+    @Test
+    public void shouldStreamSameOperationsFromCompiledWorkload() throws Exception {
+        for (DriverConfiguration configuration : withSkip(withWarmup(withTempResultDirs(configurations())))) {
+            File compiledWorkloadFile = new File(temporaryFolder.newFolder(), "compiled_workload.bin");
+            DriverConfiguration compiledConfiguration = configuration.applyArg(
+                    ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_ARG,
+                    compiledWorkloadFile.getAbsolutePath()
+            );
+
+            ControlService controlService = new LocalControlService(
+                    timeSource.nowAsMilli(),
+                    compiledConfiguration,
+                    new Log4jLoggingServiceFactory(false),
+                    timeSource
+            );
+            DriverMode compileMode = DriverModeFactory.buildDriverMode(DriverModeType.COMPILE_WORKLOAD, controlService);
+            compileMode.init();
+            compileMode.startExecutionAndAwaitCompletion();
+            assertTrue(compiledWorkloadFile.exists());
+
+            long offset = configuration.skipCount() + configuration.warmupCount();
+            assertThat(
+                    serializedOperations(compiledConfiguration, offset),
+                    equalTo(serializedOperations(configuration, offset))
+            );
+
+            DriverConfiguration changedConfiguration = compiledConfiguration.applyArg(
+                    ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG,
+                    Long.toString(configuration.getOperationCount() + 1)
+            );
+            boolean rejected = false;
+            try {
+                serializedOperations(changedConfiguration, offset);
+            } catch (Exception e) {
+                rejected = Throwables.getStackTraceAsString(e).contains("compiled with different parameters");
+            }
+            assertTrue(rejected);
+        }
+    }
+
+    private List<String> serializedOperations(DriverConfiguration configuration, long offset) throws Exception {
+        GeneratorFactory gf = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+        Tuple3<WorkloadStreams, Workload, Long> streamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        configuration,
+                        gf,
+                        false,
+                        offset,
+                        configuration.getOperationCount(),
+                        new Log4jLoggingServiceFactory(false)
+                );
+        List<String> serializedOperations = new ArrayList<>();
+        try (Workload workload = streamsAndWorkload.getElement2()) {
+            Iterator<Operation> operations = WorkloadStreams.mergeSortedByStartTimeExcludingChildOperationGenerators(
+                    gf,
+                    streamsAndWorkload.getElement1()
+            );
+            while (operations.hasNext()) {
+                Operation operation = operations.next();
+                serializedOperations.add(operation.scheduledStartTimeAsMilli() + "|" + operation.timeStamp() + "|" +
+                        operation.dependencyTimeStamp() + "|" + workload.serializeOperation(operation));
+            }
+        }
+        return serializedOperations;
+    }
+
     @Test
     public void shouldGenerateConfiguredQueryMix()
             throws Exception {
@@ -284,6 +284,36 @@ public class InteractiveWorkloadTest extends WorkloadTest
                                 TestUtils.getResource( "/snb/interactive/updateStream.properties" )
                         )
                 ),
+                // WRITES ONLY, DECODED AHEAD
+                ConsoleAndFileDriverConfiguration.fromDefaults(
+                        DummyLdbcSnbInteractiveDb.class.getName(),
+                        LdbcSnbInteractiveWorkload.class.getName(),
+                        50_000
+                ).applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 1_000 )
+                ).applyArgs(
+                        LdbcSnbInteractiveWorkloadConfiguration.withoutLongReads(
+                                LdbcSnbInteractiveWorkloadConfiguration.withoutShortReads(
+                                        LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1()
+                                )
+                        )
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+                        "false"
+                ).applyArg(
+                        ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG,
+                        "0.00001"
+                ).applyArg(
+                        LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath()
+                ).applyArgs(
+                        MapUtils.loadPropertiesToMap(
+                                TestUtils.getResource( "/snb/interactive/updateStream.properties" )
+                        )
+                ).applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_DECODE_AHEAD, "16"
+                ).applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_DECODER_THREADS, "2"
+                ),
                 // FULL WORKLOAD
                 ConsoleAndFileDriverConfiguration.fromDefaults(
                         DummyLdbcSnbInteractiveDb.class.getName(),
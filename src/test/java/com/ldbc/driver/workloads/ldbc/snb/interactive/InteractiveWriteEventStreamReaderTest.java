@@ -5,14 +5,20 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
 import com.ldbc.driver.csv.charseeker.CharSeeker;
 import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.MappedCharSeeker;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.workloads.OperationTest;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.ParseException;
 import java.util.Date;
 import java.util.Iterator;
@@ -24,6 +30,8 @@ import static org.junit.Assert.assertThat;
 
 public class InteractiveWriteEventStreamReaderTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test
     public void shouldParseAllEventTypesWithWriteEventStreamReaderRegex_DATE() throws IOException, ParseException {
@@ -46,6 +54,19 @@ public class InteractiveWriteEventStreamReaderTest
         charSeeker.close();
     }
 
+    @Test
+    public void shouldParseAllEventTypesWithWriteEventStreamReaderMappedCharSeeker_DATE() throws IOException, ParseException {
+        File updateStream = temporaryFolder.newFile();
+        Files.write(updateStream.toPath(),
+                InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES.getBytes(StandardCharsets.UTF_8));
+        CharSeeker charSeeker = new MappedCharSeeker(updateStream);
+        int columnDelimiter = '|';
+        Extractors extractors = new Extractors(';', ',');
+        Iterator<Operation> writeEventStreamReader = WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, columnDelimiter);
+        doShouldParseAllEventTypes(writeEventStreamReader);
+        charSeeker.close();
+    }
+
     public void doShouldParseAllEventTypes(Iterator<Operation> writeEventStreamReader) throws IOException, ParseException {
         // Then
         Date birthday;
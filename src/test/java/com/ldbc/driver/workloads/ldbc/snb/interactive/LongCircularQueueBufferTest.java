@@ -0,0 +1,186 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.collect.EvictingQueue;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LongCircularQueueBufferTest
+{
+    @Test
+    public void shouldBehaveLikeEvictingQueueWhenUsedByOneThread()
+    {
+        Random random = new Random( 42 );
+        for ( int bufferSize : new int[]{2, 8, 1024} )
+        {
+            Queue<Long> buffer = new LongCircularQueueBuffer( bufferSize );
+            Queue<Long> expectedBuffer = EvictingQueue.create( bufferSize );
+            for ( int i = 0; i < 100_000; i++ )
+            {
+                if ( random.nextBoolean() )
+                {
+                    long value = random.nextLong();
+                    assertThat( buffer.add( value ), is( true ) );
+                    expectedBuffer.add( value );
+                }
+                else
+                {
+                    assertThat( buffer.poll(), equalTo( expectedBuffer.poll() ) );
+                }
+                assertThat( buffer.size(), is( expectedBuffer.size() ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnNullWhenEmpty()
+    {
+        Queue<Long> buffer = new LongCircularQueueBuffer( 4 );
+        assertThat( buffer.poll(), nullValue() );
+        assertThat( buffer.isEmpty(), is( true ) );
+        buffer.add( 1L );
+        assertThat( buffer.isEmpty(), is( false ) );
+        assertThat( buffer.poll(), is( 1L ) );
+        assertThat( buffer.poll(), nullValue() );
+    }
+
+    @Test
+    public void shouldPeekWithoutRemoving()
+    {
+        Queue<Long> buffer = new LongCircularQueueBuffer( 2 );
+        assertThat( buffer.peek(), nullValue() );
+        buffer.add( 1L );
+        buffer.add( 2L );
+        assertThat( buffer.peek(), is( 1L ) );
+        assertThat( buffer.element(), is( 1L ) );
+        assertThat( buffer.size(), is( 2 ) );
+        // evicts 1
+        buffer.add( 3L );
+        assertThat( buffer.peek(), is( 2L ) );
+        assertThat( buffer.poll(), is( 2L ) );
+        assertThat( buffer.peek(), is( 3L ) );
+        assertThat( buffer.poll(), is( 3L ) );
+        assertThat( buffer.peek(), nullValue() );
+    }
+
+    @Test
+    public void shouldIterateOverValuesInQueueOrder()
+    {
+        Queue<Long> buffer = new LongCircularQueueBuffer( 4 );
+        assertThat( buffer.iterator().hasNext(), is( false ) );
+        for ( long value = 1; value <= 6; value++ )
+        {
+            buffer.add( value );
+        }
+        buffer.poll();
+        List<Long> values = new ArrayList<>();
+        for ( Long value : buffer )
+        {
+            values.add( value );
+        }
+        assertThat( values, equalTo( (List<Long>) Lists.newArrayList( 4L, 5L, 6L ) ) );
+        assertTrue( buffer.contains( 5L ) );
+        assertThat( buffer.contains( 3L ), is( false ) );
+        assertThat( buffer.toString(), equalTo( "[4, 5, 6]" ) );
+    }
+
+    @Test
+    public void shouldNeverReturnValueTwiceOrValueThatWasNotAddedWhenUsedConcurrently() throws Exception
+    {
+        final int threadCount = 8;
+        final int valuesPerThread = 200_000;
+        final LongCircularQueueBuffer buffer = new LongCircularQueueBuffer( 64 );
+        final CountDownLatch startLatch = new CountDownLatch( 1 );
+        final AtomicBoolean producersFinished = new AtomicBoolean( false );
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount * 2 );
+        try
+        {
+            List<Future<?>> producers = new ArrayList<>();
+            for ( int thread = 0; thread < threadCount; thread++ )
+            {
+                final long firstValue = (long) thread * valuesPerThread;
+                producers.add( executor.submit( new Callable<Void>()
+                {
+                    @Override
+                    public Void call() throws Exception
+                    {
+                        startLatch.await();
+                        for ( long value = firstValue; value < firstValue + valuesPerThread; value++ )
+                        {
+                            buffer.add( value );
+                        }
+                        return null;
+                    }
+                } ) );
+            }
+            List<Future<List<Long>>> consumers = new ArrayList<>();
+            for ( int thread = 0; thread < threadCount; thread++ )
+            {
+                consumers.add( executor.submit( new Callable<List<Long>>()
+                {
+                    @Override
+                    public List<Long> call() throws Exception
+                    {
+                        startLatch.await();
+                        List<Long> polled = new ArrayList<>();
+                        while ( true )
+                        {
+                            Long value = buffer.poll();
+                            if ( null != value )
+                            {
+                                polled.add( value );
+                            }
+                            else if ( producersFinished.get() && buffer.isEmpty() )
+                            {
+                                return polled;
+                            }
+                        }
+                    }
+                } ) );
+            }
+
+            startLatch.countDown();
+            for ( Future<?> producer : producers )
+            {
+                producer.get();
+            }
+            producersFinished.set( true );
+
+            Set<Long> polledValues = new HashSet<>();
+            for ( Future<List<Long>> consumer : consumers )
+            {
+                for ( Long value : consumer.get() )
+                {
+                    assertTrue( "Value returned twice: " + value, polledValues.add( value ) );
+                    assertTrue( "Value never added: " + value,
+                            value >= 0 && value < (long) threadCount * valuesPerThread );
+                }
+            }
+            assertThat( buffer.poll(), nullValue() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+            executor.awaitTermination( 10, TimeUnit.SECONDS );
+        }
+    }
+}
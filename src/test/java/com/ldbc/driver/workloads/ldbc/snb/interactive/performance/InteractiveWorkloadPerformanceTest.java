@@ -2,17 +2,22 @@ package com.ldbc.driver.workloads.ldbc.snb.interactive.performance;
 
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
 import com.ldbc.driver.DbException;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.modes.DriverMode;
 import com.ldbc.driver.modes.DriverModeFactory;
 import com.ldbc.driver.modes.DriverModeType;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
 import com.ldbc.driver.control.LocalControlService;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
@@ -21,6 +26,7 @@ import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
@@ -32,7 +38,9 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.text.DecimalFormat;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -139,7 +147,24 @@ public class InteractiveWorkloadPerformanceTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -305,7 +330,24 @@ public class InteractiveWorkloadPerformanceTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.SPINNER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISPATCHER_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_DRIVER_ID_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.DISTRIBUTED_COORDINATOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_SAMPLING_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_BUFFER_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_CONSUMER_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.HISTOGRAM_LOG_INTERVAL_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_ROTATION_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.COMPILED_WORKLOAD_FILE_PATH_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.PREFETCH_LOOK_AHEAD_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -372,4 +414,57 @@ public class InteractiveWorkloadPerformanceTest
             }
         }
     }
+
+    @Ignore
+    @Test
+    public void workloadStreamsAllocationPerformanceTest() throws Exception
+    {
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration
+                .fromDefaults( null, LdbcSnbInteractiveWorkload.class.getName(), 1 )
+                .applyArgs( LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1() )
+                .applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATE_INTERLEAVE, "10" )
+                .applyArg( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() )
+                .applyArg( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                        TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long operationCount = 10000000;
+        // first repetitions warm up
+        for ( int repetition = 0; repetition < 3; repetition++ )
+        {
+            try ( Workload workload = new LdbcSnbInteractiveWorkload() )
+            {
+                workload.init( configuration );
+                // read operations, with start times assigned and then offset and compressed
+                Iterator<Operation> operations = WorkloadStreams.timeOffsetAndCompressWorkloadStreams(
+                        workload.streams( gf, false ), 0, 0.5, gf
+                ).asynchronousStream().nonDependencyOperations();
+
+                long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() );
+                long startTimeAsNano = System.nanoTime();
+                long count = 0;
+                while ( count < operationCount && operations.hasNext() )
+                {
+                    operations.next();
+                    count++;
+                }
+                long durationAsNano = System.nanoTime() - startTimeAsNano;
+                long allocatedBytes =
+                        threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) - allocatedBytesBefore;
+
+                DecimalFormat numberFormatter = new DecimalFormat( "###,###,###,###" );
+                System.out.println(
+                        format( "[%s]Generated %s operations in %s = %s op/sec, allocated %s bytes/op",
+                                repetition,
+                                numberFormatter.format( count ),
+                                TEMPORAL_UTIL.nanoDurationToString( durationAsNano ),
+                                numberFormatter.format( count * TimeUnit.SECONDS.toNanos( 1 ) / durationAsNano ),
+                                (double) allocatedBytes / count
+                        )
+                );
+            }
+        }
+    }
 }